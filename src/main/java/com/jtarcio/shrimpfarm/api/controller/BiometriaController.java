@@ -1,16 +1,25 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
+import com.jtarcio.shrimpfarm.application.dto.request.AmostraBiometriaRequest;
 import com.jtarcio.shrimpfarm.application.dto.request.BiometriaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.AmostraBiometriaResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.BiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ImportacaoBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
+import com.jtarcio.shrimpfarm.application.service.AmostraBiometriaService;
 import com.jtarcio.shrimpfarm.application.service.BiometriaService;
+import com.jtarcio.shrimpfarm.application.service.ImportacaoBiometriaService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -19,6 +28,8 @@ import java.util.List;
 public class BiometriaController {
 
     private final BiometriaService biometriaService;
+    private final ImportacaoBiometriaService importacaoBiometriaService;
+    private final AmostraBiometriaService amostraBiometriaService;
 
     @PostMapping
     public ResponseEntity<BiometriaResponse> criar(@Valid @RequestBody BiometriaRequest request) {
@@ -26,12 +37,45 @@ public class BiometriaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Importação em lote a partir de CSV com cabeçalho; o corpo é lido em fluxo
+     */
+    @PostMapping(value = "/importacao", consumes = "text/csv")
+    public ResponseEntity<ImportacaoBiometriaResponse> importarCsv(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoBiometriaService.importarCsv(corpo));
+    }
+
+    /**
+     * Importação em lote a partir de um array JSON de biometrias; o corpo é lido em fluxo
+     */
+    @PostMapping(value = "/importacao", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportacaoBiometriaResponse> importarJson(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoBiometriaService.importarJson(corpo));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BiometriaResponse> buscarPorId(@PathVariable Long id) {
         BiometriaResponse response = biometriaService.buscarPorId(id);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Pesos individuais da amostra; substitui a amostra anterior e recalcula os indicadores da biometria
+     */
+    @PutMapping("/{id}/amostra")
+    public ResponseEntity<AmostraBiometriaResponse> registrarAmostra(
+            @PathVariable Long id,
+            @Valid @RequestBody AmostraBiometriaRequest request) {
+        AmostraBiometriaResponse response = amostraBiometriaService.registrar(id, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/amostra")
+    public ResponseEntity<AmostraBiometriaResponse> buscarAmostra(@PathVariable Long id) {
+        AmostraBiometriaResponse response = amostraBiometriaService.buscar(id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/lote/{loteId}")
     public ResponseEntity<List<BiometriaResponse>> listarPorLote(@PathVariable Long loteId) {
         List<BiometriaResponse> response = biometriaService.listarPorLote(loteId);
@@ -50,6 +94,14 @@ public class BiometriaController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<BiometriaResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<BiometriaResponse> response = biometriaService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<BiometriaResponse> atualizar(
             @PathVariable Long id,
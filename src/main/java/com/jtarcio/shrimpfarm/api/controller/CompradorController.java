@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.api.controller;
 
 import com.jtarcio.shrimpfarm.application.dto.request.CompradorRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.CompradorResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.service.CompradorService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +51,14 @@ public class CompradorController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<CompradorResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<CompradorResponse> response = compradorService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CompradorResponse> atualizar(
             @PathVariable Long id,
@@ -1,7 +1,8 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
+import com.jtarcio.shrimpfarm.application.dto.response.CacheEstatisticasResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
-import com.jtarcio.shrimpfarm.application.service.RelatorioService;
+import com.jtarcio.shrimpfarm.application.service.DashboardCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,11 +12,17 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final RelatorioService relatorioService;
+    private final DashboardCacheService dashboardCacheService;
 
     @GetMapping("/kpis")
     public ResponseEntity<DashboardKPIsResponse> obterKPIs() {
-        DashboardKPIsResponse response = relatorioService.obterKPIsDashboard();
+        DashboardKPIsResponse response = dashboardCacheService.obterKPIs();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/kpis/cache")
+    public ResponseEntity<CacheEstatisticasResponse> obterEstatisticasCache() {
+        CacheEstatisticasResponse response = dashboardCacheService.obterEstatisticas();
         return ResponseEntity.ok(response);
     }
 }
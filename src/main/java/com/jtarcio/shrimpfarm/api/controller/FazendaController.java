@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.api.controller;
 
 import com.jtarcio.shrimpfarm.application.dto.request.FazendaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.FazendaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.service.FazendaService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +51,14 @@ public class FazendaController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<FazendaResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<FazendaResponse> response = fazendaService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<FazendaResponse> atualizar(
             @PathVariable Long id,
@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.api.controller;
 
 import com.jtarcio.shrimpfarm.application.dto.request.FornecedorRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.FornecedorResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.service.FornecedorService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +51,14 @@ public class FornecedorController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<FornecedorResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<FornecedorResponse> response = fornecedorService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<FornecedorResponse> atualizar(
             @PathVariable Long id,
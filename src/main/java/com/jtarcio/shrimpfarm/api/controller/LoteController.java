@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.api.controller;
 
 import com.jtarcio.shrimpfarm.application.dto.request.LoteRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.LoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.service.LoteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -56,6 +57,14 @@ public class LoteController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<LoteResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<LoteResponse> response = loteService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<LoteResponse> atualizar(
             @PathVariable Long id,
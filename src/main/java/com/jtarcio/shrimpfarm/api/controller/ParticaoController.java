@@ -0,0 +1,32 @@
+package com.jtarcio.shrimpfarm.api.controller;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ParticaoResponse;
+import com.jtarcio.shrimpfarm.application.service.ParticaoLancamentoService;
+import com.jtarcio.shrimpfarm.domain.enums.TabelaParticionadaEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/particoes")
+@RequiredArgsConstructor
+public class ParticaoController {
+
+    private final ParticaoLancamentoService particaoLancamentoService;
+
+    @GetMapping("/{tabela}")
+    public ResponseEntity<List<ParticaoResponse>> listar(@PathVariable TabelaParticionadaEnum tabela) {
+        List<ParticaoResponse> response = particaoLancamentoService.listar(tabela);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{tabela}/{mes}/desanexacao")
+    public ResponseEntity<ParticaoResponse> desanexar(@PathVariable TabelaParticionadaEnum tabela,
+                                                      @PathVariable YearMonth mes) {
+        ParticaoResponse response = particaoLancamentoService.desanexar(tabela, mes);
+        return ResponseEntity.ok(response);
+    }
+}
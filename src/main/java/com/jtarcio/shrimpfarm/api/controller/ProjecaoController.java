@@ -0,0 +1,87 @@
+package com.jtarcio.shrimpfarm.api.controller;
+
+import com.jtarcio.shrimpfarm.application.dto.request.DespescaOtimaRequest;
+import com.jtarcio.shrimpfarm.application.dto.request.SimulacaoDespescaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.AtualizacaoProjecaoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DespescaOtimaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoCacheEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.SimulacaoDespescaResponse;
+import com.jtarcio.shrimpfarm.application.service.AtualizacaoProjecaoService;
+import com.jtarcio.shrimpfarm.application.service.DespescaOtimaService;
+import com.jtarcio.shrimpfarm.application.service.ProjecaoCacheService;
+import com.jtarcio.shrimpfarm.application.service.ProjecaoLotesService;
+import com.jtarcio.shrimpfarm.application.service.SimulacaoDespescaService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/projecoes")
+@RequiredArgsConstructor
+public class ProjecaoController {
+
+    private final AtualizacaoProjecaoService atualizacaoProjecaoService;
+    private final ProjecaoLotesService projecaoLotesService;
+    private final SimulacaoDespescaService simulacaoDespescaService;
+    private final DespescaOtimaService despescaOtimaService;
+    private final ProjecaoCacheService projecaoCacheService;
+
+    @GetMapping("/lotes/{loteId}")
+    public ResponseEntity<ProjecaoLoteResponse> projecaoLote(@PathVariable Long loteId) {
+        ProjecaoLoteResponse response = atualizacaoProjecaoService.obterProjecao(loteId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/lotes/ativos")
+    public ResponseEntity<StreamingResponseBody> projecoesLotesAtivos(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataProjecao,
+            @RequestParam(required = false) BigDecimal precoVendaKg) {
+        LocalDate data = dataProjecao != null ? dataProjecao : LocalDate.now();
+        StreamingResponseBody corpo = saida -> projecaoLotesService.projetarLotesAtivos(data, precoVendaKg, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(corpo);
+    }
+
+    @PostMapping("/lotes/{loteId}/simulacao-despesca")
+    public ResponseEntity<SimulacaoDespescaResponse> simularDespescaLote(
+            @PathVariable Long loteId,
+            @Valid @RequestBody SimulacaoDespescaRequest request) {
+        SimulacaoDespescaResponse response = simulacaoDespescaService.simularLote(loteId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/lotes/ativos/simulacao-despesca")
+    public ResponseEntity<List<SimulacaoDespescaResponse>> simularDespescaLotesAtivos(
+            @Valid @RequestBody SimulacaoDespescaRequest request) {
+        List<SimulacaoDespescaResponse> response = simulacaoDespescaService.simularLotesAtivos(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/lotes/despesca-otima")
+    public ResponseEntity<List<DespescaOtimaResponse>> despescaOtima(@Valid @RequestBody DespescaOtimaRequest request) {
+        List<DespescaOtimaResponse> response = despescaOtimaService.otimizar(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/cache/estatisticas")
+    public ResponseEntity<ProjecaoCacheEstatisticasResponse> estatisticasCache() {
+        ProjecaoCacheEstatisticasResponse response = projecaoCacheService.obterEstatisticas();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/atualizacao/estatisticas")
+    public ResponseEntity<AtualizacaoProjecaoEstatisticasResponse> estatisticasAtualizacao() {
+        AtualizacaoProjecaoEstatisticasResponse response = atualizacaoProjecaoService.obterEstatisticas();
+        return ResponseEntity.ok(response);
+    }
+}
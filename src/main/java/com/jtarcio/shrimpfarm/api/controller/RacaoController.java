@@ -1,6 +1,7 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
 import com.jtarcio.shrimpfarm.application.dto.request.RacaoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RacaoResponse;
 import com.jtarcio.shrimpfarm.application.service.RacaoService;
 import jakarta.validation.Valid;
@@ -51,6 +52,18 @@ public class RacaoController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Paginação por cursor: sem contagem do total e com custo constante em qualquer profundidade.
+     * O {@code proximoCursor} da resposta é passado como {@code cursor} para buscar a página seguinte.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<RacaoResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<RacaoResponse> response = racaoService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<RacaoResponse> atualizar(
             @PathVariable Long id,
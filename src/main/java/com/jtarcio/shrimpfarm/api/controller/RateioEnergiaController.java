@@ -0,0 +1,30 @@
+package com.jtarcio.shrimpfarm.api.controller;
+
+import com.jtarcio.shrimpfarm.application.dto.request.RateioEnergiaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaResponse;
+import com.jtarcio.shrimpfarm.application.service.RateioEnergiaService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/rateios/energia")
+@RequiredArgsConstructor
+public class RateioEnergiaController {
+
+    private final RateioEnergiaService rateioEnergiaService;
+
+    @PostMapping("/simulacao")
+    public ResponseEntity<RateioEnergiaResponse> simular(@Valid @RequestBody RateioEnergiaRequest request) {
+        RateioEnergiaResponse response = rateioEnergiaService.simular(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping
+    public ResponseEntity<RateioEnergiaResponse> registrar(@Valid @RequestBody RateioEnergiaRequest request) {
+        RateioEnergiaResponse response = rateioEnergiaService.registrar(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -1,12 +1,28 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
+import com.jtarcio.shrimpfarm.application.dto.request.CustosLotesRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.ContextoCalculoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CurvaCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoAcumuladoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoLoteResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PrevisaoRacaoResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RelatorioCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.VerificacaoCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.service.CalculadoraCustoService;
+import com.jtarcio.shrimpfarm.application.service.ContextoCalculoLote;
+import com.jtarcio.shrimpfarm.application.service.CustoAcumuladoService;
+import com.jtarcio.shrimpfarm.application.service.DashboardCacheService;
+import com.jtarcio.shrimpfarm.application.service.LoteCustoResumoService;
+import com.jtarcio.shrimpfarm.application.service.PrevisaoRacaoService;
 import com.jtarcio.shrimpfarm.application.service.RelatorioService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,10 +31,16 @@ import java.util.List;
 public class RelatorioController {
 
     private final RelatorioService relatorioService;
+    private final LoteCustoResumoService loteCustoResumoService;
+    private final DashboardCacheService dashboardCacheService;
+    private final CalculadoraCustoService calculadoraCustoService;
+    private final ContextoCalculoLote contextoCalculoLote;
+    private final CustoAcumuladoService custoAcumuladoService;
+    private final PrevisaoRacaoService previsaoRacaoService;
 
     @GetMapping("/dashboard")
     public ResponseEntity<DashboardKPIsResponse> obterDashboardKPIs() {
-        DashboardKPIsResponse response = relatorioService.obterKPIsDashboard();
+        DashboardKPIsResponse response = dashboardCacheService.obterKPIs();
         return ResponseEntity.ok(response);
     }
 
@@ -28,9 +50,62 @@ public class RelatorioController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/lotes/{loteId}/custos/acumulado")
+    public ResponseEntity<CustoAcumuladoLoteResponse> custoAcumuladoLote(
+            @PathVariable Long loteId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio) {
+        CustoAcumuladoLoteResponse response = dataInicio != null
+                ? custoAcumuladoService.custoNoPeriodo(loteId, dataInicio, data)
+                : custoAcumuladoService.custoAte(loteId, data);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/lotes/{loteId}/custos/curva")
+    public ResponseEntity<CurvaCustoLoteResponse> curvaCustoLote(@PathVariable Long loteId) {
+        CurvaCustoLoteResponse response = custoAcumuladoService.gerarCurvaCusto(loteId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/lotes/ativos/custos")
     public ResponseEntity<List<RelatorioCustoLoteResponse>> relatoriosLotesAtivos() {
         List<RelatorioCustoLoteResponse> response = relatorioService.listarRelatoriosLotesAtivos();
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/racao/previsao")
+    public ResponseEntity<PrevisaoRacaoResponse> previsaoRacao() {
+        PrevisaoRacaoResponse response = previsaoRacaoService.obterPrevisao();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/racao/previsao/recalculo")
+    public ResponseEntity<PrevisaoRacaoResponse> recalcularPrevisaoRacao() {
+        PrevisaoRacaoResponse response = previsaoRacaoService.recalcular();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/custos/lotes")
+    public ResponseEntity<List<CustoLoteResponse>> custosDosLotes(@Valid @RequestBody CustosLotesRequest request) {
+        List<CustoLoteResponse> response = calculadoraCustoService.gerarQuadroCustosDosLotes(request.getLoteIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/custos/contexto/estatisticas")
+    public ResponseEntity<ContextoCalculoEstatisticasResponse> estatisticasContextoCalculo() {
+        ContextoCalculoEstatisticasResponse response = contextoCalculoLote.obterEstatisticas();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/custos/resumo/verificacao")
+    public ResponseEntity<VerificacaoCustoResumoResponse> verificarResumoCustos() {
+        VerificacaoCustoResumoResponse response = loteCustoResumoService.verificar();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/custos/resumo/reconstrucao")
+    public ResponseEntity<VerificacaoCustoResumoResponse> reconstruirResumoCustos() {
+        VerificacaoCustoResumoResponse response = loteCustoResumoService.verificarECorrigir();
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,6 +1,7 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
 import com.jtarcio.shrimpfarm.application.dto.request.ViveiroRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.ViveiroResponse;
 import com.jtarcio.shrimpfarm.application.service.ViveiroService;
 import jakarta.validation.Valid;
@@ -50,6 +51,14 @@ public class ViveiroController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorResponse<ViveiroResponse>> listarPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaCursorResponse<ViveiroResponse> response = viveiroService.listarPorCursor(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ViveiroResponse> atualizar(
             @PathVariable Long id,
@@ -1,5 +1,6 @@
 package com.jtarcio.shrimpfarm.api.exception;
 
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -102,7 +103,24 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
-    // 5) Fallback para qualquer outra exceção não tratada
+    // 5) Regras de negócio dos serviços (ex.: cursor de paginação inválido, mês sem partição) -> 400
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ApiError> handleBusiness(
+            BusinessException ex,
+            HttpServletRequest request
+    ) {
+        ApiError error = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(ex.getMessage())
+                .path(request.getRequestURI())
+                .fieldErrors(List.of())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    // 6) Fallback para qualquer outra exceção não tratada
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGenericException(
             Exception ex,
@@ -0,0 +1,19 @@
+package com.jtarcio.shrimpfarm.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmostraBiometriaRequest {
+
+    @NotEmpty(message = "Pesos individuais são obrigatórios")
+    @Size(max = 10000, message = "A amostra pode ter no máximo 10000 pesos")
+    private float[] pesos; // em gramas, um por camarão
+}
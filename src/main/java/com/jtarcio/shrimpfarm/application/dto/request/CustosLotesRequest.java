@@ -0,0 +1,20 @@
+package com.jtarcio.shrimpfarm.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustosLotesRequest {
+
+    @NotEmpty(message = "Informe ao menos um lote")
+    private List<@NotNull(message = "ID do lote é obrigatório") Long> loteIds;
+}
@@ -0,0 +1,41 @@
+package com.jtarcio.shrimpfarm.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DespescaOtimaRequest {
+
+    private List<Long> loteIds; // padrão: lotes ativos
+
+    @NotEmpty(message = "Informe ao menos uma faixa de preço")
+    @Valid
+    private List<FaixaPrecoRequest> faixasPreco;
+
+    @Min(value = 1, message = "Dia mínimo deve ser positivo")
+    private Integer diaMinimo; // dia de cultivo; padrão: 90
+
+    @Max(value = 365, message = "Dia máximo deve ser no máximo 365")
+    private Integer diaMaximo; // dia de cultivo; padrão: 150
+
+    @Min(value = 1, message = "Janela de custo deve ter ao menos 1 dia")
+    @Max(value = 180, message = "Janela de custo deve ter no máximo 180 dias")
+    private Integer janelaCustoDias; // padrão: 30
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Sobrevivência deve estar entre 0 e 100")
+    @DecimalMax(value = "100.0", message = "Sobrevivência deve estar entre 0 e 100")
+    private BigDecimal sobrevivencia; // %; padrão: a última estimada na biometria, ou 80
+
+    private LocalDate dataReferencia; // padrão: hoje
+}
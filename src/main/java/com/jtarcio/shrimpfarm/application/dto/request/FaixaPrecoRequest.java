@@ -0,0 +1,25 @@
+package com.jtarcio.shrimpfarm.application.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FaixaPrecoRequest {
+
+    @NotNull(message = "Peso mínimo da faixa é obrigatório")
+    @DecimalMin(value = "0.0", message = "Peso mínimo não pode ser negativo")
+    private BigDecimal pesoMinimo; // g
+
+    @NotNull(message = "Preço da faixa é obrigatório")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Preço deve ser positivo")
+    private BigDecimal precoKg;
+}
@@ -0,0 +1,35 @@
+package com.jtarcio.shrimpfarm.application.dto.request;
+
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateioEnergiaRequest {
+
+    @NotNull(message = "ID da fazenda é obrigatório")
+    private Long fazendaId;
+
+    @NotNull(message = "Data de início do período é obrigatória")
+    private LocalDate dataInicio;
+
+    @NotNull(message = "Data de fim do período é obrigatória")
+    private LocalDate dataFim;
+
+    @NotNull(message = "Valor da conta é obrigatório")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Valor deve ser positivo")
+    @Digits(integer = 12, fraction = 2, message = "Valor inválido")
+    private BigDecimal valorTotal;
+
+    @NotNull(message = "Critério de rateio é obrigatório")
+    private CriterioRateioEnergia criterio;
+}
@@ -0,0 +1,45 @@
+package com.jtarcio.shrimpfarm.application.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulacaoDespescaRequest {
+
+    @NotNull(message = "Data de despesca é obrigatória")
+    private LocalDate dataDespesca;
+
+    @NotNull(message = "Preço de venda é obrigatório")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Preço deve ser positivo")
+    private BigDecimal precoVendaKg;
+
+    @DecimalMin(value = "0.0", message = "Desvio do preço não pode ser negativo")
+    private BigDecimal precoDesvioPadrao; // R$/kg; padrão: 10% do preço
+
+    @DecimalMin(value = "0.0", message = "Sobrevivência deve estar entre 0 e 100")
+    @DecimalMax(value = "100.0", message = "Sobrevivência deve estar entre 0 e 100")
+    private BigDecimal sobrevivenciaMedia; // %; padrão: 80
+
+    @DecimalMin(value = "0.0", message = "Desvio da sobrevivência não pode ser negativo")
+    @DecimalMax(value = "100.0", message = "Desvio da sobrevivência deve ser no máximo 100")
+    private BigDecimal sobrevivenciaDesvioPadrao; // pontos percentuais; padrão: 8
+
+    @DecimalMin(value = "0.0", message = "Desvio do crescimento não pode ser negativo")
+    @DecimalMax(value = "100.0", message = "Desvio do crescimento deve ser no máximo 100")
+    private BigDecimal crescimentoDesvioPercentual; // % do crescimento previsto até a despesca; padrão: 10
+
+    @Min(value = 1000, message = "Mínimo de 1.000 trajetórias")
+    @Max(value = 1_000_000, message = "Máximo de 1.000.000 trajetórias")
+    private Integer trajetorias; // padrão: 100.000
+
+    private Long semente; // Mesma semente, mesmo resultado
+}
@@ -0,0 +1,29 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmostraBiometriaResponse {
+
+    private Long biometriaId;
+    private Integer quantidade;
+    private BigDecimal pesoMedio; // g
+    private BigDecimal desvioPadrao; // g
+    private BigDecimal coeficienteVariacao; // %
+    private BigDecimal pesoMinimo; // g
+    private BigDecimal pesoMaximo; // g
+    private PercentisResponse percentis; // g, com erro relativo de até 1%
+
+    @Builder.Default
+    private List<ClasseTamanhoResponse> classes = new ArrayList<>();
+}
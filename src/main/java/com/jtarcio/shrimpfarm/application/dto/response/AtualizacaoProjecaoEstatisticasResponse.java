@@ -0,0 +1,26 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AtualizacaoProjecaoEstatisticasResponse {
+
+    private Integer fila; // Lotes aguardando na fila do executor
+    private Integer capacidadeFila;
+    private Integer emExecucao;
+    private Integer lotesPendentes; // Lotes na fila, em cálculo ou com novo cálculo pedido
+    private Long agendadas; // Pedidos que geraram um cálculo
+    private Long coalescidas; // Pedidos absorvidos por um cálculo ainda não iniciado
+    private Long rejeitadas; // Pedidos descartados com a fila cheia
+    private Long concluidas;
+    private Long falhas;
+    private Long latenciaMediaMs; // Do pedido até a projeção gravada
+    private Long latenciaMaximaMs;
+    private Long tempoCalculoMedioMs;
+}
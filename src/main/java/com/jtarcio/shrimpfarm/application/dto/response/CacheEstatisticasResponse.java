@@ -0,0 +1,26 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheEstatisticasResponse {
+
+    private Long acertos;
+    private Long falhas;
+    private BigDecimal taxaAcerto; // Percentual de leituras atendidas pelo cache
+    private Long invalidacoes;
+    private Long reconstrucoes;
+    private Long tempoUltimaReconstrucaoMs;
+    private Long tempoMedioReconstrucaoMs;
+    private Long tempoMaximoReconstrucaoMs;
+    private Long idadeSnapshotMs; // null quando ainda não há snapshot
+    private Long ttlSegundos;
+}
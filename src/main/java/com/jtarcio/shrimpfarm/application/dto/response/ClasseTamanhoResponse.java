@@ -0,0 +1,21 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import com.jtarcio.shrimpfarm.domain.enums.ClasseTamanhoCamaraoEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClasseTamanhoResponse {
+
+    private ClasseTamanhoCamaraoEnum classe;
+    private String descricao;
+    private Integer quantidade;
+    private BigDecimal percentual; // % da amostra
+}
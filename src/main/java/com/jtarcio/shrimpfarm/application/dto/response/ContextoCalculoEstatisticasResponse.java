@@ -0,0 +1,21 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContextoCalculoEstatisticasResponse {
+
+    private Long lotesCarregados;
+    private Long lotesReaproveitados;
+    private Long biometriasCarregadas; // Consultas de biometrias executadas
+    private Long biometriasReaproveitadas;
+    private Long resumosCarregados;
+    private Long resumosReaproveitados;
+    private Long consultasEvitadas; // Total de carregamentos atendidos pelo contexto
+}
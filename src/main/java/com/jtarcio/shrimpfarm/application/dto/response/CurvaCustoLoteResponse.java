@@ -0,0 +1,24 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CurvaCustoLoteResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private LocalDate dataPovoamento;
+    private LocalDate dataDespesca;
+    private BigDecimal custoTotal;
+    private List<PontoCurvaCustoResponse> pontos; // Só dias com lançamentos; o custo se mantém até o ponto seguinte
+}
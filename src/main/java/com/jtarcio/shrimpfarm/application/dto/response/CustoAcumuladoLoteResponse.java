@@ -0,0 +1,24 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustoAcumuladoLoteResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private LocalDate dataInicio; // Nulo quando a consulta é o custo acumulado até dataFim
+    private LocalDate dataFim;
+    private BigDecimal custoPosLarvas; // Incluído quando o povoamento está no período
+    private BigDecimal custoLancamentos; // Ração, nutrientes, fertilização e custos variáveis
+    private BigDecimal custoTotal;
+}
@@ -0,0 +1,37 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustoLoteResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+
+    // Composição do custo
+    private BigDecimal custoPosLarvas;
+    private BigDecimal custoRacao;
+    private BigDecimal custoNutrientes;
+    private BigDecimal custoFertilizacao;
+    private BigDecimal custoVariavel;
+    private BigDecimal custoTotal;
+
+    // Indicadores (zero quando o lote não tem despesca ou dias de cultivo)
+    private BigDecimal custoPorKg;
+    private BigDecimal custoPorCamarao;
+    private BigDecimal custoMedioDiario;
+
+    // Resultado da despesca (nulo quando o lote não foi despescado)
+    private BigDecimal receitaTotal;
+    private BigDecimal lucro;
+    private BigDecimal roiPercentual;
+    private BigDecimal margemLucro;
+}
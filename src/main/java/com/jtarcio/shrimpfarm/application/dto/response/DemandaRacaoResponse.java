@@ -0,0 +1,34 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Demanda prevista de ração (kg) nos próximos 30, 60 e 90 dias para um lote, tipo de ração ou fornecedor.
+ * Só os campos da chave do agrupamento vêm preenchidos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DemandaRacaoResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private TipoRacaoEnum tipoRacao;
+    private Long fornecedorId;
+    private String fornecedorNome; // "Sem fornecedor" quando o lote não tem compras registradas
+    private BigDecimal kg30;
+    private BigDecimal kg60;
+    private BigDecimal kg90;
+    private List<BigDecimal> diarioKg; // Só por lote: um valor por dia a partir da data de início
+    private String erro;
+}
@@ -0,0 +1,33 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DespescaOtimaResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private String modeloCrescimento;
+    private BigDecimal sobrevivencia; // %
+    private BigDecimal custoAtual;
+    private BigDecimal custoDiario; // Custo marginal de esperar um dia
+    private LocalDate dataOtima;
+    private Integer diaCultivoOtimo;
+    private BigDecimal pesoMedioOtimo;
+    private BigDecimal precoKgOtimo;
+    private BigDecimal receitaOtima;
+    private BigDecimal custoOtimo;
+    private BigDecimal lucroOtimo;
+    private List<PontoLucroDespescaResponse> curva;
+    private String erro;
+}
@@ -0,0 +1,20 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DivergenciaCustoResumoResponse {
+
+    private Long loteId;
+    private String campo; // Ex: custoRacao, quantidadeRacao
+    private BigDecimal valorRegistrado; // Valor acumulado em lote_custo_resumo
+    private BigDecimal valorCalculado; // Valor recalculado a partir dos lançamentos
+}
@@ -0,0 +1,25 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportacaoBiometriaResponse {
+
+    private Integer totalLinhas;
+    private Integer importadas;
+    private Integer rejeitadas;
+    private Integer lotesAfetados;
+    private Long tempoMs;
+
+    @Builder.Default
+    private List<LinhaImportacaoBiometriaResponse> linhas = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LinhaImportacaoBiometriaResponse {
+
+    private Integer linha; // Linha do CSV (o cabeçalho é a linha 1) ou posição no array JSON (a partir de 1)
+    private Long loteId;
+    private LocalDate dataBiometria;
+    private String status; // IMPORTADA, REJEITADA
+
+    @Builder.Default
+    private List<String> erros = new ArrayList<>();
+}
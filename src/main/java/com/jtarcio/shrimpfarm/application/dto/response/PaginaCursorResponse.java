@@ -0,0 +1,43 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma listagem por cursor. Não traz total nem número de página: o cliente segue
+ * {@code proximoCursor} enquanto {@code temMais} for verdadeiro.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaCursorResponse<T> {
+
+    private List<T> itens;
+    private Integer tamanho;
+    private String proximoCursor;
+    private Boolean temMais;
+
+    /**
+     * Monta a página a partir de até {@code tamanho + 1} linhas lidas do banco; a linha a mais
+     * só indica que existe página seguinte e não é devolvida
+     */
+    public static <E, T> PaginaCursorResponse<T> montar(List<E> linhas, int tamanho, Function<E, T> conversor,
+                                                        Function<E, CursorPaginacao> chave) {
+        boolean temMais = linhas.size() > tamanho;
+        List<E> pagina = temMais ? linhas.subList(0, tamanho) : linhas;
+
+        return PaginaCursorResponse.<T>builder()
+                .itens(pagina.stream().map(conversor).toList())
+                .tamanho(pagina.size())
+                .proximoCursor(temMais ? chave.apply(pagina.get(pagina.size() - 1)).codificar() : null)
+                .temMais(temMais)
+                .build();
+    }
+}
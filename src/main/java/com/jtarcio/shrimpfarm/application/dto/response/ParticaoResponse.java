@@ -0,0 +1,21 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import com.jtarcio.shrimpfarm.domain.enums.TabelaParticionadaEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticaoResponse {
+
+    private TabelaParticionadaEnum tabela;
+    private String particao;
+    private YearMonth mes;
+    private Boolean anexada; // false depois de desanexada para arquivamento
+}
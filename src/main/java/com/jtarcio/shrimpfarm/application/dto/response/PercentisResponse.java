@@ -0,0 +1,19 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PercentisResponse {
+
+    private BigDecimal p10;
+    private BigDecimal p50;
+    private BigDecimal p90;
+}
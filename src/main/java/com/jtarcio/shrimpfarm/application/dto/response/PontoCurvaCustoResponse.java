@@ -0,0 +1,21 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PontoCurvaCustoResponse {
+
+    private LocalDate data;
+    private Integer diaCultivo; // Dias desde o povoamento
+    private BigDecimal custoDia; // Custos lançados no dia
+    private BigDecimal custoAcumulado; // Custo total do lote até o dia, inclusive
+}
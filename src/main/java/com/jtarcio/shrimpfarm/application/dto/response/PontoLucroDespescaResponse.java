@@ -0,0 +1,25 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PontoLucroDespescaResponse {
+
+    private LocalDate data;
+    private Integer diaCultivo;
+    private BigDecimal pesoMedio;
+    private BigDecimal precoKg;
+    private BigDecimal receita;
+    private BigDecimal custoAcumulado;
+    private BigDecimal lucro;
+    private BigDecimal receitaMarginal; // Receita a mais por esperar este dia
+}
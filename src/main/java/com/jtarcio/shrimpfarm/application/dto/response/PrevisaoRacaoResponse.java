@@ -0,0 +1,27 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PrevisaoRacaoResponse {
+
+    private LocalDateTime dataGeracao;
+    private LocalDate dataInicio; // Primeiro dia da previsão
+    private Integer lotes;
+    private Integer lotesComErro;
+    private Long tempoMs;
+    private DemandaRacaoResponse total;
+    private List<DemandaRacaoResponse> porTipo;
+    private List<DemandaRacaoResponse> porFornecedor;
+    private List<DemandaRacaoResponse> porLote;
+}
@@ -0,0 +1,25 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjecaoCacheEstatisticasResponse {
+
+    private Long acertos;
+    private Long falhas;
+    private BigDecimal taxaAcerto; // Percentual de leituras atendidas pelo cache
+    private Long invalidacoes; // Lotes invalidados por alteração de biometrias, custos ou do lote
+    private Long remocoesPorTamanho; // Entradas menos usadas descartadas ao atingir o tamanho máximo
+    private Long remocoesPorExpiracao; // Entradas descartadas por ultrapassarem o TTL
+    private Integer tamanho;
+    private Integer tamanhoMaximo;
+    private Long ttlSegundos;
+}
@@ -0,0 +1,34 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjecaoLoteResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private String viveiroNome;
+    private String modeloCrescimento;
+    private Integer quantidadeBiometrias;
+    private LocalDate dataUltimaBiometria;
+    private BigDecimal pesoAtual;
+    private BigDecimal pesoMedioProjetado;
+    private BigDecimal quantidadeEstimada;
+    private BigDecimal biomassaProjetada; // kg
+    private BigDecimal receitaProjetada; // Só quando o preço de venda é informado
+    private String statusDespesca;
+    private LocalDate dataDespescaSugerida;
+    private String erro; // Motivo quando o lote não pôde ser projetado (ex: menos de 2 biometrias)
+    private LocalDate dataReferencia; // Só nas projeções pré-calculadas: data a partir da qual foi projetado
+    private LocalDateTime calculadoEm; // Só nas projeções pré-calculadas (tabela projecoes_lote)
+}
@@ -0,0 +1,21 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateioEnergiaLoteResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private Integer diasNoPeriodo; // Dias de cultivo dentro do período
+    private BigDecimal peso; // Dias no período ou biomassa integrada (kg·dia), conforme o critério
+    private BigDecimal valor; // Parcela da conta atribuída ao lote
+}
@@ -0,0 +1,30 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateioEnergiaResponse {
+
+    private Long fazendaId;
+    private LocalDate dataInicio;
+    private LocalDate dataFim;
+    private CriterioRateioEnergia criterio; // Critério efetivamente aplicado
+    private BigDecimal valorTotal; // Soma exata das parcelas
+    private Integer totalLotes;
+    private Boolean registrado; // true se as parcelas foram lançadas como custos variáveis
+
+    @Builder.Default
+    private List<RateioEnergiaLoteResponse> lotes = new ArrayList<>();
+}
@@ -0,0 +1,33 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulacaoDespescaResponse {
+
+    private Long loteId;
+    private String loteCodigo;
+    private LocalDate dataDespesca;
+    private Integer trajetorias;
+    private Long semente;
+
+    private BigDecimal pesoMedioProjetado; // Peso da curva de crescimento, sem variação
+    private BigDecimal custoTotal;
+
+    private PercentisResponse biomassa; // kg
+    private PercentisResponse receita;
+    private PercentisResponse lucro;
+    private BigDecimal probabilidadePrejuizo; // % das trajetórias com lucro negativo
+
+    private Long tempoMs;
+    private String erro; // Motivo quando o lote não pôde ser simulado
+}
@@ -0,0 +1,22 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TemposProjecaoLotesResponse {
+
+    private Integer lotes;
+    private Integer lotesComErro;
+    private Integer paralelismo;
+    private Long carregamentoMs; // Consultas de lotes e biometrias
+    private Long agrupamentoMs; // Biometrias agrupadas por lote em memória
+    private Long projecaoMs; // Espera pelas projeções ainda em cálculo (o resto corre junto com a escrita)
+    private Long escritaMs; // Serialização e envio de cada projeção assim que fica pronta
+    private Long totalMs;
+}
@@ -0,0 +1,25 @@
+package com.jtarcio.shrimpfarm.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VerificacaoCustoResumoResponse {
+
+    private LocalDateTime dataVerificacao;
+    private Integer lotesVerificados;
+    private Integer lotesDivergentes;
+    private Boolean corrigido; // true se os lotes divergentes foram reconstruídos
+
+    @Builder.Default
+    private List<DivergenciaCustoResumoResponse> divergencias = new ArrayList<>();
+}
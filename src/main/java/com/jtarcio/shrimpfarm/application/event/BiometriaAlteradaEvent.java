@@ -0,0 +1,8 @@
+package com.jtarcio.shrimpfarm.application.event;
+
+/**
+ * Publicado quando uma biometria do lote é criada, atualizada ou removida.
+ * Na importação em lote é publicado um evento por lote, com {@code biometriaId} nulo.
+ */
+public record BiometriaAlteradaEvent(Long loteId, Long biometriaId) {
+}
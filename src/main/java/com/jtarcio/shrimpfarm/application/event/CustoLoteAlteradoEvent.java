@@ -0,0 +1,7 @@
+package com.jtarcio.shrimpfarm.application.event;
+
+/**
+ * Publicado quando os totais de custos de um lote (lote_custo_resumo) são alterados
+ */
+public record CustoLoteAlteradoEvent(Long loteId) {
+}
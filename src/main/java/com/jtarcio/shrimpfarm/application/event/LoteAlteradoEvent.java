@@ -0,0 +1,7 @@
+package com.jtarcio.shrimpfarm.application.event;
+
+/**
+ * Publicado quando um lote é criado, removido ou tem dados/status alterados
+ */
+public record LoteAlteradoEvent(Long loteId) {
+}
@@ -0,0 +1,24 @@
+package com.jtarcio.shrimpfarm.application.job;
+
+import com.jtarcio.shrimpfarm.application.service.AtualizacaoProjecaoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refaz logo após a virada do dia as projeções dos lotes ativos, que partem da data de referência do cálculo
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AtualizacaoProjecaoJob {
+
+    private final AtualizacaoProjecaoService atualizacaoProjecaoService;
+
+    @Scheduled(cron = "${shrimpfarm.projecao.atualizacao.diaria-cron:0 15 0 * * *}")
+    public void executar() {
+        int atualizadas = atualizacaoProjecaoService.atualizarDesatualizadas();
+        log.info("Projeções de {} lotes ativos recalculadas para a data de hoje", atualizadas);
+    }
+}
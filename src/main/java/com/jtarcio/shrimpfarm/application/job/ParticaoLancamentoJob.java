@@ -0,0 +1,33 @@
+package com.jtarcio.shrimpfarm.application.job;
+
+import com.jtarcio.shrimpfarm.application.service.ParticaoLancamentoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cria com antecedência as partições mensais dos lançamentos, na subida da aplicação e diariamente,
+ * para que a virada do mês nunca encontre uma tabela sem partição e os lotes em andamento tenham as
+ * partições dos meses desde o povoamento
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ParticaoLancamentoJob {
+
+    private final ParticaoLancamentoService particaoLancamentoService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${shrimpfarm.particoes.criacao-cron:0 0 1 * * *}")
+    public void executar() {
+        try {
+            particaoLancamentoService.garantirParticoes();
+        } catch (RuntimeException e) {
+            // As partições são criadas com meses de folga; a próxima execução tenta de novo
+            log.error("Falha ao criar as partições mensais dos lançamentos", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.jtarcio.shrimpfarm.application.job;
+
+import com.jtarcio.shrimpfarm.application.service.PrevisaoRacaoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcula de madrugada a previsão de demanda de ração, para as consultas do dia lerem o resultado pronto
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrevisaoRacaoJob {
+
+    private final PrevisaoRacaoService previsaoRacaoService;
+
+    @Scheduled(cron = "${shrimpfarm.racao.previsao-cron:0 0 3 * * *}")
+    public void executar() {
+        try {
+            previsaoRacaoService.recalcular();
+        } catch (RuntimeException e) {
+            // A próxima consulta recalcula sob demanda
+            log.error("Falha ao recalcular a previsão de ração", e);
+        }
+    }
+}
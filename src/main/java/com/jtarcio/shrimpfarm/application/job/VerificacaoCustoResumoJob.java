@@ -0,0 +1,28 @@
+package com.jtarcio.shrimpfarm.application.job;
+
+import com.jtarcio.shrimpfarm.application.dto.response.VerificacaoCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.service.LoteCustoResumoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verificação noturna do resumo de custos dos lotes, reconstruindo os lotes com divergência
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VerificacaoCustoResumoJob {
+
+    private final LoteCustoResumoService loteCustoResumoService;
+
+    @Scheduled(cron = "${shrimpfarm.custos.resumo.verificacao-cron:0 30 2 * * *}")
+    public void executar() {
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificarECorrigir();
+
+        if (verificacao.getLotesDivergentes() > 0) {
+            log.warn("Resumo de custos reconstruído para {} lotes divergentes", verificacao.getLotesDivergentes());
+        }
+    }
+}
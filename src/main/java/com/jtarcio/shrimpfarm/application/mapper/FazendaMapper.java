@@ -3,6 +3,7 @@ package com.jtarcio.shrimpfarm.application.mapper;
 import com.jtarcio.shrimpfarm.application.dto.request.FazendaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.FazendaResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FazendaResumo;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -46,6 +47,27 @@ public class FazendaMapper {
                 .build();
     }
 
+    public FazendaResponse toResponse(FazendaResumo fazenda) {
+        return FazendaResponse.builder()
+                .id(fazenda.getId())
+                .nome(fazenda.getNome())
+                .proprietario(fazenda.getProprietario())
+                .endereco(fazenda.getEndereco())
+                .cidade(fazenda.getCidade())
+                .estado(fazenda.getEstado())
+                .cep(fazenda.getCep())
+                .areaTotal(fazenda.getAreaTotal())
+                .areaUtil(fazenda.getAreaUtil())
+                .telefone(fazenda.getTelefone())
+                .email(fazenda.getEmail())
+                .observacoes(fazenda.getObservacoes())
+                .ativa(fazenda.getAtiva())
+                .quantidadeViveiros(fazenda.getQuantidadeViveiros().intValue())
+                .dataCriacao(fazenda.getDataCriacao())
+                .dataAtualizacao(fazenda.getDataAtualizacao())
+                .build();
+    }
+
     public void updateEntity(Fazenda fazenda, FazendaRequest request) {
         fazenda.setNome(request.getNome());
         fazenda.setProprietario(request.getProprietario());
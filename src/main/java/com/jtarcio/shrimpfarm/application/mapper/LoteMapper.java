@@ -4,6 +4,7 @@ import com.jtarcio.shrimpfarm.application.dto.request.LoteRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.LoteResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.LoteResumo;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -46,6 +47,29 @@ public class LoteMapper {
                 .build();
     }
 
+    public LoteResponse toResponse(LoteResumo lote) {
+        return LoteResponse.builder()
+                .id(lote.getId())
+                .viveiroId(lote.getViveiroId())
+                .viveiroCodigo(lote.getViveiroCodigo())
+                .viveiroNome(lote.getViveiroNome())
+                .fazendaId(lote.getFazendaId())
+                .fazendaNome(lote.getFazendaNome())
+                .codigo(lote.getCodigo())
+                .dataPovoamento(lote.getDataPovoamento())
+                .dataDespesca(lote.getDataDespesca())
+                .quantidadePosLarvas(lote.getQuantidadePosLarvas())
+                .custoPosLarvas(lote.getCustoPosLarvas())
+                .densidadeInicial(lote.getDensidadeInicial())
+                .status(lote.getStatus())
+                .diasCultivo(lote.getDiasCultivo())
+                .observacoes(lote.getObservacoes())
+                .quantidadeBiometrias(lote.getQuantidadeBiometrias().intValue())
+                .dataCriacao(lote.getDataCriacao())
+                .dataAtualizacao(lote.getDataAtualizacao())
+                .build();
+    }
+
     public void updateEntity(Lote lote, LoteRequest request, Viveiro viveiro) {
         lote.setViveiro(viveiro);
         lote.setCodigo(request.getCodigo());
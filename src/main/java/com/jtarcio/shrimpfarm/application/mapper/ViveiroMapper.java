@@ -4,6 +4,7 @@ import com.jtarcio.shrimpfarm.application.dto.request.ViveiroRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.ViveiroResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.ViveiroResumo;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -42,6 +43,25 @@ public class ViveiroMapper {
                 .build();
     }
 
+    public ViveiroResponse toResponse(ViveiroResumo viveiro) {
+        return ViveiroResponse.builder()
+                .id(viveiro.getId())
+                .fazendaId(viveiro.getFazendaId())
+                .fazendaNome(viveiro.getFazendaNome())
+                .codigo(viveiro.getCodigo())
+                .nome(viveiro.getNome())
+                .area(viveiro.getArea())
+                .profundidadeMedia(viveiro.getProfundidadeMedia())
+                .volume(viveiro.getVolume())
+                .status(viveiro.getStatus())
+                .observacoes(viveiro.getObservacoes())
+                .ativo(viveiro.getAtivo())
+                .quantidadeLotes(viveiro.getQuantidadeLotes().intValue())
+                .dataCriacao(viveiro.getDataCriacao())
+                .dataAtualizacao(viveiro.getDataAtualizacao())
+                .build();
+    }
+
     public void updateEntity(Viveiro viveiro, ViveiroRequest request, Fazenda fazenda) {
         viveiro.setFazenda(fazenda);
         viveiro.setCodigo(request.getCodigo());
@@ -0,0 +1,182 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.domain.enums.ModeloCrescimentoEnum;
+
+import java.util.Arrays;
+
+/**
+ * Ajuste de modelos de crescimento por mínimos quadrados (Levenberg-Marquardt).
+ * Trabalha só com arrays de {@code double}; os modelos têm no máximo três parâmetros,
+ * então cada passo resolve um sistema 3x3 por eliminação de Gauss.
+ */
+final class AjusteCurvaCrescimento {
+
+    private static final int MAXIMO_ITERACOES = 200;
+    private static final double TOLERANCIA = 1e-10;
+    private static final double LAMBDA_INICIAL = 1e-3;
+    private static final double LAMBDA_MAXIMO = 1e12;
+
+    private AjusteCurvaCrescimento() {
+    }
+
+    /**
+     * Parâmetros ajustados, soma dos quadrados dos resíduos e iterações usadas
+     */
+    record Resultado(double[] parametros, double erroQuadratico, int iteracoes) {
+    }
+
+    /**
+     * Ajusta o modelo aos {@code n} primeiros pontos (dia, peso) partindo dos parâmetros iniciais.
+     * Retorna {@code null} se os parâmetros iniciais forem inválidos para o modelo.
+     */
+    static Resultado ajustar(ModeloCrescimentoEnum modelo, double[] dias, double[] pesos, int n, double[] inicial) {
+        int m = modelo.getNumeroParametros();
+        double[] parametros = inicial.clone();
+
+        if (!modelo.parametrosValidos(parametros)) {
+            return null;
+        }
+
+        double erro = erroQuadratico(modelo, dias, pesos, n, parametros);
+        if (!Double.isFinite(erro)) {
+            return null;
+        }
+
+        double[] jtj = new double[m * m];
+        double[] jtr = new double[m];
+        double[] gradiente = new double[m];
+        double[] sistema = new double[m * m];
+        double[] passo = new double[m];
+        double[] candidato = new double[m];
+
+        double lambda = LAMBDA_INICIAL;
+        int iteracao = 0;
+
+        while (iteracao < MAXIMO_ITERACOES) {
+            iteracao++;
+
+            // Equações normais: JᵀJ e Jᵀr
+            Arrays.fill(jtj, 0);
+            Arrays.fill(jtr, 0);
+            for (int i = 0; i < n; i++) {
+                modelo.gradiente(dias[i], parametros, gradiente);
+                double residuo = pesos[i] - modelo.peso(dias[i], parametros);
+                for (int a = 0; a < m; a++) {
+                    jtr[a] += gradiente[a] * residuo;
+                    for (int b = 0; b < m; b++) {
+                        jtj[a * m + b] += gradiente[a] * gradiente[b];
+                    }
+                }
+            }
+
+            boolean melhorou = false;
+            boolean convergiu = false;
+
+            while (lambda < LAMBDA_MAXIMO) {
+                System.arraycopy(jtj, 0, sistema, 0, m * m);
+                for (int a = 0; a < m; a++) {
+                    sistema[a * m + a] += lambda * Math.max(jtj[a * m + a], 1e-12);
+                }
+
+                System.arraycopy(jtr, 0, passo, 0, m);
+                if (!resolver(sistema, passo, m)) {
+                    lambda *= 10;
+                    continue;
+                }
+
+                for (int a = 0; a < m; a++) {
+                    candidato[a] = parametros[a] + passo[a];
+                }
+
+                double novoErro = modelo.parametrosValidos(candidato)
+                        ? erroQuadratico(modelo, dias, pesos, n, candidato)
+                        : Double.NaN;
+
+                if (Double.isFinite(novoErro) && novoErro <= erro) {
+                    convergiu = erro - novoErro <= TOLERANCIA * (erro + TOLERANCIA) || passoDesprezivel(passo, parametros);
+                    System.arraycopy(candidato, 0, parametros, 0, m);
+                    erro = novoErro;
+                    lambda = Math.max(lambda / 10, 1e-12);
+                    melhorou = true;
+                    break;
+                }
+
+                lambda *= 10;
+            }
+
+            if (!melhorou || convergiu) {
+                break;
+            }
+        }
+
+        return new Resultado(parametros, erro, iteracao);
+    }
+
+    static double erroQuadratico(ModeloCrescimentoEnum modelo, double[] dias, double[] pesos, int n, double[] parametros) {
+        double soma = 0;
+        for (int i = 0; i < n; i++) {
+            double residuo = pesos[i] - modelo.peso(dias[i], parametros);
+            soma += residuo * residuo;
+        }
+        return soma;
+    }
+
+    private static boolean passoDesprezivel(double[] passo, double[] parametros) {
+        for (int a = 0; a < passo.length; a++) {
+            if (Math.abs(passo[a]) > TOLERANCIA * (Math.abs(parametros[a]) + TOLERANCIA)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolve A·x = b (A é m×m, em ordem de linhas) por eliminação de Gauss com pivoteamento parcial,
+     * sem alocar: A é destruída e {@code x} entra com b e sai com a solução.
+     * Retorna false se o sistema for singular.
+     */
+    private static boolean resolver(double[] matriz, double[] x, int m) {
+
+        for (int coluna = 0; coluna < m; coluna++) {
+            int pivo = coluna;
+            for (int linha = coluna + 1; linha < m; linha++) {
+                if (Math.abs(matriz[linha * m + coluna]) > Math.abs(matriz[pivo * m + coluna])) {
+                    pivo = linha;
+                }
+            }
+
+            if (Math.abs(matriz[pivo * m + coluna]) < 1e-300) {
+                return false;
+            }
+
+            if (pivo != coluna) {
+                for (int k = 0; k < m; k++) {
+                    double temp = matriz[coluna * m + k];
+                    matriz[coluna * m + k] = matriz[pivo * m + k];
+                    matriz[pivo * m + k] = temp;
+                }
+                double temp = x[coluna];
+                x[coluna] = x[pivo];
+                x[pivo] = temp;
+            }
+
+            for (int linha = coluna + 1; linha < m; linha++) {
+                double fator = matriz[linha * m + coluna] / matriz[coluna * m + coluna];
+                for (int k = coluna; k < m; k++) {
+                    matriz[linha * m + k] -= fator * matriz[coluna * m + k];
+                }
+                x[linha] -= fator * x[coluna];
+            }
+        }
+
+        for (int linha = m - 1; linha >= 0; linha--) {
+            double soma = x[linha];
+            for (int k = linha + 1; k < m; k++) {
+                soma -= matriz[linha * m + k] * x[k];
+            }
+            x[linha] = soma / matriz[linha * m + linha];
+        }
+
+        return Double.isFinite(x[0]);
+    }
+}
@@ -0,0 +1,145 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.AmostraBiometriaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.AmostraBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ClasseTamanhoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PercentisResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.domain.entity.AmostraBiometria;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.ClasseTamanhoCamaraoEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.EstatisticasAmostra;
+import com.jtarcio.shrimpfarm.domain.valueobject.PesosAmostra;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.AmostraBiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pesos individuais da amostra de uma biometria: grava os pesos compactados e devolve a distribuição
+ * de tamanho (uniformidade, quantis e classes comerciais), que a média sozinha não mostra
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AmostraBiometriaService {
+
+    private static final double PESO_MINIMO = 0.001; // g, mesmo limite do peso médio da biometria
+    private static final double PESO_MAXIMO = 1000; // g
+
+    private final AmostraBiometriaRepository amostraBiometriaRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Registra (ou substitui) os pesos individuais da biometria. Peso médio, quantidade amostrada
+     * e peso total da biometria passam a vir dos pesos, e os indicadores são recalculados.
+     */
+    @Transactional
+    public AmostraBiometriaResponse registrar(Long biometriaId, AmostraBiometriaRequest request) {
+        log.info("Registrando {} pesos individuais na biometria ID: {}", request.getPesos().length, biometriaId);
+
+        Biometria biometria = biometriaRepository.findById(biometriaId)
+                .orElseThrow(() -> new EntityNotFoundException("Biometria", biometriaId));
+
+        float[] pesos = request.getPesos();
+        validarPesos(pesos);
+
+        EstatisticasAmostra estatisticas = EstatisticasAmostra.calcular(pesos);
+
+        biometria.setPesoMedio(escala(estatisticas.media(), 3));
+        biometria.setQuantidadeAmostrada(estatisticas.quantidade());
+        biometria.setPesoTotalAmostra(escala(estatisticas.soma(), 3));
+
+        Lote lote = biometria.getLote();
+        BiometriaService.calcularIndicadores(biometria, lote,
+                loteCustoResumoRepository.buscarQuantidadeRacaoKg(lote.getId()).orElse(null));
+        biometriaRepository.save(biometria);
+
+        amostraBiometriaRepository.save(AmostraBiometria.builder()
+                .biometriaId(biometriaId)
+                .quantidade(estatisticas.quantidade())
+                .pesos(PesosAmostra.compactar(pesos))
+                .desvioPadrao(escala(estatisticas.desvioPadrao(), 3))
+                .coeficienteVariacao(escala(estatisticas.coeficienteVariacao(), 2))
+                .build());
+
+        eventPublisher.publishEvent(new BiometriaAlteradaEvent(lote.getId(), biometriaId));
+
+        log.info("Amostra registrada na biometria ID: {} - Peso médio: {}g, CV: {}%",
+                biometriaId, biometria.getPesoMedio(), escala(estatisticas.coeficienteVariacao(), 2));
+
+        return toResponse(biometriaId, estatisticas);
+    }
+
+    /**
+     * Distribuição de tamanho da amostra gravada, recalculada em uma passada sobre os pesos
+     */
+    @Transactional(readOnly = true)
+    public AmostraBiometriaResponse buscar(Long biometriaId) {
+        log.debug("Buscando amostra da biometria ID: {}", biometriaId);
+
+        AmostraBiometria amostra = amostraBiometriaRepository.findById(biometriaId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Nenhuma amostra de pesos individuais encontrada para a biometria ID: " + biometriaId));
+
+        return toResponse(biometriaId, EstatisticasAmostra.calcular(PesosAmostra.descompactar(amostra.getPesos())));
+    }
+
+    // Métodos privados auxiliares
+
+    private void validarPesos(float[] pesos) {
+        for (float peso : pesos) {
+            // A comparação também recusa NaN
+            if (!(peso >= PESO_MINIMO && peso <= PESO_MAXIMO)) {
+                throw new BusinessException("Pesos individuais devem estar entre 0,001 g e 1000 g. Valor informado: " + peso);
+            }
+        }
+    }
+
+    private AmostraBiometriaResponse toResponse(Long biometriaId, EstatisticasAmostra estatisticas) {
+        List<ClasseTamanhoResponse> classes = new ArrayList<>();
+        for (ClasseTamanhoCamaraoEnum classe : ClasseTamanhoCamaraoEnum.values()) {
+            int quantidade = estatisticas.contagem(classe);
+            classes.add(ClasseTamanhoResponse.builder()
+                    .classe(classe)
+                    .descricao(classe.getDescricao())
+                    .quantidade(quantidade)
+                    .percentual(escala(100.0 * quantidade / estatisticas.quantidade(), 2))
+                    .build());
+        }
+
+        return AmostraBiometriaResponse.builder()
+                .biometriaId(biometriaId)
+                .quantidade(estatisticas.quantidade())
+                .pesoMedio(escala(estatisticas.media(), 3))
+                .desvioPadrao(escala(estatisticas.desvioPadrao(), 3))
+                .coeficienteVariacao(escala(estatisticas.coeficienteVariacao(), 2))
+                .pesoMinimo(escala(estatisticas.minimo(), 3))
+                .pesoMaximo(escala(estatisticas.maximo(), 3))
+                .percentis(PercentisResponse.builder()
+                        .p10(escala(estatisticas.p10(), 3))
+                        .p50(escala(estatisticas.p50(), 3))
+                        .p90(escala(estatisticas.p90(), 3))
+                        .build())
+                .classes(classes)
+                .build();
+    }
+
+    private BigDecimal escala(double valor, int casas) {
+        return BigDecimal.valueOf(valor).setScale(casas, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,325 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.AtualizacaoProjecaoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoLoteResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.ProjecaoLote;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ProjecaoLoteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mantém a tabela projecoes_lote atualizada em segundo plano.
+ * Após o commit de uma alteração de biometria ou do lote, o recálculo é enfileirado em um executor próprio
+ * e limitado; quem gravou não espera pela projeção. Pedidos repetidos para um lote que ainda está na fila
+ * são absorvidos pelo cálculo pendente, e um pedido que chega durante o cálculo gera exatamente mais um.
+ * Com a fila cheia o pedido é descartado e o lote fica com a projeção anterior até a próxima alteração.
+ * Cada projeção guarda a data de referência do cálculo; as dos lotes ativos calculadas em dias anteriores
+ * são refeitas pelo AtualizacaoProjecaoJob.
+ */
+@Service
+@Slf4j
+public class AtualizacaoProjecaoService {
+
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final ProjecaoLoteRepository projecaoLoteRepository;
+    private final CurvaCrescimentoService curvaCrescimentoService;
+    private final ProjecaoService projecaoService;
+    private final ThreadPoolExecutor executor;
+    private final int capacidadeFila;
+
+    // No máximo um pedido por lote: o mesmo lote nunca é calculado em duas threads ao mesmo tempo
+    private final Map<Long, Pedido> pedidos = new ConcurrentHashMap<>();
+
+    private final LongAdder agendadas = new LongAdder();
+    private final LongAdder coalescidas = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+    private final LongAdder concluidas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder latenciaTotalNanos = new LongAdder();
+    private final AtomicLong latenciaMaximaNanos = new AtomicLong();
+    private final LongAdder tempoCalculoTotalNanos = new LongAdder();
+
+    public AtualizacaoProjecaoService(LoteRepository loteRepository,
+                                      BiometriaRepository biometriaRepository,
+                                      ProjecaoLoteRepository projecaoLoteRepository,
+                                      CurvaCrescimentoService curvaCrescimentoService,
+                                      ProjecaoService projecaoService,
+                                      @Value("${shrimpfarm.projecao.atualizacao.threads:2}") int threads,
+                                      @Value("${shrimpfarm.projecao.atualizacao.capacidade-fila:1000}") int capacidadeFila) {
+        this.loteRepository = loteRepository;
+        this.biometriaRepository = biometriaRepository;
+        this.projecaoLoteRepository = projecaoLoteRepository;
+        this.curvaCrescimentoService = curvaCrescimentoService;
+        this.projecaoService = projecaoService;
+        this.capacidadeFila = capacidadeFila;
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "projecao-lote-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarBiometria(BiometriaAlteradaEvent evento) {
+        // A ordem entre os listeners do mesmo evento não é garantida: a curva em memória é descartada
+        // aqui para o cálculo não reaproveitar a anterior
+        curvaCrescimentoService.invalidar(evento.loteId());
+        agendar(evento.loteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarLote(LoteAlteradoEvent evento) {
+        curvaCrescimentoService.invalidar(evento.loteId());
+        agendar(evento.loteId());
+    }
+
+    /**
+     * Enfileira o recálculo da projeção do lote sem esperar por ele
+     */
+    public void agendar(Long loteId) {
+        long agora = System.nanoTime();
+        Pedido[] anterior = new Pedido[1];
+
+        pedidos.compute(loteId, (id, atual) -> {
+            anterior[0] = atual;
+            if (atual == null) {
+                return new Pedido(Situacao.PENDENTE, agora);
+            }
+            if (atual.situacao() == Situacao.EXECUTANDO) {
+                // O cálculo em andamento pode ter lido as biometrias antes do commit: repete ao terminar
+                return new Pedido(Situacao.REPETIR, agora);
+            }
+            return atual;
+        });
+
+        if (anterior[0] == null) {
+            agendadas.increment();
+            submeter(loteId);
+        } else if (anterior[0].situacao() == Situacao.EXECUTANDO) {
+            agendadas.increment();
+        } else {
+            coalescidas.increment();
+        }
+    }
+
+    /**
+     * Projeção gravada do lote. Lotes ainda sem projeção gravada são calculados na hora
+     * e o resultado é gravado, sem passar pela fila.
+     */
+    public ProjecaoLoteResponse obterProjecao(Long loteId) {
+        ProjecaoLote projecao = projecaoLoteRepository.findById(loteId)
+                .orElseGet(() -> projecaoLoteRepository.save(calcular(loteId)));
+        return paraResponse(projecao);
+    }
+
+    /**
+     * Recalcula as projeções dos lotes ativos com data de referência anterior a hoje.
+     * Roda na thread de quem chama, fora da fila, para não disputar a capacidade com os pedidos
+     * gerados pelas alterações de biometria.
+     *
+     * @return quantidade de projeções regravadas
+     */
+    public int atualizarDesatualizadas() {
+        int atualizadas = 0;
+
+        for (Long loteId : projecaoLoteRepository.findLoteIdsAtivosComReferenciaAnterior(LocalDate.now())) {
+            if (pedidos.containsKey(loteId)) {
+                // O pedido na fila já recalcula com a data de hoje
+                continue;
+            }
+            try {
+                projecaoLoteRepository.save(calcular(loteId));
+                atualizadas++;
+            } catch (EntityNotFoundException e) {
+                log.debug("Lote ID: {} removido antes da atualização diária da projeção", loteId);
+            } catch (RuntimeException e) {
+                log.error("Erro na atualização diária da projeção do lote ID: {}", loteId, e);
+            }
+        }
+
+        return atualizadas;
+    }
+
+    public AtualizacaoProjecaoEstatisticasResponse obterEstatisticas() {
+        long execucoes = concluidas.sum() + falhas.sum();
+
+        return AtualizacaoProjecaoEstatisticasResponse.builder()
+                .fila(executor.getQueue().size())
+                .capacidadeFila(capacidadeFila)
+                .emExecucao(executor.getActiveCount())
+                .lotesPendentes(pedidos.size())
+                .agendadas(agendadas.sum())
+                .coalescidas(coalescidas.sum())
+                .rejeitadas(rejeitadas.sum())
+                .concluidas(concluidas.sum())
+                .falhas(falhas.sum())
+                .latenciaMediaMs(execucoes > 0 ? TimeUnit.NANOSECONDS.toMillis(latenciaTotalNanos.sum() / execucoes) : 0L)
+                .latenciaMaximaMs(TimeUnit.NANOSECONDS.toMillis(latenciaMaximaNanos.get()))
+                .tempoCalculoMedioMs(execucoes > 0 ? TimeUnit.NANOSECONDS.toMillis(tempoCalculoTotalNanos.sum() / execucoes) : 0L)
+                .build();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        // Os pedidos na fila são descartados: a projeção é recalculada na próxima alteração do lote
+        executor.shutdownNow();
+    }
+
+    // Métodos privados auxiliares
+
+    private void submeter(Long loteId) {
+        try {
+            executor.execute(() -> executar(loteId));
+        } catch (RejectedExecutionException e) {
+            pedidos.remove(loteId);
+            rejeitadas.increment();
+            log.warn("Fila de atualização de projeções cheia; lote ID: {} mantém a projeção anterior", loteId);
+        }
+    }
+
+    private void executar(Long loteId) {
+        Pedido pedido = pedidos.computeIfPresent(loteId, (id, atual) -> new Pedido(Situacao.EXECUTANDO, atual.agendadoEm()));
+        if (pedido == null) {
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            projecaoLoteRepository.save(calcular(loteId));
+            concluidas.increment();
+        } catch (EntityNotFoundException e) {
+            log.debug("Lote ID: {} removido antes da atualização da projeção", loteId);
+            concluidas.increment();
+        } catch (RuntimeException e) {
+            falhas.increment();
+            log.error("Erro ao atualizar a projeção do lote ID: {}", loteId, e);
+        } finally {
+            long fim = System.nanoTime();
+            tempoCalculoTotalNanos.add(fim - inicio);
+            latenciaTotalNanos.add(fim - pedido.agendadoEm());
+            latenciaMaximaNanos.accumulateAndGet(fim - pedido.agendadoEm(), Math::max);
+
+            Pedido seguinte = pedidos.compute(loteId, (id, atual) -> atual != null && atual.situacao() == Situacao.REPETIR
+                    ? new Pedido(Situacao.PENDENTE, atual.agendadoEm())
+                    : null);
+            if (seguinte != null) {
+                submeter(loteId);
+            }
+        }
+    }
+
+    private ProjecaoLote calcular(Long loteId) {
+        long inicio = System.nanoTime();
+        LocalDate hoje = LocalDate.now();
+
+        Lote lote = loteRepository.buscarComViveiro(loteId)
+                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+        List<Biometria> biometrias = biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(loteId);
+
+        ProjecaoLote.ProjecaoLoteBuilder projecao = ProjecaoLote.builder()
+                .loteId(loteId)
+                .loteCodigo(lote.getCodigo())
+                .quantidadeBiometrias(biometrias.size());
+
+        if (!biometrias.isEmpty()) {
+            Biometria ultima = biometrias.get(biometrias.size() - 1);
+            projecao.ultimaBiometriaId(ultima.getId())
+                    .dataUltimaBiometria(ultima.getDataBiometria())
+                    .pesoAtual(ultima.getPesoMedio());
+        }
+
+        try {
+            CurvaCrescimento curva = curvaCrescimentoService.curva(lote, biometrias);
+            ProjecaoLoteResponse despesca = projetarNaDespesca(lote, curva, hoje);
+            projecao.modeloCrescimento(despesca.getModeloCrescimento())
+                    .pesoMedioProjetado(despesca.getPesoMedioProjetado())
+                    .quantidadeEstimada(despesca.getQuantidadeEstimada())
+                    .biomassaProjetada(despesca.getBiomassaProjetada())
+                    .statusDespesca(despesca.getStatusDespesca())
+                    .dataDespescaSugerida(despesca.getDataDespescaSugerida());
+        } catch (BusinessException e) {
+            projecao.erro(e.getMessage());
+        }
+
+        return projecao
+                .dataReferencia(hoje)
+                .calculadoEm(LocalDateTime.now())
+                .tempoCalculoMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio))
+                .build();
+    }
+
+    /**
+     * Projeção na data de despesca sugerida (nunca anterior à última biometria)
+     */
+    private ProjecaoLoteResponse projetarNaDespesca(Lote lote, CurvaCrescimento curva, LocalDate hoje) {
+        LocalDate ultimaBiometria = curva.dataUltimaBiometria();
+
+        ProjecaoLoteResponse atual = projecaoService.projetarLote(lote, curva,
+                hoje.isBefore(ultimaBiometria) ? ultimaBiometria : hoje, null);
+
+        LocalDate dataDespesca = atual.getDataDespescaSugerida();
+        if (dataDespesca == null || dataDespesca.isBefore(ultimaBiometria)) {
+            return atual;
+        }
+        return projecaoService.projetarLote(lote, curva, dataDespesca, null);
+    }
+
+    private ProjecaoLoteResponse paraResponse(ProjecaoLote projecao) {
+        return ProjecaoLoteResponse.builder()
+                .loteId(projecao.getLoteId())
+                .loteCodigo(projecao.getLoteCodigo())
+                .modeloCrescimento(projecao.getModeloCrescimento())
+                .quantidadeBiometrias(projecao.getQuantidadeBiometrias())
+                .dataUltimaBiometria(projecao.getDataUltimaBiometria())
+                .pesoAtual(projecao.getPesoAtual())
+                .pesoMedioProjetado(projecao.getPesoMedioProjetado())
+                .quantidadeEstimada(projecao.getQuantidadeEstimada())
+                .biomassaProjetada(projecao.getBiomassaProjetada())
+                .statusDespesca(projecao.getStatusDespesca())
+                .dataDespescaSugerida(projecao.getDataDespescaSugerida())
+                .erro(projecao.getErro())
+                .dataReferencia(projecao.getDataReferencia())
+                .calculadoEm(projecao.getCalculadoEm())
+                .build();
+    }
+
+    private enum Situacao {
+        PENDENTE, // Na fila do executor
+        EXECUTANDO,
+        REPETIR // Em cálculo, com novo pedido chegado depois do início
+    }
+
+    private record Pedido(Situacao situacao, long agendadoEm) {
+    }
+}
@@ -2,17 +2,22 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.BiometriaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.BiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
 import com.jtarcio.shrimpfarm.application.mapper.BiometriaMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Biometria;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
-import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,8 +35,9 @@ public class BiometriaService {
 
     private final BiometriaRepository biometriaRepository;
     private final LoteRepository loteRepository;
-    private final RacaoRepository racaoRepository;
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
     private final BiometriaMapper biometriaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public BiometriaResponse criar(BiometriaRequest request) {
@@ -50,6 +56,7 @@ public class BiometriaService {
         calcularIndicadores(biometria, lote);
 
         Biometria biometriaSalva = biometriaRepository.save(biometria);
+        eventPublisher.publishEvent(new BiometriaAlteradaEvent(lote.getId(), biometriaSalva.getId()));
 
         log.info("Biometria criada com sucesso. ID: {} - Peso médio: {}g",
                 biometriaSalva.getId(), biometriaSalva.getPesoMedio());
@@ -104,6 +111,21 @@ public class BiometriaService {
                 .map(biometriaMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<BiometriaResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando biometrias por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, true);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<Biometria> biometrias = posicao == null
+                ? biometriaRepository.listarPrimeiras(limite)
+                : biometriaRepository.listarApos(posicao.data(), posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(biometrias, tamanho, biometriaMapper::toResponse,
+                biometria -> CursorPaginacao.porDataEId(biometria.getDataBiometria(), biometria.getId()));
+    }
+
     @Transactional
     public BiometriaResponse atualizar(Long id, BiometriaRequest request) {
         log.info("Atualizando biometria ID: {}", id);
@@ -116,11 +138,18 @@ public class BiometriaService {
 
         validarBiometria(request, lote);
 
+        Long loteAnteriorId = biometria.getLote().getId();
+
         biometriaMapper.updateEntity(biometria, request, lote);
         calcularIndicadores(biometria, lote);
 
         Biometria biometriaAtualizada = biometriaRepository.save(biometria);
 
+        eventPublisher.publishEvent(new BiometriaAlteradaEvent(lote.getId(), id));
+        if (!lote.getId().equals(loteAnteriorId)) {
+            eventPublisher.publishEvent(new BiometriaAlteradaEvent(loteAnteriorId, id));
+        }
+
         log.info("Biometria atualizada com sucesso. ID: {}", id);
         return biometriaMapper.toResponse(biometriaAtualizada);
     }
@@ -133,12 +162,16 @@ public class BiometriaService {
                 .orElseThrow(() -> new EntityNotFoundException("Biometria", id));
 
         biometriaRepository.delete(biometria);
+        eventPublisher.publishEvent(new BiometriaAlteradaEvent(biometria.getLote().getId(), id));
         log.info("Biometria deletada com sucesso. ID: {}", id);
     }
 
     // Métodos privados auxiliares
 
-    private void validarBiometria(BiometriaRequest request, Lote lote) {
+    /**
+     * Regras de negócio da biometria em relação ao lote (também usadas na importação em lote)
+     */
+    static void validarBiometria(BiometriaRequest request, Lote lote) {
         // Validar se lote está ativo
         if (lote.getStatus() != StatusLoteEnum.ATIVO && lote.getStatus() != StatusLoteEnum.PLANEJADO) {
             throw new BusinessException("Só é possível registrar biometria em lotes ativos ou planejados");
@@ -164,6 +197,16 @@ public class BiometriaService {
     }
 
     private void calcularIndicadores(Biometria biometria, Lote lote) {
+        // FCA com o total de ração em kg mantido no resumo do lote
+        calcularIndicadores(biometria, lote,
+                loteCustoResumoRepository.buscarQuantidadeRacaoKg(lote.getId()).orElse(null));
+    }
+
+    /**
+     * Calcula GPD, biomassa, sobrevivência e FCA da biometria a partir do total de ração do lote em kg
+     * (nulo quando o lote ainda não tem resumo de custos)
+     */
+    static void calcularIndicadores(Biometria biometria, Lote lote, BigDecimal racaoTotal) {
         // 1. Calcular GPD (Ganho de Peso Diário)
         if (biometria.getDiaCultivo() > 0) {
             BigDecimal gpd = biometria.getPesoMedio()
@@ -183,7 +226,6 @@ public class BiometriaService {
         biometria.setSobrevivenciaEstimada(sobrevivenciaEstimada.multiply(BigDecimal.valueOf(100)));
 
         // 3. Calcular FCA (Fator de Conversão Alimentar)
-        BigDecimal racaoTotal = racaoRepository.calcularQuantidadeTotalRacaoByLoteId(lote.getId());
         if (racaoTotal != null && biomassa.compareTo(BigDecimal.ZERO) > 0) {
             BigDecimal fca = racaoTotal.divide(biomassa, 3, RoundingMode.HALF_UP);
             biometria.setFatorConversaoAlimentar(fca);
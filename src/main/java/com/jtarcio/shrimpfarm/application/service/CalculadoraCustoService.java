@@ -1,12 +1,17 @@
 package com.jtarcio.shrimpfarm.application.service;
 
-import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoLoteResponse;
 import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
 import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
 import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.Centavos;
+import com.jtarcio.shrimpfarm.domain.valueobject.Razao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.DiasCultivoPorLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,22 +20,23 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CalculadoraCustoService {
 
+    private static final int TAMANHO_BLOCO = 500;
+
     private final LoteRepository loteRepository;
-    private final RacaoRepository racaoRepository;
-    private final NutrienteRepository nutrienteRepository;
-    private final FertilizacaoRepository fertilizacaoRepository;
     private final CustoVariavelRepository custoVariavelRepository;
     private final BiometriaRepository biometriaRepository;
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
+    private final LoteCustoResumoService loteCustoResumoService;
+    private final ContextoCalculoLote contextoCalculoLote;
 
     /**
      * Calcula todos os custos de um lote
@@ -39,49 +45,31 @@ public class CalculadoraCustoService {
     public Map<String, BigDecimal> calcularCustosDoLote(Long loteId) {
         log.info("Calculando custos do lote ID: {}", loteId);
 
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
-
-        Map<String, BigDecimal> custos = new HashMap<>();
-
-        // 1. Custo de pós-larvas
-        BigDecimal custoPosLarvas = lote.getCustoPosLarvas() != null
-                ? lote.getCustoPosLarvas()
-                : BigDecimal.ZERO;
-        custos.put("custoPosLarvas", custoPosLarvas);
-
-        // 2. Custo de ração
-        BigDecimal custoRacao = racaoRepository.calcularCustoTotalRacaoByLoteId(loteId);
-        custoRacao = custoRacao != null ? custoRacao : BigDecimal.ZERO;
-        custos.put("custoRacao", custoRacao);
-
-        // 3. Custo de nutrientes (probióticos, vitaminas, etc)
-        BigDecimal custoNutrientes = nutrienteRepository.calcularCustoTotalNutrientesByLoteId(loteId);
-        custoNutrientes = custoNutrientes != null ? custoNutrientes : BigDecimal.ZERO;
-        custos.put("custoNutrientes", custoNutrientes);
-
-        // 4. Custo de fertilização
-        BigDecimal custoFertilizacao = fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(loteId);
-        custoFertilizacao = custoFertilizacao != null ? custoFertilizacao : BigDecimal.ZERO;
-        custos.put("custoFertilizacao", custoFertilizacao);
-
-        // 5. Custos variáveis (energia, mão de obra, etc)
-        BigDecimal custoVariavel = custoVariavelRepository.calcularCustoTotalVariavelByLoteId(loteId);
-        custoVariavel = custoVariavel != null ? custoVariavel : BigDecimal.ZERO;
-        custos.put("custoVariavel", custoVariavel);
-
-        // 6. Custo total
-        BigDecimal custoTotal = custoPosLarvas
-                .add(custoRacao)
-                .add(custoNutrientes)
-                .add(custoFertilizacao)
-                .add(custoVariavel);
-        custos.put("custoTotal", custoTotal);
-
-        log.info("Custos calculados - Total: R$ {}", custoTotal);
+        Lote lote = contextoCalculoLote.lote(loteId);
+        Map<String, BigDecimal> custos = quadroCustos(lote, contextoCalculoLote.resumoCustos(loteId)).paraMapa();
+
+        log.info("Custos calculados - Total: R$ {}", custos.get("custoTotal"));
         return custos;
     }
 
+    /**
+     * Calcula os custos de vários lotes de uma vez.
+     * Lotes e totais são carregados em consultas agrupadas (duas por bloco de lotes),
+     * independente de quantos lotes forem informados.
+     *
+     * @return Map com loteId -> custos do lote, na ordem dos IDs informados
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, BigDecimal>> calcularCustosDosLotes(Collection<Long> loteIds) {
+        log.info("Calculando custos de {} lotes", loteIds.size());
+
+        Map<Long, Map<String, BigDecimal>> resultado = new LinkedHashMap<>();
+        carregarLotes(loteIds).forEach(dados ->
+                resultado.put(dados.lote().getId(), dados.custos()));
+
+        return resultado;
+    }
+
     /**
      * Calcula o custo por kg produzido (se houver despesca)
      */
@@ -89,28 +77,34 @@ public class CalculadoraCustoService {
     public BigDecimal calcularCustoPorKg(Long loteId) {
         log.info("Calculando custo por kg do lote ID: {}", loteId);
 
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+        Lote lote = contextoCalculoLote.lote(loteId);
 
         if (lote.getDespesca() == null) {
             log.warn("Lote {} ainda não tem despesca registrada", loteId);
             return BigDecimal.ZERO;
         }
 
-        Map<String, BigDecimal> custos = calcularCustosDoLote(loteId);
-        BigDecimal custoTotal = custos.get("custoTotal");
-        BigDecimal pesoTotalDespesca = lote.getDespesca().getPesoTotal();
-
-        if (pesoTotalDespesca.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal custoPorKg = custoTotal.divide(pesoTotalDespesca, 2, RoundingMode.HALF_UP);
+        long custoTotal = quadroCustos(lote, contextoCalculoLote.resumoCustos(loteId)).custoTotal();
+        BigDecimal custoPorKg = custoPorKg(lote, custoTotal);
 
         log.info("Custo por kg: R$ {}/kg", custoPorKg);
         return custoPorKg;
     }
 
+    /**
+     * Calcula o custo por kg produzido de vários lotes (zero para lotes sem despesca)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> calcularCustoPorKgDosLotes(Collection<Long> loteIds) {
+        log.info("Calculando custo por kg de {} lotes", loteIds.size());
+
+        Map<Long, BigDecimal> resultado = new LinkedHashMap<>();
+        carregarLotes(loteIds).forEach(dados ->
+                resultado.put(dados.lote().getId(), custoPorKg(dados.lote(), dados.custoTotal())));
+
+        return resultado;
+    }
+
     /**
      * Calcula o custo por camarão
      */
@@ -118,32 +112,34 @@ public class CalculadoraCustoService {
     public BigDecimal calcularCustoPorCamarao(Long loteId) {
         log.info("Calculando custo por camarão do lote ID: {}", loteId);
 
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+        Lote lote = contextoCalculoLote.lote(loteId);
 
         if (lote.getDespesca() == null) {
             log.warn("Lote {} ainda não tem despesca registrada", loteId);
             return BigDecimal.ZERO;
         }
 
-        Map<String, BigDecimal> custos = calcularCustosDoLote(loteId);
-        BigDecimal custoTotal = custos.get("custoTotal");
-        Integer quantidadeDespescada = lote.getDespesca().getQuantidadeDespescada();
-
-        if (quantidadeDespescada == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal custoPorCamarao = custoTotal.divide(
-                BigDecimal.valueOf(quantidadeDespescada),
-                4,
-                RoundingMode.HALF_UP
-        );
+        long custoTotal = quadroCustos(lote, contextoCalculoLote.resumoCustos(loteId)).custoTotal();
+        BigDecimal custoPorCamarao = custoPorCamarao(lote, custoTotal);
 
         log.info("Custo por camarão: R$ {}", custoPorCamarao);
         return custoPorCamarao;
     }
 
+    /**
+     * Calcula o custo por camarão de vários lotes (zero para lotes sem despesca)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> calcularCustoPorCamaraoDosLotes(Collection<Long> loteIds) {
+        log.info("Calculando custo por camarão de {} lotes", loteIds.size());
+
+        Map<Long, BigDecimal> resultado = new LinkedHashMap<>();
+        carregarLotes(loteIds).forEach(dados ->
+                resultado.put(dados.lote().getId(), custoPorCamarao(dados.lote(), dados.custoTotal())));
+
+        return resultado;
+    }
+
     /**
      * Calcula o percentual de cada custo em relação ao total
      */
@@ -151,23 +147,21 @@ public class CalculadoraCustoService {
     public Map<String, BigDecimal> calcularPercentualCustos(Long loteId) {
         log.info("Calculando percentual de custos do lote ID: {}", loteId);
 
-        Map<String, BigDecimal> custos = calcularCustosDoLote(loteId);
+        Lote lote = contextoCalculoLote.lote(loteId);
+        QuadroCustos quadro = quadroCustos(lote, contextoCalculoLote.resumoCustos(loteId));
         Map<String, BigDecimal> percentuais = new HashMap<>();
 
-        BigDecimal custoTotal = custos.get("custoTotal");
+        long custoTotal = quadro.custoTotal();
 
-        if (custoTotal.compareTo(BigDecimal.ZERO) == 0) {
+        if (custoTotal == 0) {
             return percentuais;
         }
 
-        custos.forEach((chave, valor) -> {
-            if (!chave.equals("custoTotal")) {
-                BigDecimal percentual = valor
-                        .divide(custoTotal, 4, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
-                percentuais.put(chave + "Percentual", percentual);
-            }
-        });
+        percentuais.put("custoPosLarvasPercentual", percentual(quadro.custoPosLarvas(), custoTotal));
+        percentuais.put("custoRacaoPercentual", percentual(quadro.custoRacao(), custoTotal));
+        percentuais.put("custoNutrientesPercentual", percentual(quadro.custoNutrientes(), custoTotal));
+        percentuais.put("custoFertilizacaoPercentual", percentual(quadro.custoFertilizacao(), custoTotal));
+        percentuais.put("custoVariavelPercentual", percentual(quadro.custoVariavel(), custoTotal));
 
         log.info("Percentuais calculados com sucesso");
         return percentuais;
@@ -180,8 +174,7 @@ public class CalculadoraCustoService {
     public BigDecimal calcularCustoMedioDiario(Long loteId) {
         log.info("Calculando custo médio diário do lote ID: {}", loteId);
 
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+        Lote lote = contextoCalculoLote.lote(loteId);
 
         Integer diasCultivo = lote.getDiasCultivo();
 
@@ -189,19 +182,27 @@ public class CalculadoraCustoService {
             return BigDecimal.ZERO;
         }
 
-        Map<String, BigDecimal> custos = calcularCustosDoLote(loteId);
-        BigDecimal custoTotal = custos.get("custoTotal");
-
-        BigDecimal custoMedioDiario = custoTotal.divide(
-                BigDecimal.valueOf(diasCultivo),
-                2,
-                RoundingMode.HALF_UP
-        );
+        long custoTotal = quadroCustos(lote, contextoCalculoLote.resumoCustos(loteId)).custoTotal();
+        BigDecimal custoMedioDiario = custoMedioDiario(lote, custoTotal);
 
         log.info("Custo médio diário: R$ {}/dia", custoMedioDiario);
         return custoMedioDiario;
     }
 
+    /**
+     * Calcula o custo médio diário de vários lotes (zero para lotes sem dias de cultivo)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> calcularCustoMedioDiarioDosLotes(Collection<Long> loteIds) {
+        log.info("Calculando custo médio diário de {} lotes", loteIds.size());
+
+        Map<Long, BigDecimal> resultado = new LinkedHashMap<>();
+        carregarLotes(loteIds).forEach(dados ->
+                resultado.put(dados.lote().getId(), custoMedioDiario(dados.lote(), dados.custoTotal())));
+
+        return resultado;
+    }
+
     /**
      * Calcula a relação custo/receita (ROI) se houver despesca
      */
@@ -209,54 +210,52 @@ public class CalculadoraCustoService {
     public Map<String, BigDecimal> calcularROI(Long loteId) {
         log.info("Calculando ROI do lote ID: {}", loteId);
 
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
-
-        Map<String, BigDecimal> resultado = new HashMap<>();
+        Lote lote = contextoCalculoLote.lote(loteId);
 
         if (lote.getDespesca() == null) {
             log.warn("Lote {} ainda não tem despesca registrada", loteId);
-            return resultado;
+            return new HashMap<>();
         }
 
-        Map<String, BigDecimal> custos = calcularCustosDoLote(loteId);
-        BigDecimal custoTotal = custos.get("custoTotal");
-        BigDecimal receitaTotal = lote.getDespesca().getReceitaTotal();
+        long custoTotal = quadroCustos(lote, contextoCalculoLote.resumoCustos(loteId)).custoTotal();
+        Map<String, BigDecimal> resultado = roi(lote, custoTotal);
 
-        if (receitaTotal == null) {
-            receitaTotal = BigDecimal.ZERO;
-        }
-
-        // Lucro
-        BigDecimal lucro = receitaTotal.subtract(custoTotal);
-        resultado.put("custoTotal", custoTotal);
-        resultado.put("receitaTotal", receitaTotal);
-        resultado.put("lucro", lucro);
+        log.info("ROI calculado - Lucro: R$ {}, ROI: {}%",
+                resultado.get("lucro"), resultado.get("roiPercentual"));
 
-        // ROI (%)
-        if (custoTotal.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal roi = lucro
-                    .divide(custoTotal, 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-            resultado.put("roiPercentual", roi);
-        }
+        return resultado;
+    }
 
-        // Margem de lucro (%)
-        if (receitaTotal.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal margemLucro = lucro
-                    .divide(receitaTotal, 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-            resultado.put("margemLucro", margemLucro);
-        }
+    /**
+     * Calcula o ROI de vários lotes (mapa vazio para lotes sem despesca)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, BigDecimal>> calcularROIDosLotes(Collection<Long> loteIds) {
+        log.info("Calculando ROI de {} lotes", loteIds.size());
 
-        log.info("ROI calculado - Lucro: R$ {}, ROI: {}%",
-                lucro, resultado.get("roiPercentual"));
+        Map<Long, Map<String, BigDecimal>> resultado = new LinkedHashMap<>();
+        carregarLotes(loteIds).forEach(dados ->
+                resultado.put(dados.lote().getId(), roi(dados.lote(), dados.custoTotal())));
 
         return resultado;
     }
 
     /**
-     * Calcula o rateio de energia elétrica por lote em um período
+     * Monta o quadro de custos e indicadores de vários lotes, para fechamentos em lote
+     */
+    @Transactional(readOnly = true)
+    public List<CustoLoteResponse> gerarQuadroCustosDosLotes(Collection<Long> loteIds) {
+        log.info("Gerando quadro de custos de {} lotes", loteIds.size());
+
+        return carregarLotes(loteIds).stream()
+                .map(this::montarQuadroCustos)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Calcula o rateio de energia elétrica por lote em um período.
+     * Os dados dos lotes vêm de uma consulta agrupada, independente da quantidade de lotes,
+     * e a soma das parcelas é sempre igual ao custo total (método dos maiores restos).
      *
      * @param custoTotalEnergia Custo total de energia no período
      * @param lotesIds          IDs dos lotes ativos no período
@@ -276,13 +275,15 @@ public class CalculadoraCustoService {
             return new HashMap<>();
         }
 
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(lotesIds));
+
         switch (criterioRateio) {
             case DIAS_CULTIVO:
-                return ratearPorDiasCultivo(custoTotalEnergia, lotesIds);
+                return ratearPorDiasCultivo(custoTotalEnergia, ids);
             case BIOMASSA:
-                return ratearPorBiomassa(custoTotalEnergia, lotesIds);
+                return ratearPorBiomassa(custoTotalEnergia, ids);
             case IGUALITARIO:
-                return ratearIgualitariamente(custoTotalEnergia, lotesIds);
+                return ratearIgualitariamente(custoTotalEnergia, ids);
             default:
                 throw new IllegalArgumentException("Critério de rateio inválido: " + criterioRateio);
         }
@@ -292,35 +293,33 @@ public class CalculadoraCustoService {
      * Rateio proporcional aos dias de cultivo
      */
     private Map<Long, BigDecimal> ratearPorDiasCultivo(BigDecimal custoTotal, List<Long> lotesIds) {
-        Map<Long, BigDecimal> resultado = new HashMap<>();
-
-        // Calcular total de dias de todos os lotes
-        Map<Long, Integer> diasPorLote = new HashMap<>();
-        int totalDias = 0;
+        Map<Long, Integer> diasPorLote = loteRepository.buscarDiasCultivoPorLotes(lotesIds).stream()
+                .collect(Collectors.toMap(
+                        DiasCultivoPorLote::getLoteId,
+                        lote -> lote.getDiasCultivo() != null ? lote.getDiasCultivo() : 0));
 
         for (Long loteId : lotesIds) {
-            Lote lote = loteRepository.findById(loteId)
-                    .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
-
-            Integer dias = lote.getDiasCultivo();
-            diasPorLote.put(loteId, dias);
-            totalDias += dias;
+            if (!diasPorLote.containsKey(loteId)) {
+                throw new EntityNotFoundException("Lote", loteId);
+            }
         }
 
-        // Ratear proporcionalmente
-        for (Map.Entry<Long, Integer> entry : diasPorLote.entrySet()) {
-            Long loteId = entry.getKey();
-            Integer dias = entry.getValue();
-
-            BigDecimal proporcao = BigDecimal.valueOf(dias)
-                    .divide(BigDecimal.valueOf(totalDias), 6, RoundingMode.HALF_UP);
+        int totalDias = diasPorLote.values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
 
-            BigDecimal valorRateado = custoTotal.multiply(proporcao)
-                    .setScale(2, RoundingMode.HALF_UP);
+        if (totalDias == 0) {
+            log.warn("Total de dias de cultivo é zero, usando rateio igualitário");
+            return ratearIgualitariamente(custoTotal, lotesIds);
+        }
 
-            resultado.put(loteId, valorRateado);
+        Map<Long, Integer> pesos = new LinkedHashMap<>();
+        for (Long loteId : lotesIds) {
+            pesos.put(loteId, diasPorLote.get(loteId));
         }
 
+        Map<Long, BigDecimal> resultado = RateioProporcional.ratear(custoTotal, pesos);
+
         log.info("Rateio por dias concluído. Total de dias: {}", totalDias);
         return resultado;
     }
@@ -329,22 +328,14 @@ public class CalculadoraCustoService {
      * Rateio proporcional à biomassa estimada
      */
     private Map<Long, BigDecimal> ratearPorBiomassa(BigDecimal custoTotal, List<Long> lotesIds) {
-        Map<Long, BigDecimal> resultado = new HashMap<>();
-
-        // Calcular biomassa total de todos os lotes
-        Map<Long, BigDecimal> biomassaPorLote = new HashMap<>();
+        // Biomassa da última biometria de cada lote; lotes sem biometria (ou sem biomassa) ficam fora do rateio
+        Map<Long, BigDecimal> biomassaPorLote = new LinkedHashMap<>();
         BigDecimal biomasTotal = BigDecimal.ZERO;
 
-        for (Long loteId : lotesIds) {
-            Optional<Biometria> ultimaBiometria = biometriaRepository
-                    .findUltimaBiometriaByLoteId(loteId);
-
-            if (ultimaBiometria.isPresent()) {
-                BigDecimal biomassa = ultimaBiometria.get().getBiomassaEstimada();
-                if (biomassa != null) {
-                    biomassaPorLote.put(loteId, biomassa);
-                    biomasTotal = biomasTotal.add(biomassa);
-                }
+        for (TotalPorLote ultimaBiomassa : biometriaRepository.buscarUltimaBiomassaPorLotes(lotesIds)) {
+            if (ultimaBiomassa.getTotal() != null) {
+                biomassaPorLote.put(ultimaBiomassa.getLoteId(), ultimaBiomassa.getTotal());
+                biomasTotal = biomasTotal.add(ultimaBiomassa.getTotal());
             }
         }
 
@@ -353,17 +344,7 @@ public class CalculadoraCustoService {
             return ratearIgualitariamente(custoTotal, lotesIds);
         }
 
-        // Ratear proporcionalmente
-        for (Map.Entry<Long, BigDecimal> entry : biomassaPorLote.entrySet()) {
-            Long loteId = entry.getKey();
-            BigDecimal biomassa = entry.getValue();
-
-            BigDecimal proporcao = biomassa.divide(biomasTotal, 6, RoundingMode.HALF_UP);
-            BigDecimal valorRateado = custoTotal.multiply(proporcao)
-                    .setScale(2, RoundingMode.HALF_UP);
-
-            resultado.put(loteId, valorRateado);
-        }
+        Map<Long, BigDecimal> resultado = RateioProporcional.ratear(custoTotal, biomassaPorLote);
 
         log.info("Rateio por biomassa concluído. Biomassa total: {} kg", biomasTotal);
         return resultado;
@@ -373,24 +354,21 @@ public class CalculadoraCustoService {
      * Rateio igualitário (divide igualmente)
      */
     private Map<Long, BigDecimal> ratearIgualitariamente(BigDecimal custoTotal, List<Long> lotesIds) {
-        Map<Long, BigDecimal> resultado = new HashMap<>();
-
-        BigDecimal valorPorLote = custoTotal.divide(
-                BigDecimal.valueOf(lotesIds.size()),
-                2,
-                RoundingMode.HALF_UP
-        );
-
+        Map<Long, Integer> pesos = new LinkedHashMap<>();
         for (Long loteId : lotesIds) {
-            resultado.put(loteId, valorPorLote);
+            pesos.put(loteId, 1);
         }
 
-        log.info("Rateio igualitário concluído. Valor por lote: R$ {}", valorPorLote);
+        Map<Long, BigDecimal> resultado = RateioProporcional.ratear(custoTotal, pesos);
+
+        log.info("Rateio igualitário concluído para {} lotes", lotesIds.size());
         return resultado;
     }
 
     /**
-     * Registra o rateio de energia como custo variável nos lotes
+     * Registra o rateio de energia como custo variável nos lotes.
+     * Os lançamentos são inseridos em lotes JDBC (IDs de sequência) e o resumo de custos
+     * é atualizado com uma única instrução agrupada por lote.
      */
     @Transactional
     public void registrarRateioEnergia(
@@ -407,26 +385,210 @@ public class CalculadoraCustoService {
                 criterioRateio
         );
 
+        if (rateio.isEmpty()) {
+            return;
+        }
+
+        Set<Long> lotesExistentes = new HashSet<>(loteRepository.findIdsByIdIn(rateio.keySet()));
+
+        List<CustoVariavel> custos = new ArrayList<>(rateio.size());
         for (Map.Entry<Long, BigDecimal> entry : rateio.entrySet()) {
             Long loteId = entry.getKey();
-            BigDecimal valor = entry.getValue();
 
-            Lote lote = loteRepository.findById(loteId)
-                    .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+            if (!lotesExistentes.contains(loteId)) {
+                throw new EntityNotFoundException("Lote", loteId);
+            }
 
-            CustoVariavel custoVariavel = CustoVariavel.builder()
-                    .lote(lote)
+            custos.add(CustoVariavel.builder()
+                    .lote(loteRepository.getReferenceById(loteId))
                     .dataLancamento(dataReferencia)
                     .categoria(CategoriaGastoEnum.ENERGIA)
                     .descricao("Rateio de energia elétrica - " + criterioRateio)
-                    .valor(valor)
+                    .valor(entry.getValue())
                     .observacoes("Rateado automaticamente")
-                    .build();
+                    .build());
+        }
+
+        custoVariavelRepository.saveAll(custos);
+        loteCustoResumoService.registrarCustosVariaveis(custos);
+
+        log.info("Rateio de energia registrado com sucesso para {} lotes", custos.size());
+    }
+
+    // Métodos privados auxiliares
+
+    /**
+     * Carrega lotes (com despesca) e resumos de custos em blocos, preservando a ordem dos IDs informados
+     */
+    private List<CustosCarregados> carregarLotes(Collection<Long> loteIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(loteIds));
+        List<CustosCarregados> carregados = new ArrayList<>(ids.size());
+
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO) {
+            List<Long> bloco = ids.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, ids.size()));
+
+            Map<Long, Lote> lotes = loteRepository.findAllComDespescaByIdIn(bloco).stream()
+                    .collect(Collectors.toMap(Lote::getId, Function.identity()));
+            Map<Long, LoteCustoResumo> resumos = loteCustoResumoRepository.findAllById(bloco).stream()
+                    .collect(Collectors.toMap(LoteCustoResumo::getLoteId, Function.identity()));
+
+            for (Long loteId : bloco) {
+                Lote lote = lotes.get(loteId);
+                if (lote == null) {
+                    throw new EntityNotFoundException("Lote", loteId);
+                }
+
+                LoteCustoResumo resumo = resumos.getOrDefault(loteId, LoteCustoResumo.vazio(loteId));
+                carregados.add(new CustosCarregados(lote, quadroCustos(lote, resumo)));
+            }
+        }
+
+        return carregados;
+    }
+
+    /**
+     * Soma os custos do lote em centavos; a conversão para BigDecimal fica para a resposta
+     */
+    private QuadroCustos quadroCustos(Lote lote, LoteCustoResumo resumo) {
+        return new QuadroCustos(
+                Centavos.de(lote.getCustoPosLarvas()),
+                Centavos.de(resumo.getCustoRacao()),
+                Centavos.de(resumo.getCustoNutrientes()),
+                Centavos.de(resumo.getCustoFertilizacao()),
+                Centavos.de(resumo.getCustoVariavel()));
+    }
+
+    private BigDecimal custoPorKg(Lote lote, long custoTotal) {
+        if (lote.getDespesca() == null) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal pesoTotalDespesca = lote.getDespesca().getPesoTotal();
 
-            custoVariavelRepository.save(custoVariavel);
+        if (pesoTotalDespesca.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        // Divisão avulsa: o peso da despesca fica em BigDecimal, sem conversão para ponto fixo
+        return Centavos.paraBigDecimal(custoTotal).divide(pesoTotalDespesca, Centavos.ESCALA, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal custoPorCamarao(Lote lote, long custoTotal) {
+        if (lote.getDespesca() == null) {
+            return BigDecimal.ZERO;
+        }
+
+        Integer quantidadeDespescada = lote.getDespesca().getQuantidadeDespescada();
+
+        if (quantidadeDespescada == 0) {
+            return BigDecimal.ZERO;
         }
 
-        log.info("Rateio de energia registrado com sucesso para {} lotes", lotesIds.size());
+        // Custo por camarão com 4 casas (frações de centavo)
+        return Razao.paraBigDecimal(Razao.dividir(custoTotal, Centavos.ESCALA, quantidadeDespescada, 0, Razao.ESCALA));
     }
 
+    private BigDecimal custoMedioDiario(Lote lote, long custoTotal) {
+        Integer diasCultivo = lote.getDiasCultivo();
+
+        if (diasCultivo == null || diasCultivo == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return Centavos.paraBigDecimal(Centavos.dividir(custoTotal, diasCultivo));
+    }
+
+    private Map<String, BigDecimal> roi(Lote lote, long custoTotal) {
+        Map<String, BigDecimal> resultado = new HashMap<>();
+
+        if (lote.getDespesca() == null) {
+            return resultado;
+        }
+
+        long receitaTotal = Centavos.de(lote.getDespesca().getReceitaTotal());
+
+        // Lucro
+        long lucro = Centavos.subtrair(receitaTotal, custoTotal);
+        resultado.put("custoTotal", Centavos.paraBigDecimal(custoTotal));
+        resultado.put("receitaTotal", Centavos.paraBigDecimal(receitaTotal));
+        resultado.put("lucro", Centavos.paraBigDecimal(lucro));
+
+        // ROI (%)
+        if (custoTotal > 0) {
+            resultado.put("roiPercentual", percentual(lucro, custoTotal));
+        }
+
+        // Margem de lucro (%)
+        if (receitaTotal > 0) {
+            resultado.put("margemLucro", percentual(lucro, receitaTotal));
+        }
+
+        return resultado;
+    }
+
+    /**
+     * Percentual com 4 casas (parte / total × 100), arredondado HALF_UP
+     */
+    private BigDecimal percentual(long parte, long total) {
+        return Razao.paraBigDecimal(Razao.percentual(Razao.de(parte, total)));
+    }
+
+    private CustoLoteResponse montarQuadroCustos(CustosCarregados dados) {
+        Lote lote = dados.lote();
+        QuadroCustos quadro = dados.quadro();
+        long custoTotal = quadro.custoTotal();
+        Map<String, BigDecimal> roi = roi(lote, custoTotal);
+
+        return CustoLoteResponse.builder()
+                .loteId(lote.getId())
+                .loteCodigo(lote.getCodigo())
+                .custoPosLarvas(Centavos.paraBigDecimal(quadro.custoPosLarvas()))
+                .custoRacao(Centavos.paraBigDecimal(quadro.custoRacao()))
+                .custoNutrientes(Centavos.paraBigDecimal(quadro.custoNutrientes()))
+                .custoFertilizacao(Centavos.paraBigDecimal(quadro.custoFertilizacao()))
+                .custoVariavel(Centavos.paraBigDecimal(quadro.custoVariavel()))
+                .custoTotal(Centavos.paraBigDecimal(custoTotal))
+                .custoPorKg(custoPorKg(lote, custoTotal))
+                .custoPorCamarao(custoPorCamarao(lote, custoTotal))
+                .custoMedioDiario(custoMedioDiario(lote, custoTotal))
+                .receitaTotal(roi.get("receitaTotal"))
+                .lucro(roi.get("lucro"))
+                .roiPercentual(roi.get("roiPercentual"))
+                .margemLucro(roi.get("margemLucro"))
+                .build();
+    }
+
+    private record CustosCarregados(Lote lote, QuadroCustos quadro) {
+
+        Map<String, BigDecimal> custos() {
+            return quadro.paraMapa();
+        }
+
+        long custoTotal() {
+            return quadro.custoTotal();
+        }
+    }
+
+    /**
+     * Custos de um lote em centavos
+     */
+    private record QuadroCustos(long custoPosLarvas, long custoRacao, long custoNutrientes,
+                                long custoFertilizacao, long custoVariavel) {
+
+        long custoTotal() {
+            return Centavos.somar(Centavos.somar(Centavos.somar(Centavos.somar(
+                    custoPosLarvas, custoRacao), custoNutrientes), custoFertilizacao), custoVariavel);
+        }
+
+        Map<String, BigDecimal> paraMapa() {
+            Map<String, BigDecimal> custos = new HashMap<>();
+            custos.put("custoPosLarvas", Centavos.paraBigDecimal(custoPosLarvas));
+            custos.put("custoRacao", Centavos.paraBigDecimal(custoRacao));
+            custos.put("custoNutrientes", Centavos.paraBigDecimal(custoNutrientes));
+            custos.put("custoFertilizacao", Centavos.paraBigDecimal(custoFertilizacao));
+            custos.put("custoVariavel", Centavos.paraBigDecimal(custoVariavel));
+            custos.put("custoTotal", Centavos.paraBigDecimal(custoTotal()));
+            return custos;
+        }
+    }
 }
@@ -2,13 +2,16 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.CompradorRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.CompradorResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.mapper.CompradorMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Comprador;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.CompradorRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -78,6 +81,19 @@ public class CompradorService {
                 .map(compradorMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<CompradorResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando compradores por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, false);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<Comprador> compradores = compradorRepository.findByIdGreaterThanOrderByIdAsc(posicao == null ? 0L : posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(compradores, tamanho, compradorMapper::toResponse,
+                comprador -> CursorPaginacao.porId(comprador.getId()));
+    }
+
     @Transactional
     public CompradorResponse atualizar(Long id, CompradorRequest request) {
         log.info("Atualizando comprador ID: {}", id);
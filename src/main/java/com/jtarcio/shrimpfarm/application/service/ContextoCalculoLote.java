@@ -0,0 +1,142 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ContextoCalculoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Dados de lote usados pelos cálculos de projeção e de custos (lote, biometrias e resumo de custos),
+ * carregados uma única vez por transação somente leitura e compartilhados entre
+ * ProjecaoService e CalculadoraCustoService.
+ * Fora de uma transação somente leitura os dados são sempre lidos do banco, pois poderiam
+ * ser alterados pela própria transação.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContextoCalculoLote {
+
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
+
+    private final LongAdder lotesCarregados = new LongAdder();
+    private final LongAdder lotesReaproveitados = new LongAdder();
+    private final LongAdder biometriasCarregadas = new LongAdder();
+    private final LongAdder biometriasReaproveitadas = new LongAdder();
+    private final LongAdder resumosCarregados = new LongAdder();
+    private final LongAdder resumosReaproveitados = new LongAdder();
+
+    public Lote lote(Long loteId) {
+        return memorizar(Contexto::lotes, loteId,
+                id -> loteRepository.findById(id)
+                        .orElseThrow(() -> new EntityNotFoundException("Lote", id)),
+                lotesCarregados, lotesReaproveitados);
+    }
+
+    /**
+     * Biometrias do lote em ordem cronológica (lista não modificável)
+     */
+    public List<Biometria> biometrias(Long loteId) {
+        return memorizar(Contexto::biometrias, loteId,
+                id -> Collections.unmodifiableList(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(id)),
+                biometriasCarregadas, biometriasReaproveitadas);
+    }
+
+    /**
+     * Totais de custos de lote_custo_resumo (zerados quando o lote ainda não tem lançamentos)
+     */
+    public LoteCustoResumo resumoCustos(Long loteId) {
+        return memorizar(Contexto::resumos, loteId,
+                id -> loteCustoResumoRepository.findById(id)
+                        .orElseGet(() -> LoteCustoResumo.vazio(id)),
+                resumosCarregados, resumosReaproveitados);
+    }
+
+    public ContextoCalculoEstatisticasResponse obterEstatisticas() {
+        long reaproveitados = lotesReaproveitados.sum()
+                + biometriasReaproveitadas.sum()
+                + resumosReaproveitados.sum();
+
+        return ContextoCalculoEstatisticasResponse.builder()
+                .lotesCarregados(lotesCarregados.sum())
+                .lotesReaproveitados(lotesReaproveitados.sum())
+                .biometriasCarregadas(biometriasCarregadas.sum())
+                .biometriasReaproveitadas(biometriasReaproveitadas.sum())
+                .resumosCarregados(resumosCarregados.sum())
+                .resumosReaproveitados(resumosReaproveitados.sum())
+                .consultasEvitadas(reaproveitados)
+                .build();
+    }
+
+    // Métodos privados auxiliares
+
+    private <T> T memorizar(Function<Contexto, Map<Long, T>> secao, Long loteId, Function<Long, T> carregador,
+                            LongAdder carregados, LongAdder reaproveitados) {
+        Contexto contexto = contextoAtual();
+
+        if (contexto == null) {
+            carregados.increment();
+            return carregador.apply(loteId);
+        }
+
+        Map<Long, T> valores = secao.apply(contexto);
+        T valor = valores.get(loteId);
+
+        if (valor != null) {
+            reaproveitados.increment();
+            return valor;
+        }
+
+        valor = carregador.apply(loteId);
+        valores.put(loteId, valor);
+        carregados.increment();
+
+        return valor;
+    }
+
+    private Contexto contextoAtual() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+
+        Contexto contexto = (Contexto) TransactionSynchronizationManager.getResource(this);
+
+        if (contexto == null) {
+            contexto = new Contexto(new HashMap<>(), new HashMap<>(), new HashMap<>());
+            TransactionSynchronizationManager.bindResource(this, contexto);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ContextoCalculoLote.this);
+                }
+            });
+            log.debug("Contexto de cálculo de lotes aberto para a transação");
+        }
+
+        return contexto;
+    }
+
+    private record Contexto(Map<Long, Lote> lotes,
+                            Map<Long, List<Biometria>> biometrias,
+                            Map<Long, LoteCustoResumo> resumos) {
+    }
+}
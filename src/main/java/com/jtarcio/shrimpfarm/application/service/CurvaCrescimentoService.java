@@ -0,0 +1,241 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.ModeloCrescimentoEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ajusta e mantém em memória a curva de crescimento de cada lote.
+ * Com 4 biometrias ou mais são ajustados os modelos von Bertalanffy, Gompertz e logístico e fica o de menor erro;
+ * com menos pontos (ou se nenhum ajuste convergir) a curva é linear pelo GPD médio das últimas biometrias.
+ * A curva é descartada quando biometrias ou o lote mudam (após o commit) e o novo ajuste parte
+ * dos parâmetros anteriores, convergindo em poucas iterações. O número de lotes em memória é limitado:
+ * passado o máximo, sai o lote usado há mais tempo (em geral um já despescado), que volta a ser ajustado
+ * do zero se for consultado de novo.
+ */
+@Service
+@Slf4j
+public class CurvaCrescimentoService {
+
+    static final int MINIMO_BIOMETRIAS_AJUSTE = 4;
+
+    private static final ModeloCrescimentoEnum[] MODELOS_AJUSTADOS = {
+            ModeloCrescimentoEnum.VON_BERTALANFFY,
+            ModeloCrescimentoEnum.GOMPERTZ,
+            ModeloCrescimentoEnum.LOGISTICO
+    };
+
+    private final ContextoCalculoLote contextoCalculoLote;
+
+    // Em ordem de acesso, para descartar o lote menos usado; protegido por lock
+    private final LinkedHashMap<Long, Entrada> entradas;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public CurvaCrescimentoService(ContextoCalculoLote contextoCalculoLote,
+                                   @Value("${shrimpfarm.projecao.curva.tamanho-maximo:5000}") int tamanhoMaximo) {
+        this.contextoCalculoLote = contextoCalculoLote;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entrada> maisAntiga) {
+                return size() > tamanhoMaximo;
+            }
+        };
+    }
+
+    /**
+     * Curva de crescimento do lote, ajustando-a se não houver uma válida em memória
+     */
+    public CurvaCrescimento curva(Long loteId) {
+        return obter(loteId, null, null);
+    }
+
+    /**
+     * Como {@link #curva(Long)}, mas, se for preciso ajustar, usa o lote e as biometrias (em ordem cronológica)
+     * já carregados pelo chamador em vez de consultá-los
+     */
+    public CurvaCrescimento curva(Lote lote, List<Biometria> biometrias) {
+        return obter(lote.getId(), lote, biometrias);
+    }
+
+    /**
+     * Descarta a curva do lote; os parâmetros são mantidos como ponto de partida do próximo ajuste
+     */
+    public void invalidar(Long loteId) {
+        lock.lock();
+        try {
+            entradas.compute(loteId, (id, existente) -> existente != null
+                    ? new Entrada(null, existente.parametrosPorModelo(), existente.versao() + 1)
+                    : new Entrada(null, null, 1));
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Curva de crescimento do lote ID: {} invalidada", loteId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarBiometria(BiometriaAlteradaEvent evento) {
+        invalidar(evento.loteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarLote(LoteAlteradoEvent evento) {
+        invalidar(evento.loteId());
+    }
+
+    // Métodos privados auxiliares
+
+    private CurvaCrescimento obter(Long loteId, Lote lote, List<Biometria> biometrias) {
+        Entrada atual;
+        lock.lock();
+        try {
+            atual = entradas.get(loteId);
+        } finally {
+            lock.unlock();
+        }
+        if (atual != null && atual.curva() != null) {
+            return atual.curva();
+        }
+
+        long versao = atual != null ? atual.versao() : 0;
+        double[][] parametrosAnteriores = atual != null ? atual.parametrosPorModelo() : null;
+
+        if (lote == null) {
+            lote = contextoCalculoLote.lote(loteId);
+            biometrias = contextoCalculoLote.biometrias(loteId);
+        }
+
+        double[][] parametrosPorModelo = new double[MODELOS_AJUSTADOS.length][];
+        CurvaCrescimento curva = ajustar(lote, biometrias, parametrosAnteriores, parametrosPorModelo);
+
+        // Só guarda se o lote não foi invalidado durante o ajuste
+        lock.lock();
+        try {
+            entradas.compute(loteId, (id, existente) -> {
+                long versaoExistente = existente != null ? existente.versao() : 0;
+                return versaoExistente == versao ? new Entrada(curva, parametrosPorModelo, versao) : existente;
+            });
+        } finally {
+            lock.unlock();
+        }
+
+        return curva;
+    }
+
+    private CurvaCrescimento ajustar(Lote lote, List<Biometria> biometrias,
+                                     double[][] parametrosAnteriores, double[][] parametrosPorModelo) {
+        Long loteId = lote.getId();
+
+        if (biometrias.isEmpty()) {
+            throw new BusinessException("Não há biometrias registradas para fazer projeção");
+        }
+
+        if (biometrias.size() < 2) {
+            throw new BusinessException("É necessário pelo menos 2 biometrias para fazer projeção");
+        }
+
+        int n = biometrias.size();
+        double[] dias = new double[n];
+        double[] pesos = new double[n];
+        for (int i = 0; i < n; i++) {
+            Biometria biometria = biometrias.get(i);
+            dias[i] = ChronoUnit.DAYS.between(lote.getDataPovoamento(), biometria.getDataBiometria());
+            pesos[i] = biometria.getPesoMedio().doubleValue();
+        }
+
+        ModeloCrescimentoEnum melhorModelo = null;
+        AjusteCurvaCrescimento.Resultado melhor = null;
+
+        if (n >= MINIMO_BIOMETRIAS_AJUSTE) {
+            for (int m = 0; m < MODELOS_AJUSTADOS.length; m++) {
+                ModeloCrescimentoEnum modelo = MODELOS_AJUSTADOS[m];
+                AjusteCurvaCrescimento.Resultado resultado = ajustarModelo(modelo, dias, pesos, n,
+                        parametrosAnteriores != null ? parametrosAnteriores[m] : null);
+
+                if (resultado == null) {
+                    continue;
+                }
+
+                parametrosPorModelo[m] = resultado.parametros();
+                if (melhor == null || resultado.erroQuadratico() < melhor.erroQuadratico()) {
+                    melhor = resultado;
+                    melhorModelo = modelo;
+                }
+            }
+        }
+
+        Biometria ultima = biometrias.get(n - 1);
+        double[] parametros;
+        double erro;
+
+        if (melhor != null) {
+            parametros = melhor.parametros();
+            erro = melhor.erroQuadratico();
+            log.info("Curva de crescimento do lote ID: {} ajustada ({}, {} biometrias, {} iterações, erro {})",
+                    loteId, melhorModelo.getDescricao(), n, melhor.iteracoes(), erro);
+        } else {
+            melhorModelo = ModeloCrescimentoEnum.LINEAR;
+            double gpd = calcularGPDMedio(biometrias).doubleValue();
+            parametros = new double[]{pesos[n - 1] - gpd * dias[n - 1], gpd};
+            erro = AjusteCurvaCrescimento.erroQuadratico(melhorModelo, dias, pesos, n, parametros);
+            log.info("Curva de crescimento do lote ID: {} linear (GPD médio {} g/dia, {} biometrias)", loteId, gpd, n);
+        }
+
+        return new CurvaCrescimento(melhorModelo, parametros, erro, lote.getDataPovoamento(),
+                ultima.getDataBiometria(), ultima.getPesoMedio(), n);
+    }
+
+    /**
+     * Ajusta partindo dos parâmetros do ajuste anterior, se houver; se não convergir, parte da estimativa inicial
+     */
+    private AjusteCurvaCrescimento.Resultado ajustarModelo(ModeloCrescimentoEnum modelo, double[] dias,
+                                                           double[] pesos, int n, double[] anteriores) {
+        if (anteriores != null) {
+            AjusteCurvaCrescimento.Resultado resultado = AjusteCurvaCrescimento.ajustar(modelo, dias, pesos, n, anteriores);
+            if (resultado != null) {
+                return resultado;
+            }
+        }
+        return AjusteCurvaCrescimento.ajustar(modelo, dias, pesos, n, modelo.parametrosIniciais(dias, pesos, n));
+    }
+
+    /**
+     * GPD médio das últimas 3 biometrias que o têm calculado
+     */
+    private BigDecimal calcularGPDMedio(List<Biometria> biometrias) {
+        int inicio = Math.max(0, biometrias.size() - 3);
+
+        BigDecimal somaGPD = BigDecimal.ZERO;
+        int contador = 0;
+        for (Biometria biometria : biometrias.subList(inicio, biometrias.size())) {
+            if (biometria.getGanhoPesoDiario() != null) {
+                somaGPD = somaGPD.add(biometria.getGanhoPesoDiario());
+                contador++;
+            }
+        }
+
+        if (contador == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return somaGPD.divide(BigDecimal.valueOf(contador), 4, RoundingMode.HALF_UP);
+    }
+
+    private record Entrada(CurvaCrescimento curva, double[][] parametrosPorModelo, long versao) {
+    }
+}
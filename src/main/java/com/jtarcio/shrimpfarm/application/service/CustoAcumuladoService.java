@@ -0,0 +1,161 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.CurvaCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoAcumuladoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PontoCurvaCustoResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoDiario;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.Centavos;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoDiarioRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Custo de um lote em uma data ou período, a partir da tabela lote_custo_diario (soma de prefixos).
+ * Cada consulta lê no máximo duas linhas pela chave primária, sem somar os lançamentos.
+ * O custo das pós-larvas entra na data de povoamento.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustoAcumuladoService {
+
+    private final LoteRepository loteRepository;
+    private final LoteCustoDiarioRepository loteCustoDiarioRepository;
+
+    /**
+     * Custo total do lote até a data, inclusive
+     */
+    @Transactional(readOnly = true)
+    public CustoAcumuladoLoteResponse custoAte(Long loteId, LocalDate data) {
+        log.debug("Consultando custo acumulado do lote ID: {} até {}", loteId, data);
+
+        Lote lote = buscarLote(loteId);
+
+        long custoPosLarvas = data.isBefore(lote.getDataPovoamento()) ? 0 : Centavos.de(lote.getCustoPosLarvas());
+        long custoLancamentos = custoAcumuladoAte(loteId, data);
+
+        return montarResposta(lote, null, data, custoPosLarvas, custoLancamentos);
+    }
+
+    /**
+     * Custo do lote lançado entre as datas, inclusive
+     */
+    @Transactional(readOnly = true)
+    public CustoAcumuladoLoteResponse custoNoPeriodo(Long loteId, LocalDate dataInicio, LocalDate dataFim) {
+        log.debug("Consultando custo do lote ID: {} de {} a {}", loteId, dataInicio, dataFim);
+
+        if (dataFim.isBefore(dataInicio)) {
+            throw new BusinessException("Data de fim do período não pode ser anterior à data de início");
+        }
+
+        Lote lote = buscarLote(loteId);
+
+        boolean povoamentoNoPeriodo = !lote.getDataPovoamento().isBefore(dataInicio)
+                && !lote.getDataPovoamento().isAfter(dataFim);
+        long custoPosLarvas = povoamentoNoPeriodo ? Centavos.de(lote.getCustoPosLarvas()) : 0;
+        long custoLancamentos = Centavos.subtrair(
+                custoAcumuladoAte(loteId, dataFim), custoAcumuladoAte(loteId, dataInicio.minusDays(1)));
+
+        return montarResposta(lote, dataInicio, dataFim, custoPosLarvas, custoLancamentos);
+    }
+
+    /**
+     * Curva de custo acumulado do lote, com um ponto por dia com lançamentos e o povoamento
+     */
+    @Transactional(readOnly = true)
+    public CurvaCustoLoteResponse gerarCurvaCusto(Long loteId) {
+        log.info("Gerando curva de custo do lote ID: {}", loteId);
+
+        Lote lote = buscarLote(loteId);
+        LocalDate dataPovoamento = lote.getDataPovoamento();
+        long custoPosLarvas = Centavos.de(lote.getCustoPosLarvas());
+
+        List<LoteCustoDiario> dias = loteCustoDiarioRepository.findByLoteIdOrderByDataAsc(loteId);
+        List<PontoCurvaCustoResponse> pontos = new ArrayList<>(dias.size() + 1);
+
+        long acumuladoAnterior = 0;
+        boolean povoamentoIncluido = false;
+
+        for (LoteCustoDiario dia : dias) {
+            if (!povoamentoIncluido && dia.getData().isAfter(dataPovoamento)) {
+                pontos.add(ponto(dataPovoamento, dataPovoamento, custoPosLarvas,
+                        Centavos.somar(acumuladoAnterior, custoPosLarvas)));
+                povoamentoIncluido = true;
+            }
+
+            long custoDia = Centavos.de(dia.getCustoDia());
+            long acumulado = Centavos.de(dia.getCustoAcumulado());
+
+            if (!dia.getData().isBefore(dataPovoamento)) {
+                acumulado = Centavos.somar(acumulado, custoPosLarvas);
+                if (dia.getData().isEqual(dataPovoamento)) {
+                    custoDia = Centavos.somar(custoDia, custoPosLarvas);
+                    povoamentoIncluido = true;
+                }
+            }
+
+            pontos.add(ponto(dia.getData(), dataPovoamento, custoDia, acumulado));
+            acumuladoAnterior = Centavos.de(dia.getCustoAcumulado());
+        }
+
+        if (!povoamentoIncluido) {
+            pontos.add(ponto(dataPovoamento, dataPovoamento, custoPosLarvas,
+                    Centavos.somar(acumuladoAnterior, custoPosLarvas)));
+        }
+
+        return CurvaCustoLoteResponse.builder()
+                .loteId(lote.getId())
+                .loteCodigo(lote.getCodigo())
+                .dataPovoamento(dataPovoamento)
+                .dataDespesca(lote.getDataDespesca())
+                .custoTotal(pontos.get(pontos.size() - 1).getCustoAcumulado())
+                .pontos(pontos)
+                .build();
+    }
+
+    // Métodos privados auxiliares
+
+    private Lote buscarLote(Long loteId) {
+        return loteRepository.findById(loteId)
+                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+    }
+
+    private long custoAcumuladoAte(Long loteId, LocalDate data) {
+        return loteCustoDiarioRepository.buscarCustoAcumuladoAte(loteId, data)
+                .map(Centavos::de)
+                .orElse(0L);
+    }
+
+    private CustoAcumuladoLoteResponse montarResposta(Lote lote, LocalDate dataInicio, LocalDate dataFim,
+                                                      long custoPosLarvas, long custoLancamentos) {
+        return CustoAcumuladoLoteResponse.builder()
+                .loteId(lote.getId())
+                .loteCodigo(lote.getCodigo())
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .custoPosLarvas(Centavos.paraBigDecimal(custoPosLarvas))
+                .custoLancamentos(Centavos.paraBigDecimal(custoLancamentos))
+                .custoTotal(Centavos.paraBigDecimal(Centavos.somar(custoPosLarvas, custoLancamentos)))
+                .build();
+    }
+
+    private PontoCurvaCustoResponse ponto(LocalDate data, LocalDate dataPovoamento, long custoDia, long custoAcumulado) {
+        return PontoCurvaCustoResponse.builder()
+                .data(data)
+                .diaCultivo((int) ChronoUnit.DAYS.between(dataPovoamento, data))
+                .custoDia(Centavos.paraBigDecimal(custoDia))
+                .custoAcumulado(Centavos.paraBigDecimal(custoAcumulado))
+                .build();
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,7 @@ public class CustoVariavelService {
     private final CustoVariavelRepository custoVariavelRepository;
     private final LoteRepository loteRepository;
     private final CustoVariavelMapper custoVariavelMapper;
+    private final LoteCustoResumoService loteCustoResumoService;
 
     @Transactional
     public CustoVariavelResponse criar(CustoVariavelRequest request) {
@@ -40,6 +42,9 @@ public class CustoVariavelService {
         CustoVariavel custoVariavel = custoVariavelMapper.toEntity(request, lote);
         CustoVariavel custoVariavelSalvo = custoVariavelRepository.save(custoVariavel);
 
+        loteCustoResumoService.registrarCustoVariavel(lote.getId(), custoVariavel.getDataLancamento(),
+                custoVariavel.getValor());
+
         log.info("Custo variável registrado com sucesso. ID: {} - Valor: R$ {}",
                 custoVariavelSalvo.getId(), custoVariavelSalvo.getValor());
 
@@ -105,9 +110,18 @@ public class CustoVariavelService {
         Lote lote = loteRepository.findById(request.getLoteId())
                 .orElseThrow(() -> new EntityNotFoundException("Lote", request.getLoteId()));
 
+        // Valor anterior é estornado do resumo do lote antes de aplicar o novo
+        Long loteAnteriorId = custoVariavel.getLote().getId();
+        LocalDate dataAnterior = custoVariavel.getDataLancamento();
+        BigDecimal valorAnterior = custoVariavel.getValor();
+
         custoVariavelMapper.updateEntity(custoVariavel, request, lote);
         CustoVariavel custoVariavelAtualizado = custoVariavelRepository.save(custoVariavel);
 
+        loteCustoResumoService.estornarCustoVariavel(loteAnteriorId, dataAnterior, valorAnterior);
+        loteCustoResumoService.registrarCustoVariavel(lote.getId(), custoVariavel.getDataLancamento(),
+                custoVariavel.getValor());
+
         log.info("Custo variável atualizado com sucesso. ID: {}", id);
         return custoVariavelMapper.toResponse(custoVariavelAtualizado);
     }
@@ -120,6 +134,8 @@ public class CustoVariavelService {
                 .orElseThrow(() -> new EntityNotFoundException("Custo Variável", id));
 
         custoVariavelRepository.delete(custoVariavel);
+        loteCustoResumoService.estornarCustoVariavel(custoVariavel.getLote().getId(), custoVariavel.getDataLancamento(),
+                custoVariavel.getValor());
         log.info("Custo variável deletado com sucesso. ID: {}", id);
     }
 }
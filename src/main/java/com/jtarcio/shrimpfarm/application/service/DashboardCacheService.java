@@ -0,0 +1,159 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.CacheEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.event.CustoLoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.application.event.ViveiroAlteradoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mantém em memória o último snapshot dos KPIs do dashboard.
+ * O snapshot é descartado quando biometrias, lotes, viveiros ou custos mudam (após o commit)
+ * e, em qualquer caso, quando ultrapassa o TTL configurado.
+ */
+@Service
+@Slf4j
+public class DashboardCacheService {
+
+    private final RelatorioService relatorioService;
+    private final long ttlNanos;
+
+    // Incrementada a cada invalidação; um snapshot só vale para a geração em que foi montado
+    private final AtomicLong geracao = new AtomicLong();
+    private final ReentrantLock reconstrucaoLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+    private final LongAdder reconstrucoes = new LongAdder();
+    private final LongAdder tempoTotalReconstrucaoNanos = new LongAdder();
+    private final AtomicLong tempoUltimaReconstrucaoNanos = new AtomicLong();
+    private final AtomicLong tempoMaximoReconstrucaoNanos = new AtomicLong();
+
+    public DashboardCacheService(RelatorioService relatorioService,
+                                 @Value("${shrimpfarm.dashboard.cache.ttl:PT30S}") Duration ttl) {
+        this.relatorioService = relatorioService;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Retorna os KPIs do snapshot em memória, reconstruindo-o se estiver invalidado ou expirado.
+     * Apenas uma thread reconstrói por vez; as demais aguardam e reaproveitam o resultado.
+     */
+    public DashboardKPIsResponse obterKPIs() {
+        Snapshot atual = snapshot;
+        if (valido(atual)) {
+            acertos.increment();
+            return atual.kpis();
+        }
+
+        reconstrucaoLock.lock();
+        try {
+            atual = snapshot;
+            if (valido(atual)) {
+                acertos.increment();
+                return atual.kpis();
+            }
+
+            falhas.increment();
+            return reconstruir().kpis();
+        } finally {
+            reconstrucaoLock.unlock();
+        }
+    }
+
+    /**
+     * Descarta o snapshot atual; a próxima leitura recalcula os KPIs
+     */
+    public void invalidar() {
+        geracao.incrementAndGet();
+        invalidacoes.increment();
+        log.debug("Cache de KPIs do dashboard invalidado");
+    }
+
+    @TransactionalEventListener(
+            classes = {BiometriaAlteradaEvent.class, CustoLoteAlteradoEvent.class, LoteAlteradoEvent.class,
+                    ViveiroAlteradoEvent.class},
+            fallbackExecution = true)
+    public void aoAlterarDadosDoDashboard() {
+        invalidar();
+    }
+
+    public CacheEstatisticasResponse obterEstatisticas() {
+        long totalAcertos = acertos.sum();
+        long totalFalhas = falhas.sum();
+        long totalReconstrucoes = reconstrucoes.sum();
+        long leituras = totalAcertos + totalFalhas;
+
+        BigDecimal taxaAcerto = leituras > 0
+                ? BigDecimal.valueOf(totalAcertos * 100)
+                        .divide(BigDecimal.valueOf(leituras), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        Snapshot atual = snapshot;
+
+        return CacheEstatisticasResponse.builder()
+                .acertos(totalAcertos)
+                .falhas(totalFalhas)
+                .taxaAcerto(taxaAcerto)
+                .invalidacoes(invalidacoes.sum())
+                .reconstrucoes(totalReconstrucoes)
+                .tempoUltimaReconstrucaoMs(TimeUnit.NANOSECONDS.toMillis(tempoUltimaReconstrucaoNanos.get()))
+                .tempoMedioReconstrucaoMs(totalReconstrucoes > 0
+                        ? TimeUnit.NANOSECONDS.toMillis(tempoTotalReconstrucaoNanos.sum() / totalReconstrucoes)
+                        : 0L)
+                .tempoMaximoReconstrucaoMs(TimeUnit.NANOSECONDS.toMillis(tempoMaximoReconstrucaoNanos.get()))
+                .idadeSnapshotMs(atual != null
+                        ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - atual.montadoEmNanos())
+                        : null)
+                .ttlSegundos(TimeUnit.NANOSECONDS.toSeconds(ttlNanos))
+                .build();
+    }
+
+    // Métodos privados auxiliares
+
+    private boolean valido(Snapshot atual) {
+        return atual != null
+                && atual.geracao() == geracao.get()
+                && System.nanoTime() - atual.montadoEmNanos() < ttlNanos;
+    }
+
+    private Snapshot reconstruir() {
+        // Geração lida antes da consulta: uma invalidação durante a reconstrução descarta o resultado na próxima leitura
+        long geracaoAtual = geracao.get();
+        long inicio = System.nanoTime();
+
+        DashboardKPIsResponse kpis = relatorioService.obterKPIsDashboard();
+
+        long duracao = System.nanoTime() - inicio;
+
+        reconstrucoes.increment();
+        tempoTotalReconstrucaoNanos.add(duracao);
+        tempoUltimaReconstrucaoNanos.set(duracao);
+        tempoMaximoReconstrucaoNanos.accumulateAndGet(duracao, Math::max);
+
+        log.debug("KPIs do dashboard reconstruídos em {} ms", TimeUnit.NANOSECONDS.toMillis(duracao));
+
+        // A idade conta a partir do início da consulta, limitando a defasagem real dos dados ao TTL
+        Snapshot novo = new Snapshot(kpis, geracaoAtual, inicio);
+        snapshot = novo;
+        return novo;
+    }
+
+    private record Snapshot(DashboardKPIsResponse kpis, long geracao, long montadoEmNanos) {
+    }
+}
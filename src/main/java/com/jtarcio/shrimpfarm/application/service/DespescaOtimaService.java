@@ -0,0 +1,288 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.DespescaOtimaRequest;
+import com.jtarcio.shrimpfarm.application.dto.request.FaixaPrecoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.DespescaOtimaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PontoLucroDespescaResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoDiarioRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Data de despesca economicamente ótima: para cada dia de cultivo da janela, compara a receita
+ * (peso projetado pela curva de crescimento × preço da faixa de peso) com o custo acumulado até o dia,
+ * projetado pelo ritmo de gasto recente do lote (ração, insumos e demais custos lançados na
+ * tabela de custo diário). O custo atual é o acumulado até a data de referência mais as pós-larvas. Despescar compensa enquanto a receita marginal de esperar um dia
+ * supera o custo diário; o dia de lucro máximo é devolvido junto com a curva completa.
+ * Todos os lotes são carregados em consultas agrupadas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DespescaOtimaService {
+
+    private static final int DIA_MINIMO_PADRAO = 90;
+    private static final int DIA_MAXIMO_PADRAO = 150;
+    private static final int JANELA_CUSTO_PADRAO = 30;
+    private static final double SOBREVIVENCIA_PADRAO = 80.0; // %
+
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final LoteCustoDiarioRepository loteCustoDiarioRepository;
+    private final CurvaCrescimentoService curvaCrescimentoService;
+
+    /**
+     * Otimiza a data de despesca dos lotes informados (ou de todos os ativos).
+     * Lotes que não podem ser projetados aparecem com o campo {@code erro} preenchido.
+     */
+    @Transactional(readOnly = true)
+    public List<DespescaOtimaResponse> otimizar(DespescaOtimaRequest request) {
+        int diaMinimo = request.getDiaMinimo() != null ? request.getDiaMinimo() : DIA_MINIMO_PADRAO;
+        int diaMaximo = request.getDiaMaximo() != null ? request.getDiaMaximo() : DIA_MAXIMO_PADRAO;
+        if (diaMinimo > diaMaximo) {
+            throw new BusinessException("Dia mínimo não pode ser maior que o dia máximo");
+        }
+
+        int janela = request.getJanelaCustoDias() != null ? request.getJanelaCustoDias() : JANELA_CUSTO_PADRAO;
+        LocalDate dataReferencia = request.getDataReferencia() != null ? request.getDataReferencia() : LocalDate.now();
+        OtimizadorDespesca.FaixasPreco faixas = faixas(request.getFaixasPreco());
+
+        log.info("Otimizando data de despesca (dias {} a {}, referência {})", diaMinimo, diaMaximo, dataReferencia);
+
+        List<Lote> lotes = lotes(request.getLoteIds());
+        if (lotes.isEmpty()) {
+            return List.of();
+        }
+        List<Long> loteIds = lotes.stream().map(Lote::getId).toList();
+
+        Map<Long, List<Biometria>> biometriasPorLote = new HashMap<>(lotes.size() * 2);
+        for (Biometria biometria : biometriaRepository.buscarPorLotesEmOrdemCronologica(loteIds)) {
+            biometriasPorLote.computeIfAbsent(biometria.getLote().getId(), id -> new ArrayList<>()).add(biometria);
+        }
+
+        Map<Long, BigDecimal> acumuladoReferencia = porLote(
+                loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(loteIds, dataReferencia));
+        Map<Long, BigDecimal> acumuladoInicioJanela = porLote(
+                loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(loteIds, dataReferencia.minusDays(janela)));
+
+        // Arrays de trabalho do tamanho da maior janela possível, reaproveitados entre lotes
+        int capacidade = diaMaximo + 1;
+        Trabalho trabalho = new Trabalho(capacidade);
+
+        List<DespescaOtimaResponse> resultado = new ArrayList<>(lotes.size());
+        for (Lote lote : lotes) {
+            List<Biometria> biometrias = biometriasPorLote.getOrDefault(lote.getId(), List.of());
+            try {
+                CurvaCrescimento curva = curvaCrescimentoService.curva(lote, biometrias);
+
+                BigDecimal acumulado = acumuladoReferencia.getOrDefault(lote.getId(), BigDecimal.ZERO);
+                BigDecimal custoAtual = acumulado.add(custoPosLarvas(lote, dataReferencia));
+                BigDecimal custoJanela = acumulado
+                        .subtract(acumuladoInicioJanela.getOrDefault(lote.getId(), BigDecimal.ZERO));
+                double custoDiario = custoDiario(custoJanela, lote, janela, dataReferencia);
+
+                resultado.add(otimizarLote(lote, curva, sobrevivencia(request, biometrias), custoAtual, custoDiario,
+                        faixas, diaMinimo, diaMaximo, dataReferencia, trabalho));
+            } catch (BusinessException e) {
+                resultado.add(DespescaOtimaResponse.builder()
+                        .loteId(lote.getId())
+                        .loteCodigo(lote.getCodigo())
+                        .erro(e.getMessage())
+                        .build());
+            }
+        }
+
+        return resultado;
+    }
+
+    // Métodos privados auxiliares
+
+    private DespescaOtimaResponse otimizarLote(Lote lote, CurvaCrescimento curva, double sobrevivencia,
+                                               BigDecimal custoAtual, double custoDiario,
+                                               OtimizadorDespesca.FaixasPreco faixas, int diaMinimo, int diaMaximo,
+                                               LocalDate dataReferencia, Trabalho t) {
+        int diaReferencia = (int) ChronoUnit.DAYS.between(lote.getDataPovoamento(), dataReferencia);
+
+        // Não se despesca no passado; lote além do dia máximo só pode ser despescado já
+        int diaInicial = Math.max(diaMinimo, diaReferencia);
+        int diaFinal = Math.max(diaMaximo, diaInicial);
+        int n = diaFinal - diaInicial + 1;
+        t.garantir(n);
+
+        double quantidadeVivos = lote.getQuantidadePosLarvas() * sobrevivencia / 100;
+        double custoInicial = custoAtual.doubleValue() + custoDiario * (diaInicial - diaReferencia);
+
+        curva.pesos(diaInicial, n, t.pesos);
+        int otimo = OtimizadorDespesca.otimizar(t.pesos, n, quantidadeVivos, faixas, custoInicial, custoDiario,
+                t.precos, t.receitas, t.custos, t.lucros);
+
+        List<PontoLucroDespescaResponse> pontos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            pontos.add(PontoLucroDespescaResponse.builder()
+                    .data(lote.getDataPovoamento().plusDays(diaInicial + i))
+                    .diaCultivo(diaInicial + i)
+                    .pesoMedio(escala(t.pesos[i]))
+                    .precoKg(escala(t.precos[i]))
+                    .receita(escala(t.receitas[i]))
+                    .custoAcumulado(escala(t.custos[i]))
+                    .lucro(escala(t.lucros[i]))
+                    .receitaMarginal(i > 0 ? escala(t.receitas[i] - t.receitas[i - 1]) : null)
+                    .build());
+        }
+
+        PontoLucroDespescaResponse melhor = pontos.get(otimo);
+        log.debug("Lote ID: {} - despesca ótima no dia {} (lucro {})", lote.getId(), melhor.getDiaCultivo(),
+                melhor.getLucro());
+
+        return DespescaOtimaResponse.builder()
+                .loteId(lote.getId())
+                .loteCodigo(lote.getCodigo())
+                .modeloCrescimento(curva.modelo().getDescricao())
+                .sobrevivencia(escala(sobrevivencia))
+                .custoAtual(custoAtual)
+                .custoDiario(escala(custoDiario))
+                .dataOtima(melhor.getData())
+                .diaCultivoOtimo(melhor.getDiaCultivo())
+                .pesoMedioOtimo(melhor.getPesoMedio())
+                .precoKgOtimo(melhor.getPrecoKg())
+                .receitaOtima(melhor.getReceita())
+                .custoOtimo(melhor.getCustoAcumulado())
+                .lucroOtimo(melhor.getLucro())
+                .curva(pontos)
+                .build();
+    }
+
+    /**
+     * Pós-larvas entram no custo a partir do povoamento, como no custo acumulado do lote
+     */
+    private BigDecimal custoPosLarvas(Lote lote, LocalDate dataReferencia) {
+        if (lote.getCustoPosLarvas() == null || dataReferencia.isBefore(lote.getDataPovoamento())) {
+            return BigDecimal.ZERO;
+        }
+        return lote.getCustoPosLarvas();
+    }
+
+    /**
+     * Gasto médio por dia da janela; lote povoado há menos dias que a janela divide só pelos dias de cultivo
+     */
+    private double custoDiario(BigDecimal custoJanela, Lote lote, int janela, LocalDate dataReferencia) {
+        long diasCultivo = ChronoUnit.DAYS.between(lote.getDataPovoamento(), dataReferencia);
+        if (diasCultivo <= 0) {
+            return 0;
+        }
+        return Math.max(0, custoJanela.doubleValue() / Math.min(janela, diasCultivo));
+    }
+
+    private List<Lote> lotes(List<Long> loteIds) {
+        if (loteIds == null || loteIds.isEmpty()) {
+            return loteRepository.findByStatus(StatusLoteEnum.ATIVO);
+        }
+
+        List<Lote> lotes = new ArrayList<>(loteRepository.findAllById(loteIds));
+        Set<Long> encontrados = lotes.stream().map(Lote::getId).collect(Collectors.toSet());
+        for (Long loteId : loteIds) {
+            if (!encontrados.contains(loteId)) {
+                throw new EntityNotFoundException("Lote", loteId);
+            }
+        }
+        lotes.sort(Comparator.comparing(Lote::getId));
+        return lotes;
+    }
+
+    private OtimizadorDespesca.FaixasPreco faixas(List<FaixaPrecoRequest> faixasPreco) {
+        List<FaixaPrecoRequest> ordenadas = faixasPreco.stream()
+                .sorted(Comparator.comparing(FaixaPrecoRequest::getPesoMinimo))
+                .toList();
+
+        double[] pesosMinimos = new double[ordenadas.size()];
+        double[] precos = new double[ordenadas.size()];
+        for (int i = 0; i < ordenadas.size(); i++) {
+            pesosMinimos[i] = ordenadas.get(i).getPesoMinimo().doubleValue();
+            precos[i] = ordenadas.get(i).getPrecoKg().doubleValue();
+            if (i > 0 && pesosMinimos[i] == pesosMinimos[i - 1]) {
+                throw new BusinessException("Faixas de preço com o mesmo peso mínimo: " + ordenadas.get(i).getPesoMinimo());
+            }
+        }
+        return new OtimizadorDespesca.FaixasPreco(pesosMinimos, precos);
+    }
+
+    /**
+     * Sobrevivência informada ou, na falta, a última estimada nas biometrias
+     */
+    private double sobrevivencia(DespescaOtimaRequest request, List<Biometria> biometrias) {
+        if (request.getSobrevivencia() != null) {
+            return request.getSobrevivencia().doubleValue();
+        }
+        for (int i = biometrias.size() - 1; i >= 0; i--) {
+            BigDecimal estimada = biometrias.get(i).getSobrevivenciaEstimada();
+            if (estimada != null && estimada.signum() > 0) {
+                return estimada.doubleValue();
+            }
+        }
+        return SOBREVIVENCIA_PADRAO;
+    }
+
+    private Map<Long, BigDecimal> porLote(List<TotalPorLote> totais) {
+        Map<Long, BigDecimal> mapa = new HashMap<>(totais.size() * 2);
+        for (TotalPorLote total : totais) {
+            mapa.put(total.getLoteId(), total.getTotal());
+        }
+        return mapa;
+    }
+
+    private BigDecimal escala(double valor) {
+        return BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Arrays primitivos de trabalho do otimizador, crescidos sob demanda
+     */
+    private static final class Trabalho {
+        double[] pesos;
+        double[] precos;
+        double[] receitas;
+        double[] custos;
+        double[] lucros;
+
+        Trabalho(int capacidade) {
+            alocar(capacidade);
+        }
+
+        void garantir(int n) {
+            if (pesos.length < n) {
+                alocar(n);
+            }
+        }
+
+        private void alocar(int capacidade) {
+            pesos = new double[capacidade];
+            precos = new double[capacidade];
+            receitas = new double[capacidade];
+            custos = new double[capacidade];
+            lucros = new double[capacidade];
+        }
+    }
+}
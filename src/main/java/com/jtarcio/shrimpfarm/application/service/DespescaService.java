@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.DespescaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.DespescaResponse;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
 import com.jtarcio.shrimpfarm.application.mapper.DespescaMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Comprador;
 import com.jtarcio.shrimpfarm.domain.entity.Despesca;
@@ -15,6 +16,7 @@ import com.jtarcio.shrimpfarm.infrastructure.persistence.DespescaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class DespescaService {
     private final LoteRepository loteRepository;
     private final CompradorRepository compradorRepository;
     private final DespescaMapper despescaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DespescaResponse criar(DespescaRequest request) {
@@ -76,6 +79,7 @@ public class DespescaService {
         lote.setDataDespesca(request.getDataDespesca());
         lote.getViveiro().setStatus(StatusViveiroEnum.DISPONIVEL);
         loteRepository.save(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(lote.getId()));
 
         log.info("Despesca registrada com sucesso. Lote ID: {} - Peso total: {}kg - Taxa sobrevivência: {}%",
                 lote.getId(), despescaSalva.getPesoTotal(), taxaSobrevivencia);
@@ -139,6 +143,7 @@ public class DespescaService {
         }
 
         Despesca despescaAtualizada = despescaRepository.save(despesca);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(lote.getId()));
 
         log.info("Despesca atualizada com sucesso. ID: {}", id);
         return despescaMapper.toResponse(despescaAtualizada);
@@ -157,6 +162,7 @@ public class DespescaService {
         lote.setDataDespesca(null);
         lote.getViveiro().setStatus(StatusViveiroEnum.OCUPADO);
         loteRepository.save(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(lote.getId()));
 
         despescaRepository.delete(despesca);
         log.info("Despesca deletada com sucesso. ID: {}", id);
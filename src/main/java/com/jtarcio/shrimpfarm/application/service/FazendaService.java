@@ -2,12 +2,16 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.FazendaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.FazendaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.mapper.FazendaMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FazendaResumo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -52,7 +56,7 @@ public class FazendaService {
     public List<FazendaResponse> listarTodas() {
         log.debug("Listando todas as fazendas");
 
-        return fazendaRepository.findAll().stream()
+        return fazendaRepository.listarResumos().stream()
                 .map(fazendaMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -61,7 +65,7 @@ public class FazendaService {
     public List<FazendaResponse> listarAtivas() {
         log.debug("Listando fazendas ativas");
 
-        return fazendaRepository.findByAtivaTrue().stream()
+        return fazendaRepository.listarResumosAtivas().stream()
                 .map(fazendaMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -71,10 +75,23 @@ public class FazendaService {
         log.debug("Listando fazendas paginadas: página {}, tamanho {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return fazendaRepository.findAll(pageable)
+        return fazendaRepository.listarResumos(pageable)
                 .map(fazendaMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<FazendaResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando fazendas por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, false);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<FazendaResumo> fazendas = fazendaRepository.listarResumosApos(posicao == null ? 0L : posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(fazendas, tamanho, fazendaMapper::toResponse,
+                fazenda -> CursorPaginacao.porId(fazenda.getId()));
+    }
+
     @Transactional
     public FazendaResponse atualizar(Long id, FazendaRequest request) {
         log.info("Atualizando fazenda ID: {}", id);
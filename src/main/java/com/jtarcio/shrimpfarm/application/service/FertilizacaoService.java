@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +33,7 @@ public class FertilizacaoService {
     private final LoteRepository loteRepository;
     private final FornecedorRepository fornecedorRepository;
     private final FertilizacaoMapper fertilizacaoMapper;
+    private final LoteCustoResumoService loteCustoResumoService;
 
     @Transactional
     public FertilizacaoResponse criar(FertilizacaoRequest request) {
@@ -51,8 +53,12 @@ public class FertilizacaoService {
         }
 
         Fertilizacao fertilizacao = fertilizacaoMapper.toEntity(request, lote, fornecedor);
+        fertilizacao.calcularCustoTotal();
         Fertilizacao fertilizacaoSalva = fertilizacaoRepository.save(fertilizacao);
 
+        loteCustoResumoService.registrarFertilizacao(lote.getId(), fertilizacao.getDataAplicacao(),
+                fertilizacao.getCustoTotal());
+
         log.info("Fertilização registrada com sucesso. ID: {} - Produto: {}",
                 fertilizacaoSalva.getId(), fertilizacaoSalva.getProduto());
 
@@ -115,9 +121,19 @@ public class FertilizacaoService {
                     .orElseThrow(() -> new EntityNotFoundException("Fornecedor", request.getFornecedorId()));
         }
 
+        // Valor anterior é estornado do resumo do lote antes de aplicar o novo
+        Long loteAnteriorId = fertilizacao.getLote().getId();
+        LocalDate dataAnterior = fertilizacao.getDataAplicacao();
+        BigDecimal valorAnterior = fertilizacao.getCustoTotal();
+
         fertilizacaoMapper.updateEntity(fertilizacao, request, lote, fornecedor);
+        fertilizacao.calcularCustoTotal();
         Fertilizacao fertilizacaoAtualizada = fertilizacaoRepository.save(fertilizacao);
 
+        loteCustoResumoService.estornarFertilizacao(loteAnteriorId, dataAnterior, valorAnterior);
+        loteCustoResumoService.registrarFertilizacao(lote.getId(), fertilizacao.getDataAplicacao(),
+                fertilizacao.getCustoTotal());
+
         log.info("Fertilização atualizada com sucesso. ID: {}", id);
         return fertilizacaoMapper.toResponse(fertilizacaoAtualizada);
     }
@@ -130,6 +146,8 @@ public class FertilizacaoService {
                 .orElseThrow(() -> new EntityNotFoundException("Fertilização", id));
 
         fertilizacaoRepository.delete(fertilizacao);
+        loteCustoResumoService.estornarFertilizacao(fertilizacao.getLote().getId(), fertilizacao.getDataAplicacao(),
+                fertilizacao.getCustoTotal());
         log.info("Fertilização deletada com sucesso. ID: {}", id);
     }
 }
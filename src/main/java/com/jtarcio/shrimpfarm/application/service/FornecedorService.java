@@ -2,13 +2,16 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.FornecedorRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.FornecedorResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.mapper.FornecedorMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FornecedorRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -80,6 +83,19 @@ public class FornecedorService {
                 .map(fornecedorMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<FornecedorResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando fornecedores por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, false);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<Fornecedor> fornecedores = fornecedorRepository.findByIdGreaterThanOrderByIdAsc(posicao == null ? 0L : posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(fornecedores, tamanho, fornecedorMapper::toResponse,
+                fornecedor -> CursorPaginacao.porId(fornecedor.getId()));
+    }
+
     @Transactional
     public FornecedorResponse atualizar(Long id, FornecedorRequest request) {
         log.info("Atualizando fornecedor ID: {}", id);
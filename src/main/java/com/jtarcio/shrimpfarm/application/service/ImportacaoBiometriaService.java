@@ -0,0 +1,414 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.jtarcio.shrimpfarm.application.dto.request.BiometriaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.ImportacaoBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.LinhaImportacaoBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.mapper.BiometriaMapper;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importação em lote de biometrias a partir de CSV ou de um array JSON.
+ * O corpo é lido registro a registro, sem carregar o arquivo inteiro; a cada bloco de linhas os lotes
+ * ainda não vistos e seus totais de ração são buscados em uma consulta cada, as linhas são validadas
+ * com as mesmas regras do cadastro individual e as válidas são inseridas em um único batch JDBC.
+ * Linhas inválidas são rejeitadas sem interromper as demais e o resultado de cada uma volta no relatório.
+ */
+@Service
+@Slf4j
+public class ImportacaoBiometriaService {
+
+    static final String IMPORTADA = "IMPORTADA";
+    static final String REJEITADA = "REJEITADA";
+
+    private static final List<String> COLUNAS_OBRIGATORIAS =
+            List.of("loteId", "dataBiometria", "pesoMedio", "quantidadeAmostrada");
+    private static final List<String> COLUNAS =
+            List.of("loteId", "dataBiometria", "pesoMedio", "quantidadeAmostrada", "pesoTotalAmostra", "observacoes");
+
+    private final LoteRepository loteRepository;
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final BiometriaMapper biometriaMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanhoBloco;
+
+    public ImportacaoBiometriaService(LoteRepository loteRepository,
+                                      LoteCustoResumoRepository loteCustoResumoRepository,
+                                      BiometriaRepository biometriaRepository,
+                                      BiometriaMapper biometriaMapper,
+                                      Validator validator,
+                                      ObjectMapper objectMapper,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Value("${shrimpfarm.biometria.importacao.tamanho-bloco:500}") int tamanhoBloco) {
+        this.loteRepository = loteRepository;
+        this.loteCustoResumoRepository = loteCustoResumoRepository;
+        this.biometriaRepository = biometriaRepository;
+        this.biometriaMapper = biometriaMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Importa biometrias de um CSV com cabeçalho. As colunas têm o nome dos campos do cadastro
+     * (loteId, dataBiometria, pesoMedio, quantidadeAmostrada, pesoTotalAmostra, observacoes), em qualquer ordem;
+     * o separador é vírgula ou ponto e vírgula (detectado no cabeçalho) e os decimais aceitam vírgula.
+     */
+    @Transactional
+    public ImportacaoBiometriaResponse importarCsv(InputStream corpo) throws IOException {
+        log.info("Importando biometrias de CSV");
+
+        Importacao importacao = new Importacao();
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+
+        String cabecalho = leitor.readLine();
+        if (cabecalho == null || cabecalho.isBlank()) {
+            throw new BusinessException("Arquivo de importação vazio");
+        }
+        if (cabecalho.startsWith("\uFEFF")) { // BOM gravado por planilhas
+            cabecalho = cabecalho.substring(1);
+        }
+
+        char separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+        Map<String, Integer> indices = indicesColunas(separarCampos(cabecalho, separador));
+
+        int numeroLinha = 1;
+        String conteudo;
+        while ((conteudo = leitor.readLine()) != null) {
+            numeroLinha++;
+            if (!conteudo.isBlank()) {
+                importacao.adicionar(lerLinhaCsv(numeroLinha, separarCampos(conteudo, separador), indices));
+            }
+        }
+
+        return importacao.concluir();
+    }
+
+    /**
+     * Importa biometrias de um array JSON de objetos no formato do cadastro individual.
+     * Os elementos são lidos um a um do fluxo; um erro de sintaxe interrompe a importação inteira,
+     * pois não é possível saber onde começa o registro seguinte.
+     */
+    @Transactional
+    public ImportacaoBiometriaResponse importarJson(InputStream corpo) throws IOException {
+        log.info("Importando biometrias de JSON");
+
+        Importacao importacao = new Importacao();
+
+        try (JsonParser parser = objectMapper.createParser(corpo)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException("O corpo da importação deve ser um array JSON de biometrias");
+            }
+
+            int posicao = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BusinessException("Array JSON da importação não foi encerrado");
+                }
+                posicao++;
+                JsonNode registro = objectMapper.readTree(parser);
+                importacao.adicionar(lerRegistroJson(posicao, registro));
+            }
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("JSON inválido na importação: " + e.getOriginalMessage());
+        }
+
+        return importacao.concluir();
+    }
+
+    // Métodos privados auxiliares
+
+    private Map<String, Integer> indicesColunas(List<String> colunas) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < colunas.size(); i++) {
+            String coluna = colunas.get(i).trim();
+            if (!COLUNAS.contains(coluna)) {
+                throw new BusinessException("Coluna desconhecida no CSV: " + coluna);
+            }
+            indices.put(coluna, i);
+        }
+
+        for (String coluna : COLUNAS_OBRIGATORIAS) {
+            if (!indices.containsKey(coluna)) {
+                throw new BusinessException("Coluna obrigatória ausente no CSV: " + coluna);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Separa os campos de uma linha CSV, com suporte a campos entre aspas e aspas duplicadas ("")
+     */
+    static List<String> separarCampos(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private LinhaImportacao lerLinhaCsv(int numeroLinha, List<String> campos, Map<String, Integer> indices) {
+        List<String> erros = new ArrayList<>();
+        BiometriaRequest request = BiometriaRequest.builder()
+                .loteId(converter(campo(campos, indices, "loteId"), "loteId", Long::valueOf, erros))
+                .dataBiometria(converter(campo(campos, indices, "dataBiometria"), "dataBiometria", LocalDate::parse, erros))
+                .pesoMedio(converter(campo(campos, indices, "pesoMedio"), "pesoMedio", this::decimal, erros))
+                .quantidadeAmostrada(converter(campo(campos, indices, "quantidadeAmostrada"), "quantidadeAmostrada",
+                        Integer::valueOf, erros))
+                .pesoTotalAmostra(converter(campo(campos, indices, "pesoTotalAmostra"), "pesoTotalAmostra",
+                        this::decimal, erros))
+                .observacoes(campo(campos, indices, "observacoes"))
+                .build();
+        return new LinhaImportacao(numeroLinha, request, erros);
+    }
+
+    private String campo(List<String> campos, Map<String, Integer> indices, String coluna) {
+        Integer indice = indices.get(coluna);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private <T> T converter(String valor, String coluna, Conversor<T> conversor, List<String> erros) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return conversor.converter(valor);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            erros.add("Valor inválido para " + coluna + ": " + valor);
+            return null;
+        }
+    }
+
+    private BigDecimal decimal(String valor) {
+        return new BigDecimal(valor.replace(',', '.'));
+    }
+
+    private LinhaImportacao lerRegistroJson(int posicao, JsonNode registro) {
+        if (!registro.isObject()) {
+            return new LinhaImportacao(posicao, null, List.of("Registro deve ser um objeto JSON"));
+        }
+        try {
+            return new LinhaImportacao(posicao, objectMapper.treeToValue(registro, BiometriaRequest.class), List.of());
+        } catch (MismatchedInputException e) {
+            String campo = e.getPath().isEmpty() ? "registro" : e.getPath().get(0).getFieldName();
+            return new LinhaImportacao(posicao, null, List.of("Valor inválido para " + campo));
+        } catch (JsonProcessingException e) {
+            return new LinhaImportacao(posicao, null, List.of("Registro inválido: " + e.getOriginalMessage()));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Conversor<T> {
+        T converter(String valor);
+    }
+
+    /**
+     * Registro lido do corpo, com os erros de conversão encontrados (request nulo se não pôde ser lido)
+     */
+    private record LinhaImportacao(int numero, BiometriaRequest request, List<String> erros) {
+    }
+
+    /**
+     * Estado de uma importação: linhas do bloco corrente, lotes e totais de ração já buscados
+     * e o relatório acumulado
+     */
+    private final class Importacao {
+
+        private final long inicio = System.nanoTime();
+        private final List<LinhaImportacao> pendentes = new ArrayList<>(tamanhoBloco);
+        private final Map<Long, Lote> lotes = new HashMap<>(); // valor nulo: lote inexistente
+        private final Map<Long, BigDecimal> racaoKgPorLote = new HashMap<>();
+        private final Set<Long> lotesAlterados = new LinkedHashSet<>();
+        private final List<LinhaImportacaoBiometriaResponse> linhas = new ArrayList<>();
+        private int importadas;
+        private int rejeitadas;
+
+        void adicionar(LinhaImportacao linha) {
+            pendentes.add(linha);
+            if (pendentes.size() >= tamanhoBloco) {
+                processarBloco();
+            }
+        }
+
+        ImportacaoBiometriaResponse concluir() {
+            processarBloco();
+
+            // Um evento por lote, para recalcular projeções e caches uma única vez
+            lotesAlterados.forEach(loteId -> eventPublisher.publishEvent(new BiometriaAlteradaEvent(loteId, null)));
+
+            long tempoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            log.info("Importação de biometrias concluída: {} importadas, {} rejeitadas, {} lotes em {} ms",
+                    importadas, rejeitadas, lotesAlterados.size(), tempoMs);
+
+            return ImportacaoBiometriaResponse.builder()
+                    .totalLinhas(linhas.size())
+                    .importadas(importadas)
+                    .rejeitadas(rejeitadas)
+                    .lotesAfetados(lotesAlterados.size())
+                    .tempoMs(tempoMs)
+                    .linhas(linhas)
+                    .build();
+        }
+
+        private void processarBloco() {
+            if (pendentes.isEmpty()) {
+                return;
+            }
+
+            carregarLotesNovos();
+
+            LocalDateTime agora = LocalDateTime.now();
+            List<Biometria> inserir = new ArrayList<>(pendentes.size());
+
+            for (LinhaImportacao linha : pendentes) {
+                BiometriaRequest request = linha.request();
+                List<String> erros = new ArrayList<>(linha.erros());
+
+                if (request != null && erros.isEmpty()) {
+                    erros.addAll(validar(request));
+                }
+
+                Lote lote = null;
+                if (erros.isEmpty()) {
+                    lote = lotes.get(request.getLoteId());
+                    if (lote == null) {
+                        erros.add("Lote com ID " + request.getLoteId() + " não encontrado");
+                    } else {
+                        try {
+                            BiometriaService.validarBiometria(request, lote);
+                        } catch (BusinessException e) {
+                            erros.add(e.getMessage());
+                        }
+                    }
+                }
+
+                if (erros.isEmpty()) {
+                    Biometria biometria = biometriaMapper.toEntity(request, lote);
+                    BiometriaService.calcularIndicadores(biometria, lote, racaoKgPorLote.get(lote.getId()));
+                    biometria.setDataCriacao(agora);
+                    biometria.setDataAtualizacao(agora);
+                    inserir.add(biometria);
+                    lotesAlterados.add(lote.getId());
+                    importadas++;
+                } else {
+                    rejeitadas++;
+                }
+
+                linhas.add(LinhaImportacaoBiometriaResponse.builder()
+                        .linha(linha.numero())
+                        .loteId(request != null ? request.getLoteId() : null)
+                        .dataBiometria(request != null ? request.getDataBiometria() : null)
+                        .status(erros.isEmpty() ? IMPORTADA : REJEITADA)
+                        .erros(erros)
+                        .build());
+            }
+
+            biometriaRepository.inserirEmLote(inserir);
+            log.debug("Bloco de {} linhas processado, {} biometrias inseridas", pendentes.size(), inserir.size());
+            pendentes.clear();
+        }
+
+        /**
+         * Busca em uma consulta os lotes do bloco ainda não vistos e, em outra, o total de ração de cada um
+         */
+        private void carregarLotesNovos() {
+            Set<Long> novos = new LinkedHashSet<>();
+            for (LinhaImportacao linha : pendentes) {
+                if (linha.request() != null && linha.request().getLoteId() != null
+                        && !lotes.containsKey(linha.request().getLoteId())) {
+                    novos.add(linha.request().getLoteId());
+                }
+            }
+            if (novos.isEmpty()) {
+                return;
+            }
+
+            novos.forEach(loteId -> lotes.put(loteId, null));
+            List<Long> encontrados = new ArrayList<>(novos.size());
+            for (Lote lote : loteRepository.findAllById(novos)) {
+                lotes.put(lote.getId(), lote);
+                encontrados.add(lote.getId());
+            }
+
+            if (!encontrados.isEmpty()) {
+                for (TotalPorLote total : loteCustoResumoRepository.buscarQuantidadesRacaoKg(encontrados)) {
+                    racaoKgPorLote.put(total.getLoteId(), total.getTotal());
+                }
+            }
+        }
+
+        private List<String> validar(BiometriaRequest request) {
+            Set<ConstraintViolation<BiometriaRequest>> violacoes = validator.validate(request);
+            return violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.DivergenciaCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.VerificacaoCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.event.CustoLoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.QuantidadeRacaoPorUnidade;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalRacaoPorLote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém a tabela lote_custo_resumo, com os totais de custos de cada lote, e a tabela lote_custo_diario,
+ * com o custo acumulado de cada lote por dia de lançamento.
+ * Os serviços de lançamento chamam os métodos registrar/estornar dentro da própria transação,
+ * de modo que o resumo e os lançamentos são gravados (ou desfeitos) juntos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoteCustoResumoService {
+
+    private static final int TAMANHO_BLOCO_VERIFICACAO = 500;
+
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
+    private final LoteCustoDiarioRepository loteCustoDiarioRepository;
+    private final LoteRepository loteRepository;
+    private final RacaoRepository racaoRepository;
+    private final NutrienteRepository nutrienteRepository;
+    private final FertilizacaoRepository fertilizacaoRepository;
+    private final CustoVariavelRepository custoVariavelRepository;
+    private final ParticaoMensalRepository particaoMensalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Soma a ração ao resumo do lote: custo, quantidade lançada e quantidade convertida para kg (base do FCA)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarRacao(Long loteId, LocalDate data, BigDecimal custoTotal, BigDecimal quantidade,
+                               UnidadeMedidaEnum unidade) {
+        acumular(loteId, data, valorMonetario(custoTotal), quantidade(quantidade), quantidadeKg(quantidade, unidade),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void estornarRacao(Long loteId, LocalDate data, BigDecimal custoTotal, BigDecimal quantidade,
+                              UnidadeMedidaEnum unidade) {
+        acumular(loteId, data, valorMonetario(custoTotal).negate(), quantidade(quantidade).negate(),
+                quantidadeKg(quantidade, unidade).negate(),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarNutriente(Long loteId, LocalDate data, BigDecimal custoTotal) {
+        acumular(loteId, data, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                valorMonetario(custoTotal), BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void estornarNutriente(Long loteId, LocalDate data, BigDecimal custoTotal) {
+        acumular(loteId, data, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                valorMonetario(custoTotal).negate(), BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarFertilizacao(Long loteId, LocalDate data, BigDecimal custoTotal) {
+        acumular(loteId, data, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, valorMonetario(custoTotal), BigDecimal.ZERO);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void estornarFertilizacao(Long loteId, LocalDate data, BigDecimal custoTotal) {
+        acumular(loteId, data, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, valorMonetario(custoTotal).negate(), BigDecimal.ZERO);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarCustoVariavel(Long loteId, LocalDate data, BigDecimal valor) {
+        acumular(loteId, data, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, valorMonetario(valor));
+    }
+
+    /**
+     * Registra de uma vez vários custos variáveis recém-salvos (ex.: rateio de energia),
+     * com uma única instrução agrupada por lote
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarCustosVariaveis(Collection<CustoVariavel> custos) {
+        if (custos.isEmpty()) {
+            return;
+        }
+
+        List<Long> custoIds = custos.stream()
+                .map(CustoVariavel::getId)
+                .collect(Collectors.toList());
+        LocalDate inicio = custos.stream().map(CustoVariavel::getDataLancamento).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate fim = custos.stream().map(CustoVariavel::getDataLancamento).max(Comparator.naturalOrder()).orElseThrow();
+        loteCustoResumoRepository.acumularCustosVariaveis(custoIds, inicio, fim);
+        loteCustoDiarioRepository.criarDiasCustosVariaveis(custoIds, inicio, fim);
+        loteCustoDiarioRepository.acumularCustosVariaveis(custoIds, inicio, fim);
+
+        custos.stream()
+                .map(custo -> custo.getLote().getId())
+                .distinct()
+                .forEach(loteId -> eventPublisher.publishEvent(new CustoLoteAlteradoEvent(loteId)));
+
+        log.debug("Resumo de custos atualizado com {} custos variáveis", custos.size());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void estornarCustoVariavel(Long loteId, LocalDate data, BigDecimal valor) {
+        acumular(loteId, data, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, valorMonetario(valor).negate());
+    }
+
+    /**
+     * Compara o resumo acumulado de todos os lotes com os totais recalculados a partir dos lançamentos
+     */
+    @Transactional(readOnly = true)
+    public VerificacaoCustoResumoResponse verificar() {
+        log.info("Verificando consistência do resumo de custos dos lotes");
+
+        List<Long> loteIds = buscarLotesComLancamentosCompletos();
+        List<DivergenciaCustoResumoResponse> divergencias = new ArrayList<>();
+
+        for (int inicio = 0; inicio < loteIds.size(); inicio += TAMANHO_BLOCO_VERIFICACAO) {
+            List<Long> bloco = loteIds.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_VERIFICACAO, loteIds.size()));
+            divergencias.addAll(verificarBloco(bloco));
+        }
+
+        int lotesDivergentes = (int) divergencias.stream()
+                .map(DivergenciaCustoResumoResponse::getLoteId)
+                .distinct()
+                .count();
+
+        if (lotesDivergentes > 0) {
+            log.warn("Resumo de custos divergente em {} de {} lotes", lotesDivergentes, loteIds.size());
+        } else {
+            log.info("Resumo de custos consistente para {} lotes", loteIds.size());
+        }
+
+        return VerificacaoCustoResumoResponse.builder()
+                .dataVerificacao(LocalDateTime.now())
+                .lotesVerificados(loteIds.size())
+                .lotesDivergentes(lotesDivergentes)
+                .corrigido(false)
+                .divergencias(divergencias)
+                .build();
+    }
+
+    /**
+     * Verifica o resumo e reconstrói, a partir dos lançamentos, os lotes que apresentarem divergência
+     */
+    @Transactional
+    public VerificacaoCustoResumoResponse verificarECorrigir() {
+        VerificacaoCustoResumoResponse verificacao = verificar();
+
+        if (verificacao.getLotesDivergentes() > 0) {
+            Set<Long> lotesDivergentes = verificacao.getDivergencias().stream()
+                    .map(DivergenciaCustoResumoResponse::getLoteId)
+                    .collect(Collectors.toCollection(TreeSet::new));
+
+            reconstruir(lotesDivergentes);
+            verificacao.setCorrigido(true);
+        }
+
+        return verificacao;
+    }
+
+    /**
+     * Recalcula o resumo dos lotes informados a partir dos lançamentos
+     */
+    @Transactional
+    public int reconstruir(Collection<Long> loteIds) {
+        if (loteIds.isEmpty()) {
+            return 0;
+        }
+
+        log.info("Reconstruindo resumo de custos de {} lotes", loteIds.size());
+
+        // Lotes são bloqueados antes do recálculo para não perder lançamentos concorrentes
+        loteCustoResumoRepository.bloquearLotes(loteIds);
+        int reconstruidos = loteCustoResumoRepository.reconstruirPorLotes(loteIds);
+        loteCustoDiarioRepository.removerPorLotes(loteIds);
+        loteCustoDiarioRepository.reconstruirPorLotes(loteIds);
+
+        loteIds.forEach(loteId -> eventPublisher.publishEvent(new CustoLoteAlteradoEvent(loteId)));
+
+        return reconstruidos;
+    }
+
+    /**
+     * Recalcula o resumo de todos os lotes a partir dos lançamentos
+     */
+    @Transactional
+    public int reconstruirTodos() {
+        List<Long> loteIds = buscarLotesComLancamentosCompletos();
+        int reconstruidos = 0;
+
+        for (int inicio = 0; inicio < loteIds.size(); inicio += TAMANHO_BLOCO_VERIFICACAO) {
+            reconstruidos += reconstruir(
+                    loteIds.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_VERIFICACAO, loteIds.size())));
+        }
+
+        return reconstruidos;
+    }
+
+    // Métodos privados auxiliares
+
+    /**
+     * Lotes povoados antes do fim do último mês desanexado podem ter lançamentos arquivados fora das tabelas;
+     * para eles o resumo é o registro definitivo e não é conferido nem reconstruído
+     */
+    private List<Long> buscarLotesComLancamentosCompletos() {
+        return particaoMensalRepository.buscarFimArquivamento()
+                .map(loteRepository::findIdsPovoadosDesde)
+                .orElseGet(loteRepository::findAllIds);
+    }
+
+    private void acumular(Long loteId, LocalDate data, BigDecimal custoRacao, BigDecimal quantidadeRacao,
+                          BigDecimal quantidadeRacaoKg, BigDecimal custoNutrientes, BigDecimal custoFertilizacao,
+                          BigDecimal custoVariavel) {
+        loteCustoResumoRepository.acumular(loteId, custoRacao, quantidadeRacao, quantidadeRacaoKg,
+                custoNutrientes, custoFertilizacao, custoVariavel);
+
+        // O upsert no resumo bloqueia a linha do lote até o fim da transação, então lançamentos concorrentes
+        // do mesmo lote atualizam o custo diário um de cada vez
+        BigDecimal custo = custoRacao.add(custoNutrientes).add(custoFertilizacao).add(custoVariavel);
+        if (custo.signum() != 0) {
+            loteCustoDiarioRepository.criarDia(loteId, data);
+            loteCustoDiarioRepository.acumularAPartirDe(loteId, data, custo);
+        }
+
+        eventPublisher.publishEvent(new CustoLoteAlteradoEvent(loteId));
+
+        log.debug("Resumo de custos do lote {} atualizado", loteId);
+    }
+
+    private List<DivergenciaCustoResumoResponse> verificarBloco(List<Long> loteIds) {
+        Map<Long, LoteCustoResumo> registrados = loteCustoResumoRepository.findAllById(loteIds).stream()
+                .collect(Collectors.toMap(LoteCustoResumo::getLoteId, Function.identity()));
+
+        Map<Long, TotalRacaoPorLote> racoes = racaoRepository.somarTotaisPorLotes(loteIds).stream()
+                .collect(Collectors.toMap(TotalRacaoPorLote::getLoteId, Function.identity()));
+        Map<Long, BigDecimal> racoesKg = new HashMap<>();
+        for (QuantidadeRacaoPorUnidade quantidade : racaoRepository.somarQuantidadesPorLotesEUnidade(loteIds)) {
+            racoesKg.merge(quantidade.getLoteId(),
+                    quantidade.getUnidade().paraKg(quantidade.getQuantidade()), BigDecimal::add);
+        }
+        Map<Long, BigDecimal> nutrientes = agruparTotais(nutrienteRepository.somarCustoTotalPorLotes(loteIds));
+        Map<Long, BigDecimal> fertilizacoes = agruparTotais(fertilizacaoRepository.somarCustoTotalPorLotes(loteIds));
+        Map<Long, BigDecimal> custosVariaveis = agruparTotais(custoVariavelRepository.somarValorTotalPorLotes(loteIds));
+        Map<Long, BigDecimal> acumulados = agruparTotais(
+                loteCustoDiarioRepository.buscarUltimoCustoAcumuladoPorLotes(loteIds));
+
+        List<DivergenciaCustoResumoResponse> divergencias = new ArrayList<>();
+
+        for (Long loteId : loteIds) {
+            LoteCustoResumo registrado = registrados.getOrDefault(loteId, LoteCustoResumo.vazio(loteId));
+            TotalRacaoPorLote racao = racoes.get(loteId);
+
+            comparar(divergencias, loteId, "custoRacao", registrado.getCustoRacao(),
+                    racao != null ? racao.getCustoTotal() : null);
+            comparar(divergencias, loteId, "quantidadeRacao", registrado.getQuantidadeRacao(),
+                    racao != null ? racao.getQuantidadeTotal() : null);
+            comparar(divergencias, loteId, "quantidadeRacaoKg", registrado.getQuantidadeRacaoKg(),
+                    racoesKg.get(loteId));
+            comparar(divergencias, loteId, "custoNutrientes", registrado.getCustoNutrientes(),
+                    nutrientes.get(loteId));
+            comparar(divergencias, loteId, "custoFertilizacao", registrado.getCustoFertilizacao(),
+                    fertilizacoes.get(loteId));
+            comparar(divergencias, loteId, "custoVariavel", registrado.getCustoVariavel(),
+                    custosVariaveis.get(loteId));
+
+            BigDecimal totalLancamentos = somar(racao != null ? racao.getCustoTotal() : null,
+                    nutrientes.get(loteId), fertilizacoes.get(loteId), custosVariaveis.get(loteId));
+            comparar(divergencias, loteId, "custoAcumuladoDiario",
+                    acumulados.getOrDefault(loteId, BigDecimal.ZERO), totalLancamentos);
+        }
+
+        return divergencias;
+    }
+
+    private void comparar(List<DivergenciaCustoResumoResponse> divergencias, Long loteId, String campo,
+                          BigDecimal valorRegistrado, BigDecimal valorCalculado) {
+        BigDecimal calculado = valorCalculado != null ? valorCalculado : BigDecimal.ZERO;
+
+        if (valorRegistrado.compareTo(calculado) != 0) {
+            divergencias.add(DivergenciaCustoResumoResponse.builder()
+                    .loteId(loteId)
+                    .campo(campo)
+                    .valorRegistrado(valorRegistrado)
+                    .valorCalculado(calculado)
+                    .build());
+        }
+    }
+
+    private BigDecimal somar(BigDecimal... valores) {
+        BigDecimal soma = BigDecimal.ZERO;
+        for (BigDecimal valor : valores) {
+            if (valor != null) {
+                soma = soma.add(valor);
+            }
+        }
+        return soma;
+    }
+
+    private Map<Long, BigDecimal> agruparTotais(List<TotalPorLote> totais) {
+        Map<Long, BigDecimal> resultado = new HashMap<>();
+        for (TotalPorLote total : totais) {
+            resultado.put(total.getLoteId(), total.getTotal());
+        }
+        return resultado;
+    }
+
+    // Mesma precisão das colunas custo_total/valor (NUMERIC(12,2)) e quantidade (NUMERIC(10,3))
+    private BigDecimal valorMonetario(BigDecimal valor) {
+        return valor != null ? valor.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    private BigDecimal quantidade(BigDecimal quantidade) {
+        return quantidade != null ? quantidade.setScale(3, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    // Conversão exata da quantidade já arredondada (quantidade_racao_kg tem 6 casas), igual à reconstrução no banco
+    private BigDecimal quantidadeKg(BigDecimal quantidade, UnidadeMedidaEnum unidade) {
+        return unidade.paraKg(quantidade(quantidade));
+    }
+}
@@ -2,6 +2,8 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.LoteRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.LoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
 import com.jtarcio.shrimpfarm.application.mapper.LoteMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
@@ -9,10 +11,14 @@ import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.LoteResumo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,6 +36,7 @@ public class LoteService {
     private final LoteRepository loteRepository;
     private final ViveiroRepository viveiroRepository;
     private final LoteMapper loteMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LoteResponse criar(LoteRequest request) {
@@ -63,6 +70,7 @@ public class LoteService {
         // Atualizar status do viveiro para OCUPADO
         viveiro.setStatus(StatusViveiroEnum.OCUPADO);
         viveiroRepository.save(viveiro);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(loteSalvo.getId()));
 
         log.info("Lote criado com sucesso. ID: {}", loteSalvo.getId());
         return loteMapper.toResponse(loteSalvo);
@@ -92,7 +100,7 @@ public class LoteService {
     public List<LoteResponse> listarTodos() {
         log.debug("Listando todos os lotes");
 
-        return loteRepository.findAll().stream()
+        return loteRepository.listarResumos().stream()
                 .map(loteMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -105,7 +113,7 @@ public class LoteService {
             throw new EntityNotFoundException("Viveiro", viveiroId);
         }
 
-        return loteRepository.findByViveiroId(viveiroId).stream()
+        return loteRepository.listarResumosPorViveiro(viveiroId).stream()
                 .map(loteMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -114,7 +122,7 @@ public class LoteService {
     public List<LoteResponse> listarPorFazenda(Long fazendaId) {
         log.debug("Listando lotes da fazenda ID: {}", fazendaId);
 
-        return loteRepository.findByFazendaId(fazendaId).stream()
+        return loteRepository.listarResumosPorFazenda(fazendaId).stream()
                 .map(loteMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -123,7 +131,7 @@ public class LoteService {
     public List<LoteResponse> listarPorStatus(StatusLoteEnum status) {
         log.debug("Listando lotes com status: {}", status);
 
-        return loteRepository.findByStatus(status).stream()
+        return loteRepository.listarResumosPorStatus(status).stream()
                 .map(loteMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -132,7 +140,7 @@ public class LoteService {
     public List<LoteResponse> listarAtivos() {
         log.debug("Listando lotes ativos");
 
-        return loteRepository.findLotesAtivos().stream()
+        return loteRepository.listarResumosAtivos().stream()
                 .map(loteMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -142,10 +150,23 @@ public class LoteService {
         log.debug("Listando lotes paginados: página {}, tamanho {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return loteRepository.findAll(pageable)
+        return loteRepository.listarResumos(pageable)
                 .map(loteMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<LoteResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando lotes por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, false);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<LoteResumo> lotes = loteRepository.listarResumosApos(posicao == null ? 0L : posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(lotes, tamanho, loteMapper::toResponse,
+                lote -> CursorPaginacao.porId(lote.getId()));
+    }
+
     @Transactional
     public LoteResponse atualizar(Long id, LoteRequest request) {
         log.info("Atualizando lote ID: {}", id);
@@ -158,6 +179,7 @@ public class LoteService {
 
         loteMapper.updateEntity(lote, request, viveiro);
         Lote loteAtualizado = loteRepository.save(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(id));
 
         log.info("Lote atualizado com sucesso. ID: {}", id);
         return loteMapper.toResponse(loteAtualizado);
@@ -171,6 +193,7 @@ public class LoteService {
                 .orElseThrow(() -> new EntityNotFoundException("Lote", id));
 
         loteRepository.delete(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(id));
         log.info("Lote deletado com sucesso. ID: {}", id);
     }
 
@@ -189,6 +212,7 @@ public class LoteService {
         lote.getViveiro().setStatus(StatusViveiroEnum.OCUPADO);
 
         Lote loteAtualizado = loteRepository.save(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(id));
 
         log.info("Cultivo iniciado com sucesso. Lote ID: {}", id);
         return loteMapper.toResponse(loteAtualizado);
@@ -214,6 +238,7 @@ public class LoteService {
         lote.getViveiro().setStatus(StatusViveiroEnum.DISPONIVEL);
 
         Lote loteAtualizado = loteRepository.save(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(id));
 
         log.info("Cultivo finalizado com sucesso. Lote ID: {}", id);
         return loteMapper.toResponse(loteAtualizado);
@@ -234,6 +259,7 @@ public class LoteService {
         lote.getViveiro().setStatus(StatusViveiroEnum.DISPONIVEL);
 
         Lote loteAtualizado = loteRepository.save(lote);
+        eventPublisher.publishEvent(new LoteAlteradoEvent(id));
 
         log.info("Lote cancelado com sucesso. ID: {}", id);
         return loteMapper.toResponse(loteAtualizado);
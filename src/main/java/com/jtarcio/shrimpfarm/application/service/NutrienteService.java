@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +33,7 @@ public class NutrienteService {
     private final LoteRepository loteRepository;
     private final FornecedorRepository fornecedorRepository;
     private final NutrienteMapper nutrienteMapper;
+    private final LoteCustoResumoService loteCustoResumoService;
 
     @Transactional
     public NutrienteResponse criar(NutrienteRequest request) {
@@ -55,8 +57,12 @@ public class NutrienteService {
         }
 
         Nutriente nutriente = nutrienteMapper.toEntity(request, lote, fornecedor);
+        nutriente.calcularCustoTotal();
         Nutriente nutrienteSalvo = nutrienteRepository.save(nutriente);
 
+        loteCustoResumoService.registrarNutriente(lote.getId(), nutriente.getDataAplicacao(),
+                nutriente.getCustoTotal());
+
         log.info("Nutriente registrado com sucesso. ID: {} - Produto: {}",
                 nutrienteSalvo.getId(), nutrienteSalvo.getProduto());
 
@@ -119,9 +125,19 @@ public class NutrienteService {
                     .orElseThrow(() -> new EntityNotFoundException("Fornecedor", request.getFornecedorId()));
         }
 
+        // Valor anterior é estornado do resumo do lote antes de aplicar o novo
+        Long loteAnteriorId = nutriente.getLote().getId();
+        LocalDate dataAnterior = nutriente.getDataAplicacao();
+        BigDecimal valorAnterior = nutriente.getCustoTotal();
+
         nutrienteMapper.updateEntity(nutriente, request, lote, fornecedor);
+        nutriente.calcularCustoTotal();
         Nutriente nutrienteAtualizado = nutrienteRepository.save(nutriente);
 
+        loteCustoResumoService.estornarNutriente(loteAnteriorId, dataAnterior, valorAnterior);
+        loteCustoResumoService.registrarNutriente(lote.getId(), nutriente.getDataAplicacao(),
+                nutriente.getCustoTotal());
+
         log.info("Nutriente atualizado com sucesso. ID: {}", id);
         return nutrienteMapper.toResponse(nutrienteAtualizado);
     }
@@ -134,6 +150,8 @@ public class NutrienteService {
                 .orElseThrow(() -> new EntityNotFoundException("Nutriente", id));
 
         nutrienteRepository.delete(nutriente);
+        loteCustoResumoService.estornarNutriente(nutriente.getLote().getId(), nutriente.getDataAplicacao(),
+                nutriente.getCustoTotal());
         log.info("Nutriente deletado com sucesso. ID: {}", id);
     }
 }
@@ -0,0 +1,68 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import java.util.Arrays;
+
+/**
+ * Curva de lucro da despesca dia a dia e dia de lucro máximo.
+ * Cada grandeza é calculada em um laço próprio sobre arrays primitivos (preço por faixa de peso,
+ * receita, custo acumulado e lucro), sem objetos por dia, de modo que avaliar toda a janela de
+ * centenas de lotes custa poucos microssegundos por lote e os arrays podem ser reaproveitados.
+ */
+final class OtimizadorDespesca {
+
+    private OtimizadorDespesca() {
+    }
+
+    /**
+     * Tabela de preço por peso: {@code pesosMinimos} em ordem crescente (g) e o preço (R$/kg) a partir de cada um.
+     * Pesos abaixo da primeira faixa recebem o preço dela.
+     */
+    record FaixasPreco(double[] pesosMinimos, double[] precos) {
+    }
+
+    /**
+     * Preenche, para os {@code n} dias avaliados, preço (R$/kg), receita, custo acumulado e lucro (R$),
+     * a partir dos pesos (g) já gravados em {@code pesos}, e devolve o índice do dia de lucro máximo
+     * (o primeiro, em caso de empate).
+     * O custo do dia {@code i} é {@code custoInicial + custoDiario × i}.
+     */
+    static int otimizar(double[] pesos, int n, double quantidadeVivos, FaixasPreco faixas,
+                        double custoInicial, double custoDiario,
+                        double[] precos, double[] receitas, double[] custos, double[] lucros) {
+        for (int i = 0; i < n; i++) {
+            precos[i] = preco(faixas, pesos[i]);
+        }
+
+        double kgPorGrama = quantidadeVivos / 1000;
+        for (int i = 0; i < n; i++) {
+            receitas[i] = pesos[i] * kgPorGrama * precos[i];
+        }
+
+        for (int i = 0; i < n; i++) {
+            custos[i] = custoInicial + custoDiario * i;
+        }
+
+        for (int i = 0; i < n; i++) {
+            lucros[i] = receitas[i] - custos[i];
+        }
+
+        int melhor = 0;
+        for (int i = 1; i < n; i++) {
+            if (lucros[i] > lucros[melhor]) {
+                melhor = i;
+            }
+        }
+        return melhor;
+    }
+
+    /**
+     * Preço (R$/kg) da faixa em que o peso se enquadra, por busca binária
+     */
+    static double preco(FaixasPreco faixas, double peso) {
+        int indice = Arrays.binarySearch(faixas.pesosMinimos(), peso);
+        if (indice < 0) {
+            indice = -indice - 2; // Última faixa com peso mínimo abaixo do peso
+        }
+        return faixas.precos()[Math.max(0, indice)];
+    }
+}
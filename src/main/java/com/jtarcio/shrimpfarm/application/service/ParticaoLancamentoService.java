@@ -0,0 +1,108 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ParticaoResponse;
+import com.jtarcio.shrimpfarm.domain.enums.TabelaParticionadaEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ParticaoMensalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Partições mensais de rações, nutrientes e custos variáveis: criação antecipada dos meses seguintes
+ * (e dos meses dos lotes em andamento) e desanexação de meses antigos para arquivamento
+ */
+@Service
+@Slf4j
+public class ParticaoLancamentoService {
+
+    private final ParticaoMensalRepository particaoMensalRepository;
+    private final int mesesAFrente;
+
+    public ParticaoLancamentoService(ParticaoMensalRepository particaoMensalRepository,
+                                     @Value("${shrimpfarm.particoes.meses-a-frente:3}") int mesesAFrente) {
+        this.particaoMensalRepository = particaoMensalRepository;
+        this.mesesAFrente = mesesAFrente;
+    }
+
+    /**
+     * Garante as partições desde o povoamento do lote em andamento mais antigo (sem voltar a meses já
+     * desanexados) até os próximos meses configurados; retorna quantas foram criadas. É o único ponto que cria
+     * partições: os lançamentos apenas conferem se a do seu mês existe.
+     */
+    @Transactional
+    public int garantirParticoes() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate ate = hoje.plusMonths(mesesAFrente);
+
+        LocalDate de = particaoMensalRepository.buscarInicioLotesEmAndamento()
+                .filter(inicio -> inicio.isBefore(hoje))
+                .orElse(hoje);
+        LocalDate fimArquivamento = particaoMensalRepository.buscarFimArquivamento().orElse(null);
+        if (fimArquivamento != null && de.isBefore(fimArquivamento)) {
+            de = fimArquivamento;
+        }
+
+        int criadas = particaoMensalRepository.garantirParticoes(de, ate);
+
+        if (criadas > 0) {
+            log.info("{} partições mensais criadas entre {} e {}", criadas, YearMonth.from(de), YearMonth.from(ate));
+        }
+
+        return criadas;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParticaoResponse> listar(TabelaParticionadaEnum tabela) {
+        return particaoMensalRepository.listarParticoes(tabela.getTabela()).stream()
+                .map(particao -> toResponse(tabela, tabela.mesDaParticao(particao), true))
+                .toList();
+    }
+
+    /**
+     * Desanexa a partição do mês com DETACH PARTITION CONCURRENTLY, que não bloqueia a tabela; os dados
+     * continuam na tabela da partição até serem arquivados. Só meses encerrados cujos lotes já terminaram,
+     * porque os lançamentos desanexados deixam de entrar nas consultas e na reconstrução do resumo de custos.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ParticaoResponse desanexar(TabelaParticionadaEnum tabela, YearMonth mes) {
+        log.info("Desanexando partição de {} do mês {}", tabela.getTabela(), mes);
+
+        if (!mes.isBefore(YearMonth.now())) {
+            throw new BusinessException("Apenas partições de meses anteriores ao atual podem ser desanexadas");
+        }
+
+        String particao = tabela.particao(mes);
+        if (!particaoMensalRepository.listarParticoes(tabela.getTabela()).contains(particao)) {
+            throw new EntityNotFoundException("Partição " + particao + " não encontrada em " + tabela.getTabela());
+        }
+
+        if (particaoMensalRepository.possuiLancamentosDeLotesEmAndamento(particao)) {
+            throw new BusinessException("A partição " + particao + " possui lançamentos de lotes não finalizados");
+        }
+
+        // Registrada antes: se o DETACH falhar, a verificação do resumo apenas deixa de conferir alguns lotes
+        particaoMensalRepository.registrarDesanexacao(tabela.getTabela(), particao, mes.atDay(1));
+        particaoMensalRepository.desanexar(tabela.getTabela(), particao);
+
+        log.info("Partição {} desanexada", particao);
+
+        return toResponse(tabela, mes, false);
+    }
+
+    private ParticaoResponse toResponse(TabelaParticionadaEnum tabela, YearMonth mes, boolean anexada) {
+        return ParticaoResponse.builder()
+                .tabela(tabela)
+                .particao(tabela.particao(mes))
+                .mes(mes)
+                .anexada(anexada)
+                .build();
+    }
+}
@@ -0,0 +1,282 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.DemandaRacaoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PrevisaoRacaoResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FornecedorRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FornecedorRacaoPorLote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Previsão da demanda de ração (kg/dia) dos lotes ativos nos próximos 90 dias, com totais de 30, 60 e 90 dias
+ * por lote, por tipo de ração e por fornecedor.
+ * A ração do dia é a biomassa projetada pela curva de crescimento vezes a taxa alimentar da fase
+ * ({@link TipoRacaoEnum#paraDiaCultivo(int)}), até a despesca do lote. A demanda de cada lote e fase
+ * é atribuída ao fornecedor que mais recentemente entregou aquele tipo de ração ao lote (ou, na falta,
+ * qualquer tipo). A previsão é montada em uma passada sobre todos os lotes, de madrugada
+ * (PrevisaoRacaoJob), e as consultas do dia leem o resultado em memória.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PrevisaoRacaoService {
+
+    static final int HORIZONTE_DIAS = 90;
+    private static final int[] HORIZONTES = {30, 60, 90};
+    private static final double SOBREVIVENCIA_PADRAO = 80.0; // %
+    private static final int DIAS_MAXIMOS_CULTIVO = 150;
+    private static final String SEM_FORNECEDOR = "Sem fornecedor";
+
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final RacaoRepository racaoRepository;
+    private final FornecedorRepository fornecedorRepository;
+    private final CurvaCrescimentoService curvaCrescimentoService;
+
+    private final ReentrantLock recalculoLock = new ReentrantLock();
+    private volatile PrevisaoRacaoResponse previsao;
+
+    /**
+     * Previsão em memória; se ainda não houver uma começando hoje, é calculada agora
+     */
+    public PrevisaoRacaoResponse obterPrevisao() {
+        PrevisaoRacaoResponse atual = previsao;
+        if (atual != null && atual.getDataInicio().equals(LocalDate.now())) {
+            return atual;
+        }
+
+        recalculoLock.lock();
+        try {
+            atual = previsao;
+            if (atual != null && atual.getDataInicio().equals(LocalDate.now())) {
+                return atual;
+            }
+            return recalcular();
+        } finally {
+            recalculoLock.unlock();
+        }
+    }
+
+    /**
+     * Recalcula a previsão a partir de hoje e a mantém em memória
+     */
+    public PrevisaoRacaoResponse recalcular() {
+        recalculoLock.lock();
+        try {
+            PrevisaoRacaoResponse nova = calcular(LocalDate.now());
+            previsao = nova;
+            return nova;
+        } finally {
+            recalculoLock.unlock();
+        }
+    }
+
+    // Métodos privados auxiliares
+
+    private PrevisaoRacaoResponse calcular(LocalDate dataInicio) {
+        log.info("Calculando previsão de ração dos lotes ativos a partir de {}", dataInicio);
+        long inicio = System.nanoTime();
+
+        List<Lote> lotes = loteRepository.findByStatus(StatusLoteEnum.ATIVO);
+        List<Long> loteIds = lotes.stream().map(Lote::getId).toList();
+
+        Map<Long, List<Biometria>> biometriasPorLote = new HashMap<>(lotes.size() * 2);
+        Map<Long, Map<TipoRacaoEnum, FornecedorRacaoPorLote>> fornecedoresPorLote = new HashMap<>(lotes.size() * 2);
+        Map<Long, String> nomesFornecedores = new HashMap<>();
+
+        if (!loteIds.isEmpty()) {
+            for (Biometria biometria : biometriaRepository.buscarPorLotesEmOrdemCronologica(loteIds)) {
+                biometriasPorLote.computeIfAbsent(biometria.getLote().getId(), id -> new ArrayList<>()).add(biometria);
+            }
+
+            // Por lote e tipo, fica o fornecedor da aplicação mais recente
+            for (FornecedorRacaoPorLote fornecedor : racaoRepository.buscarFornecedoresPorLotes(loteIds)) {
+                fornecedoresPorLote.computeIfAbsent(fornecedor.getLoteId(), id -> new EnumMap<>(TipoRacaoEnum.class))
+                        .merge(fornecedor.getTipoRacao(), fornecedor, (atual, outro) -> maisRecente(atual, outro));
+            }
+
+            List<Long> fornecedorIds = fornecedoresPorLote.values().stream()
+                    .flatMap(porTipo -> porTipo.values().stream())
+                    .map(FornecedorRacaoPorLote::getFornecedorId)
+                    .distinct()
+                    .toList();
+            if (!fornecedorIds.isEmpty()) {
+                for (Fornecedor fornecedor : fornecedorRepository.findAllById(fornecedorIds)) {
+                    nomesFornecedores.put(fornecedor.getId(), fornecedor.getNome());
+                }
+            }
+        }
+
+        double[] pesos = new double[HORIZONTE_DIAS];
+        double[] total = new double[HORIZONTE_DIAS];
+        double[][] porTipo = new double[TipoRacaoEnum.values().length][HORIZONTE_DIAS];
+        Map<Long, double[]> porFornecedor = new LinkedHashMap<>(); // Chave nula: sem fornecedor
+
+        List<DemandaRacaoResponse> porLote = new ArrayList<>(lotes.size());
+        int lotesComErro = 0;
+
+        for (Lote lote : lotes) {
+            List<Biometria> biometrias = biometriasPorLote.getOrDefault(lote.getId(), List.of());
+            CurvaCrescimento curva;
+            try {
+                curva = curvaCrescimentoService.curva(lote, biometrias);
+            } catch (BusinessException e) {
+                lotesComErro++;
+                porLote.add(DemandaRacaoResponse.builder()
+                        .loteId(lote.getId())
+                        .loteCodigo(lote.getCodigo())
+                        .erro(e.getMessage())
+                        .build());
+                continue;
+            }
+
+            int diaInicial = (int) ChronoUnit.DAYS.between(lote.getDataPovoamento(), dataInicio);
+            int dias = diasAteDespesca(lote, dataInicio);
+            double quantidadeVivos = lote.getQuantidadePosLarvas() * sobrevivencia(biometrias) / 100;
+            Map<TipoRacaoEnum, FornecedorRacaoPorLote> fornecedores = fornecedoresPorLote.getOrDefault(lote.getId(), Map.of());
+            FornecedorRacaoPorLote fornecedorDoLote = fornecedores.values().stream()
+                    .reduce(null, PrevisaoRacaoService::maisRecente);
+
+            curva.pesos(diaInicial, dias, pesos);
+
+            double[] diario = new double[HORIZONTE_DIAS];
+            for (int i = 0; i < dias; i++) {
+                TipoRacaoEnum tipo = TipoRacaoEnum.paraDiaCultivo(diaInicial + i);
+                double kg = pesos[i] * quantidadeVivos / 1000 * tipo.getTaxaAlimentar() / 100;
+
+                FornecedorRacaoPorLote fornecedor = fornecedores.getOrDefault(tipo, fornecedorDoLote);
+                Long fornecedorId = fornecedor != null ? fornecedor.getFornecedorId() : null;
+
+                diario[i] = kg;
+                total[i] += kg;
+                porTipo[tipo.ordinal()][i] += kg;
+                porFornecedor.computeIfAbsent(fornecedorId, id -> new double[HORIZONTE_DIAS])[i] += kg;
+            }
+
+            DemandaRacaoResponse demanda = demanda(diario);
+            demanda.setLoteId(lote.getId());
+            demanda.setLoteCodigo(lote.getCodigo());
+            List<BigDecimal> diarioKg = new ArrayList<>(HORIZONTE_DIAS);
+            for (double kg : diario) {
+                diarioKg.add(escala(kg));
+            }
+            demanda.setDiarioKg(diarioKg);
+            porLote.add(demanda);
+        }
+
+        List<DemandaRacaoResponse> demandasPorTipo = new ArrayList<>();
+        for (TipoRacaoEnum tipo : TipoRacaoEnum.values()) {
+            DemandaRacaoResponse demanda = demanda(porTipo[tipo.ordinal()]);
+            demanda.setTipoRacao(tipo);
+            demandasPorTipo.add(demanda);
+        }
+
+        List<DemandaRacaoResponse> demandasPorFornecedor = new ArrayList<>(porFornecedor.size());
+        porFornecedor.forEach((fornecedorId, diario) -> {
+            DemandaRacaoResponse demanda = demanda(diario);
+            demanda.setFornecedorId(fornecedorId);
+            demanda.setFornecedorNome(fornecedorId != null
+                    ? Objects.requireNonNullElse(nomesFornecedores.get(fornecedorId), SEM_FORNECEDOR)
+                    : SEM_FORNECEDOR);
+            demandasPorFornecedor.add(demanda);
+        });
+
+        long tempoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        log.info("Previsão de ração calculada para {} lotes ({} com erro) em {} ms", lotes.size(), lotesComErro, tempoMs);
+
+        return PrevisaoRacaoResponse.builder()
+                .dataGeracao(LocalDateTime.now())
+                .dataInicio(dataInicio)
+                .lotes(lotes.size())
+                .lotesComErro(lotesComErro)
+                .tempoMs(tempoMs)
+                .total(demanda(total))
+                .porTipo(demandasPorTipo)
+                .porFornecedor(demandasPorFornecedor)
+                .porLote(porLote)
+                .build();
+    }
+
+    /**
+     * Dias de arraçoamento dentro do horizonte: até a véspera da despesca registrada ou, sem ela,
+     * até o fim do prazo máximo de cultivo
+     */
+    private int diasAteDespesca(Lote lote, LocalDate dataInicio) {
+        LocalDate despesca = lote.getDataDespesca() != null
+                ? lote.getDataDespesca()
+                : lote.getDataPovoamento().plusDays(DIAS_MAXIMOS_CULTIVO);
+        long dias = ChronoUnit.DAYS.between(dataInicio, despesca);
+        return (int) Math.max(0, Math.min(HORIZONTE_DIAS, dias));
+    }
+
+    /**
+     * Última sobrevivência estimada nas biometrias, ou a padrão
+     */
+    private double sobrevivencia(List<Biometria> biometrias) {
+        for (int i = biometrias.size() - 1; i >= 0; i--) {
+            BigDecimal estimada = biometrias.get(i).getSobrevivenciaEstimada();
+            if (estimada != null && estimada.signum() > 0) {
+                return estimada.doubleValue();
+            }
+        }
+        return SOBREVIVENCIA_PADRAO;
+    }
+
+    private static FornecedorRacaoPorLote maisRecente(FornecedorRacaoPorLote atual, FornecedorRacaoPorLote outro) {
+        if (atual == null) {
+            return outro;
+        }
+        return outro.getUltimaAplicacao().isAfter(atual.getUltimaAplicacao()) ? outro : atual;
+    }
+
+    /**
+     * Totais de 30, 60 e 90 dias de uma série diária
+     */
+    private DemandaRacaoResponse demanda(double[] diario) {
+        BigDecimal[] totais = new BigDecimal[HORIZONTES.length];
+        double acumulado = 0;
+        int h = 0;
+        for (int i = 0; i < HORIZONTE_DIAS && h < HORIZONTES.length; i++) {
+            acumulado += diario[i];
+            if (i + 1 == HORIZONTES[h]) {
+                totais[h++] = escala(acumulado);
+            }
+        }
+
+        return DemandaRacaoResponse.builder()
+                .kg30(totais[0])
+                .kg60(totais[1])
+                .kg90(totais[2])
+                .build();
+    }
+
+    private BigDecimal escala(double valor) {
+        return BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP);
+    }
+}
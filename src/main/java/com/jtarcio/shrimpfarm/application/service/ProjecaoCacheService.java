@@ -0,0 +1,239 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoCacheEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.event.CustoLoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache dos resultados do ProjecaoService, limitado em tamanho (descarta o menos usado) e em tempo (TTL).
+ * A chave é (lote, última biometria, versão dos custos do lote, operação e parâmetros): quando biometrias,
+ * custos ou o próprio lote mudam (após o commit), o estado do lote é trocado e as entradas antigas
+ * deixam de ser alcançáveis e são removidas pelo índice por lote. Nem um resultado nem um estado lido
+ * durante uma invalidação são guardados.
+ */
+@Service
+@Slf4j
+public class ProjecaoCacheService {
+
+    private final BiometriaRepository biometriaRepository;
+    private final long ttlNanos;
+    private final int tamanhoMaximo;
+
+    // Fonte das versões de custos: cada estado novo recebe uma versão nunca usada antes
+    private final AtomicLong versoes = new AtomicLong();
+    private final Map<Long, EstadoLote> estados = new ConcurrentHashMap<>();
+    // Invalidações por lote: um estado lido do banco só é instalado se nenhuma aconteceu durante a leitura
+    private final Map<Long, Long> geracoes = new ConcurrentHashMap<>();
+
+    // Em ordem de acesso, para descartar a entrada menos usada, e indexadas por lote; protegidos por lock
+    private final LinkedHashMap<Chave, Entrada> entradas;
+    private final Map<Long, Set<Chave>> chavesPorLote = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+    private final LongAdder remocoesPorTamanho = new LongAdder();
+    private final LongAdder remocoesPorExpiracao = new LongAdder();
+
+    public ProjecaoCacheService(BiometriaRepository biometriaRepository,
+                                @Value("${shrimpfarm.projecao.cache.ttl:PT10M}") Duration ttl,
+                                @Value("${shrimpfarm.projecao.cache.tamanho-maximo:10000}") int tamanhoMaximo) {
+        this.biometriaRepository = biometriaRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, Entrada> maisAntiga) {
+                if (size() > ProjecaoCacheService.this.tamanhoMaximo) {
+                    desindexar(maisAntiga.getKey());
+                    remocoesPorTamanho.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Resultado da operação para o lote e os parâmetros, calculando-o se não estiver em cache.
+     * O valor devolvido é compartilhado entre chamadas e não deve ser alterado.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T obter(Long loteId, String operacao, List<?> parametros, Supplier<T> calculo) {
+        EstadoLote estado = estado(loteId);
+        Chave chave = new Chave(loteId, estado.ultimaBiometriaId(), estado.versaoCustos(), operacao, parametros);
+
+        long agora = System.nanoTime();
+        lock.lock();
+        try {
+            Entrada entrada = entradas.get(chave);
+            if (entrada != null) {
+                if (agora - entrada.criadaEmNanos() < ttlNanos) {
+                    acertos.increment();
+                    return (T) entrada.valor();
+                }
+                entradas.remove(chave);
+                desindexar(chave);
+                remocoesPorExpiracao.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        falhas.increment();
+        T valor = calculo.get();
+
+        // Só guarda se o lote não foi invalidado durante o cálculo; conferido sob o lock porque a invalidação
+        // troca o estado antes de remover as entradas do lote
+        lock.lock();
+        try {
+            if (estados.get(loteId) == estado) {
+                entradas.put(chave, new Entrada(valor, agora));
+                chavesPorLote.computeIfAbsent(loteId, id -> new HashSet<>()).add(chave);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return valor;
+    }
+
+    /**
+     * Descarta as projeções do lote; a última biometria é relida no próximo acesso
+     */
+    public void invalidar(Long loteId) {
+        // A geração muda antes da remoção: quem leu o estado antes dela não consegue mais instalá-lo
+        geracoes.merge(loteId, 1L, Long::sum);
+        estados.remove(loteId);
+        removerEntradas(loteId);
+        log.debug("Projeções em cache do lote ID: {} invalidadas", loteId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarBiometria(BiometriaAlteradaEvent evento) {
+        invalidar(evento.loteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarLote(LoteAlteradoEvent evento) {
+        invalidar(evento.loteId());
+    }
+
+    /**
+     * Lançamentos de ração, custos variáveis e demais custos só mudam a versão dos custos do lote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCustos(CustoLoteAlteradoEvent evento) {
+        estados.computeIfPresent(evento.loteId(),
+                (id, estado) -> new EstadoLote(estado.ultimaBiometriaId(), versoes.incrementAndGet()));
+        removerEntradas(evento.loteId());
+    }
+
+    public ProjecaoCacheEstatisticasResponse obterEstatisticas() {
+        long totalAcertos = acertos.sum();
+        long leituras = totalAcertos + falhas.sum();
+
+        BigDecimal taxaAcerto = leituras > 0
+                ? BigDecimal.valueOf(totalAcertos * 100)
+                        .divide(BigDecimal.valueOf(leituras), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        int tamanho;
+        lock.lock();
+        try {
+            tamanho = entradas.size();
+        } finally {
+            lock.unlock();
+        }
+
+        return ProjecaoCacheEstatisticasResponse.builder()
+                .acertos(totalAcertos)
+                .falhas(falhas.sum())
+                .taxaAcerto(taxaAcerto)
+                .invalidacoes(invalidacoes.sum())
+                .remocoesPorTamanho(remocoesPorTamanho.sum())
+                .remocoesPorExpiracao(remocoesPorExpiracao.sum())
+                .tamanho(tamanho)
+                .tamanhoMaximo(tamanhoMaximo)
+                .ttlSegundos(TimeUnit.NANOSECONDS.toSeconds(ttlNanos))
+                .build();
+    }
+
+    // Métodos privados auxiliares
+
+    private EstadoLote estado(Long loteId) {
+        EstadoLote estado = estados.get(loteId);
+        if (estado != null) {
+            return estado;
+        }
+
+        // Consulta fora do mapa para não segurar a entrada durante o acesso ao banco
+        long geracao = geracoes.getOrDefault(loteId, 0L);
+        Long ultimaBiometriaId = biometriaRepository.buscarIdUltimaBiometria(loteId).orElse(null);
+        EstadoLote novo = new EstadoLote(ultimaBiometriaId, versoes.incrementAndGet());
+
+        // Invalidado durante a consulta: usa o estado lido só nesta chamada, sem instalá-lo
+        EstadoLote instalado = estados.compute(loteId, (id, atual) -> {
+            if (atual != null) {
+                return atual;
+            }
+            return geracoes.getOrDefault(loteId, 0L) == geracao ? novo : null;
+        });
+        return instalado != null ? instalado : novo;
+    }
+
+    private void removerEntradas(Long loteId) {
+        invalidacoes.increment();
+        lock.lock();
+        try {
+            Set<Chave> chaves = chavesPorLote.remove(loteId);
+            if (chaves != null) {
+                chaves.forEach(entradas::remove);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tira a chave do índice por lote; chamado com o lock já adquirido
+     */
+    private void desindexar(Chave chave) {
+        Set<Chave> chaves = chavesPorLote.get(chave.loteId());
+        if (chaves != null && chaves.remove(chave) && chaves.isEmpty()) {
+            chavesPorLote.remove(chave.loteId());
+        }
+    }
+
+    private record EstadoLote(Long ultimaBiometriaId, long versaoCustos) {
+    }
+
+    private record Chave(Long loteId, Long ultimaBiometriaId, long versaoCustos, String operacao, List<?> parametros) {
+    }
+
+    private record Entrada(Object valor, long criadaEmNanos) {
+    }
+}
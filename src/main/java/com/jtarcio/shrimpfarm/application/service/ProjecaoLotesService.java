@@ -0,0 +1,168 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.TemposProjecaoLotesResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projeção de peso, biomassa, receita e data de despesca de todos os lotes ativos de uma vez.
+ * Lotes e biometrias são lidos em duas consultas, agrupados em memória e projetados em paralelo
+ * em um ForkJoinPool próprio e limitado (o ajuste das curvas é só CPU). Cada projeção é escrita e
+ * enviada assim que fica pronta, na ordem dos lotes, enquanto as seguintes ainda estão em cálculo;
+ * os tempos de cada fase vêm no fim.
+ */
+@Service
+@Slf4j
+public class ProjecaoLotesService {
+
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final CurvaCrescimentoService curvaCrescimentoService;
+    private final ProjecaoService projecaoService;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+
+    public ProjecaoLotesService(LoteRepository loteRepository,
+                                BiometriaRepository biometriaRepository,
+                                CurvaCrescimentoService curvaCrescimentoService,
+                                ProjecaoService projecaoService,
+                                ObjectMapper objectMapper,
+                                @Value("${shrimpfarm.projecao.lotes.paralelismo:0}") int paralelismo) {
+        this.loteRepository = loteRepository;
+        this.biometriaRepository = biometriaRepository;
+        this.curvaCrescimentoService = curvaCrescimentoService;
+        this.projecaoService = projecaoService;
+        this.objectMapper = objectMapper;
+        this.pool = new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Escreve em {@code saida} um objeto JSON com as projeções de todos os lotes ativos na data
+     * ({@code lotes}) e os tempos de cada fase ({@code tempos}).
+     * Lotes que não podem ser projetados aparecem com o campo {@code erro} preenchido.
+     */
+    public void projetarLotesAtivos(LocalDate dataProjecao, BigDecimal precoVendaKg, OutputStream saida)
+            throws IOException {
+        log.info("Projetando lotes ativos para {}", dataProjecao);
+
+        long inicio = System.nanoTime();
+
+        // Lotes com viveiro e biometrias de todos eles, sem consultas por lote
+        List<Lote> lotes = loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO);
+        List<Biometria> biometrias = lotes.isEmpty()
+                ? List.of()
+                : biometriaRepository.buscarPorLotesEmOrdemCronologica(lotes.stream().map(Lote::getId).toList());
+        long carregado = System.nanoTime();
+
+        Map<Long, List<Biometria>> biometriasPorLote = new HashMap<>(lotes.size() * 2);
+        for (Biometria biometria : biometrias) {
+            biometriasPorLote.computeIfAbsent(biometria.getLote().getId(), id -> new ArrayList<>()).add(biometria);
+        }
+        long agrupado = System.nanoTime();
+
+        // Todas as projeções entram no pool de uma vez; a escrita segue a ordem dos lotes
+        List<CompletableFuture<ProjecaoLoteResponse>> pendentes = new ArrayList<>(lotes.size());
+        for (Lote lote : lotes) {
+            List<Biometria> biometriasDoLote = biometriasPorLote.getOrDefault(lote.getId(), List.of());
+            pendentes.add(CompletableFuture.supplyAsync(
+                    () -> projetar(lote, biometriasDoLote, dataProjecao, precoVendaKg), pool));
+        }
+
+        try (JsonGenerator gerador = objectMapper.createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            gerador.writeStartObject();
+            gerador.writeObjectField("dataProjecao", dataProjecao);
+            gerador.writeObjectField("precoVendaKg", precoVendaKg);
+
+            long esperaNanos = 0;
+            long escritaNanos = 0;
+            int lotesComErro = 0;
+
+            gerador.writeArrayFieldStart("lotes");
+            for (CompletableFuture<ProjecaoLoteResponse> pendente : pendentes) {
+                long aguardando = System.nanoTime();
+                ProjecaoLoteResponse projecao = pendente.join();
+                long pronto = System.nanoTime();
+
+                gerador.writeObject(projecao);
+                gerador.flush();
+                escritaNanos += System.nanoTime() - pronto;
+                esperaNanos += pronto - aguardando;
+
+                if (projecao.getErro() != null) {
+                    lotesComErro++;
+                }
+            }
+            gerador.writeEndArray();
+            long escrito = System.nanoTime();
+
+            TemposProjecaoLotesResponse tempos = TemposProjecaoLotesResponse.builder()
+                    .lotes(pendentes.size())
+                    .lotesComErro(lotesComErro)
+                    .paralelismo(pool.getParallelism())
+                    .carregamentoMs(TimeUnit.NANOSECONDS.toMillis(carregado - inicio))
+                    .agrupamentoMs(TimeUnit.NANOSECONDS.toMillis(agrupado - carregado))
+                    .projecaoMs(TimeUnit.NANOSECONDS.toMillis(esperaNanos))
+                    .escritaMs(TimeUnit.NANOSECONDS.toMillis(escritaNanos))
+                    .totalMs(TimeUnit.NANOSECONDS.toMillis(escrito - inicio))
+                    .build();
+
+            gerador.writeObjectField("tempos", tempos);
+            gerador.writeEndObject();
+
+            log.info("Projeção de {} lotes ativos concluída: {}", pendentes.size(), tempos);
+        } catch (IOException e) {
+            // Cliente desconectou: as projeções que ainda não começaram não precisam mais ser calculadas
+            pendentes.forEach(pendente -> pendente.cancel(false));
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+
+    // Métodos privados auxiliares
+
+    private ProjecaoLoteResponse projetar(Lote lote, List<Biometria> biometrias, LocalDate dataProjecao,
+                                          BigDecimal precoVendaKg) {
+        try {
+            CurvaCrescimento curva = curvaCrescimentoService.curva(lote, biometrias);
+            return projecaoService.projetarLote(lote, curva, dataProjecao, precoVendaKg);
+        } catch (BusinessException e) {
+            return ProjecaoLoteResponse.builder()
+                    .loteId(lote.getId())
+                    .loteCodigo(lote.getCodigo())
+                    .viveiroNome(lote.getViveiro() != null ? lote.getViveiro().getNome() : null)
+                    .quantidadeBiometrias(biometrias.size())
+                    .erro(e.getMessage())
+                    .build();
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package com.jtarcio.shrimpfarm.application.service;
 
-import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoLoteResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
-import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
-import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
-import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.domain.valueobject.Razao;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,18 +14,24 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
+/**
+ * Projeções de peso, biomassa, receita e lucro de um lote pela curva de crescimento.
+ * Os resultados ficam no ProjecaoCacheService até o lote ganhar biometria ou lançamento de custo.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProjecaoService {
 
-    private final LoteRepository loteRepository;
-    private final BiometriaRepository biometriaRepository;
+    private final ContextoCalculoLote contextoCalculoLote;
+    private final CurvaCrescimentoService curvaCrescimentoService;
+    private final ProjecaoCacheService projecaoCacheService;
 
     // Constantes para projeções
     private static final BigDecimal PESO_IDEAL_DESPESCA = BigDecimal.valueOf(15.0); // 15g
@@ -35,119 +40,119 @@ public class ProjecaoService {
     private static final int DIAS_MAXIMOS_CULTIVO = 150;
 
     /**
-     * Projeta o peso médio em uma data futura baseado nas biometrias
+     * Projeta o peso médio em uma data futura pela curva de crescimento ajustada ao lote
      */
     @Transactional(readOnly = true)
     public BigDecimal projetarPesoMedio(Long loteId, LocalDate dataProjecao) {
-        log.info("Projetando peso médio do lote {} para data {}", loteId, dataProjecao);
-
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
-
-        List<Biometria> biometrias = biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(loteId);
-
-        if (biometrias.isEmpty()) {
-            throw new BusinessException("Não há biometrias registradas para fazer projeção");
-        }
-
-        if (biometrias.size() < 2) {
-            throw new BusinessException("É necessário pelo menos 2 biometrias para fazer projeção");
-        }
-
-        // Calcular GPD médio das últimas biometrias
-        BigDecimal gpdMedio = calcularGPDMedio(biometrias);
-
-        // Última biometria
-        Biometria ultimaBiometria = biometrias.get(biometrias.size() - 1);
+        return projecaoCacheService.obter(loteId, "pesoMedio", List.of(dataProjecao),
+                () -> calcularPesoMedio(loteId, dataProjecao));
+    }
 
-        // Dias entre última biometria e data de projeção
-        long diasProjecao = ChronoUnit.DAYS.between(ultimaBiometria.getDataBiometria(), dataProjecao);
+    /**
+     * Sugere a melhor data para despesca baseado no peso ideal
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> sugerirDataDespesca(Long loteId) {
+        // A data de hoje entra na chave: lote pronto para despesca tem a data sugerida igual a hoje
+        return projecaoCacheService.obter(loteId, "dataDespesca", List.of(LocalDate.now()),
+                () -> Collections.unmodifiableMap(calcularDataDespesca(loteId)));
+    }
 
-        if (diasProjecao < 0) {
+    /**
+     * Projeção de peso, biomassa, receita e data de despesca de um lote a partir da curva já obtida,
+     * sem acessar o banco (usada na projeção em lote)
+     */
+    public ProjecaoLoteResponse projetarLote(Lote lote, CurvaCrescimento curva, LocalDate dataProjecao,
+                                             BigDecimal precoVendaKg) {
+        if (dataProjecao.isBefore(curva.dataUltimaBiometria())) {
             throw new BusinessException("Data de projeção não pode ser anterior à última biometria");
         }
 
-        // Projeção: peso atual + (GPD médio * dias)
-        BigDecimal pesoProjetado = ultimaBiometria.getPesoMedio()
-                .add(gpdMedio.multiply(BigDecimal.valueOf(diasProjecao)));
+        BigDecimal pesoMedioProjetado = BigDecimal.valueOf(curva.peso(dataProjecao)).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal quantidadeEstimada = BigDecimal.valueOf(lote.getQuantidadePosLarvas()).multiply(SOBREVIVENCIA_PADRAO);
+        BigDecimal biomassaProjetada = pesoMedioProjetado
+                .multiply(quantidadeEstimada)
+                .divide(BigDecimal.valueOf(1000), 2, RoundingMode.HALF_UP);
 
-        log.info("Peso projetado: {}g (GPD médio: {}g/dia)", pesoProjetado, gpdMedio);
-        return pesoProjetado.setScale(2, RoundingMode.HALF_UP);
+        Map<String, Object> despesca = sugerirDataDespesca(curva);
+
+        return ProjecaoLoteResponse.builder()
+                .loteId(lote.getId())
+                .loteCodigo(lote.getCodigo())
+                .viveiroNome(lote.getViveiro() != null ? lote.getViveiro().getNome() : null)
+                .modeloCrescimento(curva.modelo().getDescricao())
+                .quantidadeBiometrias(curva.quantidadeBiometrias())
+                .dataUltimaBiometria(curva.dataUltimaBiometria())
+                .pesoAtual(curva.pesoUltimaBiometria())
+                .pesoMedioProjetado(pesoMedioProjetado)
+                .quantidadeEstimada(quantidadeEstimada)
+                .biomassaProjetada(biomassaProjetada)
+                .receitaProjetada(precoVendaKg != null ? biomassaProjetada.multiply(precoVendaKg) : null)
+                .statusDespesca((String) despesca.get("status"))
+                .dataDespescaSugerida((LocalDate) despesca.get("dataSugerida"))
+                .build();
     }
 
     /**
-     * Sugere a melhor data para despesca baseado no peso ideal
+     * Projeta a biomassa total na despesca
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> sugerirDataDespesca(Long loteId) {
-        log.info("Sugerindo data de despesca para lote ID: {}", loteId);
-
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+    public Map<String, BigDecimal> projetarBiomassaDespesca(Long loteId, LocalDate dataDespesca) {
+        return projecaoCacheService.obter(loteId, "biomassa", List.of(dataDespesca),
+                () -> Collections.unmodifiableMap(calcularBiomassaDespesca(loteId, dataDespesca)));
+    }
 
-        List<Biometria> biometrias = biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(loteId);
+    /**
+     * Projeta a receita esperada na despesca
+     */
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> projetarReceitaDespesca(Long loteId, LocalDate dataDespesca, BigDecimal precoVendaKg) {
+        return projecaoCacheService.obter(loteId, "receita", Arrays.asList(dataDespesca, precoVendaKg),
+                () -> Collections.unmodifiableMap(calcularReceitaDespesca(loteId, dataDespesca, precoVendaKg)));
+    }
 
-        if (biometrias.isEmpty() || biometrias.size() < 2) {
-            throw new BusinessException("É necessário pelo menos 2 biometrias para sugerir data de despesca");
-        }
+    /**
+     * Projeta o lucro esperado (receita - custos)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> projetarLucroDespesca(Long loteId, LocalDate dataDespesca,
+                                                         BigDecimal precoVendaKg,
+                                                         CalculadoraCustoService calculadoraCustoService) {
+        return projecaoCacheService.obter(loteId, "lucro", Arrays.asList(dataDespesca, precoVendaKg),
+                () -> Collections.unmodifiableMap(
+                        calcularLucroDespesca(loteId, dataDespesca, precoVendaKg, calculadoraCustoService)));
+    }
 
-        Map<String, Object> resultado = new HashMap<>();
+    // Métodos auxiliares privados (cálculo sem cache)
 
-        // Calcular GPD médio
-        BigDecimal gpdMedio = calcularGPDMedio(biometrias);
-        Biometria ultimaBiometria = biometrias.get(biometrias.size() - 1);
+    private BigDecimal calcularPesoMedio(Long loteId, LocalDate dataProjecao) {
+        log.info("Projetando peso médio do lote {} para data {}", loteId, dataProjecao);
 
-        // Calcular dias necessários para atingir peso ideal
-        BigDecimal pesoFaltante = PESO_IDEAL_DESPESCA.subtract(ultimaBiometria.getPesoMedio());
+        CurvaCrescimento curva = curvaCrescimentoService.curva(loteId);
 
-        if (pesoFaltante.compareTo(BigDecimal.ZERO) <= 0) {
-            resultado.put("status", "PRONTO_PARA_DESPESCA");
-            resultado.put("mensagem", "Lote já atingiu o peso ideal de despesca");
-            resultado.put("dataSugerida", LocalDate.now());
-            resultado.put("pesoAtual", ultimaBiometria.getPesoMedio());
-            resultado.put("pesoIdeal", PESO_IDEAL_DESPESCA);
-            return resultado;
+        if (dataProjecao.isBefore(curva.dataUltimaBiometria())) {
+            throw new BusinessException("Data de projeção não pode ser anterior à última biometria");
         }
 
-        // Dias necessários = peso faltante / GPD médio
-        long diasNecessarios = pesoFaltante.divide(gpdMedio, 0, RoundingMode.UP).longValue();
-        LocalDate dataSugerida = ultimaBiometria.getDataBiometria().plusDays(diasNecessarios);
+        BigDecimal pesoProjetado = BigDecimal.valueOf(curva.peso(dataProjecao));
 
-        // Verificar se está dentro do intervalo aceitável
-        long diasTotaisCultivo = ChronoUnit.DAYS.between(lote.getDataPovoamento(), dataSugerida);
+        log.info("Peso projetado: {}g (modelo: {})", pesoProjetado, curva.modelo().getDescricao());
+        return pesoProjetado.setScale(2, RoundingMode.HALF_UP);
+    }
 
-        String status;
-        if (diasTotaisCultivo < DIAS_MINIMOS_CULTIVO) {
-            status = "MUITO_CEDO";
-            dataSugerida = lote.getDataPovoamento().plusDays(DIAS_MINIMOS_CULTIVO);
-        } else if (diasTotaisCultivo > DIAS_MAXIMOS_CULTIVO) {
-            status = "ATENCAO_PRAZO";
-            dataSugerida = lote.getDataPovoamento().plusDays(DIAS_MAXIMOS_CULTIVO);
-        } else {
-            status = "IDEAL";
-        }
+    private Map<String, Object> calcularDataDespesca(Long loteId) {
+        log.info("Sugerindo data de despesca para lote ID: {}", loteId);
 
-        resultado.put("status", status);
-        resultado.put("dataSugerida", dataSugerida);
-        resultado.put("diasNecessarios", diasNecessarios);
-        resultado.put("diasTotaisCultivo", diasTotaisCultivo);
-        resultado.put("pesoAtual", ultimaBiometria.getPesoMedio());
-        resultado.put("pesoIdeal", PESO_IDEAL_DESPESCA);
-        resultado.put("gpdMedio", gpdMedio);
+        Map<String, Object> resultado = sugerirDataDespesca(curvaCrescimentoService.curva(loteId));
 
-        log.info("Data sugerida: {} (status: {})", dataSugerida, status);
+        log.info("Data sugerida: {} (status: {})", resultado.get("dataSugerida"), resultado.get("status"));
         return resultado;
     }
 
-    /**
-     * Projeta a biomassa total na despesca
-     */
-    @Transactional(readOnly = true)
-    public Map<String, BigDecimal> projetarBiomassaDespesca(Long loteId, LocalDate dataDespesca) {
+    private Map<String, BigDecimal> calcularBiomassaDespesca(Long loteId, LocalDate dataDespesca) {
         log.info("Projetando biomassa na despesca do lote {} para {}", loteId, dataDespesca);
 
-        Lote lote = loteRepository.findById(loteId)
-                .orElseThrow(() -> new EntityNotFoundException("Lote", loteId));
+        Lote lote = contextoCalculoLote.lote(loteId);
 
         Map<String, BigDecimal> resultado = new HashMap<>();
 
@@ -172,11 +177,8 @@ public class ProjecaoService {
         return resultado;
     }
 
-    /**
-     * Projeta a receita esperada na despesca
-     */
-    @Transactional(readOnly = true)
-    public Map<String, BigDecimal> projetarReceitaDespesca(Long loteId, LocalDate dataDespesca, BigDecimal precoVendaKg) {
+    private Map<String, BigDecimal> calcularReceitaDespesca(Long loteId, LocalDate dataDespesca,
+                                                           BigDecimal precoVendaKg) {
         log.info("Projetando receita da despesca do lote {} para {} com preço R$ {}/kg",
                 loteId, dataDespesca, precoVendaKg);
 
@@ -198,11 +200,7 @@ public class ProjecaoService {
         return resultado;
     }
 
-    /**
-     * Projeta o lucro esperado (receita - custos)
-     */
-    @Transactional(readOnly = true)
-    public Map<String, BigDecimal> projetarLucroDespesca(Long loteId, LocalDate dataDespesca,
+    private Map<String, BigDecimal> calcularLucroDespesca(Long loteId, LocalDate dataDespesca,
                                                          BigDecimal precoVendaKg,
                                                          CalculadoraCustoService calculadoraCustoService) {
         log.info("Projetando lucro da despesca do lote {}", loteId);
@@ -223,8 +221,7 @@ public class ProjecaoService {
         // ROI projetado
         BigDecimal roiProjetado = BigDecimal.ZERO;
         if (custoTotal.compareTo(BigDecimal.ZERO) > 0) {
-            roiProjetado = lucroProjetado
-                    .divide(custoTotal, 4, RoundingMode.HALF_UP)
+            roiProjetado = lucroProjetado.divide(custoTotal, Razao.ESCALA, RoundingMode.HALF_UP)
                     .multiply(BigDecimal.valueOf(100));
         }
 
@@ -238,30 +235,65 @@ public class ProjecaoService {
         return resultado;
     }
 
-    // Método auxiliar privado
-    private BigDecimal calcularGPDMedio(List<Biometria> biometrias) {
-        if (biometrias.size() < 2) {
-            return BigDecimal.ZERO;
-        }
+    private Map<String, Object> sugerirDataDespesca(CurvaCrescimento curva) {
+        Map<String, Object> resultado = new HashMap<>();
+
+        BigDecimal pesoAtual = curva.pesoUltimaBiometria();
+        BigDecimal gpdMedio = BigDecimal.valueOf(curva.ganhoDiario(curva.dataUltimaBiometria()))
+                .setScale(4, RoundingMode.HALF_UP);
 
-        // Pegar as últimas 3 biometrias ou todas se tiver menos
-        int inicio = Math.max(0, biometrias.size() - 3);
-        List<Biometria> ultimasBiometrias = biometrias.subList(inicio, biometrias.size());
+        if (pesoAtual.compareTo(PESO_IDEAL_DESPESCA) >= 0) {
+            resultado.put("status", "PRONTO_PARA_DESPESCA");
+            resultado.put("mensagem", "Lote já atingiu o peso ideal de despesca");
+            resultado.put("dataSugerida", LocalDate.now());
+            resultado.put("pesoAtual", pesoAtual);
+            resultado.put("pesoIdeal", PESO_IDEAL_DESPESCA);
+            return resultado;
+        }
 
-        BigDecimal somaGPD = BigDecimal.ZERO;
-        int contador = 0;
+        LocalDate dataPovoamento = curva.dataPovoamento();
+        double diaPesoIdeal = curva.diaParaPeso(PESO_IDEAL_DESPESCA.doubleValue());
 
-        for (Biometria biometria : ultimasBiometrias) {
-            if (biometria.getGanhoPesoDiario() != null) {
-                somaGPD = somaGPD.add(biometria.getGanhoPesoDiario());
-                contador++;
-            }
+        if (Double.isNaN(diaPesoIdeal)) {
+            // A curva se estabiliza abaixo do peso ideal
+            resultado.put("status", "ATENCAO_PRAZO");
+            resultado.put("mensagem", "Pela curva de crescimento o lote não deve atingir o peso ideal de despesca");
+            resultado.put("dataSugerida", dataPovoamento.plusDays(DIAS_MAXIMOS_CULTIVO));
+            resultado.put("pesoAtual", pesoAtual);
+            resultado.put("pesoIdeal", PESO_IDEAL_DESPESCA);
+            resultado.put("gpdMedio", gpdMedio);
+            resultado.put("modeloCrescimento", curva.modelo().getDescricao());
+            return resultado;
         }
 
-        if (contador == 0) {
-            return BigDecimal.ZERO;
+        // Primeiro dia inteiro de cultivo em que a curva atinge o peso ideal
+        long diaDespesca = (long) Math.ceil(diaPesoIdeal - 1e-9);
+        long diasNecessarios = diaDespesca - (long) curva.diaUltimaBiometria();
+        LocalDate dataSugerida = curva.dataUltimaBiometria().plusDays(diasNecessarios);
+
+        // Verificar se está dentro do intervalo aceitável
+        long diasTotaisCultivo = ChronoUnit.DAYS.between(dataPovoamento, dataSugerida);
+
+        String status;
+        if (diasTotaisCultivo < DIAS_MINIMOS_CULTIVO) {
+            status = "MUITO_CEDO";
+            dataSugerida = dataPovoamento.plusDays(DIAS_MINIMOS_CULTIVO);
+        } else if (diasTotaisCultivo > DIAS_MAXIMOS_CULTIVO) {
+            status = "ATENCAO_PRAZO";
+            dataSugerida = dataPovoamento.plusDays(DIAS_MAXIMOS_CULTIVO);
+        } else {
+            status = "IDEAL";
         }
 
-        return somaGPD.divide(BigDecimal.valueOf(contador), 4, RoundingMode.HALF_UP);
+        resultado.put("status", status);
+        resultado.put("dataSugerida", dataSugerida);
+        resultado.put("diasNecessarios", diasNecessarios);
+        resultado.put("diasTotaisCultivo", diasTotaisCultivo);
+        resultado.put("pesoAtual", pesoAtual);
+        resultado.put("pesoIdeal", PESO_IDEAL_DESPESCA);
+        resultado.put("gpdMedio", gpdMedio);
+        resultado.put("modeloCrescimento", curva.modelo().getDescricao());
+
+        return resultado;
     }
 }
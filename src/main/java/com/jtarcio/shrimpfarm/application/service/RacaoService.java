@@ -1,25 +1,30 @@
 package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.RacaoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RacaoResponse;
 import com.jtarcio.shrimpfarm.application.mapper.RacaoMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Racao;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FornecedorRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +37,7 @@ public class RacaoService {
     private final LoteRepository loteRepository;
     private final FornecedorRepository fornecedorRepository;
     private final RacaoMapper racaoMapper;
+    private final LoteCustoResumoService loteCustoResumoService;
 
     @Transactional
     public RacaoResponse criar(RacaoRequest request) {
@@ -55,8 +61,12 @@ public class RacaoService {
         }
 
         Racao racao = racaoMapper.toEntity(request, lote, fornecedor);
+        racao.calcularCustoTotal();
         Racao racaoSalva = racaoRepository.save(racao);
 
+        loteCustoResumoService.registrarRacao(lote.getId(), racao.getDataAplicacao(),
+                racao.getCustoTotal(), racao.getQuantidade(), racao.getUnidade());
+
         log.info("Ração registrada com sucesso. ID: {} - Quantidade: {}kg",
                 racaoSalva.getId(), racaoSalva.getQuantidade());
 
@@ -103,6 +113,21 @@ public class RacaoService {
                 .map(racaoMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<RacaoResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando rações por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, true);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<Racao> racoes = posicao == null
+                ? racaoRepository.listarPrimeiras(limite)
+                : racaoRepository.listarApos(posicao.data(), posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(racoes, tamanho, racaoMapper::toResponse,
+                racao -> CursorPaginacao.porDataEId(racao.getDataAplicacao(), racao.getId()));
+    }
+
     @Transactional
     public RacaoResponse atualizar(Long id, RacaoRequest request) {
         log.info("Atualizando ração ID: {}", id);
@@ -119,9 +144,22 @@ public class RacaoService {
                     .orElseThrow(() -> new EntityNotFoundException("Fornecedor", request.getFornecedorId()));
         }
 
+        // Valores anteriores são estornados do resumo do lote antes de aplicar os novos
+        Long loteAnteriorId = racao.getLote().getId();
+        LocalDate dataAnterior = racao.getDataAplicacao();
+        BigDecimal custoAnterior = racao.getCustoTotal();
+        BigDecimal quantidadeAnterior = racao.getQuantidade();
+        UnidadeMedidaEnum unidadeAnterior = racao.getUnidade();
+
         racaoMapper.updateEntity(racao, request, lote, fornecedor);
+        racao.calcularCustoTotal();
         Racao racaoAtualizada = racaoRepository.save(racao);
 
+        loteCustoResumoService.estornarRacao(loteAnteriorId, dataAnterior, custoAnterior, quantidadeAnterior,
+                unidadeAnterior);
+        loteCustoResumoService.registrarRacao(lote.getId(), racao.getDataAplicacao(),
+                racao.getCustoTotal(), racao.getQuantidade(), racao.getUnidade());
+
         log.info("Ração atualizada com sucesso. ID: {}", id);
         return racaoMapper.toResponse(racaoAtualizada);
     }
@@ -134,6 +172,8 @@ public class RacaoService {
                 .orElseThrow(() -> new EntityNotFoundException("Ração", id));
 
         racaoRepository.delete(racao);
+        loteCustoResumoService.estornarRacao(racao.getLote().getId(), racao.getDataAplicacao(),
+                racao.getCustoTotal(), racao.getQuantidade(), racao.getUnidade());
         log.info("Ração deletada com sucesso. ID: {}", id);
     }
 }
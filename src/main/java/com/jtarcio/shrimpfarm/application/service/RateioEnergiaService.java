@@ -0,0 +1,276 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.RateioEnergiaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaResponse;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.BiomassaNaData;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.PeriodoCultivoLote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Rateio de contas de energia por janela de tempo.
+ * Os lotes da fazenda com cultivo no período vêm de uma consulta por faixa de datas e cada lote é pesado
+ * pelos dias em cultivo dentro do período ou pela biomassa integrada no período (kg·dia),
+ * interpolada linearmente entre as biometrias.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateioEnergiaService {
+
+    private static final int TAMANHO_BLOCO = 500;
+    private static final List<StatusLoteEnum> STATUS_RATEADOS = List.of(StatusLoteEnum.ATIVO, StatusLoteEnum.FINALIZADO);
+
+    private final FazendaRepository fazendaRepository;
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+    private final CustoVariavelRepository custoVariavelRepository;
+    private final LoteCustoResumoService loteCustoResumoService;
+
+    /**
+     * Calcula o rateio da conta sem registrar lançamentos
+     */
+    @Transactional(readOnly = true)
+    public RateioEnergiaResponse simular(RateioEnergiaRequest request) {
+        log.info("Simulando rateio de energia da fazenda ID: {} ({} a {})",
+                request.getFazendaId(), request.getDataInicio(), request.getDataFim());
+
+        return calcular(request);
+    }
+
+    /**
+     * Calcula o rateio da conta e lança cada parcela como custo variável do lote,
+     * com data de lançamento no fim do período
+     */
+    @Transactional
+    public RateioEnergiaResponse registrar(RateioEnergiaRequest request) {
+        log.info("Registrando rateio de energia da fazenda ID: {} ({} a {})",
+                request.getFazendaId(), request.getDataInicio(), request.getDataFim());
+
+        if (request.getDataFim().isAfter(LocalDate.now())) {
+            throw new BusinessException("Não é possível registrar o rateio de um período que ainda não terminou");
+        }
+
+        RateioEnergiaResponse rateio = calcular(request);
+
+        List<CustoVariavel> custos = new ArrayList<>(rateio.getLotes().size());
+        for (RateioEnergiaLoteResponse parcela : rateio.getLotes()) {
+            if (parcela.getValor().compareTo(BigDecimal.ZERO) == 0) {
+                continue;
+            }
+
+            custos.add(CustoVariavel.builder()
+                    .lote(loteRepository.getReferenceById(parcela.getLoteId()))
+                    .dataLancamento(request.getDataFim())
+                    .categoria(CategoriaGastoEnum.ENERGIA)
+                    .descricao("Rateio de energia elétrica - " + request.getDataInicio() + " a " + request.getDataFim())
+                    .valor(parcela.getValor())
+                    .observacoes("Rateado automaticamente - " + rateio.getCriterio())
+                    .build());
+        }
+
+        custoVariavelRepository.saveAll(custos);
+        loteCustoResumoService.registrarCustosVariaveis(custos);
+
+        rateio.setRegistrado(true);
+
+        log.info("Rateio de energia registrado para {} lotes", custos.size());
+        return rateio;
+    }
+
+    // Métodos privados auxiliares
+
+    private RateioEnergiaResponse calcular(RateioEnergiaRequest request) {
+        LocalDate dataInicio = request.getDataInicio();
+        LocalDate dataFim = request.getDataFim();
+
+        if (dataFim.isBefore(dataInicio)) {
+            throw new BusinessException("Data de fim do período não pode ser anterior à data de início");
+        }
+
+        if (!fazendaRepository.existsById(request.getFazendaId())) {
+            throw new EntityNotFoundException("Fazenda", request.getFazendaId());
+        }
+
+        List<PeriodoCultivoLote> lotes = loteRepository.buscarLotesNoPeriodo(
+                request.getFazendaId(), dataInicio, dataFim, STATUS_RATEADOS);
+
+        if (lotes.isEmpty()) {
+            throw new BusinessException("Nenhum lote em cultivo na fazenda no período informado");
+        }
+
+        Map<Long, Integer> diasNoPeriodo = new LinkedHashMap<>();
+        for (PeriodoCultivoLote lote : lotes) {
+            diasNoPeriodo.put(lote.getLoteId(), diasNoPeriodo(lote, dataInicio, dataFim));
+        }
+
+        CriterioRateioEnergia criterio = request.getCriterio();
+        Map<Long, ? extends Number> pesos = switch (criterio) {
+            case DIAS_CULTIVO -> diasNoPeriodo;
+            case BIOMASSA -> integrarBiomassa(lotes, dataInicio, dataFim);
+            case IGUALITARIO -> pesosIguais(lotes);
+        };
+
+        if (criterio == CriterioRateioEnergia.BIOMASSA && somaPesos(pesos) == 0) {
+            log.warn("Nenhuma biomassa registrada no período, usando rateio por dias no período");
+            criterio = CriterioRateioEnergia.DIAS_CULTIVO;
+            pesos = diasNoPeriodo;
+        }
+
+        Map<Long, BigDecimal> valores = RateioProporcional.ratear(request.getValorTotal(), pesos);
+
+        List<RateioEnergiaLoteResponse> parcelas = new ArrayList<>(lotes.size());
+        for (PeriodoCultivoLote lote : lotes) {
+            Long loteId = lote.getLoteId();
+
+            parcelas.add(RateioEnergiaLoteResponse.builder()
+                    .loteId(loteId)
+                    .loteCodigo(lote.getCodigo())
+                    .diasNoPeriodo(diasNoPeriodo.get(loteId))
+                    .peso(BigDecimal.valueOf(pesos.get(loteId).doubleValue()).setScale(2, RoundingMode.HALF_UP))
+                    .valor(valores.get(loteId))
+                    .build());
+        }
+
+        log.info("Rateio de R$ {} calculado para {} lotes (critério: {})",
+                request.getValorTotal(), parcelas.size(), criterio);
+
+        return RateioEnergiaResponse.builder()
+                .fazendaId(request.getFazendaId())
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .criterio(criterio)
+                .valorTotal(valores.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add))
+                .totalLotes(parcelas.size())
+                .registrado(false)
+                .lotes(parcelas)
+                .build();
+    }
+
+    /**
+     * Dias de cultivo do lote dentro do período (povoamento e despesca inclusos)
+     */
+    private int diasNoPeriodo(PeriodoCultivoLote lote, LocalDate dataInicio, LocalDate dataFim) {
+        LocalDate inicio = inicioNoPeriodo(lote, dataInicio);
+        LocalDate fim = fimNoPeriodo(lote, dataFim);
+
+        return (int) ChronoUnit.DAYS.between(inicio, fim) + 1;
+    }
+
+    /**
+     * Biomassa integrada de cada lote no período, carregando as séries de biometrias em blocos de lotes
+     */
+    private Map<Long, Double> integrarBiomassa(List<PeriodoCultivoLote> lotes, LocalDate dataInicio, LocalDate dataFim) {
+        Map<Long, Double> pesos = new LinkedHashMap<>();
+
+        for (int inicio = 0; inicio < lotes.size(); inicio += TAMANHO_BLOCO) {
+            List<PeriodoCultivoLote> bloco = lotes.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, lotes.size()));
+            List<Long> ids = bloco.stream()
+                    .map(PeriodoCultivoLote::getLoteId)
+                    .collect(Collectors.toList());
+
+            Map<Long, List<BiomassaNaData>> series = biometriaRepository.buscarSerieBiomassaPorLotes(ids).stream()
+                    .collect(Collectors.groupingBy(BiomassaNaData::getLoteId));
+
+            for (PeriodoCultivoLote lote : bloco) {
+                pesos.put(lote.getLoteId(), biomassaIntegrada(
+                        lote, series.getOrDefault(lote.getLoteId(), List.of()), dataInicio, dataFim));
+            }
+        }
+
+        return pesos;
+    }
+
+    /**
+     * Soma da biomassa diária (kg·dia) do lote no período.
+     * A biomassa parte de zero no povoamento, é interpolada linearmente entre biometrias
+     * e mantida constante após a última biometria.
+     */
+    private double biomassaIntegrada(PeriodoCultivoLote lote, List<BiomassaNaData> serie,
+                                     LocalDate dataInicio, LocalDate dataFim) {
+        if (serie.isEmpty()) {
+            return 0;
+        }
+
+        // Pontos (dia, biomassa) em ordem de data; no mesmo dia prevalece a biometria mais recente
+        List<Long> dias = new ArrayList<>(serie.size() + 1);
+        List<Double> biomassas = new ArrayList<>(serie.size() + 1);
+
+        if (serie.get(0).getDataBiometria().isAfter(lote.getDataPovoamento())) {
+            dias.add(lote.getDataPovoamento().toEpochDay());
+            biomassas.add(0.0);
+        }
+
+        for (BiomassaNaData ponto : serie) {
+            long dia = ponto.getDataBiometria().toEpochDay();
+            if (!dias.isEmpty() && dias.get(dias.size() - 1) == dia) {
+                biomassas.set(biomassas.size() - 1, ponto.getBiomassa().doubleValue());
+            } else {
+                dias.add(dia);
+                biomassas.add(ponto.getBiomassa().doubleValue());
+            }
+        }
+
+        long inicio = inicioNoPeriodo(lote, dataInicio).toEpochDay();
+        long fim = fimNoPeriodo(lote, dataFim).toEpochDay();
+
+        double total = 0;
+        int segmento = 0;
+
+        for (long dia = inicio; dia <= fim; dia++) {
+            while (segmento < dias.size() - 1 && dias.get(segmento + 1) <= dia) {
+                segmento++;
+            }
+
+            if (dia <= dias.get(segmento) || segmento == dias.size() - 1) {
+                total += biomassas.get(segmento);
+            } else {
+                double fracao = (double) (dia - dias.get(segmento)) / (dias.get(segmento + 1) - dias.get(segmento));
+                total += biomassas.get(segmento) + fracao * (biomassas.get(segmento + 1) - biomassas.get(segmento));
+            }
+        }
+
+        return total;
+    }
+
+    private LocalDate inicioNoPeriodo(PeriodoCultivoLote lote, LocalDate dataInicio) {
+        return lote.getDataPovoamento().isAfter(dataInicio) ? lote.getDataPovoamento() : dataInicio;
+    }
+
+    private LocalDate fimNoPeriodo(PeriodoCultivoLote lote, LocalDate dataFim) {
+        return lote.getDataDespesca() != null && lote.getDataDespesca().isBefore(dataFim)
+                ? lote.getDataDespesca()
+                : dataFim;
+    }
+
+    private Map<Long, Integer> pesosIguais(List<PeriodoCultivoLote> lotes) {
+        Map<Long, Integer> pesos = new LinkedHashMap<>();
+        for (PeriodoCultivoLote lote : lotes) {
+            pesos.put(lote.getLoteId(), 1);
+        }
+        return pesos;
+    }
+
+    private double somaPesos(Map<Long, ? extends Number> pesos) {
+        return pesos.values().stream()
+                .mapToDouble(Number::doubleValue)
+                .sum();
+    }
+}
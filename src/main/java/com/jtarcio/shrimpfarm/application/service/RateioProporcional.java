@@ -0,0 +1,82 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distribui um valor em centavos proporcionalmente a pesos pelo método dos maiores restos.
+ * A soma das parcelas é sempre igual ao valor total: os centavos que sobram do arredondamento para
+ * baixo vão para as parcelas com maior fração descartada (empates pela ordem de inserção).
+ */
+final class RateioProporcional {
+
+    private RateioProporcional() {
+    }
+
+    /**
+     * @param valorTotal valor a distribuir (arredondado para 2 casas)
+     * @param pesos      peso de cada chave; pesos nulos ou negativos contam como zero
+     * @return Map com chave -> parcela, na ordem das chaves informadas
+     */
+    static <K> Map<K, BigDecimal> ratear(BigDecimal valorTotal, Map<K, ? extends Number> pesos) {
+        Map<K, BigDecimal> resultado = new LinkedHashMap<>();
+
+        double somaPesos = 0;
+        for (Number peso : pesos.values()) {
+            somaPesos += valorPeso(peso);
+        }
+
+        if (pesos.isEmpty() || somaPesos <= 0) {
+            throw new IllegalArgumentException("A soma dos pesos do rateio deve ser positiva");
+        }
+
+        long centavosTotal = valorTotal.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+        long centavosDistribuidos = 0;
+        List<Parcela<K>> parcelas = new ArrayList<>(pesos.size());
+
+        for (Map.Entry<K, ? extends Number> entry : pesos.entrySet()) {
+            double exato = centavosTotal * (valorPeso(entry.getValue()) / somaPesos);
+            Parcela<K> parcela = new Parcela<>(entry.getKey(), (long) Math.floor(exato));
+            parcela.resto = exato - parcela.centavos;
+
+            parcelas.add(parcela);
+            centavosDistribuidos += parcela.centavos;
+        }
+
+        // Os centavos restantes (no máximo um por parcela) vão para os maiores restos
+        long sobra = centavosTotal - centavosDistribuidos;
+        List<Parcela<K>> porMaiorResto = new ArrayList<>(parcelas);
+        porMaiorResto.sort(Comparator.comparingDouble((Parcela<K> parcela) -> parcela.resto).reversed());
+
+        for (int i = 0; sobra > 0; i = (i + 1) % porMaiorResto.size(), sobra--) {
+            porMaiorResto.get(i).centavos++;
+        }
+
+        for (Parcela<K> parcela : parcelas) {
+            resultado.put(parcela.chave, BigDecimal.valueOf(parcela.centavos, 2));
+        }
+
+        return resultado;
+    }
+
+    private static double valorPeso(Number peso) {
+        return peso != null && peso.doubleValue() > 0 ? peso.doubleValue() : 0;
+    }
+
+    private static final class Parcela<K> {
+
+        private final K chave;
+        private long centavos;
+        private double resto;
+
+        private Parcela(K chave, long centavos) {
+            this.chave = chave;
+            this.centavos = centavos;
+        }
+    }
+}
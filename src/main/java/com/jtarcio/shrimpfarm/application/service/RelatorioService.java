@@ -4,10 +4,12 @@ import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RelatorioCustoLoteResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Biometria;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.KPIsLotesAtivos;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,7 +19,10 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,24 +30,27 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RelatorioService {
 
+    // Despescas consideradas no preço médio de venda do lucro por kg
+    static final int JANELA_PRECO_VENDA_DIAS = 90;
+
     private final LoteRepository loteRepository;
     private final ViveiroRepository viveiroRepository;
     private final BiometriaRepository biometriaRepository;
-    private final RacaoRepository racaoRepository;
-    private final NutrienteRepository nutrienteRepository;
-    private final FertilizacaoRepository fertilizacaoRepository;
-    private final CustoVariavelRepository custoVariavelRepository;
+    private final LoteCustoResumoRepository loteCustoResumoRepository;
 
     /**
-     * Retorna KPIs gerais para o Dashboard
+     * Retorna KPIs gerais para o Dashboard.
+     * Os indicadores vêm de uma consulta agregada sobre os lotes ativos, mais a contagem de viveiros,
+     * independente da quantidade de lotes.
      */
     @Transactional(readOnly = true)
     public DashboardKPIsResponse obterKPIsDashboard() {
         log.info("Gerando KPIs do Dashboard");
 
-        List<Lote> lotesAtivos = loteRepository.findByStatus(StatusLoteEnum.ATIVO);
+        KPIsLotesAtivos agregado = loteRepository.agregarKPIsLotesAtivos(
+                LocalDate.now().minusDays(JANELA_PRECO_VENDA_DIAS));
 
-        if (lotesAtivos.isEmpty()) {
+        if (agregado.getTotalLotes() == 0) {
             return DashboardKPIsResponse.builder()
                     .totalLotesAtivos(0)
                     .totalViveirosOcupados(0)
@@ -52,57 +60,33 @@ public class RelatorioService {
         // Total de viveiros ocupados
         long viveirosOcupados = viveiroRepository.countByStatus(StatusViveiroEnum.OCUPADO);
 
-        // Dias médios de cultivo
-        double diasMedios = lotesAtivos.stream()
-                .mapToLong(lote -> ChronoUnit.DAYS.between(lote.getDataPovoamento(), LocalDate.now()))
-                .average()
-                .orElse(0.0);
-
-        // Biomassa total atual e peso médio
-        BigDecimal biomassaTotal = BigDecimal.ZERO;
-        BigDecimal pesoMedioTotal = BigDecimal.ZERO;
-        BigDecimal sobrevivenciaTotal = BigDecimal.ZERO;
-        int lotesComBiometria = 0;
-
-        for (Lote lote : lotesAtivos) {
-            Biometria ultimaBiometria = biometriaRepository
-                    .findUltimaBiometriaByLoteId(lote.getId())
-                    .orElse(null);
-
-            if (ultimaBiometria != null) {
-                biomassaTotal = biomassaTotal.add(ultimaBiometria.getBiomassaEstimada());
-                pesoMedioTotal = pesoMedioTotal.add(ultimaBiometria.getPesoMedio());
-
-                if (ultimaBiometria.getSobrevivenciaEstimada() != null) {
-                    sobrevivenciaTotal = sobrevivenciaTotal.add(ultimaBiometria.getSobrevivenciaEstimada());
-                }
-
-                lotesComBiometria++;
-            }
-        }
+        BigDecimal biomassaTotal = agregado.getBiomassaTotal();
+        BigDecimal lotesComBiometria = BigDecimal.valueOf(agregado.getLotesComBiometria());
 
-        BigDecimal pesoMedio = lotesComBiometria > 0
-                ? pesoMedioTotal.divide(BigDecimal.valueOf(lotesComBiometria), 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        BigDecimal pesoMedio = dividir(agregado.getSomaPesoMedio(), lotesComBiometria);
+        BigDecimal sobrevivenciaMedia = dividir(agregado.getSomaSobrevivencia(), lotesComBiometria);
 
-        BigDecimal sobrevivenciaMedia = lotesComBiometria > 0
-                ? sobrevivenciaTotal.divide(BigDecimal.valueOf(lotesComBiometria), 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        // Médias ponderadas pela biomassa: custo total / biomassa e ração total / biomassa
+        BigDecimal custoMedio = dividir(agregado.getCustoLotesComBiomassa(), biomassaTotal);
+        BigDecimal fcaMedia = dividir(agregado.getRacaoLotesComBiomassa(), biomassaTotal);
 
-        // Custo médio por kg (placeholder - pode calcular depois)
-        BigDecimal custoMedio = BigDecimal.valueOf(11.50);
-        BigDecimal lucroMedio = BigDecimal.valueOf(4.20);
+        // Lucro estimado por kg ao preço médio das despescas recentes
+        BigDecimal lucroMedio = null;
+        if (agregado.getPesoDespescas().compareTo(BigDecimal.ZERO) > 0) {
+            BigDecimal precoMedioVenda = dividir(agregado.getReceitaDespescas(), agregado.getPesoDespescas());
+            lucroMedio = precoMedioVenda.subtract(custoMedio);
+        }
 
         return DashboardKPIsResponse.builder()
-                .totalLotesAtivos(lotesAtivos.size())
+                .totalLotesAtivos(agregado.getTotalLotes().intValue())
                 .totalViveirosOcupados((int) viveirosOcupados)
-                .diasMediosCultivo(BigDecimal.valueOf(diasMedios).setScale(0, RoundingMode.HALF_UP))
+                .diasMediosCultivo(agregado.getDiasMediosCultivo().setScale(0, RoundingMode.HALF_UP))
                 .pesoMedioAtual(pesoMedio)
                 .biomassaTotalAtual(biomassaTotal)
                 .custoMedioPorKg(custoMedio)
                 .lucroMedioPorKg(lucroMedio)
                 .taxaSobrevivenciaMedia(sobrevivenciaMedia)
-                .fcaMedia(BigDecimal.valueOf(1.25))
+                .fcaMedia(fcaMedia)
                 .build();
     }
 
@@ -121,21 +105,51 @@ public class RelatorioService {
                 .findUltimaBiometriaByLoteId(loteId)
                 .orElse(null);
 
-        // Calcular custos
-        BigDecimal custoRacao = racaoRepository.calcularCustoTotalRacaoByLoteId(loteId);
-        BigDecimal custoNutrientes = nutrienteRepository.calcularCustoTotalNutrientesByLoteId(loteId);
-        BigDecimal custoFertilizacao = fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(loteId);
-        BigDecimal custosVariaveis = custoVariavelRepository.calcularCustoTotalVariavelByLoteId(loteId);
+        // Totais de custos mantidos em lote_custo_resumo
+        LoteCustoResumo resumo = loteCustoResumoRepository.findById(loteId)
+                .orElseGet(() -> LoteCustoResumo.vazio(loteId));
+
+        return montarRelatorio(lote, ultimaBiometria, resumo);
+    }
+
+    /**
+     * Lista relatórios de custos de todos os lotes ativos.
+     * Usa um número fixo de consultas, independente da quantidade de lotes.
+     */
+    @Transactional(readOnly = true)
+    public List<RelatorioCustoLoteResponse> listarRelatoriosLotesAtivos() {
+        log.info("Listando relatórios de custos de lotes ativos");
+
+        List<Lote> lotesAtivos = loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO);
+
+        if (lotesAtivos.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> loteIds = lotesAtivos.stream()
+                .map(Lote::getId)
+                .collect(Collectors.toList());
 
-        custoRacao = custoRacao != null ? custoRacao : BigDecimal.ZERO;
-        custoNutrientes = custoNutrientes != null ? custoNutrientes : BigDecimal.ZERO;
-        custoFertilizacao = custoFertilizacao != null ? custoFertilizacao : BigDecimal.ZERO;
-        custosVariaveis = custosVariaveis != null ? custosVariaveis : BigDecimal.ZERO;
+        Map<Long, Biometria> ultimasBiometrias = agruparUltimaBiometriaPorLote(
+                biometriaRepository.findUltimasBiometriasByLoteIds(loteIds));
+        Map<Long, LoteCustoResumo> resumos = loteCustoResumoRepository.findAllById(loteIds).stream()
+                .collect(Collectors.toMap(LoteCustoResumo::getLoteId, Function.identity()));
 
-        BigDecimal custoTotal = custoRacao
-                .add(custoNutrientes)
-                .add(custoFertilizacao)
-                .add(custosVariaveis);
+        log.debug("Dados agregados carregados para {} lotes ativos", lotesAtivos.size());
+
+        return lotesAtivos.stream()
+                .map(lote -> montarRelatorio(
+                        lote,
+                        ultimasBiometrias.get(lote.getId()),
+                        resumos.getOrDefault(lote.getId(), LoteCustoResumo.vazio(lote.getId()))))
+                .collect(Collectors.toList());
+    }
+
+    // Métodos privados auxiliares
+
+    private RelatorioCustoLoteResponse montarRelatorio(Lote lote, Biometria ultimaBiometria,
+                                                       LoteCustoResumo resumo) {
+        BigDecimal custoTotal = resumo.getCustoTotalLancamentos();
 
         // Calcular indicadores
         BigDecimal biomassaAtual = ultimaBiometria != null ? ultimaBiometria.getBiomassaEstimada() : BigDecimal.ZERO;
@@ -151,17 +165,12 @@ public class RelatorioService {
                     .intValue();
         }
 
-        BigDecimal custoPorKg = biomassaAtual.compareTo(BigDecimal.ZERO) > 0
-                ? custoTotal.divide(biomassaAtual, 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        BigDecimal custoPorKg = dividir(custoTotal, biomassaAtual);
 
-        // Calcular FCA
-        BigDecimal totalRacao = racaoRepository.calcularQuantidadeTotalRacaoByLoteId(loteId);
-        totalRacao = totalRacao != null ? totalRacao : BigDecimal.ZERO;
+        // Calcular FCA (ração em kg)
+        BigDecimal totalRacao = resumo.getQuantidadeRacaoKg();
 
-        BigDecimal fca = biomassaAtual.compareTo(BigDecimal.ZERO) > 0
-                ? totalRacao.divide(biomassaAtual, 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        BigDecimal fca = dividir(totalRacao, biomassaAtual);
 
         BigDecimal taxaSobrevivencia = ultimaBiometria != null && ultimaBiometria.getSobrevivenciaEstimada() != null
                 ? ultimaBiometria.getSobrevivenciaEstimada()
@@ -175,10 +184,10 @@ public class RelatorioService {
                 .loteCodigo(lote.getCodigo())
                 .viveiroNome(lote.getViveiro().getNome())
                 .diasCultivo((int) diasCultivo)
-                .custoRacao(custoRacao)
-                .custoNutrientes(custoNutrientes)
-                .custoFertilizacao(custoFertilizacao)
-                .custosVariaveis(custosVariaveis)
+                .custoRacao(resumo.getCustoRacao())
+                .custoNutrientes(resumo.getCustoNutrientes())
+                .custoFertilizacao(resumo.getCustoFertilizacao())
+                .custosVariaveis(resumo.getCustoVariavel())
                 .custoTotal(custoTotal)
                 .biomassaAtual(biomassaAtual)
                 .pesoMedioAtual(pesoMedioAtual)
@@ -190,16 +199,20 @@ public class RelatorioService {
     }
 
     /**
-     * Lista relatórios de custos de todos os lotes ativos
+     * Divisão com 2 casas (HALF_UP); zero quando o divisor não é positivo
      */
-    @Transactional(readOnly = true)
-    public List<RelatorioCustoLoteResponse> listarRelatoriosLotesAtivos() {
-        log.info("Listando relatórios de custos de lotes ativos");
-
-        List<Lote> lotesAtivos = loteRepository.findByStatus(StatusLoteEnum.ATIVO);
+    private BigDecimal dividir(BigDecimal dividendo, BigDecimal divisor) {
+        return divisor.compareTo(BigDecimal.ZERO) > 0
+                ? dividendo.divide(divisor, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
 
-        return lotesAtivos.stream()
-                .map(lote -> gerarRelatorioCustoLote(lote.getId()))
-                .collect(Collectors.toList());
+    private Map<Long, Biometria> agruparUltimaBiometriaPorLote(List<Biometria> biometrias) {
+        // Empates na data da última biometria são resolvidos pelo maior ID (registro mais recente)
+        return biometrias.stream()
+                .collect(Collectors.toMap(
+                        biometria -> biometria.getLote().getId(),
+                        Function.identity(),
+                        (atual, outra) -> outra.getId() > atual.getId() ? outra : atual));
     }
 }
@@ -0,0 +1,187 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.SimulacaoDespescaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PercentisResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.SimulacaoDespescaResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simula o resultado da despesca (biomassa, receita e lucro) com faixas de risco P10/P50/P90,
+ * sorteando sobrevivência, crescimento até a despesca e preço de venda.
+ * O crescimento previsto vem da curva de crescimento do lote e o custo, do CalculadoraCustoService.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimulacaoDespescaService {
+
+    private static final double SOBREVIVENCIA_MEDIA_PADRAO = 80.0; // %
+    private static final double SOBREVIVENCIA_DESVIO_PADRAO = 8.0; // pontos percentuais
+    private static final double CRESCIMENTO_DESVIO_PADRAO = 10.0; // % do crescimento previsto
+    private static final double PRECO_DESVIO_PADRAO = 0.10; // fração do preço
+    private static final int TRAJETORIAS_PADRAO = 100_000;
+
+    private final ContextoCalculoLote contextoCalculoLote;
+    private final CurvaCrescimentoService curvaCrescimentoService;
+    private final CalculadoraCustoService calculadoraCustoService;
+    private final LoteRepository loteRepository;
+    private final BiometriaRepository biometriaRepository;
+
+    /**
+     * Simula a despesca de um lote na data informada
+     */
+    @Transactional(readOnly = true)
+    public SimulacaoDespescaResponse simularLote(Long loteId, SimulacaoDespescaRequest request) {
+        log.info("Simulando despesca do lote ID: {} em {}", loteId, request.getDataDespesca());
+
+        Lote lote = contextoCalculoLote.lote(loteId);
+        CurvaCrescimento curva = curvaCrescimentoService.curva(loteId);
+        BigDecimal custoTotal = calculadoraCustoService.calcularCustosDoLote(loteId).get("custoTotal");
+
+        int trajetorias = trajetorias(request);
+        long semente = semente(request);
+
+        return simular(lote, curva, custoTotal, request, trajetorias, semente,
+                new double[trajetorias], new double[trajetorias]);
+    }
+
+    /**
+     * Simula a despesca de todos os lotes ativos na mesma data.
+     * Lotes, biometrias e custos são carregados em consultas agrupadas e os arrays de trabalho
+     * são reaproveitados de um lote para o outro.
+     */
+    @Transactional(readOnly = true)
+    public List<SimulacaoDespescaResponse> simularLotesAtivos(SimulacaoDespescaRequest request) {
+        log.info("Simulando despesca dos lotes ativos em {}", request.getDataDespesca());
+
+        List<Lote> lotes = loteRepository.findByStatus(StatusLoteEnum.ATIVO);
+        if (lotes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> loteIds = lotes.stream().map(Lote::getId).toList();
+
+        Map<Long, List<Biometria>> biometriasPorLote = new HashMap<>(lotes.size() * 2);
+        for (Biometria biometria : biometriaRepository.buscarPorLotesEmOrdemCronologica(loteIds)) {
+            biometriasPorLote.computeIfAbsent(biometria.getLote().getId(), id -> new ArrayList<>()).add(biometria);
+        }
+
+        Map<Long, Map<String, BigDecimal>> custosPorLote = calculadoraCustoService.calcularCustosDosLotes(loteIds);
+
+        int trajetorias = trajetorias(request);
+        long semente = semente(request);
+        double[] biomassas = new double[trajetorias];
+        double[] receitas = new double[trajetorias];
+
+        List<SimulacaoDespescaResponse> resultado = new ArrayList<>(lotes.size());
+        for (Lote lote : lotes) {
+            try {
+                CurvaCrescimento curva = curvaCrescimentoService.curva(
+                        lote, biometriasPorLote.getOrDefault(lote.getId(), List.of()));
+                BigDecimal custoTotal = custosPorLote.get(lote.getId()).get("custoTotal");
+
+                // Semente derivada do lote: a simulação de cada lote não depende dos demais
+                resultado.add(simular(lote, curva, custoTotal, request, trajetorias, semente + lote.getId(),
+                        biomassas, receitas));
+            } catch (BusinessException e) {
+                resultado.add(SimulacaoDespescaResponse.builder()
+                        .loteId(lote.getId())
+                        .loteCodigo(lote.getCodigo())
+                        .dataDespesca(request.getDataDespesca())
+                        .erro(e.getMessage())
+                        .build());
+            }
+        }
+
+        return resultado;
+    }
+
+    // Métodos privados auxiliares
+
+    private SimulacaoDespescaResponse simular(Lote lote, CurvaCrescimento curva, BigDecimal custoTotal,
+                                              SimulacaoDespescaRequest request, int trajetorias, long semente,
+                                              double[] biomassas, double[] receitas) {
+        if (request.getDataDespesca().isBefore(curva.dataUltimaBiometria())) {
+            throw new BusinessException("Data de despesca não pode ser anterior à última biometria");
+        }
+
+        double pesoAtual = curva.pesoUltimaBiometria().doubleValue();
+        double pesoProjetado = curva.peso(request.getDataDespesca());
+        double precoMedio = request.getPrecoVendaKg().doubleValue();
+
+        SimulacaoMonteCarlo.Parametros parametros = new SimulacaoMonteCarlo.Parametros(
+                pesoAtual,
+                Math.max(0, pesoProjetado - pesoAtual),
+                lote.getQuantidadePosLarvas(),
+                valor(request.getSobrevivenciaMedia(), SOBREVIVENCIA_MEDIA_PADRAO) / 100,
+                valor(request.getSobrevivenciaDesvioPadrao(), SOBREVIVENCIA_DESVIO_PADRAO) / 100,
+                valor(request.getCrescimentoDesvioPercentual(), CRESCIMENTO_DESVIO_PADRAO) / 100,
+                precoMedio,
+                valor(request.getPrecoDesvioPadrao(), precoMedio * PRECO_DESVIO_PADRAO));
+
+        long inicio = System.nanoTime();
+        SimulacaoMonteCarlo.Resultado resultado = SimulacaoMonteCarlo.simular(
+                parametros, custoTotal.doubleValue(), trajetorias, semente, biomassas, receitas);
+        long tempoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        log.debug("Simulação do lote ID: {} com {} trajetórias em {} ms", lote.getId(), trajetorias, tempoMs);
+
+        return SimulacaoDespescaResponse.builder()
+                .loteId(lote.getId())
+                .loteCodigo(lote.getCodigo())
+                .dataDespesca(request.getDataDespesca())
+                .trajetorias(trajetorias)
+                .semente(semente)
+                .pesoMedioProjetado(escala(pesoProjetado))
+                .custoTotal(custoTotal)
+                .biomassa(percentis(resultado.biomassa()))
+                .receita(percentis(resultado.receita()))
+                .lucro(percentis(resultado.lucro()))
+                .probabilidadePrejuizo(escala(resultado.probabilidadePrejuizo() * 100))
+                .tempoMs(tempoMs)
+                .build();
+    }
+
+    private int trajetorias(SimulacaoDespescaRequest request) {
+        return request.getTrajetorias() != null ? request.getTrajetorias() : TRAJETORIAS_PADRAO;
+    }
+
+    private long semente(SimulacaoDespescaRequest request) {
+        return request.getSemente() != null ? request.getSemente() : ThreadLocalRandom.current().nextLong();
+    }
+
+    private double valor(BigDecimal informado, double padrao) {
+        return informado != null ? informado.doubleValue() : padrao;
+    }
+
+    private PercentisResponse percentis(SimulacaoMonteCarlo.Percentis percentis) {
+        return PercentisResponse.builder()
+                .p10(escala(percentis.p10()))
+                .p50(escala(percentis.p50()))
+                .p90(escala(percentis.p90()))
+                .build();
+    }
+
+    private BigDecimal escala(double valor) {
+        return BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP);
+    }
+}
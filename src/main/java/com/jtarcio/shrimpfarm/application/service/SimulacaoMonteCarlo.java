@@ -0,0 +1,124 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Simulação de Monte Carlo do resultado da despesca de um lote.
+ * Cada trajetória sorteia sobrevivência, crescimento até a despesca e preço de venda (normais truncadas)
+ * e calcula biomassa e receita. As trajetórias são divididas em blocos, cada um com seu próprio
+ * {@link SplittableRandom} derivado da semente, e os blocos rodam em paralelo gravando em faixas
+ * distintas de arrays primitivos: o resultado depende só da semente, não do número de threads.
+ */
+final class SimulacaoMonteCarlo {
+
+    static final int TRAJETORIAS_POR_BLOCO = 8192;
+
+    private SimulacaoMonteCarlo() {
+    }
+
+    /**
+     * Distribuições de entrada. Sobrevivência em fração (0 a 1), crescimento em g até a despesca,
+     * desvio do crescimento como fração do crescimento previsto e preço em R$/kg.
+     */
+    record Parametros(double pesoAtual,
+                      double crescimentoPrevisto,
+                      double quantidadePosLarvas,
+                      double sobrevivenciaMedia,
+                      double sobrevivenciaDesvio,
+                      double crescimentoDesvio,
+                      double precoMedio,
+                      double precoDesvio) {
+    }
+
+    record Percentis(double p10, double p50, double p90) {
+    }
+
+    /**
+     * Percentis de biomassa (kg), receita e lucro (R$) e fração das trajetórias com prejuízo
+     */
+    record Resultado(Percentis biomassa, Percentis receita, Percentis lucro, double probabilidadePrejuizo) {
+    }
+
+    /**
+     * Roda {@code trajetorias} trajetórias usando os arrays informados como área de trabalho
+     * (devem ter ao menos esse tamanho e podem ser reaproveitados entre lotes)
+     */
+    static Resultado simular(Parametros parametros, double custoTotal, int trajetorias, long semente,
+                             double[] biomassas, double[] receitas) {
+        int blocos = (trajetorias + TRAJETORIAS_POR_BLOCO - 1) / TRAJETORIAS_POR_BLOCO;
+
+        // Geradores derivados em sequência antes da execução paralela, para o resultado ser reprodutível
+        SplittableRandom raiz = new SplittableRandom(semente);
+        SplittableRandom[] geradores = new SplittableRandom[blocos];
+        for (int b = 0; b < blocos; b++) {
+            geradores[b] = raiz.split();
+        }
+
+        IntStream.range(0, blocos).parallel().forEach(b -> {
+            int inicio = b * TRAJETORIAS_POR_BLOCO;
+            int fim = Math.min(inicio + TRAJETORIAS_POR_BLOCO, trajetorias);
+            simularBloco(parametros, geradores[b], inicio, fim, biomassas, receitas);
+        });
+
+        Arrays.parallelSort(biomassas, 0, trajetorias);
+        Arrays.parallelSort(receitas, 0, trajetorias);
+
+        Percentis receita = percentis(receitas, trajetorias);
+
+        // Lucro = receita − custo: os percentis do lucro são os da receita deslocados
+        Percentis lucro = new Percentis(receita.p10() - custoTotal, receita.p50() - custoTotal, receita.p90() - custoTotal);
+        double probabilidadePrejuizo = (double) contarMenores(receitas, trajetorias, custoTotal) / trajetorias;
+
+        return new Resultado(percentis(biomassas, trajetorias), receita, lucro, probabilidadePrejuizo);
+    }
+
+    // Métodos privados auxiliares
+
+    private static void simularBloco(Parametros p, SplittableRandom gerador, int inicio, int fim,
+                                     double[] biomassas, double[] receitas) {
+        for (int i = inicio; i < fim; i++) {
+            double sobrevivencia = limitar(p.sobrevivenciaMedia() + p.sobrevivenciaDesvio() * gerador.nextGaussian(), 0, 1);
+            double crescimento = Math.max(0, p.crescimentoPrevisto() * (1 + p.crescimentoDesvio() * gerador.nextGaussian()));
+            double preco = Math.max(0, p.precoMedio() + p.precoDesvio() * gerador.nextGaussian());
+
+            double biomassa = (p.pesoAtual() + crescimento) * p.quantidadePosLarvas() * sobrevivencia / 1000;
+            biomassas[i] = biomassa;
+            receitas[i] = biomassa * preco;
+        }
+    }
+
+    private static double limitar(double valor, double minimo, double maximo) {
+        return Math.min(maximo, Math.max(minimo, valor));
+    }
+
+    private static Percentis percentis(double[] ordenados, int n) {
+        return new Percentis(percentil(ordenados, n, 0.10), percentil(ordenados, n, 0.50), percentil(ordenados, n, 0.90));
+    }
+
+    /**
+     * Percentil pelo método do posto mais próximo
+     */
+    static double percentil(double[] ordenados, int n, double q) {
+        int indice = (int) Math.ceil(q * n) - 1;
+        return ordenados[Math.max(0, Math.min(n - 1, indice))];
+    }
+
+    /**
+     * Quantidade de valores menores que o limite, por busca binária no array ordenado
+     */
+    private static int contarMenores(double[] ordenados, int n, double limite) {
+        int baixo = 0;
+        int alto = n;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (ordenados[meio] < limite) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
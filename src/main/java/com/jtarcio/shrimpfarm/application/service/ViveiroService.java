@@ -1,17 +1,23 @@
 package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.ViveiroRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.ViveiroResponse;
+import com.jtarcio.shrimpfarm.application.event.ViveiroAlteradoEvent;
 import com.jtarcio.shrimpfarm.application.mapper.ViveiroMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.ViveiroResumo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,6 +34,7 @@ public class ViveiroService {
     private final ViveiroRepository viveiroRepository;
     private final FazendaRepository fazendaRepository;
     private final ViveiroMapper viveiroMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ViveiroResponse criar(ViveiroRequest request) {
@@ -42,6 +49,7 @@ public class ViveiroService {
 
         Viveiro viveiro = viveiroMapper.toEntity(request, fazenda);
         Viveiro viveiroSalvo = viveiroRepository.save(viveiro);
+        eventPublisher.publishEvent(new ViveiroAlteradoEvent(viveiroSalvo.getId()));
 
         log.info("Viveiro criado com sucesso. ID: {}", viveiroSalvo.getId());
         return viveiroMapper.toResponse(viveiroSalvo);
@@ -61,7 +69,7 @@ public class ViveiroService {
     public List<ViveiroResponse> listarTodos() {
         log.debug("Listando todos os viveiros");
 
-        return viveiroRepository.findAll().stream()
+        return viveiroRepository.listarResumos().stream()
                 .map(viveiroMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -74,7 +82,7 @@ public class ViveiroService {
             throw new EntityNotFoundException("Fazenda", fazendaId);
         }
 
-        return viveiroRepository.findByFazendaId(fazendaId).stream()
+        return viveiroRepository.listarResumosPorFazenda(fazendaId).stream()
                 .map(viveiroMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -83,7 +91,7 @@ public class ViveiroService {
     public List<ViveiroResponse> listarPorStatus(StatusViveiroEnum status) {
         log.debug("Listando viveiros com status: {}", status);
 
-        return viveiroRepository.findByStatus(status).stream()
+        return viveiroRepository.listarResumosPorStatus(status).stream()
                 .map(viveiroMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -96,7 +104,7 @@ public class ViveiroService {
             throw new EntityNotFoundException("Fazenda", fazendaId);
         }
 
-        return viveiroRepository.findByFazendaIdAndAtivoTrue(fazendaId).stream()
+        return viveiroRepository.listarResumosAtivosPorFazenda(fazendaId).stream()
                 .map(viveiroMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -106,10 +114,23 @@ public class ViveiroService {
         log.debug("Listando viveiros paginados: página {}, tamanho {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return viveiroRepository.findAll(pageable)
+        return viveiroRepository.listarResumos(pageable)
                 .map(viveiroMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<ViveiroResponse> listarPorCursor(String cursor, int tamanho) {
+        log.debug("Listando viveiros por cursor, tamanho {}", tamanho);
+
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, false);
+        Limit limite = Limit.of(CursorPaginacao.validarTamanho(tamanho) + 1);
+
+        List<ViveiroResumo> viveiros = viveiroRepository.listarResumosApos(posicao == null ? 0L : posicao.id(), limite);
+
+        return PaginaCursorResponse.montar(viveiros, tamanho, viveiroMapper::toResponse,
+                viveiro -> CursorPaginacao.porId(viveiro.getId()));
+    }
+
     @Transactional
     public ViveiroResponse atualizar(Long id, ViveiroRequest request) {
         log.info("Atualizando viveiro ID: {}", id);
@@ -122,6 +143,7 @@ public class ViveiroService {
 
         viveiroMapper.updateEntity(viveiro, request, fazenda);
         Viveiro viveiroAtualizado = viveiroRepository.save(viveiro);
+        eventPublisher.publishEvent(new ViveiroAlteradoEvent(id));
 
         log.info("Viveiro atualizado com sucesso. ID: {}", id);
         return viveiroMapper.toResponse(viveiroAtualizado);
@@ -139,6 +161,7 @@ public class ViveiroService {
         }
 
         viveiroRepository.delete(viveiro);
+        eventPublisher.publishEvent(new ViveiroAlteradoEvent(id));
         log.info("Viveiro deletado com sucesso. ID: {}", id);
     }
 
@@ -151,6 +174,7 @@ public class ViveiroService {
 
         viveiro.setAtivo(false);
         viveiroRepository.save(viveiro);
+        eventPublisher.publishEvent(new ViveiroAlteradoEvent(id));
 
         log.info("Viveiro inativado com sucesso. ID: {}", id);
     }
@@ -164,6 +188,7 @@ public class ViveiroService {
 
         viveiro.setStatus(novoStatus);
         viveiroRepository.save(viveiro);
+        eventPublisher.publishEvent(new ViveiroAlteradoEvent(id));
 
         log.info("Status do viveiro atualizado com sucesso. ID: {}", id);
     }
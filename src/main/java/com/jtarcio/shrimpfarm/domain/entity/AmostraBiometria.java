@@ -0,0 +1,48 @@
+package com.jtarcio.shrimpfarm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pesos individuais da amostra de uma biometria, compactados por {@code PesosAmostra}.
+ * Fica em tabela própria para que as consultas de biometrias não carreguem os pesos.
+ */
+@Entity
+@Table(name = "amostras_biometria")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmostraBiometria {
+
+    @Id
+    @Column(name = "biometria_id")
+    private Long biometriaId;
+
+    @Column(nullable = false)
+    private Integer quantidade;
+
+    @Column(nullable = false)
+    private byte[] pesos;
+
+    @Column(name = "desvio_padrao", nullable = false, precision = 8, scale = 3)
+    private BigDecimal desvioPadrao; // em gramas
+
+    @Column(name = "coeficiente_variacao", nullable = false, precision = 7, scale = 2)
+    private BigDecimal coeficienteVariacao; // em %
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        dataCriacao = LocalDateTime.now();
+    }
+}
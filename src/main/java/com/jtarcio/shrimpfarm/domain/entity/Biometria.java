@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class Biometria {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "biometrias_seq")
+    @SequenceGenerator(name = "biometrias_seq", sequenceName = "biometrias_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
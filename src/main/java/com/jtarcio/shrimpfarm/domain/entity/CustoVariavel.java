@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class CustoVariavel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "custos_variaveis_seq")
+    @SequenceGenerator(name = "custos_variaveis_seq", sequenceName = "custos_variaveis_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class Fertilizacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fertilizacoes_seq")
+    @SequenceGenerator(name = "fertilizacoes_seq", sequenceName = "fertilizacoes_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -75,7 +76,7 @@ public class Fertilizacao {
         calcularCustoTotal();
     }
 
-    private void calcularCustoTotal() {
+    public void calcularCustoTotal() {
         if (quantidade != null && custoUnitario != null) {
             this.custoTotal = quantidade.multiply(custoUnitario);
         }
@@ -0,0 +1,41 @@
+package com.jtarcio.shrimpfarm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Custo acumulado de um lote até o dia (soma de prefixos dos lançamentos).
+ * Só existem linhas nos dias com lançamentos; o custo em qualquer data é o da última linha até ela.
+ * Mantido incrementalmente junto com {@link LoteCustoResumo}.
+ */
+@Entity
+@Table(name = "lote_custo_diario")
+@IdClass(LoteCustoDiarioId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoteCustoDiario {
+
+    @Id
+    @Column(name = "lote_id")
+    private Long loteId;
+
+    @Id
+    @Column(name = "data")
+    private LocalDate data;
+
+    @Column(name = "custo_dia", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal custoDia = BigDecimal.ZERO; // Lançamentos do dia
+
+    @Column(name = "custo_acumulado", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal custoAcumulado = BigDecimal.ZERO; // Lançamentos até o dia, inclusive
+}
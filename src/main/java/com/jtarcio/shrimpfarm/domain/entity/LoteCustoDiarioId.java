@@ -0,0 +1,20 @@
+package com.jtarcio.shrimpfarm.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Chave de {@link LoteCustoDiario}: lote e dia
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteCustoDiarioId implements Serializable {
+
+    private Long loteId;
+    private LocalDate data;
+}
@@ -0,0 +1,73 @@
+package com.jtarcio.shrimpfarm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Totais acumulados de custos de um lote.
+ * Mantido incrementalmente pelos serviços de lançamento (ração, nutrientes, fertilização e custos variáveis).
+ */
+@Entity
+@Table(name = "lote_custo_resumo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoteCustoResumo {
+
+    @Id
+    @Column(name = "lote_id")
+    private Long loteId;
+
+    @Column(name = "custo_racao", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal custoRacao = BigDecimal.ZERO;
+
+    @Column(name = "quantidade_racao", nullable = false, precision = 14, scale = 3)
+    @Builder.Default
+    private BigDecimal quantidadeRacao = BigDecimal.ZERO; // Soma das quantidades lançadas
+
+    @Column(name = "quantidade_racao_kg", nullable = false, precision = 18, scale = 6)
+    @Builder.Default
+    private BigDecimal quantidadeRacaoKg = BigDecimal.ZERO; // Soma das quantidades convertidas para kg (base do FCA)
+
+    @Column(name = "custo_nutrientes", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal custoNutrientes = BigDecimal.ZERO;
+
+    @Column(name = "custo_fertilizacao", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal custoFertilizacao = BigDecimal.ZERO;
+
+    @Column(name = "custo_variavel", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal custoVariavel = BigDecimal.ZERO;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    /**
+     * Resumo zerado para lotes que ainda não têm lançamentos
+     */
+    public static LoteCustoResumo vazio(Long loteId) {
+        return LoteCustoResumo.builder()
+                .loteId(loteId)
+                .build();
+    }
+
+    /**
+     * Soma dos custos de insumos e custos variáveis (sem pós-larvas)
+     */
+    public BigDecimal getCustoTotalLancamentos() {
+        return custoRacao
+                .add(custoNutrientes)
+                .add(custoFertilizacao)
+                .add(custoVariavel);
+    }
+}
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class Nutriente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "nutrientes_seq")
+    @SequenceGenerator(name = "nutrientes_seq", sequenceName = "nutrientes_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -77,7 +78,7 @@ public class Nutriente {
         calcularCustoTotal();
     }
 
-    private void calcularCustoTotal() {
+    public void calcularCustoTotal() {
         if (quantidade != null && custoUnitario != null) {
             this.custoTotal = quantidade.multiply(custoUnitario);
         }
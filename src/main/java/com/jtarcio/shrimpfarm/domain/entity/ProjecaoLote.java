@@ -0,0 +1,75 @@
+package com.jtarcio.shrimpfarm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de um lote na data de despesca sugerida.
+ * Recalculada em segundo plano pelo AtualizacaoProjecaoService após alterações de biometrias ou do lote,
+ * e diariamente para os lotes ativos calculados em uma data de referência anterior.
+ */
+@Entity
+@Table(name = "projecoes_lote")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjecaoLote {
+
+    @Id
+    @Column(name = "lote_id")
+    private Long loteId;
+
+    @Column(name = "lote_codigo", nullable = false, length = 50)
+    private String loteCodigo;
+
+    @Column(name = "ultima_biometria_id")
+    private Long ultimaBiometriaId;
+
+    @Column(name = "modelo_crescimento", length = 50)
+    private String modeloCrescimento;
+
+    @Column(name = "quantidade_biometrias")
+    private Integer quantidadeBiometrias;
+
+    @Column(name = "data_ultima_biometria")
+    private LocalDate dataUltimaBiometria;
+
+    @Column(name = "peso_atual", precision = 8, scale = 3)
+    private BigDecimal pesoAtual;
+
+    @Column(name = "peso_medio_projetado", precision = 8, scale = 2)
+    private BigDecimal pesoMedioProjetado;
+
+    @Column(name = "quantidade_estimada", precision = 12, scale = 2)
+    private BigDecimal quantidadeEstimada;
+
+    @Column(name = "biomassa_projetada", precision = 12, scale = 2)
+    private BigDecimal biomassaProjetada; // kg
+
+    @Column(name = "status_despesca", length = 30)
+    private String statusDespesca;
+
+    @Column(name = "data_despesca_sugerida")
+    private LocalDate dataDespescaSugerida;
+
+    @Column(name = "erro")
+    private String erro;
+
+    @Column(name = "data_referencia", nullable = false)
+    private LocalDate dataReferencia; // "Hoje" do cálculo: a projeção parte daqui ou da última biometria
+
+    @Column(name = "calculado_em", nullable = false)
+    private LocalDateTime calculadoEm;
+
+    @Column(name = "tempo_calculo_ms", nullable = false)
+    @Builder.Default
+    private Long tempoCalculoMs = 0L;
+}
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class Racao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "racoes_seq")
+    @SequenceGenerator(name = "racoes_seq", sequenceName = "racoes_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -80,7 +81,7 @@ public class Racao {
         calcularCustoTotal();
     }
 
-    private void calcularCustoTotal() {
+    public void calcularCustoTotal() {
         if (quantidade != null && custoUnitario != null) {
             this.custoTotal = quantidade.multiply(custoUnitario);
         }
@@ -0,0 +1,46 @@
+package com.jtarcio.shrimpfarm.domain.enums;
+
+import lombok.Getter;
+
+/**
+ * Classes comerciais de tamanho do camarão, em peças por kg, da menor para a maior.
+ * Um camarão pertence à classe cujo peso mínimo (1000 g / peças máximas por kg) ele atinge.
+ */
+@Getter
+public enum ClasseTamanhoCamaraoEnum {
+    ACIMA_120("Acima de 120 peças/kg", 120, null),
+    DE_100_A_120("100 a 120 peças/kg", 100, 120),
+    DE_80_A_100("80 a 100 peças/kg", 80, 100),
+    DE_70_A_80("70 a 80 peças/kg", 70, 80),
+    DE_60_A_70("60 a 70 peças/kg", 60, 70),
+    DE_50_A_60("50 a 60 peças/kg", 50, 60),
+    DE_40_A_50("40 a 50 peças/kg", 40, 50),
+    DE_30_A_40("30 a 40 peças/kg", 30, 40),
+    ATE_30("Até 30 peças/kg", null, 30);
+
+    private static final ClasseTamanhoCamaraoEnum[] VALORES = values();
+
+    private final String descricao;
+    private final Integer pecasPorKgMinimo;
+    private final Integer pecasPorKgMaximo;
+    private final double pesoMinimo; // g
+
+    ClasseTamanhoCamaraoEnum(String descricao, Integer pecasPorKgMinimo, Integer pecasPorKgMaximo) {
+        this.descricao = descricao;
+        this.pecasPorKgMinimo = pecasPorKgMinimo;
+        this.pecasPorKgMaximo = pecasPorKgMaximo;
+        this.pesoMinimo = pecasPorKgMaximo != null ? 1000.0 / pecasPorKgMaximo : 0;
+    }
+
+    /**
+     * Classe de um camarão pelo peso individual (g)
+     */
+    public static ClasseTamanhoCamaraoEnum doPeso(double peso) {
+        for (int i = VALORES.length - 1; i > 0; i--) {
+            if (peso >= VALORES[i].pesoMinimo) {
+                return VALORES[i];
+            }
+        }
+        return VALORES[0];
+    }
+}
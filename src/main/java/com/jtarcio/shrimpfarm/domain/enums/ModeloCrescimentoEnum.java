@@ -0,0 +1,262 @@
+package com.jtarcio.shrimpfarm.domain.enums;
+
+/**
+ * Modelos de crescimento do peso médio (g) em função do dia de cultivo.
+ * Cada modelo sabe avaliar o peso, a taxa de crescimento (g/dia), o gradiente em relação aos parâmetros
+ * (usado no ajuste por mínimos quadrados) e o dia em que um peso é atingido.
+ * Nos modelos sigmoides os parâmetros são [peso assintótico, taxa k, dia de referência].
+ */
+public enum ModeloCrescimentoEnum {
+
+    LINEAR(1, "Linear (ganho de peso diário constante)", 2) {
+        @Override
+        public double peso(double dia, double[] p) {
+            return p[0] + p[1] * dia;
+        }
+
+        @Override
+        public double taxa(double dia, double[] p) {
+            return p[1];
+        }
+
+        @Override
+        public void gradiente(double dia, double[] p, double[] g) {
+            g[0] = 1;
+            g[1] = dia;
+        }
+
+        @Override
+        public double diaParaPeso(double peso, double[] p) {
+            return p[1] > 0 ? (peso - p[0]) / p[1] : Double.NaN;
+        }
+
+        @Override
+        public double[] parametrosIniciais(double[] dias, double[] pesos, int n) {
+            // Reta de mínimos quadrados
+            double mediaDia = 0;
+            double mediaPeso = 0;
+            for (int i = 0; i < n; i++) {
+                mediaDia += dias[i];
+                mediaPeso += pesos[i];
+            }
+            mediaDia /= n;
+            mediaPeso /= n;
+
+            double covariancia = 0;
+            double variancia = 0;
+            for (int i = 0; i < n; i++) {
+                covariancia += (dias[i] - mediaDia) * (pesos[i] - mediaPeso);
+                variancia += (dias[i] - mediaDia) * (dias[i] - mediaDia);
+            }
+
+            double inclinacao = variancia > 0 ? covariancia / variancia : 0;
+            return new double[]{mediaPeso - inclinacao * mediaDia, inclinacao};
+        }
+
+        @Override
+        public boolean parametrosValidos(double[] p) {
+            return Double.isFinite(p[0]) && Double.isFinite(p[1]);
+        }
+    },
+
+    /**
+     * W(t) = W∞ · (1 − e^(−k(t − t0)))³
+     */
+    VON_BERTALANFFY(2, "von Bertalanffy", 3) {
+        @Override
+        public double peso(double dia, double[] p) {
+            double u = 1 - Math.exp(-p[1] * (dia - p[2]));
+            return p[0] * u * u * u;
+        }
+
+        @Override
+        public double taxa(double dia, double[] p) {
+            double e = Math.exp(-p[1] * (dia - p[2]));
+            double u = 1 - e;
+            return 3 * p[0] * u * u * e * p[1];
+        }
+
+        @Override
+        public void gradiente(double dia, double[] p, double[] g) {
+            double e = Math.exp(-p[1] * (dia - p[2]));
+            double u = 1 - e;
+            double derivadaU = 3 * p[0] * u * u;
+            g[0] = u * u * u;
+            g[1] = derivadaU * e * (dia - p[2]);
+            g[2] = -derivadaU * e * p[1];
+        }
+
+        @Override
+        public double diaParaPeso(double peso, double[] p) {
+            if (peso <= 0 || peso >= p[0]) {
+                return Double.NaN;
+            }
+            return p[2] - Math.log(1 - Math.cbrt(peso / p[0])) / p[1];
+        }
+
+        @Override
+        public double[] parametrosIniciais(double[] dias, double[] pesos, int n) {
+            return new double[]{2 * maior(pesos, n), 0.02, 0};
+        }
+    },
+
+    /**
+     * W(t) = W∞ · e^(−e^(−k(t − ti)))
+     */
+    GOMPERTZ(3, "Gompertz", 3) {
+        @Override
+        public double peso(double dia, double[] p) {
+            return p[0] * Math.exp(-Math.exp(-p[1] * (dia - p[2])));
+        }
+
+        @Override
+        public double taxa(double dia, double[] p) {
+            double e = Math.exp(-p[1] * (dia - p[2]));
+            return p[0] * Math.exp(-e) * e * p[1];
+        }
+
+        @Override
+        public void gradiente(double dia, double[] p, double[] g) {
+            double e = Math.exp(-p[1] * (dia - p[2]));
+            double w = Math.exp(-e);
+            g[0] = w;
+            g[1] = p[0] * w * e * (dia - p[2]);
+            g[2] = -p[0] * w * e * p[1];
+        }
+
+        @Override
+        public double diaParaPeso(double peso, double[] p) {
+            if (peso <= 0 || peso >= p[0]) {
+                return Double.NaN;
+            }
+            return p[2] - Math.log(-Math.log(peso / p[0])) / p[1];
+        }
+
+        @Override
+        public double[] parametrosIniciais(double[] dias, double[] pesos, int n) {
+            return new double[]{2 * maior(pesos, n), 0.03, maior(dias, n)};
+        }
+    },
+
+    /**
+     * W(t) = W∞ / (1 + e^(−k(t − ti)))
+     */
+    LOGISTICO(4, "Logístico", 3) {
+        @Override
+        public double peso(double dia, double[] p) {
+            return p[0] / (1 + Math.exp(-p[1] * (dia - p[2])));
+        }
+
+        @Override
+        public double taxa(double dia, double[] p) {
+            double e = Math.exp(-p[1] * (dia - p[2]));
+            return p[0] * e * p[1] / ((1 + e) * (1 + e));
+        }
+
+        @Override
+        public void gradiente(double dia, double[] p, double[] g) {
+            double e = Math.exp(-p[1] * (dia - p[2]));
+            double denominador = (1 + e) * (1 + e);
+            g[0] = 1 / (1 + e);
+            g[1] = p[0] * e * (dia - p[2]) / denominador;
+            g[2] = -p[0] * e * p[1] / denominador;
+        }
+
+        @Override
+        public double diaParaPeso(double peso, double[] p) {
+            if (peso <= 0 || peso >= p[0]) {
+                return Double.NaN;
+            }
+            return p[2] - Math.log(p[0] / peso - 1) / p[1];
+        }
+
+        @Override
+        public double[] parametrosIniciais(double[] dias, double[] pesos, int n) {
+            return new double[]{2 * maior(pesos, n), 0.05, maior(dias, n)};
+        }
+    };
+
+    // Nenhum camarão cultivado chega perto disso; limita o ajuste quando os dados não mostram desaceleração
+    private static final double PESO_ASSINTOTICO_MAXIMO = 200.0;
+
+    private final int codigo;
+    private final String descricao;
+    private final int numeroParametros;
+
+    ModeloCrescimentoEnum(int codigo, String descricao, int numeroParametros) {
+        this.codigo = codigo;
+        this.descricao = descricao;
+        this.numeroParametros = numeroParametros;
+    }
+
+    public int getCodigo() {
+        return codigo;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public int getNumeroParametros() {
+        return numeroParametros;
+    }
+
+    /**
+     * Peso médio (g) no dia de cultivo
+     */
+    public abstract double peso(double dia, double[] parametros);
+
+    /**
+     * Taxa de crescimento (g/dia) no dia de cultivo
+     */
+    public abstract double taxa(double dia, double[] parametros);
+
+    /**
+     * Derivadas parciais do peso em relação a cada parâmetro, gravadas em {@code gradiente}
+     */
+    public abstract void gradiente(double dia, double[] parametros, double[] gradiente);
+
+    /**
+     * Dia de cultivo em que o peso é atingido, ou NaN se o modelo nunca chega a ele
+     */
+    public abstract double diaParaPeso(double peso, double[] parametros);
+
+    /**
+     * Estimativa inicial dos parâmetros a partir dos pontos observados
+     */
+    public abstract double[] parametrosIniciais(double[] dias, double[] pesos, int n);
+
+    /**
+     * Restrições dos parâmetros: peso assintótico e taxa positivos e finitos
+     */
+    public boolean parametrosValidos(double[] p) {
+        return p[0] > 0 && p[0] <= PESO_ASSINTOTICO_MAXIMO
+                && p[1] > 0 && Double.isFinite(p[1])
+                && Double.isFinite(p[2]);
+    }
+
+    /**
+     * Busca o enum pelo código numérico
+     */
+    public static ModeloCrescimentoEnum fromCodigo(int codigo) {
+        for (ModeloCrescimentoEnum modelo : ModeloCrescimentoEnum.values()) {
+            if (modelo.getCodigo() == codigo) {
+                return modelo;
+            }
+        }
+        throw new IllegalArgumentException("Código de modelo de crescimento inválido: " + codigo);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d - %s", codigo, descricao);
+    }
+
+    private static double maior(double[] valores, int n) {
+        double maior = valores[0];
+        for (int i = 1; i < n; i++) {
+            maior = Math.max(maior, valores[i]);
+        }
+        return maior;
+    }
+}
@@ -0,0 +1,32 @@
+package com.jtarcio.shrimpfarm.domain.enums;
+
+import lombok.Getter;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Tabelas de lançamentos particionadas por mês, com uma partição {@code <tabela>_AAAA_MM} para cada mês
+ */
+@Getter
+public enum TabelaParticionadaEnum {
+    RACOES("racoes"),
+    NUTRIENTES("nutrientes"),
+    CUSTOS_VARIAVEIS("custos_variaveis");
+
+    private static final DateTimeFormatter SUFIXO = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final String tabela;
+
+    TabelaParticionadaEnum(String tabela) {
+        this.tabela = tabela;
+    }
+
+    public String particao(YearMonth mes) {
+        return tabela + "_" + mes.format(SUFIXO);
+    }
+
+    public YearMonth mesDaParticao(String particao) {
+        return YearMonth.parse(particao.substring(tabela.length() + 1), SUFIXO);
+    }
+}
@@ -4,21 +4,28 @@ import lombok.Getter;
 
 @Getter
 public enum TipoRacaoEnum {
-    INICIAL(0, "Inicial", "Ração para fase inicial (PL até 30 dias)", 45.0),
-    CRESCIMENTO(1, "Crescimento", "Ração para fase de crescimento (30-60 dias)", 38.0),
-    ENGORDA(2, "Engorda", "Ração para fase de engorda (60+ dias)", 35.0),
-    FINALIZACAO(3, "Finalização", "Ração para finalização pré-despesca", 32.0);
+    INICIAL(0, "Inicial", "Ração para fase inicial (PL até 30 dias)", 45.0, 0, 8.0),
+    CRESCIMENTO(1, "Crescimento", "Ração para fase de crescimento (30-60 dias)", 38.0, 30, 5.0),
+    ENGORDA(2, "Engorda", "Ração para fase de engorda (60+ dias)", 35.0, 60, 3.5),
+    FINALIZACAO(3, "Finalização", "Ração para finalização pré-despesca", 32.0, 90, 2.5);
+
+    private static final TipoRacaoEnum[] VALORES = values();
 
     private final Integer codigo;
     private final String descricao;
     private final String detalhes;
     private final Double proteina; // % de proteína
+    private final int diaInicial; // Dia de cultivo em que a fase começa
+    private final double taxaAlimentar; // % da biomassa ofertada por dia
 
-    TipoRacaoEnum(Integer codigo, String descricao, String detalhes, Double proteina) {
+    TipoRacaoEnum(Integer codigo, String descricao, String detalhes, Double proteina,
+                  int diaInicial, double taxaAlimentar) {
         this.codigo = codigo;
         this.descricao = descricao;
         this.detalhes = detalhes;
         this.proteina = proteina;
+        this.diaInicial = diaInicial;
+        this.taxaAlimentar = taxaAlimentar;
     }
 
     public static TipoRacaoEnum fromCodigo(Integer codigo) {
@@ -29,4 +36,16 @@ public enum TipoRacaoEnum {
         }
         throw new IllegalArgumentException("Código de tipo de ração inválido: " + codigo);
     }
+
+    /**
+     * Fase de ração indicada para o dia de cultivo
+     */
+    public static TipoRacaoEnum paraDiaCultivo(int diaCultivo) {
+        for (int i = VALORES.length - 1; i > 0; i--) {
+            if (diaCultivo >= VALORES[i].diaInicial) {
+                return VALORES[i];
+            }
+        }
+        return INICIAL;
+    }
 }
@@ -2,25 +2,39 @@ package com.jtarcio.shrimpfarm.domain.enums;
 
 import lombok.Getter;
 
+import java.math.BigDecimal;
+
 @Getter
 public enum UnidadeMedidaEnum {
-    KG(0, "kg", "Quilograma"),
-    G(1, "g", "Grama"),
-    TON(2, "ton", "Tonelada"),
-    LITRO(3, "L", "Litro"),
-    ML(4, "mL", "Mililitro"),
-    UNIDADE(5, "un", "Unidade"),
-    SACO(6, "sc", "Saco"),
-    HECTARE(7, "ha", "Hectare");
+    KG(0, "kg", "Quilograma", BigDecimal.ONE),
+    G(1, "g", "Grama", new BigDecimal("0.001")),
+    TON(2, "ton", "Tonelada", new BigDecimal("1000")),
+    LITRO(3, "L", "Litro", null),
+    ML(4, "mL", "Mililitro", null),
+    UNIDADE(5, "un", "Unidade", null),
+    SACO(6, "sc", "Saco", new BigDecimal("25")), // Saco padrão de ração de 25 kg
+    HECTARE(7, "ha", "Hectare", null);
 
     private final Integer codigo;
     private final String simbolo;
     private final String descricao;
+    private final BigDecimal fatorKg; // kg por unidade; nulo para unidades que não são de massa (o SQL usa a tabela unidades_medida)
 
-    UnidadeMedidaEnum(Integer codigo, String simbolo, String descricao) {
+    UnidadeMedidaEnum(Integer codigo, String simbolo, String descricao, BigDecimal fatorKg) {
         this.codigo = codigo;
         this.simbolo = simbolo;
         this.descricao = descricao;
+        this.fatorKg = fatorKg;
+    }
+
+    /**
+     * Quantidade convertida para kg; zero para unidades que não são de massa
+     */
+    public BigDecimal paraKg(BigDecimal quantidade) {
+        if (quantidade == null || fatorKg == null) {
+            return BigDecimal.ZERO;
+        }
+        return quantidade.multiply(fatorKg);
     }
 
     public static UnidadeMedidaEnum fromCodigo(Integer codigo) {
@@ -0,0 +1,55 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valores monetários representados como quantidade de centavos em um {@code long}.
+ * As operações trabalham só com primitivos (sem alocar objetos) e arredondam HALF_UP,
+ * dando o mesmo resultado que {@link BigDecimal} com 2 casas. Estouro de {@code long} lança
+ * {@link ArithmeticException} em vez de perder precisão.
+ * A conversão para {@link BigDecimal} fica na borda (DTOs e entidades).
+ */
+public final class Centavos {
+
+    public static final int ESCALA = 2;
+
+    private Centavos() {
+    }
+
+    /**
+     * Converte um valor em reais para centavos, arredondando HALF_UP (nulo vira zero)
+     */
+    public static long de(BigDecimal valor) {
+        if (valor == null) {
+            return 0;
+        }
+        return valor.setScale(ESCALA, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal paraBigDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, ESCALA);
+    }
+
+    public static long somar(long centavos, long outro) {
+        return Math.addExact(centavos, outro);
+    }
+
+    public static long subtrair(long centavos, long outro) {
+        return Math.subtractExact(centavos, outro);
+    }
+
+    /**
+     * Multiplica por um fator em ponto fixo ({@code fator} × 10^-{@code escalaFator}), arredondando HALF_UP
+     */
+    public static long multiplicar(long centavos, long fator, int escalaFator) {
+        return Razao.escalar(Math.multiplyExact(centavos, fator), ESCALA + escalaFator, ESCALA);
+    }
+
+    /**
+     * Divide por uma quantidade inteira (dias, camarões, lotes), arredondando HALF_UP para centavos
+     */
+    public static long dividir(long centavos, long divisor) {
+        return Razao.dividirArredondando(centavos, divisor);
+    }
+}
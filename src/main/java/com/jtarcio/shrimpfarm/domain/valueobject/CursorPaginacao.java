@@ -0,0 +1,63 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Posição em uma listagem paginada por chave (keyset): a chave de ordenação da última linha entregue,
+ * (data, id) ou só (id). O cliente recebe a posição como um token opaco e a página seguinte começa
+ * logo depois dela por um predicado sobre o índice, sem OFFSET e sem contar o total.
+ */
+public record CursorPaginacao(LocalDate data, Long id) {
+
+    public static final int TAMANHO_MAXIMO = 500;
+
+    private static final String VERSAO = "1";
+    private static final String SEPARADOR = "|";
+
+    public static CursorPaginacao porId(Long id) {
+        return new CursorPaginacao(null, id);
+    }
+
+    public static CursorPaginacao porDataEId(LocalDate data, Long id) {
+        return new CursorPaginacao(data, id);
+    }
+
+    public String codificar() {
+        String conteudo = VERSAO + SEPARADOR + (data != null ? data : "") + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê o token recebido do cliente. Sem token (primeira página) retorna null.
+     *
+     * @param comData se a listagem é ordenada por (data, id); o token precisa ter sido emitido por ela
+     */
+    public static CursorPaginacao decodificar(String token, boolean comData) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARADOR, -1);
+            if (partes.length != 3 || !VERSAO.equals(partes[0]) || partes[1].isEmpty() == comData) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return new CursorPaginacao(comData ? LocalDate.parse(partes[1]) : null, Long.parseLong(partes[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    public static int validarTamanho(int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new BusinessException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO);
+        }
+        return tamanho;
+    }
+}
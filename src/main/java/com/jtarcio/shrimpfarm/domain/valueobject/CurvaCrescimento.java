@@ -0,0 +1,72 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import com.jtarcio.shrimpfarm.domain.enums.ModeloCrescimentoEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Curva de crescimento ajustada para um lote, ancorada na última biometria:
+ * o peso projetado é o peso medido na última biometria mais o crescimento previsto pelo modelo
+ * desde então, de modo que a projeção nunca "salta" em relação ao que foi pesado.
+ * Avaliar a curva não consulta o banco nem aloca arrays.
+ *
+ * @param modelo               modelo escolhido no ajuste
+ * @param parametros           parâmetros do modelo (não devem ser alterados)
+ * @param erroQuadratico       soma dos quadrados dos resíduos do ajuste (g²)
+ * @param dataPovoamento       dia zero do cultivo
+ * @param dataUltimaBiometria  data da biometria mais recente
+ * @param pesoUltimaBiometria  peso médio medido na biometria mais recente (g)
+ * @param quantidadeBiometrias pontos usados no ajuste
+ */
+public record CurvaCrescimento(ModeloCrescimentoEnum modelo,
+                               double[] parametros,
+                               double erroQuadratico,
+                               LocalDate dataPovoamento,
+                               LocalDate dataUltimaBiometria,
+                               BigDecimal pesoUltimaBiometria,
+                               int quantidadeBiometrias) {
+
+    public double diaCultivo(LocalDate data) {
+        return ChronoUnit.DAYS.between(dataPovoamento, data);
+    }
+
+    public double diaUltimaBiometria() {
+        return diaCultivo(dataUltimaBiometria);
+    }
+
+    /**
+     * Peso médio projetado (g) na data
+     */
+    public double peso(LocalDate data) {
+        double deslocamento = pesoUltimaBiometria.doubleValue() - modelo.peso(diaUltimaBiometria(), parametros);
+        return Math.max(0, modelo.peso(diaCultivo(data), parametros) + deslocamento);
+    }
+
+    /**
+     * Peso projetado (g) em {@code quantidade} dias de cultivo consecutivos a partir de {@code diaInicial},
+     * gravado em {@code destino}
+     */
+    public void pesos(int diaInicial, int quantidade, double[] destino) {
+        double deslocamento = pesoUltimaBiometria.doubleValue() - modelo.peso(diaUltimaBiometria(), parametros);
+        for (int i = 0; i < quantidade; i++) {
+            destino[i] = Math.max(0, modelo.peso(diaInicial + i, parametros) + deslocamento);
+        }
+    }
+
+    /**
+     * Ganho de peso diário (g/dia) previsto na data
+     */
+    public double ganhoDiario(LocalDate data) {
+        return modelo.taxa(diaCultivo(data), parametros);
+    }
+
+    /**
+     * Dia de cultivo (fracionário) em que o peso é atingido, ou NaN se a curva nunca chega a ele
+     */
+    public double diaParaPeso(double peso) {
+        double deslocamento = pesoUltimaBiometria.doubleValue() - modelo.peso(diaUltimaBiometria(), parametros);
+        return modelo.diaParaPeso(peso - deslocamento, parametros);
+    }
+}
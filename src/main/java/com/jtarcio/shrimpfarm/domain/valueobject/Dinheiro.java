@@ -28,11 +28,30 @@ public class Dinheiro {
         this(BigDecimal.valueOf(valor));
     }
 
-    // Operações matemáticas
+    public static Dinheiro deCentavos(long centavos) {
+        return new Dinheiro(Centavos.paraBigDecimal(centavos), "BRL");
+    }
+
+    /**
+     * Valor em centavos, usado nas operações em ponto fixo
+     */
+    public long emCentavos() {
+        return Centavos.de(valor);
+    }
+
+    // Operações matemáticas: mesmo resultado (valor e escala) das operações de BigDecimal. Com o valor
+    // em 2 casas, são feitas em centavos; fora disso, ou se o long estourar, em BigDecimal.
     public Dinheiro somar(Dinheiro outro) {
         if (!this.moeda.equals(outro.moeda)) {
             throw new IllegalArgumentException("Não é possível somar valores de moedas diferentes");
         }
+        if (emEscalaDeCentavos() && outro.emEscalaDeCentavos()) {
+            try {
+                return comCentavos(Centavos.somar(emCentavos(), outro.emCentavos()));
+            } catch (ArithmeticException e) {
+                // Estouro: segue em BigDecimal
+            }
+        }
         return new Dinheiro(this.valor.add(outro.valor), this.moeda);
     }
 
@@ -40,18 +59,47 @@ public class Dinheiro {
         if (!this.moeda.equals(outro.moeda)) {
             throw new IllegalArgumentException("Não é possível subtrair valores de moedas diferentes");
         }
+        if (emEscalaDeCentavos() && outro.emEscalaDeCentavos()) {
+            try {
+                return comCentavos(Centavos.subtrair(emCentavos(), outro.emCentavos()));
+            } catch (ArithmeticException e) {
+                // Estouro: segue em BigDecimal
+            }
+        }
         return new Dinheiro(this.valor.subtract(outro.valor), this.moeda);
     }
 
+    /**
+     * Produto exato, sem arredondar: a escala do resultado é a soma das escalas do valor e do fator
+     */
     public Dinheiro multiplicar(BigDecimal fator) {
+        if (emEscalaDeCentavos()) {
+            try {
+                long produto = Math.multiplyExact(emCentavos(), fator.unscaledValue().longValueExact());
+                return new Dinheiro(BigDecimal.valueOf(produto, Centavos.ESCALA + fator.scale()), this.moeda);
+            } catch (ArithmeticException e) {
+                // Fator ou produto fora do long: segue em BigDecimal
+            }
+        }
         return new Dinheiro(this.valor.multiply(fator), this.moeda);
     }
 
+    /**
+     * Quociente com 2 casas, arredondado HALF_UP
+     */
     public Dinheiro dividir(BigDecimal divisor) {
         if (divisor.compareTo(BigDecimal.ZERO) == 0) {
             throw new ArithmeticException("Divisão por zero");
         }
-        return new Dinheiro(this.valor.divide(divisor, 2, RoundingMode.HALF_UP), this.moeda);
+        if (emEscalaDeCentavos()) {
+            try {
+                return comCentavos(Razao.dividir(emCentavos(), Centavos.ESCALA,
+                        divisor.unscaledValue().longValueExact(), divisor.scale(), Centavos.ESCALA));
+            } catch (ArithmeticException e) {
+                // Divisor ou escala fora do long: segue em BigDecimal
+            }
+        }
+        return new Dinheiro(this.valor.divide(divisor, Centavos.ESCALA, RoundingMode.HALF_UP), this.moeda);
     }
 
     // Comparações
@@ -85,4 +133,12 @@ public class Dinheiro {
     public String toString() {
         return formatarMoeda();
     }
+
+    private boolean emEscalaDeCentavos() {
+        return valor.scale() == Centavos.ESCALA;
+    }
+
+    private Dinheiro comCentavos(long centavos) {
+        return new Dinheiro(Centavos.paraBigDecimal(centavos), this.moeda);
+    }
 }
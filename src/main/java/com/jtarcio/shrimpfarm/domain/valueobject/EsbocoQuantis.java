@@ -0,0 +1,75 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+/**
+ * Esboço de quantis com erro relativo limitado, no estilo do DDSketch: cada valor incrementa um balde
+ * de largura logarítmica (razão {@link #GAMA} entre bordas consecutivas) e o quantil é o centro do balde
+ * onde cai o posto pedido. Tamanho fixo (um {@code int} por balde), uma passada e sem ordenar os valores.
+ */
+public final class EsbocoQuantis {
+
+    /**
+     * Erro relativo máximo do quantil estimado
+     */
+    public static final double PRECISAO_RELATIVA = 0.01;
+
+    static final double VALOR_MINIMO = 0.01;
+    static final double VALOR_MAXIMO = 1000;
+
+    private static final double GAMA = (1 + PRECISAO_RELATIVA) / (1 - PRECISAO_RELATIVA);
+    private static final double LOG_GAMA = Math.log(GAMA);
+    private static final int BALDES = (int) Math.ceil(Math.log(VALOR_MAXIMO / VALOR_MINIMO) / LOG_GAMA) + 1;
+
+    private final int[] contagens = new int[BALDES];
+    private long total;
+
+    /**
+     * Registra um valor; valores fora de [{@link #VALOR_MINIMO}, {@link #VALOR_MAXIMO}] vão para o balde da borda
+     */
+    public void adicionar(double valor) {
+        contagens[indice(valor)]++;
+        total++;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Quantil {@code q} (0 a 1) pelo método do posto mais próximo, ou NaN se o esboço estiver vazio
+     */
+    public double quantil(double q) {
+        if (total == 0) {
+            return Double.NaN;
+        }
+
+        long posto = Math.max(0, (long) Math.ceil(q * total) - 1);
+        long acumulado = 0;
+        for (int i = 0; i < BALDES; i++) {
+            acumulado += contagens[i];
+            if (acumulado > posto) {
+                return valorDoBalde(i);
+            }
+        }
+        return valorDoBalde(BALDES - 1);
+    }
+
+    // Métodos privados auxiliares
+
+    private static int indice(double valor) {
+        if (valor <= VALOR_MINIMO) {
+            return 0;
+        }
+        return Math.min(BALDES - 1, (int) Math.ceil(Math.log(valor / VALOR_MINIMO) / LOG_GAMA));
+    }
+
+    /**
+     * Centro do balde {@code i}, que cobre (mínimo·γ^(i-1), mínimo·γ^i]: erro relativo de no máximo
+     * {@link #PRECISAO_RELATIVA} para qualquer valor do balde
+     */
+    private static double valorDoBalde(int i) {
+        if (i == 0) {
+            return VALOR_MINIMO;
+        }
+        return VALOR_MINIMO * Math.pow(GAMA, i) * 2 / (GAMA + 1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import com.jtarcio.shrimpfarm.domain.enums.ClasseTamanhoCamaraoEnum;
+
+/**
+ * Estatísticas de tamanho de uma amostra de pesos individuais (g), calculadas em uma única passada
+ * sobre o array: média e variância pelo método de Welford, mínimo, máximo, quantis por
+ * {@link EsbocoQuantis} e contagem por classe comercial de tamanho.
+ *
+ * @param quantidade          camarões pesados
+ * @param media               peso médio (g)
+ * @param desvioPadrao        desvio padrão amostral (g)
+ * @param coeficienteVariacao desvio padrão em % da média (quanto menor, mais uniforme o lote)
+ * @param minimo              menor peso (g)
+ * @param maximo              maior peso (g)
+ * @param soma                peso total da amostra (g)
+ * @param p10                 percentil 10 estimado (g)
+ * @param p50                 mediana estimada (g)
+ * @param p90                 percentil 90 estimado (g)
+ * @param contagemPorClasse   camarões em cada classe, na ordem de {@link ClasseTamanhoCamaraoEnum#values()}
+ */
+public record EstatisticasAmostra(int quantidade,
+                                  double media,
+                                  double desvioPadrao,
+                                  double coeficienteVariacao,
+                                  double minimo,
+                                  double maximo,
+                                  double soma,
+                                  double p10,
+                                  double p50,
+                                  double p90,
+                                  int[] contagemPorClasse) {
+
+    public static EstatisticasAmostra calcular(float[] pesos) {
+        if (pesos.length == 0) {
+            throw new IllegalArgumentException("A amostra deve ter pelo menos um peso");
+        }
+
+        double media = 0;
+        double m2 = 0;
+        double soma = 0;
+        double minimo = Double.POSITIVE_INFINITY;
+        double maximo = Double.NEGATIVE_INFINITY;
+        EsbocoQuantis esboco = new EsbocoQuantis();
+        int[] contagemPorClasse = new int[ClasseTamanhoCamaraoEnum.values().length];
+
+        for (int i = 0; i < pesos.length; i++) {
+            double peso = pesos[i];
+
+            // Welford: média e soma dos quadrados dos desvios atualizadas a cada valor, sem segunda passada
+            double delta = peso - media;
+            media += delta / (i + 1);
+            m2 += delta * (peso - media);
+
+            soma += peso;
+            minimo = Math.min(minimo, peso);
+            maximo = Math.max(maximo, peso);
+            esboco.adicionar(peso);
+            contagemPorClasse[ClasseTamanhoCamaraoEnum.doPeso(peso).ordinal()]++;
+        }
+
+        int n = pesos.length;
+        double desvioPadrao = n > 1 ? Math.sqrt(m2 / (n - 1)) : 0;
+        double coeficienteVariacao = media > 0 ? desvioPadrao / media * 100 : 0;
+
+        return new EstatisticasAmostra(n, media, desvioPadrao, coeficienteVariacao, minimo, maximo, soma,
+                limitar(esboco.quantil(0.10), minimo, maximo),
+                limitar(esboco.quantil(0.50), minimo, maximo),
+                limitar(esboco.quantil(0.90), minimo, maximo),
+                contagemPorClasse);
+    }
+
+    /**
+     * Camarões da amostra na classe informada
+     */
+    public int contagem(ClasseTamanhoCamaraoEnum classe) {
+        return contagemPorClasse[classe.ordinal()];
+    }
+
+    // O quantil estimado nunca sai da faixa observada
+    private static double limitar(double valor, double minimo, double maximo) {
+        return Math.min(maximo, Math.max(minimo, valor));
+    }
+}
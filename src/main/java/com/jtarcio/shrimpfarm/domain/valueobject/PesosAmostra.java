@@ -0,0 +1,30 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Pesos individuais de uma amostra compactados como floats de 32 bits (little-endian), 4 bytes por camarão,
+ * para serem gravados em uma única coluna em vez de uma linha por indivíduo
+ */
+public final class PesosAmostra {
+
+    private PesosAmostra() {
+    }
+
+    public static byte[] compactar(float[] pesos) {
+        ByteBuffer buffer = ByteBuffer.allocate(pesos.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(pesos);
+        return buffer.array();
+    }
+
+    public static float[] descompactar(byte[] dados) {
+        if (dados.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException("Pesos compactados com tamanho inválido: " + dados.length + " bytes");
+        }
+
+        float[] pesos = new float[dados.length / Float.BYTES];
+        ByteBuffer.wrap(dados).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(pesos);
+        return pesos;
+    }
+}
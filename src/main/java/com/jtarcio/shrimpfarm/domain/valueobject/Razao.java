@@ -0,0 +1,90 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import java.math.BigDecimal;
+
+/**
+ * Razões e percentuais em ponto fixo: um {@code long} com {@link #ESCALA} casas decimais.
+ * Todas as divisões arredondam HALF_UP (empates para longe do zero), como
+ * {@code BigDecimal.divide(divisor, escala, RoundingMode.HALF_UP)}, sem alocar objetos.
+ */
+public final class Razao {
+
+    public static final int ESCALA = 4;
+
+    private static final long[] POTENCIAS_DE_DEZ = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private Razao() {
+    }
+
+    /**
+     * Razão entre dois valores na mesma unidade (ex: centavos / centavos), com {@link #ESCALA} casas
+     */
+    public static long de(long numerador, long denominador) {
+        return dividir(numerador, 0, denominador, 0, ESCALA);
+    }
+
+    /**
+     * Converte uma razão em percentual (×100), mantendo {@link #ESCALA} casas
+     */
+    public static long percentual(long razao) {
+        return Math.multiplyExact(razao, 100);
+    }
+
+    public static BigDecimal paraBigDecimal(long razao) {
+        return BigDecimal.valueOf(razao, ESCALA);
+    }
+
+    /**
+     * Divide dois valores em ponto fixo ({@code numerador} × 10^-{@code escalaNumerador} por
+     * {@code denominador} × 10^-{@code escalaDenominador}) e devolve o resultado com {@code escalaResultado}
+     * casas, arredondado HALF_UP
+     */
+    public static long dividir(long numerador, int escalaNumerador,
+                               long denominador, int escalaDenominador, int escalaResultado) {
+        int expoente = escalaDenominador - escalaNumerador + escalaResultado;
+
+        if (expoente >= 0) {
+            return dividirArredondando(Math.multiplyExact(numerador, potenciaDeDez(expoente)), denominador);
+        }
+        return dividirArredondando(numerador, Math.multiplyExact(denominador, potenciaDeDez(-expoente)));
+    }
+
+    /**
+     * Divisão inteira arredondada HALF_UP
+     */
+    public static long dividirArredondando(long numerador, long denominador) {
+        if (denominador == 0) {
+            throw new ArithmeticException("Divisão por zero");
+        }
+
+        long quociente = numerador / denominador;
+        long resto = Math.abs(numerador % denominador);
+
+        // resto >= denominador / 2, sem estourar ao dobrar o resto
+        if (resto >= Math.abs(denominador) - resto) {
+            quociente += (numerador < 0) == (denominador < 0) ? 1 : -1;
+        }
+        return quociente;
+    }
+
+    /**
+     * Muda a escala de um valor em ponto fixo, arredondando HALF_UP quando perde casas
+     */
+    static long escalar(long valor, int escalaAtual, int novaEscala) {
+        if (novaEscala >= escalaAtual) {
+            return Math.multiplyExact(valor, potenciaDeDez(novaEscala - escalaAtual));
+        }
+        return dividirArredondando(valor, potenciaDeDez(escalaAtual - novaEscala));
+    }
+
+    private static long potenciaDeDez(int expoente) {
+        if (expoente >= POTENCIAS_DE_DEZ.length) {
+            throw new ArithmeticException("Escala fora do intervalo suportado: " + expoente);
+        }
+        return POTENCIAS_DE_DEZ[expoente];
+    }
+}
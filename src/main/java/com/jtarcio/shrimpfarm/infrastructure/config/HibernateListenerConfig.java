@@ -0,0 +1,28 @@
+package com.jtarcio.shrimpfarm.infrastructure.config;
+
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ParticaoMensalListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class HibernateListenerConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ParticaoMensalListener particaoMensalListener;
+
+    @PostConstruct
+    public void registrarListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.PRE_INSERT, particaoMensalListener);
+        registry.appendListeners(EventType.PRE_UPDATE, particaoMensalListener);
+    }
+}
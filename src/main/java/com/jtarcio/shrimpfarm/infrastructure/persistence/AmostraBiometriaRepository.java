@@ -0,0 +1,9 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.AmostraBiometria;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AmostraBiometriaRepository extends JpaRepository<AmostraBiometria, Long> {
+}
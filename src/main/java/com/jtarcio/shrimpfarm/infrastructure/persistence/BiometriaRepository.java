@@ -1,18 +1,77 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.BiomassaNaData;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BiometriaRepository extends JpaRepository<Biometria, Long> {
+public interface BiometriaRepository extends JpaRepository<Biometria, Long>, BiometriaRepositoryCustom {
 
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
     List<Biometria> findByLoteIdOrderByDataBiometriaAsc(Long loteId);
 
-    @Query("SELECT b FROM Biometria b WHERE b.lote.id = :loteId ORDER BY b.dataBiometria DESC LIMIT 1")
+    @Override
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
+    Page<Biometria> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
+    @Query("SELECT b FROM Biometria b ORDER BY b.dataBiometria, b.id")
+    List<Biometria> listarPrimeiras(Limit limite);
+
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
+    @Query("SELECT b FROM Biometria b WHERE (b.dataBiometria, b.id) > (:data, :id) ORDER BY b.dataBiometria, b.id")
+    List<Biometria> listarApos(LocalDate data, Long id, Limit limite);
+
+    /**
+     * Biometrias dos lotes informados em uma única consulta, agrupadas por lote e em ordem cronológica
+     */
+    @Query("SELECT b FROM Biometria b WHERE b.lote.id IN :loteIds ORDER BY b.lote.id, b.dataBiometria, b.id")
+    List<Biometria> buscarPorLotesEmOrdemCronologica(Collection<Long> loteIds);
+
+    @Query("SELECT b FROM Biometria b WHERE b.lote.id = :loteId ORDER BY b.dataBiometria DESC, b.id DESC LIMIT 1")
     Optional<Biometria> findUltimaBiometriaByLoteId(Long loteId);
+
+    /**
+     * ID da biometria mais recente do lote (empates na data resolvidos pelo maior ID), sem carregar a entidade
+     */
+    @Query("SELECT b.id FROM Biometria b WHERE b.lote.id = :loteId ORDER BY b.dataBiometria DESC, b.id DESC LIMIT 1")
+    Optional<Long> buscarIdUltimaBiometria(Long loteId);
+
+    /**
+     * Busca, em uma única consulta, a biometria mais recente de cada lote informado.
+     * Em caso de empate na data, mais de uma linha pode ser retornada para o mesmo lote.
+     */
+    @Query("SELECT b FROM Biometria b WHERE b.lote.id IN :loteIds AND b.dataBiometria = " +
+            "(SELECT MAX(b2.dataBiometria) FROM Biometria b2 WHERE b2.lote.id = b.lote.id)")
+    List<Biometria> findUltimasBiometriasByLoteIds(Collection<Long> loteIds);
+
+    /**
+     * Biomassa estimada da biometria mais recente de cada lote informado, em uma única consulta.
+     * Empates na data são resolvidos pelo maior ID.
+     */
+    @Query(value = "SELECT DISTINCT ON (b.lote_id) b.lote_id AS loteId, b.biomassa_estimada AS total " +
+            "FROM biometrias b WHERE b.lote_id IN (:loteIds) " +
+            "ORDER BY b.lote_id, b.data_biometria DESC, b.id DESC",
+            nativeQuery = true)
+    List<TotalPorLote> buscarUltimaBiomassaPorLotes(Collection<Long> loteIds);
+
+    /**
+     * Série de biomassas estimadas dos lotes, em ordem de data (e de registro, para biometrias no mesmo dia)
+     */
+    @Query("SELECT b.lote.id AS loteId, b.dataBiometria AS dataBiometria, b.biomassaEstimada AS biomassa " +
+            "FROM Biometria b WHERE b.lote.id IN :loteIds AND b.biomassaEstimada IS NOT NULL " +
+            "ORDER BY b.lote.id, b.dataBiometria, b.id")
+    List<BiomassaNaData> buscarSerieBiomassaPorLotes(Collection<Long> loteIds);
 }
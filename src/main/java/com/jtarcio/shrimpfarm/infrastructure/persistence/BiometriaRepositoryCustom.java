@@ -0,0 +1,18 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+
+import java.util.List;
+
+/**
+ * Operações de {@link BiometriaRepository} implementadas direto em JDBC
+ */
+public interface BiometriaRepositoryCustom {
+
+    /**
+     * Insere as biometrias em lotes de instruções JDBC, sem passar pelo contexto de persistência.
+     * Os campos calculados e as datas de criação/atualização devem vir preenchidos; os IDs gerados
+     * não são devolvidos às entidades.
+     */
+    void inserirEmLote(List<Biometria> biometrias);
+}
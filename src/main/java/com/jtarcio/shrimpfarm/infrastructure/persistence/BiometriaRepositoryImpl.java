@@ -0,0 +1,47 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Importação em massa sem passar pelo contexto de persistência: o lote vai ao banco em uma única chamada
+ * batch (reescrita em INSERT multi-valores pelo driver, via reWriteBatchedInserts). O id vem do DEFAULT
+ * nextval da coluna, que avança a sequência em blocos de 50 sem colidir com os ids reservados pelo Hibernate
+ */
+@RequiredArgsConstructor
+class BiometriaRepositoryImpl implements BiometriaRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO biometrias " +
+            "(lote_id, data_biometria, dia_cultivo, peso_medio, quantidade_amostrada, peso_total_amostra, " +
+            "ganho_peso_diario, biomassa_estimada, sobrevivencia_estimada, fator_conversao_alimentar, " +
+            "observacoes, data_criacao, data_atualizacao) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void inserirEmLote(List<Biometria> biometrias) {
+        if (biometrias.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT, biometrias, biometrias.size(), (ps, biometria) -> {
+            ps.setLong(1, biometria.getLote().getId());
+            ps.setObject(2, biometria.getDataBiometria());
+            ps.setInt(3, biometria.getDiaCultivo());
+            ps.setBigDecimal(4, biometria.getPesoMedio());
+            ps.setInt(5, biometria.getQuantidadeAmostrada());
+            ps.setBigDecimal(6, biometria.getPesoTotalAmostra());
+            ps.setBigDecimal(7, biometria.getGanhoPesoDiario());
+            ps.setBigDecimal(8, biometria.getBiomassaEstimada());
+            ps.setBigDecimal(9, biometria.getSobrevivenciaEstimada());
+            ps.setBigDecimal(10, biometria.getFatorConversaoAlimentar());
+            ps.setString(11, biometria.getObservacoes());
+            ps.setObject(12, biometria.getDataCriacao());
+            ps.setObject(13, biometria.getDataAtualizacao());
+        });
+    }
+}
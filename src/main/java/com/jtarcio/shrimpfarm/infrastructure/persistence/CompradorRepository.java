@@ -1,6 +1,7 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Comprador;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -27,4 +28,9 @@ public interface CompradorRepository extends JpaRepository<Comprador, Long> {
 
     boolean existsByCnpj(String cnpj);
 
+    /**
+     * Paginação por chave: compradores com ID maior que o da última linha entregue
+     */
+    List<Comprador> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
+
 }
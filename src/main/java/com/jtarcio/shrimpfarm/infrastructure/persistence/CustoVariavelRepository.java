@@ -2,20 +2,35 @@ package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
 import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CustoVariavelRepository extends JpaRepository<CustoVariavel, Long> {
 
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
     List<CustoVariavel> findByLoteIdOrderByDataLancamentoAsc(Long loteId);
 
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
     List<CustoVariavel> findByCategoria(CategoriaGastoEnum categoria);
 
+    @Override
+    @EntityGraph(attributePaths = {"lote", "lote.despesca"})
+    Page<CustoVariavel> findAll(Pageable pageable);
+
     @Query("SELECT SUM(c.valor) FROM CustoVariavel c WHERE c.lote.id = :loteId")
     BigDecimal calcularCustoTotalVariavelByLoteId(Long loteId);
+
+    @Query("SELECT c.lote.id AS loteId, SUM(c.valor) AS total " +
+            "FROM CustoVariavel c WHERE c.lote.id IN :loteIds GROUP BY c.lote.id")
+    List<TotalPorLote> somarValorTotalPorLotes(Collection<Long> loteIds);
 }
@@ -1,7 +1,12 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FazendaResumo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +14,26 @@ import java.util.List;
 @Repository
 public interface FazendaRepository extends JpaRepository<Fazenda, Long> {
 
-    List<Fazenda> findByAtivaTrue();
+    /**
+     * Colunas das listagens de fazendas, com os viveiros contados por subconsulta no mesmo SELECT
+     */
+    String SELECT_RESUMO = "SELECT f.id AS id, f.nome AS nome, f.proprietario AS proprietario, " +
+            "f.endereco AS endereco, f.cidade AS cidade, f.estado AS estado, f.cep AS cep, " +
+            "f.areaTotal AS areaTotal, f.areaUtil AS areaUtil, f.telefone AS telefone, f.email AS email, " +
+            "f.observacoes AS observacoes, f.ativa AS ativa, " +
+            "(SELECT COUNT(v) FROM Viveiro v WHERE v.fazenda = f) AS quantidadeViveiros, " +
+            "f.dataCriacao AS dataCriacao, f.dataAtualizacao AS dataAtualizacao " +
+            "FROM Fazenda f ";
+
+    @Query(SELECT_RESUMO + "ORDER BY f.id")
+    List<FazendaResumo> listarResumos();
+
+    @Query(SELECT_RESUMO + "WHERE f.ativa = true ORDER BY f.id")
+    List<FazendaResumo> listarResumosAtivas();
+
+    @Query(value = SELECT_RESUMO, countQuery = "SELECT COUNT(f) FROM Fazenda f")
+    Page<FazendaResumo> listarResumos(Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE f.id > :id ORDER BY f.id")
+    List<FazendaResumo> listarResumosApos(Long id, Limit limite);
 }
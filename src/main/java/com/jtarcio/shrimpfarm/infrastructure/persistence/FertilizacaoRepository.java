@@ -1,18 +1,32 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Fertilizacao;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface FertilizacaoRepository extends JpaRepository<Fertilizacao, Long> {
 
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
     List<Fertilizacao> findByLoteIdOrderByDataAplicacaoAsc(Long loteId);
 
+    @Override
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
+    Page<Fertilizacao> findAll(Pageable pageable);
+
     @Query("SELECT SUM(f.custoTotal) FROM Fertilizacao f WHERE f.lote.id = :loteId")
     BigDecimal calcularCustoTotalFertilizacaoByLoteId(Long loteId);
+
+    @Query("SELECT f.lote.id AS loteId, SUM(f.custoTotal) AS total " +
+            "FROM Fertilizacao f WHERE f.lote.id IN :loteIds GROUP BY f.lote.id")
+    List<TotalPorLote> somarCustoTotalPorLotes(Collection<Long> loteIds);
 }
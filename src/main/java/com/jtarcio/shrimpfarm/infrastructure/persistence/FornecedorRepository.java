@@ -1,6 +1,7 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -26,4 +27,9 @@ public interface FornecedorRepository extends JpaRepository<Fornecedor, Long> {
     List<Fornecedor> findByNomeContainingIgnoreCase(String nome);
 
     boolean existsByCnpj(String cnpj);
+
+    /**
+     * Paginação por chave: fornecedores com ID maior que o da última linha entregue
+     */
+    List<Fornecedor> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
 }
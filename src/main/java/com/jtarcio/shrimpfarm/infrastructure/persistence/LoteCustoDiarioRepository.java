@@ -0,0 +1,128 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoDiario;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoDiarioId;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LoteCustoDiarioRepository extends JpaRepository<LoteCustoDiario, LoteCustoDiarioId> {
+
+    /**
+     * Custo acumulado do lote até a data (última linha com data <= data), pela chave primária
+     */
+    @Query(value = "SELECT d.custo_acumulado FROM lote_custo_diario d " +
+            "WHERE d.lote_id = :loteId AND d.data <= :data " +
+            "ORDER BY d.data DESC LIMIT 1",
+            nativeQuery = true)
+    Optional<BigDecimal> buscarCustoAcumuladoAte(Long loteId, LocalDate data);
+
+    List<LoteCustoDiario> findByLoteIdOrderByDataAsc(Long loteId);
+
+    /**
+     * Custo acumulado de cada lote até a data, em uma única consulta (lotes sem lançamentos até a data não aparecem)
+     */
+    @Query(value = "SELECT DISTINCT ON (d.lote_id) d.lote_id AS loteId, d.custo_acumulado AS total " +
+            "FROM lote_custo_diario d WHERE d.lote_id IN (:loteIds) AND d.data <= :data " +
+            "ORDER BY d.lote_id, d.data DESC",
+            nativeQuery = true)
+    List<TotalPorLote> buscarCustoAcumuladoAtePorLotes(Collection<Long> loteIds, LocalDate data);
+
+    /**
+     * Último custo acumulado de cada lote (igual à soma de todos os lançamentos do lote)
+     */
+    @Query(value = "SELECT DISTINCT ON (d.lote_id) d.lote_id AS loteId, d.custo_acumulado AS total " +
+            "FROM lote_custo_diario d WHERE d.lote_id IN (:loteIds) " +
+            "ORDER BY d.lote_id, d.data DESC",
+            nativeQuery = true)
+    List<TotalPorLote> buscarUltimoCustoAcumuladoPorLotes(Collection<Long> loteIds);
+
+    /**
+     * Cria a linha do dia, se necessário, com o acumulado do dia anterior mais próximo e custo do dia zerado.
+     * O valor do lançamento é aplicado em seguida por {@link #acumularAPartirDe}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO lote_custo_diario (lote_id, data, custo_dia, custo_acumulado) " +
+            "SELECT :loteId, :data, 0, COALESCE((SELECT d.custo_acumulado FROM lote_custo_diario d " +
+            "WHERE d.lote_id = :loteId AND d.data < :data ORDER BY d.data DESC LIMIT 1), 0) " +
+            "ON CONFLICT (lote_id, data) DO NOTHING",
+            nativeQuery = true)
+    int criarDia(Long loteId, LocalDate data);
+
+    /**
+     * Soma o valor ao custo do dia e ao acumulado do dia e de todos os dias seguintes do lote
+     */
+    @Modifying
+    @Query(value = "UPDATE lote_custo_diario SET " +
+            "custo_dia = custo_dia + CASE WHEN data = :data THEN :valor ELSE 0 END, " +
+            "custo_acumulado = custo_acumulado + :valor " +
+            "WHERE lote_id = :loteId AND data >= :data",
+            nativeQuery = true)
+    int acumularAPartirDe(Long loteId, LocalDate data, BigDecimal valor);
+
+    /**
+     * Cria as linhas dos dias dos custos variáveis informados que ainda não existem no lote.
+     * Os lançamentos pendentes são enviados ao banco antes, para que a consulta os enxergue.
+     * O período dos lançamentos limita a busca às partições mensais em que eles estão.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO lote_custo_diario (lote_id, data, custo_dia, custo_acumulado) " +
+            "SELECT dias.lote_id, dias.data_lancamento, 0, COALESCE((SELECT d.custo_acumulado FROM lote_custo_diario d " +
+            "WHERE d.lote_id = dias.lote_id AND d.data < dias.data_lancamento ORDER BY d.data DESC LIMIT 1), 0) " +
+            "FROM (SELECT DISTINCT c.lote_id, c.data_lancamento FROM custos_variaveis c " +
+            "WHERE c.id IN (:custoVariavelIds) AND c.data_lancamento BETWEEN :inicio AND :fim) dias " +
+            "ON CONFLICT (lote_id, data) DO NOTHING",
+            nativeQuery = true)
+    int criarDiasCustosVariaveis(Collection<Long> custoVariavelIds, LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma os custos variáveis informados ao custo do dia e ao acumulado dos dias seguintes, em uma única instrução
+     */
+    @Modifying
+    @Query(value = "UPDATE lote_custo_diario d SET " +
+            "custo_dia = d.custo_dia + s.no_dia, " +
+            "custo_acumulado = d.custo_acumulado + s.ate_o_dia " +
+            "FROM (SELECT dia.lote_id, dia.data, " +
+            "SUM(CASE WHEN c.data_lancamento = dia.data THEN c.valor ELSE 0 END) AS no_dia, " +
+            "SUM(c.valor) AS ate_o_dia " +
+            "FROM lote_custo_diario dia " +
+            "JOIN custos_variaveis c ON c.lote_id = dia.lote_id AND c.data_lancamento <= dia.data " +
+            "WHERE c.id IN (:custoVariavelIds) AND c.data_lancamento BETWEEN :inicio AND :fim " +
+            "GROUP BY dia.lote_id, dia.data) s " +
+            "WHERE d.lote_id = s.lote_id AND d.data = s.data",
+            nativeQuery = true)
+    int acumularCustosVariaveis(Collection<Long> custoVariavelIds, LocalDate inicio, LocalDate fim);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM lote_custo_diario WHERE lote_id IN (:loteIds)", nativeQuery = true)
+    int removerPorLotes(Collection<Long> loteIds);
+
+    /**
+     * Recalcula o custo diário e acumulado dos lotes informados a partir dos lançamentos
+     * (as linhas anteriores devem ser removidas antes)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO lote_custo_diario (lote_id, data, custo_dia, custo_acumulado) " +
+            "SELECT l.lote_id, l.data, SUM(l.valor), " +
+            "SUM(SUM(l.valor)) OVER (PARTITION BY l.lote_id ORDER BY l.data) " +
+            "FROM (SELECT r.lote_id, r.data_aplicacao AS data, r.custo_total AS valor FROM racoes r " +
+            "WHERE r.lote_id IN (:loteIds) AND r.custo_total IS NOT NULL " +
+            "UNION ALL SELECT n.lote_id, n.data_aplicacao, n.custo_total FROM nutrientes n " +
+            "WHERE n.lote_id IN (:loteIds) AND n.custo_total IS NOT NULL " +
+            "UNION ALL SELECT f.lote_id, f.data_aplicacao, f.custo_total FROM fertilizacoes f " +
+            "WHERE f.lote_id IN (:loteIds) AND f.custo_total IS NOT NULL " +
+            "UNION ALL SELECT c.lote_id, c.data_lancamento, c.valor FROM custos_variaveis c " +
+            "WHERE c.lote_id IN (:loteIds)) l " +
+            "GROUP BY l.lote_id, l.data",
+            nativeQuery = true)
+    int reconstruirPorLotes(Collection<Long> loteIds);
+}
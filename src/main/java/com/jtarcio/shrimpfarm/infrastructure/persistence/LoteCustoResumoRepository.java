@@ -0,0 +1,105 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LoteCustoResumoRepository extends JpaRepository<LoteCustoResumo, Long> {
+
+    /**
+     * Soma os valores informados aos totais do lote, criando a linha do resumo se necessário.
+     * O incremento é atômico no banco, sem leitura prévia, e seguro para lançamentos concorrentes.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO lote_custo_resumo " +
+            "(lote_id, custo_racao, quantidade_racao, quantidade_racao_kg, custo_nutrientes, custo_fertilizacao, " +
+            "custo_variavel, data_atualizacao) " +
+            "VALUES (:loteId, :custoRacao, :quantidadeRacao, :quantidadeRacaoKg, :custoNutrientes, :custoFertilizacao, " +
+            ":custoVariavel, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (lote_id) DO UPDATE SET " +
+            "custo_racao = lote_custo_resumo.custo_racao + EXCLUDED.custo_racao, " +
+            "quantidade_racao = lote_custo_resumo.quantidade_racao + EXCLUDED.quantidade_racao, " +
+            "quantidade_racao_kg = lote_custo_resumo.quantidade_racao_kg + EXCLUDED.quantidade_racao_kg, " +
+            "custo_nutrientes = lote_custo_resumo.custo_nutrientes + EXCLUDED.custo_nutrientes, " +
+            "custo_fertilizacao = lote_custo_resumo.custo_fertilizacao + EXCLUDED.custo_fertilizacao, " +
+            "custo_variavel = lote_custo_resumo.custo_variavel + EXCLUDED.custo_variavel, " +
+            "data_atualizacao = EXCLUDED.data_atualizacao",
+            nativeQuery = true)
+    int acumular(Long loteId, BigDecimal custoRacao, BigDecimal quantidadeRacao, BigDecimal quantidadeRacaoKg,
+                 BigDecimal custoNutrientes, BigDecimal custoFertilizacao, BigDecimal custoVariavel);
+
+    /**
+     * Total de ração do lote em kg, lido da linha do resumo (sem somar as rações)
+     */
+    @Query("SELECT r.quantidadeRacaoKg FROM LoteCustoResumo r WHERE r.loteId = :loteId")
+    Optional<BigDecimal> buscarQuantidadeRacaoKg(Long loteId);
+
+    /**
+     * Total de ração em kg de cada lote informado, em uma única consulta (lotes sem resumo ficam de fora)
+     */
+    @Query("SELECT r.loteId AS loteId, r.quantidadeRacaoKg AS total FROM LoteCustoResumo r WHERE r.loteId IN :loteIds")
+    List<TotalPorLote> buscarQuantidadesRacaoKg(Collection<Long> loteIds);
+
+    /**
+     * Soma aos totais de cada lote os custos variáveis informados, em uma única instrução.
+     * Os lançamentos pendentes são enviados ao banco antes, para que a consulta os enxergue.
+     * O período dos lançamentos limita a busca às partições mensais em que eles estão.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO lote_custo_resumo " +
+            "(lote_id, custo_racao, quantidade_racao, custo_nutrientes, custo_fertilizacao, custo_variavel, data_atualizacao) " +
+            "SELECT c.lote_id, 0, 0, 0, 0, SUM(c.valor), CURRENT_TIMESTAMP " +
+            "FROM custos_variaveis c WHERE c.id IN (:custoVariavelIds) " +
+            "AND c.data_lancamento BETWEEN :inicio AND :fim GROUP BY c.lote_id " +
+            "ON CONFLICT (lote_id) DO UPDATE SET " +
+            "custo_variavel = lote_custo_resumo.custo_variavel + EXCLUDED.custo_variavel, " +
+            "data_atualizacao = EXCLUDED.data_atualizacao",
+            nativeQuery = true)
+    int acumularCustosVariaveis(Collection<Long> custoVariavelIds, LocalDate inicio, LocalDate fim);
+
+    /**
+     * Bloqueia os lotes para que nenhum lançamento concorrente altere os totais durante a reconstrução
+     * (a inserção de lançamentos precisa de FOR KEY SHARE no lote, que conflita com FOR UPDATE)
+     */
+    @Query(value = "SELECT l.id FROM lotes l WHERE l.id IN (:loteIds) ORDER BY l.id FOR UPDATE", nativeQuery = true)
+    List<Long> bloquearLotes(Collection<Long> loteIds);
+
+    /**
+     * Recalcula os totais dos lotes informados a partir dos lançamentos, substituindo os valores acumulados
+     * (a ração em kg usa os fatores da tabela unidades_medida)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO lote_custo_resumo " +
+            "(lote_id, custo_racao, quantidade_racao, quantidade_racao_kg, custo_nutrientes, custo_fertilizacao, " +
+            "custo_variavel, data_atualizacao) " +
+            "SELECT l.id, " +
+            "COALESCE((SELECT SUM(r.custo_total) FROM racoes r WHERE r.lote_id = l.id), 0), " +
+            "COALESCE((SELECT SUM(r.quantidade) FROM racoes r WHERE r.lote_id = l.id), 0), " +
+            "COALESCE((SELECT SUM(r.quantidade * u.fator_kg) FROM racoes r " +
+            "JOIN unidades_medida u ON u.unidade = r.unidade WHERE r.lote_id = l.id), 0), " +
+            "COALESCE((SELECT SUM(n.custo_total) FROM nutrientes n WHERE n.lote_id = l.id), 0), " +
+            "COALESCE((SELECT SUM(f.custo_total) FROM fertilizacoes f WHERE f.lote_id = l.id), 0), " +
+            "COALESCE((SELECT SUM(c.valor) FROM custos_variaveis c WHERE c.lote_id = l.id), 0), " +
+            "CURRENT_TIMESTAMP " +
+            "FROM lotes l WHERE l.id IN (:loteIds) " +
+            "ON CONFLICT (lote_id) DO UPDATE SET " +
+            "custo_racao = EXCLUDED.custo_racao, " +
+            "quantidade_racao = EXCLUDED.quantidade_racao, " +
+            "quantidade_racao_kg = EXCLUDED.quantidade_racao_kg, " +
+            "custo_nutrientes = EXCLUDED.custo_nutrientes, " +
+            "custo_fertilizacao = EXCLUDED.custo_fertilizacao, " +
+            "custo_variavel = EXCLUDED.custo_variavel, " +
+            "data_atualizacao = EXCLUDED.data_atualizacao",
+            nativeQuery = true)
+    int reconstruirPorLotes(Collection<Long> loteIds);
+}
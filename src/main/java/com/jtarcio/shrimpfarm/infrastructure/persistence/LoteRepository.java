@@ -2,25 +2,133 @@ package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.DiasCultivoPorLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.KPIsLotesAtivos;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.LoteResumo;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.PeriodoCultivoLote;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LoteRepository extends JpaRepository<Lote, Long> {
 
-    Optional<Lote> findByCodigo(String codigo);
+    /**
+     * Colunas das listagens de lotes: viveiro e fazenda por join e biometrias por subconsulta,
+     * para que a listagem inteira seja um único SELECT, sem carregar coleções nem associações lazy
+     */
+    String SELECT_RESUMO = "SELECT l.id AS id, v.id AS viveiroId, v.codigo AS viveiroCodigo, v.nome AS viveiroNome, " +
+            "f.id AS fazendaId, f.nome AS fazendaNome, l.codigo AS codigo, l.dataPovoamento AS dataPovoamento, " +
+            "l.dataDespesca AS dataDespesca, l.quantidadePosLarvas AS quantidadePosLarvas, " +
+            "l.custoPosLarvas AS custoPosLarvas, l.densidadeInicial AS densidadeInicial, l.status AS status, " +
+            "l.diasCultivo AS diasCultivo, l.observacoes AS observacoes, " +
+            "(SELECT COUNT(b) FROM Biometria b WHERE b.lote = l) AS quantidadeBiometrias, " +
+            "l.dataCriacao AS dataCriacao, l.dataAtualizacao AS dataAtualizacao " +
+            "FROM Lote l JOIN l.viveiro v JOIN v.fazenda f ";
 
-    List<Lote> findByViveiroId(Long viveiroId);
+    Optional<Lote> findByCodigo(String codigo);
 
     List<Lote> findByStatus(StatusLoteEnum status);
 
-    @Query("SELECT l FROM Lote l WHERE l.viveiro.fazenda.id = :fazendaId")
-    List<Lote> findByFazendaId(Long fazendaId);
+    @Query(SELECT_RESUMO + "ORDER BY l.id")
+    List<LoteResumo> listarResumos();
+
+    @Query(SELECT_RESUMO + "WHERE v.id = :viveiroId ORDER BY l.id")
+    List<LoteResumo> listarResumosPorViveiro(Long viveiroId);
+
+    @Query(SELECT_RESUMO + "WHERE f.id = :fazendaId ORDER BY l.id")
+    List<LoteResumo> listarResumosPorFazenda(Long fazendaId);
+
+    @Query(SELECT_RESUMO + "WHERE l.status = :status ORDER BY l.id")
+    List<LoteResumo> listarResumosPorStatus(StatusLoteEnum status);
+
+    @Query(SELECT_RESUMO + "WHERE l.status = 'ATIVO' ORDER BY l.dataPovoamento DESC")
+    List<LoteResumo> listarResumosAtivos();
+
+    @Query(value = SELECT_RESUMO, countQuery = "SELECT COUNT(l) FROM Lote l")
+    Page<LoteResumo> listarResumos(Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE l.id > :id ORDER BY l.id")
+    List<LoteResumo> listarResumosApos(Long id, Limit limite);
+
+    /**
+     * Lotes do status com viveiro e despesca. A despesca vem na mesma consulta porque, do lado mappedBy do
+     * OneToOne, o Hibernate não cria proxy e a buscaria com uma consulta por lote.
+     */
+    @Query("SELECT l FROM Lote l JOIN FETCH l.viveiro LEFT JOIN FETCH l.despesca WHERE l.status = :status")
+    List<Lote> findByStatusComViveiro(StatusLoteEnum status);
+
+    @Query("SELECT l FROM Lote l LEFT JOIN FETCH l.viveiro WHERE l.id = :loteId")
+    Optional<Lote> buscarComViveiro(Long loteId);
+
+    @Query("SELECT l FROM Lote l LEFT JOIN FETCH l.despesca WHERE l.id IN :loteIds")
+    List<Lote> findAllComDespescaByIdIn(Collection<Long> loteIds);
+
+    @Query("SELECT l.id AS loteId, l.diasCultivo AS diasCultivo FROM Lote l WHERE l.id IN :loteIds")
+    List<DiasCultivoPorLote> buscarDiasCultivoPorLotes(Collection<Long> loteIds);
+
+    @Query("SELECT l.id FROM Lote l WHERE l.id IN :loteIds")
+    List<Long> findIdsByIdIn(Collection<Long> loteIds);
+
+    /**
+     * Lotes da fazenda cujo cultivo (povoamento até despesca, ou em aberto) se sobrepõe ao período informado.
+     * Usa o índice (viveiro_id, data_povoamento, data_despesca).
+     */
+    @Query("SELECT l.id AS loteId, l.codigo AS codigo, l.dataPovoamento AS dataPovoamento, " +
+            "l.dataDespesca AS dataDespesca FROM Lote l " +
+            "WHERE l.viveiro.fazenda.id = :fazendaId AND l.status IN :status " +
+            "AND l.dataPovoamento <= :dataFim AND (l.dataDespesca IS NULL OR l.dataDespesca >= :dataInicio) " +
+            "ORDER BY l.id")
+    List<PeriodoCultivoLote> buscarLotesNoPeriodo(Long fazendaId, LocalDate dataInicio, LocalDate dataFim,
+                                                  Collection<StatusLoteEnum> status);
+
+    @Query("SELECT l.id FROM Lote l ORDER BY l.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT l.id FROM Lote l WHERE l.dataPovoamento >= :data ORDER BY l.id")
+    List<Long> findIdsPovoadosDesde(LocalDate data);
 
-    @Query("SELECT l FROM Lote l WHERE l.status = 'ATIVO' ORDER BY l.dataPovoamento DESC")
-    List<Lote> findLotesAtivos();
+    /**
+     * Agrega, em uma única consulta, os indicadores dos lotes ativos: dias de cultivo,
+     * última biometria de cada lote, totais do resumo de custos e preço médio das despescas
+     * feitas a partir de {@code precoVendaDesde} (lidas pelo índice da data, sem varrer o histórico).
+     * Custo e ração são somados apenas dos lotes com biomassa, para servirem de numerador
+     * às médias ponderadas por kg.
+     */
+    @Query(value = "WITH ativos AS (" +
+            "SELECT l.id, l.data_povoamento, COALESCE(l.custo_pos_larvas, 0) AS custo_pos_larvas " +
+            "FROM lotes l WHERE l.status = 'ATIVO'), " +
+            "ultimas AS (" +
+            "SELECT DISTINCT ON (b.lote_id) b.lote_id, b.peso_medio, b.biomassa_estimada, b.sobrevivencia_estimada " +
+            "FROM biometrias b JOIN ativos a ON a.id = b.lote_id " +
+            "ORDER BY b.lote_id, b.data_biometria DESC, b.id DESC), " +
+            "vendas AS (" +
+            "SELECT COALESCE(SUM(d.receita_total), 0) AS receita, COALESCE(SUM(d.peso_total), 0) AS peso " +
+            "FROM despescas d WHERE d.data_despesca >= :precoVendaDesde AND d.receita_total IS NOT NULL) " +
+            "SELECT COUNT(*) AS totalLotes, " +
+            "COALESCE(AVG(CURRENT_DATE - a.data_povoamento), 0) AS diasMediosCultivo, " +
+            "COUNT(u.lote_id) AS lotesComBiometria, " +
+            "COALESCE(SUM(u.biomassa_estimada), 0) AS biomassaTotal, " +
+            "COALESCE(SUM(u.peso_medio), 0) AS somaPesoMedio, " +
+            "COALESCE(SUM(u.sobrevivencia_estimada), 0) AS somaSobrevivencia, " +
+            "COALESCE(SUM(CASE WHEN u.biomassa_estimada > 0 THEN a.custo_pos_larvas " +
+            "+ COALESCE(r.custo_racao, 0) + COALESCE(r.custo_nutrientes, 0) " +
+            "+ COALESCE(r.custo_fertilizacao, 0) + COALESCE(r.custo_variavel, 0) END), 0) AS custoLotesComBiomassa, " +
+            "COALESCE(SUM(CASE WHEN u.biomassa_estimada > 0 THEN COALESCE(r.quantidade_racao_kg, 0) END), 0) " +
+            "AS racaoLotesComBiomassa, " +
+            "(SELECT receita FROM vendas) AS receitaDespescas, " +
+            "(SELECT peso FROM vendas) AS pesoDespescas " +
+            "FROM ativos a " +
+            "LEFT JOIN ultimas u ON u.lote_id = a.id " +
+            "LEFT JOIN lote_custo_resumo r ON r.lote_id = a.id",
+            nativeQuery = true)
+    KPIsLotesAtivos agregarKPIsLotesAtivos(LocalDate precoVendaDesde);
 }
@@ -1,18 +1,32 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Nutriente;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NutrienteRepository extends JpaRepository<Nutriente, Long> {
 
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
     List<Nutriente> findByLoteIdOrderByDataAplicacaoAsc(Long loteId);
 
+    @Override
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
+    Page<Nutriente> findAll(Pageable pageable);
+
     @Query("SELECT SUM(n.custoTotal) FROM Nutriente n WHERE n.lote.id = :loteId")
     BigDecimal calcularCustoTotalNutrientesByLoteId(Long loteId);
+
+    @Query("SELECT n.lote.id AS loteId, SUM(n.custoTotal) AS total " +
+            "FROM Nutriente n WHERE n.lote.id IN :loteIds GROUP BY n.lote.id")
+    List<TotalPorLote> somarCustoTotalPorLotes(Collection<Long> loteIds);
 }
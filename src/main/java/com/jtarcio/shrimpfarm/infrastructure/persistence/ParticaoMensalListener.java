@@ -0,0 +1,78 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Nutriente;
+import com.jtarcio.shrimpfarm.domain.entity.Racao;
+import com.jtarcio.shrimpfarm.domain.enums.TabelaParticionadaEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.event.spi.PreUpdateEvent;
+import org.hibernate.event.spi.PreUpdateEventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Confere, antes do INSERT ou UPDATE de um lançamento, se a partição do mês em que ele cai está anexada.
+ * As partições são criadas só pelo ParticaoLancamentoService, na subida da aplicação e diariamente, desde o
+ * povoamento do lote em andamento mais antigo até alguns meses à frente: o caminho de escrita não executa DDL
+ * e não abre outra conexão. Sem a partição, o lançamento é recusado com uma mensagem clara em vez do erro
+ * do PostgreSQL no INSERT. Partições já confirmadas ficam em memória e não voltam ao banco, para não somar
+ * uma consulta por linha aos INSERTs em batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticaoMensalListener implements PreInsertEventListener, PreUpdateEventListener {
+
+    private static final DateTimeFormatter MES = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private final ParticaoMensalRepository particaoMensalRepository;
+    private final Set<String> particoesConfirmadas = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean onPreInsert(PreInsertEvent event) {
+        verificarParticao(event.getEntity());
+        return false;
+    }
+
+    @Override
+    public boolean onPreUpdate(PreUpdateEvent event) {
+        verificarParticao(event.getEntity());
+        return false;
+    }
+
+    private void verificarParticao(Object entidade) {
+        if (entidade instanceof Racao racao) {
+            verificarParticao(TabelaParticionadaEnum.RACOES, racao.getDataAplicacao());
+        } else if (entidade instanceof Nutriente nutriente) {
+            verificarParticao(TabelaParticionadaEnum.NUTRIENTES, nutriente.getDataAplicacao());
+        } else if (entidade instanceof CustoVariavel custoVariavel) {
+            verificarParticao(TabelaParticionadaEnum.CUSTOS_VARIAVEIS, custoVariavel.getDataLancamento());
+        }
+    }
+
+    private void verificarParticao(TabelaParticionadaEnum tabela, LocalDate data) {
+        if (data == null) {
+            return;
+        }
+
+        YearMonth mes = YearMonth.from(data);
+        String particao = tabela.particao(mes);
+        if (particoesConfirmadas.contains(particao)) {
+            return;
+        }
+
+        if (!particaoMensalRepository.particaoAnexada(tabela.getTabela(), particao)) {
+            throw new BusinessException(String.format("Não há partição de %s para %s: a rotina de partições " +
+                            "cria os meses desde o povoamento dos lotes em andamento, e meses arquivados não aceitam " +
+                            "lançamentos", tabela.getTabela(), mes.format(MES)));
+        }
+        particoesConfirmadas.add(particao);
+    }
+}
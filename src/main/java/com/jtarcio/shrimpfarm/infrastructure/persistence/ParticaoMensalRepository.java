@@ -0,0 +1,76 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Partições mensais de racoes, nutrientes e custos_variaveis (criadas pela função garantir_particoes_mensais
+ * da V22). Os nomes de tabela e partição recebidos vêm de {@code TabelaParticionadaEnum}, nunca da requisição.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticaoMensalRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cria as partições que faltam nas três tabelas entre os meses das duas datas e retorna quantas foram criadas
+     */
+    public int garantirParticoes(LocalDate de, LocalDate ate) {
+        Integer criadas = jdbcTemplate.queryForObject("SELECT garantir_particoes_mensais(?, ?)", Integer.class, de, ate);
+        return criadas != null ? criadas : 0;
+    }
+
+    /**
+     * Se a partição existe e está anexada à tabela (uma partição desanexada continua existindo como tabela)
+     */
+    public boolean particaoAnexada(String tabela, String particao) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_inherits i " +
+                "WHERE i.inhparent = CAST(? AS regclass) AND i.inhrelid = to_regclass(?))", Boolean.class, tabela, particao));
+    }
+
+    /**
+     * Data de povoamento do lote em andamento mais antigo, a partir da qual pode haver lançamentos retroativos
+     */
+    public Optional<LocalDate> buscarInicioLotesEmAndamento() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MIN(data_povoamento) FROM lotes " +
+                "WHERE status NOT IN ('FINALIZADO', 'CANCELADO')", LocalDate.class));
+    }
+
+    public List<String> listarParticoes(String tabela) {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = CAST(? AS regclass) ORDER BY c.relname", String.class, tabela);
+    }
+
+    public boolean possuiLancamentosDeLotesEmAndamento(String particao) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + particao + " t " +
+                "JOIN lotes l ON l.id = t.lote_id WHERE l.status NOT IN ('FINALIZADO', 'CANCELADO'))", Boolean.class));
+    }
+
+    public void registrarDesanexacao(String tabela, String particao, LocalDate mes) {
+        jdbcTemplate.update("INSERT INTO particoes_desanexadas (particao, tabela, mes) VALUES (?, ?, ?) " +
+                "ON CONFLICT (particao) DO NOTHING", particao, tabela, mes);
+    }
+
+    /**
+     * Desanexa a partição sem bloquear leituras e escritas na tabela (não pode rodar dentro de uma transação).
+     * Se for interrompido, o comando deve ser concluído com {@code ALTER TABLE ... DETACH PARTITION ... FINALIZE}.
+     */
+    public void desanexar(String tabela, String particao) {
+        jdbcTemplate.execute("ALTER TABLE " + tabela + " DETACH PARTITION " + particao + " CONCURRENTLY");
+    }
+
+    /**
+     * Primeiro dia depois do último mês desanexado: lotes povoados antes dele podem ter lançamentos arquivados
+     */
+    public Optional<LocalDate> buscarFimArquivamento() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT CAST(MAX(mes) + INTERVAL '1 month' AS DATE) FROM particoes_desanexadas", LocalDate.class));
+    }
+}
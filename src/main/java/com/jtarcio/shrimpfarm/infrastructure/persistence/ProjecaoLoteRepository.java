@@ -0,0 +1,17 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.ProjecaoLote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjecaoLoteRepository extends JpaRepository<ProjecaoLote, Long> {
+
+    @Query("SELECT p.loteId FROM ProjecaoLote p, Lote l " +
+            "WHERE l.id = p.loteId AND l.status = 'ATIVO' AND p.dataReferencia < :data ORDER BY p.loteId")
+    List<Long> findLoteIdsAtivosComReferenciaAnterior(LocalDate data);
+}
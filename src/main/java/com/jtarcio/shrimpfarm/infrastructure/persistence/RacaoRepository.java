@@ -1,21 +1,70 @@
 package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Racao;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FornecedorRacaoPorLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.QuantidadeRacaoPorUnidade;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalRacaoPorLote;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RacaoRepository extends JpaRepository<Racao, Long> {
 
+    /**
+     * Lote e fornecedor vêm no mesmo SELECT. A despesca entra no grafo porque, sendo o lado inverso
+     * do one-to-one, o Hibernate a buscaria com uma consulta a mais para cada lote carregado.
+     */
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
     List<Racao> findByLoteIdOrderByDataAplicacaoAsc(Long loteId);
 
+    @Override
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
+    Page<Racao> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
+    @Query("SELECT r FROM Racao r ORDER BY r.dataAplicacao, r.id")
+    List<Racao> listarPrimeiras(Limit limite);
+
+    /**
+     * Paginação por chave: a página seguinte começa depois da tupla (data, id) da última linha entregue
+     * e percorre o índice (data_aplicacao, id) sem OFFSET nem contagem. A comparação simples da data,
+     * redundante com a da tupla, é a que o PostgreSQL usa para descartar as partições de meses anteriores.
+     */
+    @EntityGraph(attributePaths = {"lote", "lote.despesca", "fornecedor"})
+    @Query("SELECT r FROM Racao r WHERE r.dataAplicacao >= :data AND (r.dataAplicacao, r.id) > (:data, :id) " +
+            "ORDER BY r.dataAplicacao, r.id")
+    List<Racao> listarApos(LocalDate data, Long id, Limit limite);
+
     @Query("SELECT SUM(r.custoTotal) FROM Racao r WHERE r.lote.id = :loteId")
     BigDecimal calcularCustoTotalRacaoByLoteId(Long loteId);
 
     @Query("SELECT SUM(r.quantidade) FROM Racao r WHERE r.lote.id = :loteId")
     BigDecimal calcularQuantidadeTotalRacaoByLoteId(Long loteId);
+
+    @Query("SELECT r.lote.id AS loteId, SUM(r.custoTotal) AS custoTotal, SUM(r.quantidade) AS quantidadeTotal " +
+            "FROM Racao r WHERE r.lote.id IN :loteIds GROUP BY r.lote.id")
+    List<TotalRacaoPorLote> somarTotaisPorLotes(Collection<Long> loteIds);
+
+    @Query("SELECT r.lote.id AS loteId, r.unidade AS unidade, SUM(r.quantidade) AS quantidade " +
+            "FROM Racao r WHERE r.lote.id IN :loteIds GROUP BY r.lote.id, r.unidade")
+    List<QuantidadeRacaoPorUnidade> somarQuantidadesPorLotesEUnidade(Collection<Long> loteIds);
+
+    /**
+     * Fornecedores de cada tipo de ração aplicado nos lotes, com a data da aplicação mais recente, em uma única consulta
+     */
+    @Query("SELECT r.lote.id AS loteId, r.tipoRacao AS tipoRacao, r.fornecedor.id AS fornecedorId, " +
+            "MAX(r.dataAplicacao) AS ultimaAplicacao FROM Racao r " +
+            "WHERE r.lote.id IN :loteIds AND r.fornecedor IS NOT NULL " +
+            "GROUP BY r.lote.id, r.tipoRacao, r.fornecedor.id")
+    List<FornecedorRacaoPorLote> buscarFornecedoresPorLotes(Collection<Long> loteIds);
 }
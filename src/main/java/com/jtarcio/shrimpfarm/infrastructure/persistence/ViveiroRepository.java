@@ -2,7 +2,12 @@ package com.jtarcio.shrimpfarm.infrastructure.persistence;
 
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.ViveiroResumo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,11 +15,33 @@ import java.util.List;
 @Repository
 public interface ViveiroRepository extends JpaRepository<Viveiro, Long> {
 
-    List<Viveiro> findByFazendaId(Long fazendaId);
+    /**
+     * Colunas das listagens de viveiros: fazenda por join e lotes por subconsulta, em um único SELECT
+     */
+    String SELECT_RESUMO = "SELECT v.id AS id, f.id AS fazendaId, f.nome AS fazendaNome, v.codigo AS codigo, " +
+            "v.nome AS nome, v.area AS area, v.profundidadeMedia AS profundidadeMedia, v.volume AS volume, " +
+            "v.status AS status, v.observacoes AS observacoes, v.ativo AS ativo, " +
+            "(SELECT COUNT(l) FROM Lote l WHERE l.viveiro = v) AS quantidadeLotes, " +
+            "v.dataCriacao AS dataCriacao, v.dataAtualizacao AS dataAtualizacao " +
+            "FROM Viveiro v JOIN v.fazenda f ";
+
+    @Query(SELECT_RESUMO + "ORDER BY v.id")
+    List<ViveiroResumo> listarResumos();
+
+    @Query(SELECT_RESUMO + "WHERE f.id = :fazendaId ORDER BY v.id")
+    List<ViveiroResumo> listarResumosPorFazenda(Long fazendaId);
+
+    @Query(SELECT_RESUMO + "WHERE v.status = :status ORDER BY v.id")
+    List<ViveiroResumo> listarResumosPorStatus(StatusViveiroEnum status);
+
+    @Query(SELECT_RESUMO + "WHERE f.id = :fazendaId AND v.ativo = true ORDER BY v.id")
+    List<ViveiroResumo> listarResumosAtivosPorFazenda(Long fazendaId);
 
-    List<Viveiro> findByStatus(StatusViveiroEnum status);
+    @Query(value = SELECT_RESUMO, countQuery = "SELECT COUNT(v) FROM Viveiro v")
+    Page<ViveiroResumo> listarResumos(Pageable pageable);
 
-    List<Viveiro> findByFazendaIdAndAtivoTrue(Long fazendaId);
+    @Query(SELECT_RESUMO + "WHERE v.id > :id ORDER BY v.id")
+    List<ViveiroResumo> listarResumosApos(Long id, Limit limite);
 
     /**
      * Conta viveiros por status
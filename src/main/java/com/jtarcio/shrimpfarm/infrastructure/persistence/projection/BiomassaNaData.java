@@ -0,0 +1,16 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Biomassa estimada de um lote na data de uma biometria
+ */
+public interface BiomassaNaData {
+
+    Long getLoteId();
+
+    LocalDate getDataBiometria();
+
+    BigDecimal getBiomassa();
+}
@@ -0,0 +1,11 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+/**
+ * Dias de cultivo de um lote, usados no rateio de custos
+ */
+public interface DiasCultivoPorLote {
+
+    Long getLoteId();
+
+    Integer getDiasCultivo();
+}
@@ -0,0 +1,42 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de listagem de fazendas com a quantidade de viveiros, lida em uma única consulta
+ */
+public interface FazendaResumo {
+
+    Long getId();
+
+    String getNome();
+
+    String getProprietario();
+
+    String getEndereco();
+
+    String getCidade();
+
+    String getEstado();
+
+    String getCep();
+
+    BigDecimal getAreaTotal();
+
+    BigDecimal getAreaUtil();
+
+    String getTelefone();
+
+    String getEmail();
+
+    String getObservacoes();
+
+    Boolean getAtiva();
+
+    Long getQuantidadeViveiros();
+
+    LocalDateTime getDataCriacao();
+
+    LocalDateTime getDataAtualizacao();
+}
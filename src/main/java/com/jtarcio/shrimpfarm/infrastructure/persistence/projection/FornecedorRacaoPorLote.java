@@ -0,0 +1,19 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
+
+import java.time.LocalDate;
+
+/**
+ * Fornecedor que já entregou um tipo de ração a um lote e a data da aplicação mais recente
+ */
+public interface FornecedorRacaoPorLote {
+
+    Long getLoteId();
+
+    TipoRacaoEnum getTipoRacao();
+
+    Long getFornecedorId();
+
+    LocalDate getUltimaAplicacao();
+}
@@ -0,0 +1,29 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Agregados dos lotes ativos usados nos KPIs do dashboard
+ */
+public interface KPIsLotesAtivos {
+
+    Long getTotalLotes();
+
+    BigDecimal getDiasMediosCultivo();
+
+    Long getLotesComBiometria();
+
+    BigDecimal getBiomassaTotal();
+
+    BigDecimal getSomaPesoMedio();
+
+    BigDecimal getSomaSobrevivencia();
+
+    BigDecimal getCustoLotesComBiomassa();
+
+    BigDecimal getRacaoLotesComBiomassa();
+
+    BigDecimal getReceitaDespescas();
+
+    BigDecimal getPesoDespescas();
+}
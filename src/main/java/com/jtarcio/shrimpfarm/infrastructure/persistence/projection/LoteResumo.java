@@ -0,0 +1,49 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de listagem de lotes com viveiro, fazenda e quantidade de biometrias, lida em uma única consulta
+ */
+public interface LoteResumo {
+
+    Long getId();
+
+    Long getViveiroId();
+
+    String getViveiroCodigo();
+
+    String getViveiroNome();
+
+    Long getFazendaId();
+
+    String getFazendaNome();
+
+    String getCodigo();
+
+    LocalDate getDataPovoamento();
+
+    LocalDate getDataDespesca();
+
+    Integer getQuantidadePosLarvas();
+
+    BigDecimal getCustoPosLarvas();
+
+    BigDecimal getDensidadeInicial();
+
+    StatusLoteEnum getStatus();
+
+    Integer getDiasCultivo();
+
+    String getObservacoes();
+
+    Long getQuantidadeBiometrias();
+
+    LocalDateTime getDataCriacao();
+
+    LocalDateTime getDataAtualizacao();
+}
@@ -0,0 +1,17 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Período de cultivo de um lote (povoamento até despesca), usado no rateio de custos por janela de tempo
+ */
+public interface PeriodoCultivoLote {
+
+    Long getLoteId();
+
+    String getCodigo();
+
+    LocalDate getDataPovoamento();
+
+    LocalDate getDataDespesca();
+}
@@ -0,0 +1,17 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantidade de ração lançada em um lote, somada por unidade de medida
+ */
+public interface QuantidadeRacaoPorUnidade {
+
+    Long getLoteId();
+
+    UnidadeMedidaEnum getUnidade();
+
+    BigDecimal getQuantidade();
+}
@@ -0,0 +1,13 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Total agregado (SUM ... GROUP BY lote_id) de um lote
+ */
+public interface TotalPorLote {
+
+    Long getLoteId();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,15 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Totais de ração (custo e quantidade) agregados por lote
+ */
+public interface TotalRacaoPorLote {
+
+    Long getLoteId();
+
+    BigDecimal getCustoTotal();
+
+    BigDecimal getQuantidadeTotal();
+}
@@ -0,0 +1,40 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence.projection;
+
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de listagem de viveiros com a fazenda e a quantidade de lotes, lida em uma única consulta
+ */
+public interface ViveiroResumo {
+
+    Long getId();
+
+    Long getFazendaId();
+
+    String getFazendaNome();
+
+    String getCodigo();
+
+    String getNome();
+
+    BigDecimal getArea();
+
+    BigDecimal getProfundidadeMedia();
+
+    BigDecimal getVolume();
+
+    StatusViveiroEnum getStatus();
+
+    String getObservacoes();
+
+    Boolean getAtivo();
+
+    Long getQuantidadeLotes();
+
+    LocalDateTime getDataCriacao();
+
+    LocalDateTime getDataAtualizacao();
+}
@@ -0,0 +1,32 @@
+-- V13__criar_tabela_lote_custo_resumo.sql
+CREATE TABLE lote_custo_resumo (
+                                   lote_id BIGINT PRIMARY KEY,
+                                   custo_racao NUMERIC(14, 2) NOT NULL DEFAULT 0,
+                                   quantidade_racao NUMERIC(14, 3) NOT NULL DEFAULT 0,
+                                   custo_nutrientes NUMERIC(14, 2) NOT NULL DEFAULT 0,
+                                   custo_fertilizacao NUMERIC(14, 2) NOT NULL DEFAULT 0,
+                                   custo_variavel NUMERIC(14, 2) NOT NULL DEFAULT 0,
+                                   data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Foreign Keys
+                                   CONSTRAINT fk_lote_custo_resumo_lote FOREIGN KEY (lote_id)
+                                       REFERENCES lotes(id) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir dos lançamentos existentes
+INSERT INTO lote_custo_resumo (lote_id, custo_racao, quantidade_racao, custo_nutrientes, custo_fertilizacao, custo_variavel)
+SELECT l.id,
+       COALESCE((SELECT SUM(r.custo_total) FROM racoes r WHERE r.lote_id = l.id), 0),
+       COALESCE((SELECT SUM(r.quantidade) FROM racoes r WHERE r.lote_id = l.id), 0),
+       COALESCE((SELECT SUM(n.custo_total) FROM nutrientes n WHERE n.lote_id = l.id), 0),
+       COALESCE((SELECT SUM(f.custo_total) FROM fertilizacoes f WHERE f.lote_id = l.id), 0),
+       COALESCE((SELECT SUM(c.valor) FROM custos_variaveis c WHERE c.lote_id = l.id), 0)
+FROM lotes l;
+
+-- Comentários
+COMMENT ON TABLE lote_custo_resumo IS 'Totais acumulados de custos por lote, mantidos a cada lançamento';
+COMMENT ON COLUMN lote_custo_resumo.custo_racao IS 'Soma de racoes.custo_total do lote';
+COMMENT ON COLUMN lote_custo_resumo.quantidade_racao IS 'Soma de racoes.quantidade do lote';
+COMMENT ON COLUMN lote_custo_resumo.custo_nutrientes IS 'Soma de nutrientes.custo_total do lote';
+COMMENT ON COLUMN lote_custo_resumo.custo_fertilizacao IS 'Soma de fertilizacoes.custo_total do lote';
+COMMENT ON COLUMN lote_custo_resumo.custo_variavel IS 'Soma de custos_variaveis.valor do lote';
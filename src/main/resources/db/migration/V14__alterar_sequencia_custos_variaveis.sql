@@ -0,0 +1,8 @@
+-- V14__alterar_sequencia_custos_variaveis.sql
+-- IDs de custos_variaveis passam a ser gerados pelo Hibernate em blocos de 50 (otimizador pooled),
+-- o que permite inserir vários lançamentos em um único lote JDBC.
+-- Com o otimizador pooled, o valor da sequência é o fim do bloco já reservado pelo Hibernate: um INSERT
+-- direto no banco pelo DEFAULT nextval da coluna pode pegar um id que o Hibernate ainda vai usar.
+-- Com o otimizador pooled-lo (hibernate.id.optimizer.pooled.preferred), o valor da sequência é o início do
+-- próximo bloco e o DEFAULT volta a ser seguro.
+ALTER SEQUENCE custos_variaveis_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- V15__criar_indice_periodo_lotes.sql
+-- Busca de lotes cujo cultivo se sobrepõe a um período (rateio de custos por janela de tempo):
+-- filtra pelos viveiros da fazenda e pela faixa de povoamento/despesca sem ler a tabela inteira.
+CREATE INDEX idx_lotes_viveiro_periodo ON lotes(viveiro_id, data_povoamento, data_despesca);
@@ -0,0 +1,35 @@
+-- V16__criar_tabela_lote_custo_diario.sql
+-- Custo acumulado (soma de prefixos) de cada lote por dia com lançamentos.
+-- O custo do lote em uma data é o custo_acumulado da última linha com data <= data (busca pela chave primária).
+CREATE TABLE lote_custo_diario (
+                                   lote_id BIGINT NOT NULL,
+                                   data DATE NOT NULL,
+                                   custo_dia NUMERIC(14, 2) NOT NULL DEFAULT 0,
+                                   custo_acumulado NUMERIC(14, 2) NOT NULL DEFAULT 0,
+
+                                   CONSTRAINT pk_lote_custo_diario PRIMARY KEY (lote_id, data),
+
+    -- Foreign Keys
+                                   CONSTRAINT fk_lote_custo_diario_lote FOREIGN KEY (lote_id)
+                                       REFERENCES lotes(id) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir dos lançamentos existentes
+INSERT INTO lote_custo_diario (lote_id, data, custo_dia, custo_acumulado)
+SELECT lancamentos.lote_id,
+       lancamentos.data,
+       SUM(lancamentos.valor),
+       SUM(SUM(lancamentos.valor)) OVER (PARTITION BY lancamentos.lote_id ORDER BY lancamentos.data)
+FROM (SELECT r.lote_id, r.data_aplicacao AS data, r.custo_total AS valor FROM racoes r WHERE r.custo_total IS NOT NULL
+      UNION ALL
+      SELECT n.lote_id, n.data_aplicacao, n.custo_total FROM nutrientes n WHERE n.custo_total IS NOT NULL
+      UNION ALL
+      SELECT f.lote_id, f.data_aplicacao, f.custo_total FROM fertilizacoes f WHERE f.custo_total IS NOT NULL
+      UNION ALL
+      SELECT c.lote_id, c.data_lancamento, c.valor FROM custos_variaveis c) lancamentos
+GROUP BY lancamentos.lote_id, lancamentos.data;
+
+-- Comentários
+COMMENT ON TABLE lote_custo_diario IS 'Custo acumulado de lançamentos por lote e dia, mantido a cada lançamento';
+COMMENT ON COLUMN lote_custo_diario.custo_dia IS 'Soma dos lançamentos do lote no dia (ração, nutrientes, fertilização e custos variáveis)';
+COMMENT ON COLUMN lote_custo_diario.custo_acumulado IS 'Soma dos lançamentos do lote até o dia, inclusive';
@@ -0,0 +1,32 @@
+-- V17__criar_tabela_projecoes_lote.sql
+-- Projeção de cada lote na data de despesca sugerida, recalculada em segundo plano após alterações de biometrias ou do lote.
+-- As leituras servem a linha pronta em vez de ajustar a curva de crescimento a cada requisição.
+CREATE TABLE projecoes_lote (
+                                lote_id BIGINT PRIMARY KEY,
+                                lote_codigo VARCHAR(50) NOT NULL,
+                                ultima_biometria_id BIGINT,
+                                modelo_crescimento VARCHAR(50),
+                                quantidade_biometrias INTEGER,
+                                data_ultima_biometria DATE,
+                                peso_atual NUMERIC(8, 3),
+                                peso_medio_projetado NUMERIC(8, 2),
+                                quantidade_estimada NUMERIC(12, 2),
+                                biomassa_projetada NUMERIC(12, 2),
+                                status_despesca VARCHAR(30),
+                                data_despesca_sugerida DATE,
+                                erro VARCHAR(255),
+                                calculado_em TIMESTAMP NOT NULL,
+                                tempo_calculo_ms BIGINT NOT NULL DEFAULT 0,
+
+    -- Foreign Keys
+                                CONSTRAINT fk_projecoes_lote_lote FOREIGN KEY (lote_id)
+                                    REFERENCES lotes(id) ON DELETE CASCADE
+);
+
+-- Comentários
+COMMENT ON TABLE projecoes_lote IS 'Projeção pré-calculada de cada lote, atualizada após o commit de biometrias';
+COMMENT ON COLUMN projecoes_lote.ultima_biometria_id IS 'Biometria mais recente considerada no cálculo';
+COMMENT ON COLUMN projecoes_lote.peso_medio_projetado IS 'Peso médio projetado (g) na data de despesca sugerida';
+COMMENT ON COLUMN projecoes_lote.biomassa_projetada IS 'Biomassa projetada (kg) na data de despesca sugerida';
+COMMENT ON COLUMN projecoes_lote.erro IS 'Motivo quando o lote não pôde ser projetado (ex: menos de 2 biometrias)';
+COMMENT ON COLUMN projecoes_lote.tempo_calculo_ms IS 'Duração do cálculo da projeção em milissegundos';
@@ -0,0 +1,10 @@
+-- V18__adicionar_quantidade_racao_kg_resumo.sql
+-- Total de ração do lote convertido para kg, mantido a cada lançamento junto com os demais totais do resumo.
+-- O FCA passa a ser calculado a partir dele, sem somar as rações do lote.
+ALTER TABLE lote_custo_resumo
+    ADD COLUMN quantidade_racao_kg NUMERIC(18, 6) NOT NULL DEFAULT 0;
+
+-- A carga inicial a partir das rações existentes fica na V25, com os fatores da tabela unidades_medida
+
+-- Comentários
+COMMENT ON COLUMN lote_custo_resumo.quantidade_racao_kg IS 'Soma de racoes.quantidade do lote convertida para kg (unidades que não são de massa não entram)';
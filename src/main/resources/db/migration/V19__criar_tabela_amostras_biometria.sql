@@ -0,0 +1,27 @@
+-- V19__criar_tabela_amostras_biometria.sql
+-- Pesos individuais dos camarões pesados em uma biometria, gravados compactados (float de 32 bits por camarão)
+-- em uma única linha por biometria, com as estatísticas de uniformidade calculadas na gravação.
+CREATE TABLE amostras_biometria (
+                                    biometria_id BIGINT PRIMARY KEY,
+                                    quantidade INTEGER NOT NULL,
+                                    pesos BYTEA NOT NULL,
+                                    desvio_padrao NUMERIC(8, 3) NOT NULL,
+                                    coeficiente_variacao NUMERIC(7, 2) NOT NULL,
+                                    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Foreign Keys
+                                    CONSTRAINT fk_amostras_biometria_biometria FOREIGN KEY (biometria_id)
+                                        REFERENCES biometrias(id) ON DELETE CASCADE,
+
+    -- Validações
+                                    CONSTRAINT chk_amostras_biometria_quantidade CHECK (quantidade > 0),
+                                    CONSTRAINT chk_amostras_biometria_pesos CHECK (octet_length(pesos) = quantidade * 4)
+);
+
+-- Floats quase não comprimem: evita a tentativa de compressão do TOAST
+ALTER TABLE amostras_biometria ALTER COLUMN pesos SET STORAGE EXTERNAL;
+
+-- Comentários
+COMMENT ON TABLE amostras_biometria IS 'Pesos individuais da amostra de cada biometria';
+COMMENT ON COLUMN amostras_biometria.pesos IS 'Pesos (g) como floats IEEE 754 de 32 bits little-endian, 4 bytes por camarão';
+COMMENT ON COLUMN amostras_biometria.coeficiente_variacao IS 'Desvio padrão em % do peso médio (uniformidade do lote)';
@@ -0,0 +1,20 @@
+-- V20__criar_indices_paginacao_cursor.sql
+-- Paginação por cursor (keyset): as listagens por data ordenam por (data, id) e cada página começa
+-- depois da última tupla entregue. O índice composto atende o predicado e a ordenação em uma única
+-- varredura, sem OFFSET, e substitui o índice só da data, que é prefixo dele.
+-- As listagens por ID usam a chave primária.
+
+CREATE INDEX idx_racoes_data_id ON racoes(data_aplicacao, id);
+DROP INDEX idx_racoes_data;
+
+CREATE INDEX idx_nutrientes_data_id ON nutrientes(data_aplicacao, id);
+DROP INDEX idx_nutrientes_data;
+
+CREATE INDEX idx_fertilizacoes_data_id ON fertilizacoes(data_aplicacao, id);
+DROP INDEX idx_fertilizacoes_data;
+
+CREATE INDEX idx_custos_variaveis_data_id ON custos_variaveis(data_lancamento, id);
+DROP INDEX idx_custos_variaveis_data;
+
+CREATE INDEX idx_biometrias_data_id ON biometrias(data_biometria, id);
+DROP INDEX idx_biometrias_data;
@@ -0,0 +1,10 @@
+-- V21__alterar_sequencias_tabelas_alto_volume.sql
+-- IDs de racoes, nutrientes, fertilizacoes e biometrias passam a ser gerados pelo Hibernate em blocos
+-- de 50, como custos_variaveis desde a V14. Com IDENTITY o Hibernate precisa do id gerado de cada linha
+-- e desliga o batch de inserts; com a sequência ele reserva o bloco em uma chamada e agrupa os INSERTs.
+-- O otimizador pooled-lo usa o valor lido como início do bloco (valor .. valor + 49), então o próximo
+-- nextval, seja do Hibernate ou do DEFAULT da coluna, sempre cai fora dos ids já reservados.
+ALTER SEQUENCE racoes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE nutrientes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE fertilizacoes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE biometrias_id_seq INCREMENT BY 50;
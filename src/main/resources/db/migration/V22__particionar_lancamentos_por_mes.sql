@@ -0,0 +1,135 @@
+-- V22__particionar_lancamentos_por_mes.sql
+-- racoes, nutrientes e custos_variaveis passam a ser particionadas por mês (RANGE pela data do lançamento).
+-- Consultas com filtro de data leem só as partições do período, e meses antigos podem ser desanexados
+-- para arquivamento com DETACH PARTITION ... CONCURRENTLY, que não bloqueia leituras e escritas na tabela.
+-- Não há partição DEFAULT: com ela o DETACH CONCURRENTLY não é permitido. As partições são criadas
+-- com antecedência pelo job de partições e, para lotes povoados em meses anteriores, ao gravar o lote.
+-- A chave primária inclui a data, exigência do PostgreSQL para tabelas particionadas; o id continua
+-- único por vir da sequência.
+
+-- Cria a partição do mês da data informada, se ainda não existir (nome: <tabela>_AAAA_MM)
+CREATE OR REPLACE FUNCTION criar_particao_mensal(tabela TEXT, mes DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    inicio DATE := date_trunc('month', mes)::DATE;
+    particao TEXT := tabela || '_' || to_char(inicio, 'YYYY_MM');
+BEGIN
+    IF to_regclass(particao) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   particao, tabela, inicio, (inicio + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+EXCEPTION
+    -- Outra transação criou a mesma partição ao mesmo tempo
+    WHEN duplicate_table THEN
+        RETURN FALSE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Garante as partições mensais das três tabelas entre os meses das duas datas; retorna quantas foram criadas
+CREATE OR REPLACE FUNCTION garantir_particoes_mensais(de DATE, ate DATE) RETURNS INTEGER AS $$
+DECLARE
+    tabela TEXT;
+    mes DATE;
+    criadas INTEGER := 0;
+BEGIN
+    FOREACH tabela IN ARRAY ARRAY['racoes', 'nutrientes', 'custos_variaveis'] LOOP
+        FOR mes IN SELECT generate_series(date_trunc('month', de), date_trunc('month', ate), INTERVAL '1 month')::DATE LOOP
+            IF criar_particao_mensal(tabela, mes) THEN
+                criadas := criadas + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN criadas;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Meses desanexados para arquivamento; lotes povoados até o último deles podem ter lançamentos fora
+-- das tabelas e ficam de fora da verificação do resumo de custos
+CREATE TABLE particoes_desanexadas (
+    particao VARCHAR(63) PRIMARY KEY,
+    tabela VARCHAR(63) NOT NULL,
+    mes DATE NOT NULL,
+    data_desanexacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabelas atuais saem do caminho; nomes de índices e chaves primárias são únicos no schema
+ALTER TABLE racoes RENAME TO racoes_legado;
+ALTER TABLE racoes_legado RENAME CONSTRAINT racoes_pkey TO racoes_legado_pkey;
+DROP INDEX idx_racoes_lote_id, idx_racoes_fornecedor_id, idx_racoes_tipo, idx_racoes_data_id;
+
+ALTER TABLE nutrientes RENAME TO nutrientes_legado;
+ALTER TABLE nutrientes_legado RENAME CONSTRAINT nutrientes_pkey TO nutrientes_legado_pkey;
+DROP INDEX idx_nutrientes_lote_id, idx_nutrientes_fornecedor_id, idx_nutrientes_tipo, idx_nutrientes_data_id;
+
+ALTER TABLE custos_variaveis RENAME TO custos_variaveis_legado;
+ALTER TABLE custos_variaveis_legado RENAME CONSTRAINT custos_variaveis_pkey TO custos_variaveis_legado_pkey;
+DROP INDEX idx_custos_variaveis_lote_id, idx_custos_variaveis_categoria, idx_custos_variaveis_data_id;
+
+-- Tabelas particionadas com as mesmas colunas, DEFAULTs (inclusive o nextval das sequências) e CHECKs
+CREATE TABLE racoes (
+    LIKE racoes_legado INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS,
+    CONSTRAINT racoes_pkey PRIMARY KEY (id, data_aplicacao),
+    CONSTRAINT fk_racoes_lote FOREIGN KEY (lote_id)
+        REFERENCES lotes(id) ON DELETE CASCADE,
+    CONSTRAINT fk_racoes_fornecedor FOREIGN KEY (fornecedor_id)
+        REFERENCES fornecedores(id) ON DELETE SET NULL
+) PARTITION BY RANGE (data_aplicacao);
+
+CREATE TABLE nutrientes (
+    LIKE nutrientes_legado INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS,
+    CONSTRAINT nutrientes_pkey PRIMARY KEY (id, data_aplicacao),
+    CONSTRAINT fk_nutrientes_lote FOREIGN KEY (lote_id)
+        REFERENCES lotes(id) ON DELETE CASCADE,
+    CONSTRAINT fk_nutrientes_fornecedor FOREIGN KEY (fornecedor_id)
+        REFERENCES fornecedores(id) ON DELETE SET NULL
+) PARTITION BY RANGE (data_aplicacao);
+
+CREATE TABLE custos_variaveis (
+    LIKE custos_variaveis_legado INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS,
+    CONSTRAINT custos_variaveis_pkey PRIMARY KEY (id, data_lancamento),
+    CONSTRAINT fk_custos_variaveis_lote FOREIGN KEY (lote_id)
+        REFERENCES lotes(id) ON DELETE CASCADE
+) PARTITION BY RANGE (data_lancamento);
+
+COMMENT ON TABLE racoes IS 'Registro de alimentação (ração) dos lotes, particionado por mês';
+COMMENT ON TABLE nutrientes IS 'Registro de probióticos e suplementos aplicados, particionado por mês';
+COMMENT ON TABLE custos_variaveis IS 'Outros custos variáveis do lote, particionado por mês';
+
+-- Índices na tabela particionada são criados em cada partição, inclusive nas futuras
+CREATE INDEX idx_racoes_lote_id ON racoes(lote_id);
+CREATE INDEX idx_racoes_fornecedor_id ON racoes(fornecedor_id);
+CREATE INDEX idx_racoes_tipo ON racoes(tipo_racao);
+CREATE INDEX idx_racoes_data_id ON racoes(data_aplicacao, id);
+
+CREATE INDEX idx_nutrientes_lote_id ON nutrientes(lote_id);
+CREATE INDEX idx_nutrientes_fornecedor_id ON nutrientes(fornecedor_id);
+CREATE INDEX idx_nutrientes_tipo ON nutrientes(tipo_nutriente);
+CREATE INDEX idx_nutrientes_data_id ON nutrientes(data_aplicacao, id);
+
+CREATE INDEX idx_custos_variaveis_lote_id ON custos_variaveis(lote_id);
+CREATE INDEX idx_custos_variaveis_categoria ON custos_variaveis(categoria);
+CREATE INDEX idx_custos_variaveis_data_id ON custos_variaveis(data_lancamento, id);
+
+-- Partições do lançamento ou povoamento mais antigo até três meses à frente
+SELECT garantir_particoes_mensais(
+    LEAST(CURRENT_DATE,
+          (SELECT MIN(data_aplicacao) FROM racoes_legado),
+          (SELECT MIN(data_aplicacao) FROM nutrientes_legado),
+          (SELECT MIN(data_lancamento) FROM custos_variaveis_legado),
+          (SELECT MIN(data_povoamento) FROM lotes)),
+    (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO racoes SELECT * FROM racoes_legado;
+INSERT INTO nutrientes SELECT * FROM nutrientes_legado;
+INSERT INTO custos_variaveis SELECT * FROM custos_variaveis_legado;
+
+-- As sequências pertenciam às colunas das tabelas antigas e seriam removidas junto com elas
+ALTER SEQUENCE racoes_id_seq OWNED BY racoes.id;
+ALTER SEQUENCE nutrientes_id_seq OWNED BY nutrientes.id;
+ALTER SEQUENCE custos_variaveis_id_seq OWNED BY custos_variaveis.id;
+
+DROP TABLE racoes_legado;
+DROP TABLE nutrientes_legado;
+DROP TABLE custos_variaveis_legado;
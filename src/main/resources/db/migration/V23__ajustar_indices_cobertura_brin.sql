@@ -0,0 +1,34 @@
+-- V23__ajustar_indices_cobertura_brin.sql
+-- Índices de cobertura para as somas por lote (custo e quantidade dos lançamentos): com as colunas
+-- somadas no INCLUDE, SUM(...) WHERE lote_id = ? é respondida por index-only scan, sem ler a tabela.
+-- Cada um substitui o índice simples de lote_id, que é prefixo dele. Nas tabelas particionadas o
+-- índice é criado na tabela mãe e propagado para todas as partições, inclusive as futuras.
+
+CREATE INDEX idx_racoes_lote_totais ON racoes(lote_id) INCLUDE (custo_total, quantidade, unidade);
+DROP INDEX idx_racoes_lote_id;
+
+CREATE INDEX idx_nutrientes_lote_totais ON nutrientes(lote_id) INCLUDE (custo_total);
+DROP INDEX idx_nutrientes_lote_id;
+
+CREATE INDEX idx_fertilizacoes_lote_totais ON fertilizacoes(lote_id) INCLUDE (custo_total);
+DROP INDEX idx_fertilizacoes_lote_id;
+
+CREATE INDEX idx_custos_variaveis_lote_totais ON custos_variaveis(lote_id) INCLUDE (valor);
+DROP INDEX idx_custos_variaveis_lote_id;
+
+-- BRIN nas datas que só crescem com a inserção: biometrias são registradas no dia da medição e, dentro de
+-- cada partição mensal, os lançamentos chegam na ordem da data. Guarda o mínimo e o máximo por faixa de
+-- páginas e ocupa uma fração do B-tree, atendendo filtros por período que cobrem muitas linhas. O B-tree
+-- (data, id) continua, porque a paginação por cursor precisa da ordenação dele. Datas de lotes e despescas
+-- ficam com B-tree: são editadas depois do cadastro e não seguem a ordem física das linhas.
+CREATE INDEX idx_biometrias_data_brin ON biometrias USING BRIN (data_biometria);
+CREATE INDEX idx_racoes_data_brin ON racoes USING BRIN (data_aplicacao);
+CREATE INDEX idx_nutrientes_data_brin ON nutrientes USING BRIN (data_aplicacao);
+CREATE INDEX idx_custos_variaveis_data_brin ON custos_variaveis USING BRIN (data_lancamento);
+
+-- Índices redundantes: duplicam o índice de uma restrição UNIQUE ou são prefixo de um índice composto
+DROP INDEX idx_biometrias_lote_id;  -- prefixo de idx_biometrias_lote_data
+DROP INDEX idx_lotes_viveiro_id;    -- prefixo de idx_lotes_viveiro_periodo
+DROP INDEX idx_lotes_codigo;        -- lotes.codigo é UNIQUE
+DROP INDEX idx_despescas_lote_id;   -- despescas.lote_id é UNIQUE
+DROP INDEX idx_usuarios_email;      -- usuarios.email é UNIQUE
@@ -0,0 +1,14 @@
+-- V24__adicionar_data_referencia_projecoes_lote.sql
+-- Data "hoje" usada em cada projeção gravada: a projeção parte do maior valor entre ela e a última biometria,
+-- então uma linha calculada em outro dia fica defasada mesmo sem novas biometrias.
+ALTER TABLE projecoes_lote ADD COLUMN data_referencia DATE;
+
+UPDATE projecoes_lote SET data_referencia = calculado_em::date;
+
+ALTER TABLE projecoes_lote ALTER COLUMN data_referencia SET NOT NULL;
+
+-- Atualização diária das projeções de dias anteriores
+CREATE INDEX idx_projecoes_lote_data_referencia ON projecoes_lote(data_referencia);
+
+-- Comentários
+COMMENT ON COLUMN projecoes_lote.data_referencia IS 'Data de referência (hoje) do cálculo; recalculada diariamente para os lotes ativos';
@@ -0,0 +1,29 @@
+-- V25__criar_tabela_unidades_medida.sql
+-- Fator de conversão para kg de cada unidade de medida, espelhando UnidadeMedidaEnum.fatorKg.
+-- É a única fonte dos fatores no SQL: a reconstrução do resumo de custos e a carga inicial abaixo juntam com ela.
+CREATE TABLE unidades_medida (
+                                 unidade VARCHAR(10) PRIMARY KEY,
+                                 fator_kg NUMERIC(12, 6)
+);
+
+INSERT INTO unidades_medida (unidade, fator_kg) VALUES
+    ('KG', 1),
+    ('G', 0.001),
+    ('TON', 1000),
+    ('LITRO', NULL),
+    ('ML', NULL),
+    ('UNIDADE', NULL),
+    ('SACO', 25),
+    ('HECTARE', NULL);
+
+-- Carga inicial do total em kg do resumo (unidades sem fator não entram)
+UPDATE lote_custo_resumo res
+SET quantidade_racao_kg = COALESCE((
+    SELECT SUM(r.quantidade * u.fator_kg)
+    FROM racoes r
+             JOIN unidades_medida u ON u.unidade = r.unidade
+    WHERE r.lote_id = res.lote_id), 0);
+
+-- Comentários
+COMMENT ON TABLE unidades_medida IS 'Fatores de conversão para kg; deve ter os mesmos valores de UnidadeMedidaEnum';
+COMMENT ON COLUMN unidades_medida.fator_kg IS 'kg por unidade; nulo para unidades que não são de massa';
@@ -22,6 +22,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -267,4 +268,85 @@ class BiometriaControllerIntegrationTest extends BaseIntegrationTest {
         mockMvc.perform(get("/v1/biometrias/{id}", biometria.getId()))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("Deve importar biometrias de CSV e relatar as linhas rejeitadas")
+    void deveImportarBiometriasDeCsv() throws Exception {
+        String csv = "loteId;dataBiometria;pesoMedio;quantidadeAmostrada;observacoes\n" +
+                loteAtivo.getId() + ";" + dataPovoamento.plusDays(10) + ";2,5;40;Primeira\n" +
+                loteAtivo.getId() + ";" + dataPovoamento.plusDays(20) + ";6,0;40;\n" +
+                "999999;" + LocalDate.now() + ";8,0;40;\n";
+
+        mockMvc.perform(post("/v1/biometrias/importacao")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLinhas").value(3))
+                .andExpect(jsonPath("$.importadas").value(2))
+                .andExpect(jsonPath("$.rejeitadas").value(1))
+                .andExpect(jsonPath("$.linhas[2].linha").value(4))
+                .andExpect(jsonPath("$.linhas[2].status").value("REJEITADA"));
+
+        mockMvc.perform(get("/v1/biometrias/lote/{loteId}", loteAtivo.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].pesoMedio").value(2.5))
+                .andExpect(jsonPath("$[0].diaCultivo").value(10))
+                .andExpect(jsonPath("$[0].observacoes").value("Primeira"))
+                .andExpect(jsonPath("$[1].ganhoPesoDiario").value(0.3));
+    }
+
+    @Test
+    @DisplayName("Deve importar biometrias de um array JSON")
+    void deveImportarBiometriasDeJson() throws Exception {
+        List<BiometriaRequest> requests = List.of(
+                BiometriaRequest.builder()
+                        .loteId(loteAtivo.getId())
+                        .dataBiometria(LocalDate.now())
+                        .pesoMedio(BigDecimal.valueOf(12.0))
+                        .quantidadeAmostrada(50)
+                        .build(),
+                BiometriaRequest.builder()
+                        .loteId(loteAtivo.getId())
+                        .dataBiometria(LocalDate.now())
+                        .quantidadeAmostrada(50)
+                        .build());
+
+        mockMvc.perform(post("/v1/biometrias/importacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importadas").value(1))
+                .andExpect(jsonPath("$.linhas[1].erros[0]").value("Peso médio é obrigatório"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar pesos individuais e consultar a distribuição de tamanho")
+    void deveRegistrarEConsultarAmostra() throws Exception {
+        Biometria biometria = biometriaRepository.save(Biometria.builder()
+                .lote(loteAtivo)
+                .dataBiometria(LocalDate.now())
+                .diaCultivo((int) ChronoUnit.DAYS.between(dataPovoamento, LocalDate.now()))
+                .pesoMedio(BigDecimal.valueOf(10.0))
+                .quantidadeAmostrada(50)
+                .build());
+
+        mockMvc.perform(put("/v1/biometrias/{id}/amostra", biometria.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pesos\": [10.0, 12.0, 14.0, 16.0, 18.0]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantidade").value(5))
+                .andExpect(jsonPath("$.coeficienteVariacao").value(22.59));
+
+        mockMvc.perform(get("/v1/biometrias/{id}", biometria.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pesoMedio").value(14.0))
+                .andExpect(jsonPath("$.quantidadeAmostrada").value(5));
+
+        mockMvc.perform(get("/v1/biometrias/{id}/amostra", biometria.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pesoMinimo").value(10.0))
+                .andExpect(jsonPath("$.pesoMaximo").value(18.0))
+                .andExpect(jsonPath("$.classes[?(@.classe == 'DE_80_A_100')].quantidade").value(2));
+    }
 }
@@ -1,9 +1,14 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtarcio.shrimpfarm.application.dto.request.AmostraBiometriaRequest;
 import com.jtarcio.shrimpfarm.application.dto.request.BiometriaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.AmostraBiometriaResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.BiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ImportacaoBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.service.AmostraBiometriaService;
 import com.jtarcio.shrimpfarm.application.service.BiometriaService;
+import com.jtarcio.shrimpfarm.application.service.ImportacaoBiometriaService;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +45,12 @@ class BiometriaControllerTest {
     @MockBean
     private BiometriaService biometriaService;
 
+    @MockBean
+    private ImportacaoBiometriaService importacaoBiometriaService;
+
+    @MockBean
+    private AmostraBiometriaService amostraBiometriaService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -164,4 +175,47 @@ class BiometriaControllerTest {
         mockMvc.perform(delete("/v1/biometrias/1"))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @DisplayName("Deve importar biometrias de CSV e retornar 200 com o relatório")
+    void deveImportarBiometriasDeCsv() throws Exception {
+        when(importacaoBiometriaService.importarCsv(any())).thenReturn(ImportacaoBiometriaResponse.builder()
+                .totalLinhas(2)
+                .importadas(2)
+                .rejeitadas(0)
+                .build());
+
+        mockMvc.perform(post("/v1/biometrias/importacao")
+                        .contentType("text/csv")
+                        .content("loteId,dataBiometria,pesoMedio,quantidadeAmostrada\n1,2025-01-10,15.5,30\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importadas").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve registrar pesos individuais da amostra e retornar 200")
+    void deveRegistrarAmostra() throws Exception {
+        when(amostraBiometriaService.registrar(eq(1L), any(AmostraBiometriaRequest.class)))
+                .thenReturn(AmostraBiometriaResponse.builder()
+                        .biometriaId(1L)
+                        .quantidade(3)
+                        .coeficienteVariacao(new BigDecimal("8.25"))
+                        .build());
+
+        mockMvc.perform(put("/v1/biometrias/1/amostra")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pesos\": [14.2, 15.1, 16.8]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantidade").value(3))
+                .andExpect(jsonPath("$.coeficienteVariacao").value(8.25));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao registrar amostra sem pesos")
+    void deveRetornar400AoRegistrarAmostraSemPesos() throws Exception {
+        mockMvc.perform(put("/v1/biometrias/1/amostra")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pesos\": []}"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -1,6 +1,7 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtarcio.shrimpfarm.application.service.DashboardCacheService;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
@@ -40,11 +41,17 @@ class DashboardControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private LoteRepository loteRepository;
 
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
     private Fazenda fazenda;
     private Viveiro viveiro;
 
     @BeforeEach
     void setUp() {
+        // Os dados são gravados direto nos repositórios, sem eventos de invalidação
+        dashboardCacheService.invalidar();
+
         fazendaRepository.deleteAll();
         viveiroRepository.deleteAll();
         loteRepository.deleteAll();
@@ -101,4 +108,22 @@ class DashboardControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalLotesAtivos").value(1))
                 .andExpect(jsonPath("$.totalViveirosOcupados").value(1));  // ✅ AGORA VAI SER 1
     }
+
+    @Test
+    @DisplayName("Deve servir leituras seguidas dos KPIs a partir do cache")
+    void deveServirKPIsDoCache() throws Exception {
+        long acertosAntes = dashboardCacheService.obterEstatisticas().getAcertos();
+        long reconstrucoesAntes = dashboardCacheService.obterEstatisticas().getReconstrucoes();
+
+        mockMvc.perform(get("/v1/dashboard/kpis"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/dashboard/kpis"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/dashboard/kpis/cache")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acertos").value(acertosAntes + 1))
+                .andExpect(jsonPath("$.reconstrucoes").value(reconstrucoesAntes + 1));
+    }
 }
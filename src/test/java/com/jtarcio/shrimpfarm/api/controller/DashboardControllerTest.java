@@ -1,7 +1,8 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
+import com.jtarcio.shrimpfarm.application.dto.response.CacheEstatisticasResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
-import com.jtarcio.shrimpfarm.application.service.RelatorioService;
+import com.jtarcio.shrimpfarm.application.service.DashboardCacheService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +29,7 @@ class DashboardControllerTest {
     private MockMvc mockMvc;
 
     @MockBean
-    private RelatorioService relatorioService;
+    private DashboardCacheService dashboardCacheService;
 
     private DashboardKPIsResponse criarDashboardKPIsResponse() {
         return DashboardKPIsResponse.builder()
@@ -48,7 +49,7 @@ class DashboardControllerTest {
     @DisplayName("Deve retornar os KPIs do dashboard")
     void deveRetornarKPIsDashboard() throws Exception {
         DashboardKPIsResponse response = criarDashboardKPIsResponse();
-        when(relatorioService.obterKPIsDashboard()).thenReturn(response);
+        when(dashboardCacheService.obterKPIs()).thenReturn(response);
 
         mockMvc.perform(get("/v1/dashboard/kpis")
                         .accept(MediaType.APPLICATION_JSON))
@@ -57,4 +58,27 @@ class DashboardControllerTest {
                 .andExpect(jsonPath("$.totalViveirosOcupados").value(5))
                 .andExpect(jsonPath("$.taxaSobrevivenciaMedia").value(87.3));
     }
+
+    @Test
+    @DisplayName("Deve retornar as métricas do cache de KPIs")
+    void deveRetornarEstatisticasCache() throws Exception {
+        CacheEstatisticasResponse estatisticas = CacheEstatisticasResponse.builder()
+                .acertos(9L)
+                .falhas(1L)
+                .taxaAcerto(BigDecimal.valueOf(90.00))
+                .invalidacoes(1L)
+                .reconstrucoes(1L)
+                .tempoUltimaReconstrucaoMs(12L)
+                .ttlSegundos(30L)
+                .build();
+        when(dashboardCacheService.obterEstatisticas()).thenReturn(estatisticas);
+
+        mockMvc.perform(get("/v1/dashboard/kpis/cache")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acertos").value(9))
+                .andExpect(jsonPath("$.falhas").value(1))
+                .andExpect(jsonPath("$.taxaAcerto").value(90.0))
+                .andExpect(jsonPath("$.ttlSegundos").value(30));
+    }
 }
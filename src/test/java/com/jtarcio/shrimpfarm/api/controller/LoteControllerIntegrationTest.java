@@ -3,22 +3,32 @@ package com.jtarcio.shrimpfarm.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jtarcio.shrimpfarm.application.dto.request.LoteRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.LoteResponse;
+import com.jtarcio.shrimpfarm.application.service.LoteService;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
 import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import com.jtarcio.shrimpfarm.integration.ContadorConsultas;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +49,15 @@ class LoteControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private FazendaRepository fazendaRepository;
 
+    @Autowired
+    private BiometriaRepository biometriaRepository;
+
+    @Autowired
+    private LoteService loteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Fazenda fazenda;
     private Viveiro viveiro;
 
@@ -136,4 +155,70 @@ class LoteControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors").exists());
     }
+
+    @Test
+    @DisplayName("Deve listar lotes com viveiro, fazenda e biometrias em uma única consulta")
+    void deveListarLotesEmUmaUnicaConsulta() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<List<LoteResponse>> lotes = new AtomicReference<>();
+
+        criarLotesAtivosComBiometrias(0, 2);
+        long consultasComDoisLotes = contador.contar(() -> lotes.set(loteService.listarTodos()));
+        assertThat(lotes.get()).hasSize(2);
+
+        criarLotesAtivosComBiometrias(2, 20);
+        long consultasComVinteLotes = contador.contar(() -> lotes.set(loteService.listarTodos()));
+        assertThat(lotes.get()).hasSize(20);
+
+        assertThat(consultasComDoisLotes).isEqualTo(1);
+        assertThat(consultasComVinteLotes).isEqualTo(1);
+        assertThat(lotes.get())
+                .allSatisfy(lote -> {
+                    assertThat(lote.getViveiroCodigo()).isEqualTo("V01");
+                    assertThat(lote.getFazendaNome()).isEqualTo("Fazenda Integração");
+                    assertThat(lote.getQuantidadeBiometrias()).isEqualTo(3);
+                });
+
+        assertThat(contador.contar(() -> lotes.set(loteService.listarAtivos()))).isEqualTo(1);
+        assertThat(lotes.get()).hasSize(20);
+        assertThat(contador.contar(() -> lotes.set(loteService.listarPorFazenda(fazenda.getId())))).isEqualTo(1);
+        assertThat(lotes.get()).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("Deve paginar lotes sem consultas por linha")
+    void devePaginarLotesSemConsultasPorLinha() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<Page<LoteResponse>> pagina = new AtomicReference<>();
+        criarLotesAtivosComBiometrias(0, 15);
+
+        // Conteúdo e contagem do total
+        long consultas = contador.contar(() -> pagina.set(loteService.listarPaginado(PageRequest.of(0, 10))));
+
+        assertThat(consultas).isEqualTo(2);
+        assertThat(pagina.get().getTotalElements()).isEqualTo(15);
+        assertThat(pagina.get().getContent()).hasSize(10)
+                .allSatisfy(lote -> assertThat(lote.getQuantidadeBiometrias()).isEqualTo(3));
+    }
+
+    private void criarLotesAtivosComBiometrias(int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            Lote lote = loteRepository.save(Lote.builder()
+                    .viveiro(viveiro)
+                    .codigo("LOTE-" + i)
+                    .dataPovoamento(LocalDate.now().minusDays(30))
+                    .quantidadePosLarvas(50000)
+                    .status(StatusLoteEnum.ATIVO)
+                    .build());
+            for (int dia = 10; dia <= 30; dia += 10) {
+                biometriaRepository.save(Biometria.builder()
+                        .lote(lote)
+                        .dataBiometria(LocalDate.now().minusDays(30 - dia))
+                        .diaCultivo(dia)
+                        .pesoMedio(new BigDecimal("5.000"))
+                        .quantidadeAmostrada(100)
+                        .build());
+            }
+        }
+    }
 }
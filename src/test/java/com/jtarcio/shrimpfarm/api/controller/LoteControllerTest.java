@@ -3,8 +3,10 @@ package com.jtarcio.shrimpfarm.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jtarcio.shrimpfarm.application.dto.request.LoteRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.LoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.service.LoteService;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -177,6 +179,31 @@ class LoteControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(response.getId()));
     }
 
+    @Test
+    @DisplayName("Deve listar por cursor repassando o token e o tamanho")
+    void deveListarPorCursor() throws Exception {
+        LoteResponse response = criarResponseValido();
+        when(loteService.listarPorCursor("abc", 20))
+                .thenReturn(new PaginaCursorResponse<>(List.of(response), 1, "def", true));
+
+        mockMvc.perform(get("/v1/lotes/cursor").param("cursor", "abc").param("tamanho", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].id").value(response.getId()))
+                .andExpect(jsonPath("$.proximoCursor").value("def"))
+                .andExpect(jsonPath("$.temMais").value(true));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void deveRetornar400ParaCursorInvalido() throws Exception {
+        when(loteService.listarPorCursor("invalido", 50))
+                .thenThrow(new BusinessException("Cursor de paginação inválido"));
+
+        mockMvc.perform(get("/v1/lotes/cursor").param("cursor", "invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Cursor de paginação inválido"));
+    }
+
     @Test
     @DisplayName("Deve deletar lote e retornar 204")
     void deveDeletarLote() throws Exception {
@@ -0,0 +1,219 @@
+package com.jtarcio.shrimpfarm.api.controller;
+
+import com.jtarcio.shrimpfarm.application.dto.response.AtualizacaoProjecaoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DespescaOtimaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PercentisResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoCacheEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.SimulacaoDespescaResponse;
+import com.jtarcio.shrimpfarm.application.service.AtualizacaoProjecaoService;
+import com.jtarcio.shrimpfarm.application.service.DespescaOtimaService;
+import com.jtarcio.shrimpfarm.application.service.ProjecaoCacheService;
+import com.jtarcio.shrimpfarm.application.service.ProjecaoLotesService;
+import com.jtarcio.shrimpfarm.application.service.SimulacaoDespescaService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ProjecaoController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ProjecaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AtualizacaoProjecaoService atualizacaoProjecaoService;
+
+    @MockBean
+    private ProjecaoLotesService projecaoLotesService;
+
+    @MockBean
+    private SimulacaoDespescaService simulacaoDespescaService;
+
+    @MockBean
+    private DespescaOtimaService despescaOtimaService;
+
+    @MockBean
+    private ProjecaoCacheService projecaoCacheService;
+
+    @Test
+    @DisplayName("Deve retornar estatísticas do cache de projeções")
+    void deveRetornarEstatisticasCacheProjecoes() throws Exception {
+        when(projecaoCacheService.obterEstatisticas()).thenReturn(ProjecaoCacheEstatisticasResponse.builder()
+                .acertos(30L)
+                .falhas(10L)
+                .taxaAcerto(new BigDecimal("75.00"))
+                .remocoesPorTamanho(2L)
+                .build());
+
+        mockMvc.perform(get("/v1/projecoes/cache/estatisticas")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taxaAcerto").value(75.00))
+                .andExpect(jsonPath("$.remocoesPorTamanho").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a projeção pré-calculada do lote")
+    void deveRetornarProjecaoLote() throws Exception {
+        ProjecaoLoteResponse projecao = ProjecaoLoteResponse.builder()
+                .loteId(1L)
+                .loteCodigo("L001")
+                .pesoMedioProjetado(new BigDecimal("15.10"))
+                .statusDespesca("IDEAL")
+                .dataDespescaSugerida(LocalDate.of(2025, 6, 10))
+                .dataReferencia(LocalDate.of(2025, 5, 1))
+                .calculadoEm(LocalDateTime.of(2025, 5, 1, 8, 30))
+                .build();
+        when(atualizacaoProjecaoService.obterProjecao(1L)).thenReturn(projecao);
+
+        mockMvc.perform(get("/v1/projecoes/lotes/1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pesoMedioProjetado").value(15.10))
+                .andExpect(jsonPath("$.statusDespesca").value("IDEAL"))
+                .andExpect(jsonPath("$.dataDespescaSugerida").value("2025-06-10"))
+                .andExpect(jsonPath("$.dataReferencia").value("2025-05-01"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar as estatísticas da atualização de projeções")
+    void deveRetornarEstatisticasAtualizacaoProjecoes() throws Exception {
+        AtualizacaoProjecaoEstatisticasResponse estatisticas = AtualizacaoProjecaoEstatisticasResponse.builder()
+                .fila(3)
+                .agendadas(10L)
+                .coalescidas(4L)
+                .latenciaMediaMs(12L)
+                .build();
+        when(atualizacaoProjecaoService.obterEstatisticas()).thenReturn(estatisticas);
+
+        mockMvc.perform(get("/v1/projecoes/atualizacao/estatisticas")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fila").value(3))
+                .andExpect(jsonPath("$.coalescidas").value(4));
+    }
+
+    @Test
+    @DisplayName("Deve transmitir as projeções dos lotes ativos")
+    void deveTransmitirProjecoesLotesAtivos() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream saida = invocation.getArgument(2);
+            saida.write("{\"lotes\":[{\"loteId\":1}],\"tempos\":{\"lotes\":1}}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(projecaoLotesService).projetarLotesAtivos(eq(LocalDate.of(2025, 3, 1)), isNull(), any());
+
+        MvcResult resultado = mockMvc.perform(get("/v1/projecoes/lotes/ativos")
+                        .param("dataProjecao", "2025-03-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotes[0].loteId").value(1))
+                .andExpect(jsonPath("$.tempos.lotes").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve simular a despesca do lote com percentis de biomassa, receita e lucro")
+    void deveSimularDespescaLote() throws Exception {
+        SimulacaoDespescaResponse simulacao = SimulacaoDespescaResponse.builder()
+                .loteId(1L)
+                .trajetorias(100000)
+                .biomassa(PercentisResponse.builder().p10(new BigDecimal("900.00"))
+                        .p50(new BigDecimal("1000.00")).p90(new BigDecimal("1100.00")).build())
+                .lucro(PercentisResponse.builder().p10(new BigDecimal("-500.00"))
+                        .p50(new BigDecimal("2000.00")).p90(new BigDecimal("4500.00")).build())
+                .probabilidadePrejuizo(new BigDecimal("12.50"))
+                .build();
+        when(simulacaoDespescaService.simularLote(eq(1L), any())).thenReturn(simulacao);
+
+        mockMvc.perform(post("/v1/projecoes/lotes/1/simulacao-despesca")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dataDespesca\": \"2025-04-01\", \"precoVendaKg\": 25.00}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.biomassa.p50").value(1000.00))
+                .andExpect(jsonPath("$.lucro.p10").value(-500.00))
+                .andExpect(jsonPath("$.probabilidadePrejuizo").value(12.50));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar simulação sem preço de venda ou com trajetórias demais")
+    void deveRejeitarSimulacaoInvalida() throws Exception {
+        mockMvc.perform(post("/v1/projecoes/lotes/ativos/simulacao-despesca")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dataDespesca\": \"2025-04-01\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/v1/projecoes/lotes/ativos/simulacao-despesca")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dataDespesca\": \"2025-04-01\", \"precoVendaKg\": 25.00, " +
+                                "\"trajetorias\": 5000000}"))
+                .andExpect(status().isBadRequest());
+
+        verify(simulacaoDespescaService, never()).simularLotesAtivos(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar a data de despesca ótima dos lotes")
+    void deveRetornarDespescaOtima() throws Exception {
+        DespescaOtimaResponse otima = DespescaOtimaResponse.builder()
+                .loteId(1L)
+                .dataOtima(LocalDate.of(2025, 4, 20))
+                .diaCultivoOtimo(109)
+                .lucroOtimo(new BigDecimal("18500.00"))
+                .curva(List.of())
+                .build();
+        when(despescaOtimaService.otimizar(any())).thenReturn(List.of(otima));
+
+        mockMvc.perform(post("/v1/projecoes/lotes/despesca-otima")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"faixasPreco\": [{\"pesoMinimo\": 0, \"precoKg\": 20.00}, " +
+                                "{\"pesoMinimo\": 15, \"precoKg\": 26.00}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].dataOtima").value("2025-04-20"))
+                .andExpect(jsonPath("$[0].diaCultivoOtimo").value(109))
+                .andExpect(jsonPath("$[0].lucroOtimo").value(18500.00));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar otimização sem faixas de preço")
+    void deveRejeitarDespescaOtimaSemFaixas() throws Exception {
+        mockMvc.perform(post("/v1/projecoes/lotes/despesca-otima")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"faixasPreco\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(despescaOtimaService, never()).otimizar(any());
+    }
+}
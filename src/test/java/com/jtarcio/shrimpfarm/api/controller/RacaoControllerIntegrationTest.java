@@ -2,7 +2,13 @@ package com.jtarcio.shrimpfarm.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jtarcio.shrimpfarm.application.dto.request.RacaoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.RacaoResponse;
+import com.jtarcio.shrimpfarm.application.service.ParticaoLancamentoService;
+import com.jtarcio.shrimpfarm.application.service.RacaoService;
+import com.jtarcio.shrimpfarm.domain.entity.Despesca;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Racao;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
@@ -10,23 +16,34 @@ import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
 import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.DespescaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FornecedorRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
 import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import com.jtarcio.shrimpfarm.integration.ContadorConsultas;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -52,6 +69,21 @@ class RacaoControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private LoteRepository loteRepository;
 
+    @Autowired
+    private FornecedorRepository fornecedorRepository;
+
+    @Autowired
+    private DespescaRepository despescaRepository;
+
+    @Autowired
+    private RacaoService racaoService;
+
+    @Autowired
+    private ParticaoLancamentoService particaoLancamentoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Fazenda fazenda;
     private Viveiro viveiro;
     private Lote lote;
@@ -90,6 +122,10 @@ class RacaoControllerIntegrationTest extends BaseIntegrationTest {
                 .status(StatusLoteEnum.ATIVO)
                 .build();
         lote = loteRepository.save(lote);
+
+        // Lançamentos retroativos só são aceitos nos meses que a rotina de partições já criou
+        entityManager.flush();
+        particaoLancamentoService.garantirParticoes();
     }
 
     @Test
@@ -201,6 +237,55 @@ class RacaoControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements").value(0));
     }
 
+    @Test
+    @DisplayName("Deve percorrer as rações por cursor sem repetir nem pular linhas com a mesma data")
+    void devePercorrerRacoesPorCursor() throws Exception {
+        List<Long> esperados = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Várias rações no mesmo dia: o id desempata a ordem
+            esperados.add(racaoRepository.save(Racao.builder()
+                    .lote(lote)
+                    .dataAplicacao(LocalDate.now().minusDays(i / 3))
+                    .quantidade(new BigDecimal("10.0"))
+                    .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                    .marca("Potimar")
+                    .unidade(UnidadeMedidaEnum.KG)
+                    .build()).getId());
+        }
+        racaoRepository.flush();
+
+        List<Long> lidos = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            MockHttpServletRequestBuilder requisicao = get("/v1/racoes/cursor").param("tamanho", "3");
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            String json = mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            PaginaCursorResponse<RacaoResponse> pagina = objectMapper.readValue(json,
+                    objectMapper.getTypeFactory().constructParametricType(PaginaCursorResponse.class, RacaoResponse.class));
+
+            pagina.getItens().forEach(item -> lidos.add(item.getId()));
+            cursor = pagina.getProximoCursor();
+            paginas++;
+        } while (cursor != null);
+
+        assertThat(paginas).isEqualTo(3);
+        assertThat(lidos).containsExactlyInAnyOrderElementsOf(esperados).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Deve recusar cursor inválido")
+    void deveRecusarCursorInvalido() throws Exception {
+        mockMvc.perform(get("/v1/racoes/cursor").param("cursor", "invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
     @Test
     @DisplayName("Deve atualizar ração com sucesso")
     void deveAtualizarRacaoComSucesso() throws Exception {
@@ -267,4 +352,90 @@ class RacaoControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors", notNullValue()));
     }
+
+    @Test
+    @DisplayName("Deve paginar rações com lote e fornecedor sem consultas por linha")
+    void devePaginarRacoesSemConsultasPorLinha() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<Page<RacaoResponse>> pagina = new AtomicReference<>();
+
+        criarRacoesEmLotes(0, 2);
+        long consultasComDoisLotes = contador.contar(
+                () -> pagina.set(racaoService.listarPaginado(PageRequest.of(0, 5))));
+        assertThat(pagina.get().getTotalElements()).isEqualTo(2);
+
+        criarRacoesEmLotes(2, 20);
+        long consultasComVinteLotes = contador.contar(
+                () -> pagina.set(racaoService.listarPaginado(PageRequest.of(0, 15))));
+        assertThat(pagina.get().getContent()).hasSize(15);
+
+        // Conteúdo e contagem do total, qualquer que seja a quantidade de lotes e fornecedores na página
+        assertThat(consultasComDoisLotes).isEqualTo(1);
+        assertThat(consultasComVinteLotes).isEqualTo(2);
+        assertThat(pagina.get().getContent())
+                .allSatisfy(racao -> {
+                    assertThat(racao.getLoteCodigo()).startsWith("LOTE-R");
+                    assertThat(racao.getFornecedorNome()).startsWith("Fornecedor ");
+                });
+    }
+
+    @Test
+    @DisplayName("Deve inserir rações em lotes JDBC com ids reservados em blocos da sequência")
+    void deveInserirRacoesEmBatch() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        List<Racao> racoes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            racoes.add(Racao.builder()
+                    .lote(lote)
+                    .dataAplicacao(LocalDate.now().minusDays(i % 30))
+                    .quantidade(new BigDecimal("12.5"))
+                    .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                    .marca("Potimar")
+                    .unidade(UnidadeMedidaEnum.KG)
+                    .build());
+        }
+
+        long instrucoes = contador.contar(() -> {
+            racaoRepository.saveAll(racoes);
+            entityManager.flush();
+        });
+
+        // 2 chamadas à sequência (blocos de 50) e 5 lotes de INSERT (batch_size 20 no perfil de teste),
+        // contra 100 INSERTs isolados com IDENTITY
+        assertThat(instrucoes).isLessThanOrEqualTo(7);
+        assertThat(racoes).extracting(Racao::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(racaoRepository.count()).isEqualTo(100);
+    }
+
+    private void criarRacoesEmLotes(int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            Lote novo = loteRepository.save(Lote.builder()
+                    .viveiro(viveiro)
+                    .codigo("LOTE-R" + i)
+                    .dataPovoamento(LocalDate.now().minusDays(30))
+                    .quantidadePosLarvas(50000)
+                    .status(StatusLoteEnum.FINALIZADO)
+                    .build());
+            // Despesca no lado inverso do one-to-one do lote, que o Hibernate sempre resolve ao carregar o lote
+            despescaRepository.save(Despesca.builder()
+                    .lote(novo)
+                    .dataDespesca(LocalDate.now())
+                    .pesoTotal(new BigDecimal("100.00"))
+                    .quantidadeDespescada(8000)
+                    .pesoMedioFinal(new BigDecimal("12.500"))
+                    .build());
+            racaoRepository.save(Racao.builder()
+                    .lote(novo)
+                    .fornecedor(fornecedorRepository.save(Fornecedor.builder()
+                            .nome("Fornecedor " + i)
+                            .ativo(true)
+                            .build()))
+                    .dataAplicacao(LocalDate.now())
+                    .quantidade(new BigDecimal("10.0"))
+                    .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                    .marca("Potimar")
+                    .unidade(UnidadeMedidaEnum.KG)
+                    .build());
+        }
+    }
 }
@@ -0,0 +1,172 @@
+package com.jtarcio.shrimpfarm.api.controller;
+
+import com.jtarcio.shrimpfarm.application.service.ParticaoLancamentoService;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.CustoVariavelRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - RateioEnergiaController")
+class RateioEnergiaControllerIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private FazendaRepository fazendaRepository;
+
+    @Autowired
+    private ViveiroRepository viveiroRepository;
+
+    @Autowired
+    private LoteRepository loteRepository;
+
+    @Autowired
+    private CustoVariavelRepository custoVariavelRepository;
+
+    @Autowired
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Autowired
+    private ParticaoLancamentoService particaoLancamentoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Fazenda fazenda;
+    private Lote loteAtivo;
+    private Lote loteDespescadoNoPeriodo;
+
+    @BeforeEach
+    void setUp() {
+        fazenda = fazendaRepository.save(Fazenda.builder()
+                .nome("Fazenda Teste")
+                .proprietario("João Teste")
+                .cidade("Natal")
+                .estado("RN")
+                .ativa(true)
+                .build());
+
+        Viveiro viveiro = viveiroRepository.save(Viveiro.builder()
+                .fazenda(fazenda)
+                .codigo("V001")
+                .nome("Viveiro 1")
+                .status(StatusViveiroEnum.OCUPADO)
+                .ativo(true)
+                .build());
+
+        // 30 dias de cultivo em junho
+        loteAtivo = loteRepository.save(lote(viveiro, "LOTE-A", LocalDate.of(2025, 5, 1), null, StatusLoteEnum.ATIVO));
+        // 10 dias de cultivo em junho (despescado em 10/06)
+        loteDespescadoNoPeriodo = loteRepository.save(lote(viveiro, "LOTE-B",
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 6, 10), StatusLoteEnum.FINALIZADO));
+        // Fora do rateio: despescado antes do período e lote cancelado
+        loteRepository.save(lote(viveiro, "LOTE-C",
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 5, 20), StatusLoteEnum.FINALIZADO));
+        loteRepository.save(lote(viveiro, "LOTE-D", LocalDate.of(2025, 6, 21), null, StatusLoteEnum.CANCELADO));
+
+        // Partições de junho/2025, mês do rateio, a partir do povoamento do lote ativo
+        entityManager.flush();
+        particaoLancamentoService.garantirParticoes();
+    }
+
+    @Test
+    @DisplayName("Deve simular rateio apenas entre lotes em cultivo no período")
+    void deveSimularRateioEntreLotesNoPeriodo() throws Exception {
+        mockMvc.perform(post("/v1/rateios/energia/simulacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson("DIAS_CULTIVO")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotes", hasSize(2)))
+                .andExpect(jsonPath("$.lotes[0].loteId").value(loteAtivo.getId()))
+                .andExpect(jsonPath("$.lotes[0].diasNoPeriodo").value(30))
+                .andExpect(jsonPath("$.lotes[0].valor").value(75.00))
+                .andExpect(jsonPath("$.lotes[1].loteId").value(loteDespescadoNoPeriodo.getId()))
+                .andExpect(jsonPath("$.lotes[1].diasNoPeriodo").value(10))
+                .andExpect(jsonPath("$.lotes[1].valor").value(25.00))
+                .andExpect(jsonPath("$.registrado").value(false));
+
+        assertThat(custoVariavelRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve registrar rateio como custos variáveis que somam exatamente a conta")
+    void deveRegistrarRateioSomandoValorDaConta() throws Exception {
+        mockMvc.perform(post("/v1/rateios/energia")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson("IGUALITARIO").replace("100.00", "100.01")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.registrado").value(true))
+                .andExpect(jsonPath("$.valorTotal").value(100.01));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CustoVariavel> custos = custoVariavelRepository.findAll();
+        assertThat(custos).hasSize(2);
+        assertThat(custos).allSatisfy(custo -> {
+            assertThat(custo.getCategoria()).isEqualTo(CategoriaGastoEnum.ENERGIA);
+            assertThat(custo.getDataLancamento()).isEqualTo(LocalDate.of(2025, 6, 30));
+        });
+        assertThat(custos).extracting(custo -> custo.getValor().toPlainString())
+                .containsExactlyInAnyOrder("50.01", "50.00");
+
+        assertThat(loteCustoResumoRepository.findAllById(List.of(loteAtivo.getId(), loteDespescadoNoPeriodo.getId())))
+                .extracting(LoteCustoResumo::getCustoVariavel)
+                .map(valor -> valor.toPlainString())
+                .containsExactlyInAnyOrder("50.01", "50.00");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 ao ratear conta de fazenda inexistente")
+    void deveRetornarNotFoundParaFazendaInexistente() throws Exception {
+        mockMvc.perform(post("/v1/rateios/energia/simulacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson("DIAS_CULTIVO").replace(
+                                "\"fazendaId\": " + fazenda.getId(), "\"fazendaId\": 999999")))
+                .andExpect(status().isNotFound());
+    }
+
+    private String requestJson(String criterio) {
+        return "{\"fazendaId\": " + fazenda.getId() + ", " +
+                "\"dataInicio\": \"2025-06-01\", \"dataFim\": \"2025-06-30\", " +
+                "\"valorTotal\": 100.00, \"criterio\": \"" + criterio + "\"}";
+    }
+
+    private Lote lote(Viveiro viveiro, String codigo, LocalDate dataPovoamento, LocalDate dataDespesca,
+                      StatusLoteEnum status) {
+        return Lote.builder()
+                .viveiro(viveiro)
+                .codigo(codigo)
+                .dataPovoamento(dataPovoamento)
+                .dataDespesca(dataDespesca)
+                .quantidadePosLarvas(50000)
+                .status(status)
+                .build();
+    }
+}
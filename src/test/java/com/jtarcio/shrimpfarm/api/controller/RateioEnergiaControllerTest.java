@@ -0,0 +1,114 @@
+package com.jtarcio.shrimpfarm.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtarcio.shrimpfarm.application.dto.request.RateioEnergiaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaResponse;
+import com.jtarcio.shrimpfarm.application.service.RateioEnergiaService;
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RateioEnergiaController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class RateioEnergiaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RateioEnergiaService rateioEnergiaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RateioEnergiaRequest criarRequestValido() {
+        return RateioEnergiaRequest.builder()
+                .fazendaId(1L)
+                .dataInicio(LocalDate.of(2025, 6, 1))
+                .dataFim(LocalDate.of(2025, 6, 30))
+                .valorTotal(new BigDecimal("1000.00"))
+                .criterio(CriterioRateioEnergia.BIOMASSA)
+                .build();
+    }
+
+    private RateioEnergiaResponse criarResponse(boolean registrado) {
+        return RateioEnergiaResponse.builder()
+                .fazendaId(1L)
+                .dataInicio(LocalDate.of(2025, 6, 1))
+                .dataFim(LocalDate.of(2025, 6, 30))
+                .criterio(CriterioRateioEnergia.BIOMASSA)
+                .valorTotal(new BigDecimal("1000.00"))
+                .totalLotes(2)
+                .registrado(registrado)
+                .lotes(List.of(
+                        RateioEnergiaLoteResponse.builder()
+                                .loteId(1L).loteCodigo("L001").diasNoPeriodo(30)
+                                .peso(new BigDecimal("4500.00")).valor(new BigDecimal("750.00")).build(),
+                        RateioEnergiaLoteResponse.builder()
+                                .loteId(2L).loteCodigo("L002").diasNoPeriodo(15)
+                                .peso(new BigDecimal("1500.00")).valor(new BigDecimal("250.00")).build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve simular rateio de energia e retornar 200")
+    void deveSimularRateio() throws Exception {
+        when(rateioEnergiaService.simular(any(RateioEnergiaRequest.class))).thenReturn(criarResponse(false));
+
+        mockMvc.perform(post("/v1/rateios/energia/simulacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criarRequestValido())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registrado").value(false))
+                .andExpect(jsonPath("$.lotes[0].valor").value(750.00))
+                .andExpect(jsonPath("$.lotes[1].diasNoPeriodo").value(15));
+    }
+
+    @Test
+    @DisplayName("Deve registrar rateio de energia e retornar 201")
+    void deveRegistrarRateio() throws Exception {
+        when(rateioEnergiaService.registrar(any(RateioEnergiaRequest.class))).thenReturn(criarResponse(true));
+
+        mockMvc.perform(post("/v1/rateios/energia")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criarRequestValido())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.registrado").value(true))
+                .andExpect(jsonPath("$.valorTotal").value(1000.00));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar rateio sem valor da conta")
+    void deveRejeitarRateioSemValor() throws Exception {
+        RateioEnergiaRequest request = criarRequestValido();
+        request.setValorTotal(null);
+
+        mockMvc.perform(post("/v1/rateios/energia")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(rateioEnergiaService, never()).registrar(any());
+    }
+}
@@ -1,5 +1,17 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
+import com.jtarcio.shrimpfarm.application.dto.request.RacaoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.RelatorioCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.service.CalculadoraCustoService;
+import com.jtarcio.shrimpfarm.application.service.DashboardCacheService;
+import com.jtarcio.shrimpfarm.application.service.LoteCustoResumoService;
+import com.jtarcio.shrimpfarm.application.service.ParticaoLancamentoService;
+import com.jtarcio.shrimpfarm.application.service.RacaoService;
+import com.jtarcio.shrimpfarm.application.service.RelatorioService;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Despesca;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Racao;
@@ -8,11 +20,15 @@ import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
 import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.DespescaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
 import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import com.jtarcio.shrimpfarm.integration.ContadorConsultas;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,9 +39,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ActiveProfiles("test")
@@ -45,12 +65,42 @@ class RelatorioControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private RacaoRepository racaoRepository;
 
+    @Autowired
+    private BiometriaRepository biometriaRepository;
+
+    @Autowired
+    private DespescaRepository despescaRepository;
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Autowired
+    private RacaoService racaoService;
+
+    @Autowired
+    private CalculadoraCustoService calculadoraCustoService;
+
+    @Autowired
+    private LoteCustoResumoService loteCustoResumoService;
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private ParticaoLancamentoService particaoLancamentoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Fazenda fazenda;
     private Viveiro viveiro;
     private Lote lote;
 
     @BeforeEach
     void setUp() {
+        // Os dados são gravados direto nos repositórios, sem eventos de invalidação
+        dashboardCacheService.invalidar();
+
         racaoRepository.deleteAll();
         loteRepository.deleteAll();
         viveiroRepository.deleteAll();
@@ -136,26 +186,10 @@ class RelatorioControllerIntegrationTest extends BaseIntegrationTest {
         lote = loteRepository.save(lote);
 
         // Ração 1: 10 kg a R$ 1,00 = R$ 10,00
-        racaoRepository.save(Racao.builder()
-                .lote(lote)
-                .dataAplicacao(LocalDate.now())
-                .quantidade(new BigDecimal("10.0"))
-                .custoUnitario(new BigDecimal("1.00"))
-                .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
-                .marca("Potimar")
-                .unidade(UnidadeMedidaEnum.KG)
-                .build());
+        racaoService.criar(racaoRequest(lote.getId(), "10.0"));
 
         // Ração 2: 20,5 kg a R$ 1,00 = R$ 20,50
-        racaoRepository.save(Racao.builder()
-                .lote(lote)
-                .dataAplicacao(LocalDate.now())
-                .quantidade(new BigDecimal("20.5"))
-                .custoUnitario(new BigDecimal("1.00"))
-                .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
-                .marca("Potimar")
-                .unidade(UnidadeMedidaEnum.KG)
-                .build());
+        racaoService.criar(racaoRequest(lote.getId(), "20.5"));
 
         mockMvc.perform(get("/v1/relatorios/lotes/{loteId}/custos", lote.getId())
                         .contentType(MediaType.APPLICATION_JSON))
@@ -201,4 +235,263 @@ class RelatorioControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].loteId").exists());
     }
+
+    @Test
+    @DisplayName("Deve listar relatórios de lotes ativos com número constante de consultas")
+    void deveListarRelatoriosLotesAtivosComNumeroConstanteDeConsultas() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<List<RelatorioCustoLoteResponse>> relatorios = new AtomicReference<>();
+
+        criarLotesAtivosComDados(0, 2);
+        long consultasComDoisLotes = contador.contar(
+                () -> relatorios.set(relatorioService.listarRelatoriosLotesAtivos()));
+        assertThat(relatorios.get()).hasSize(2);
+
+        criarLotesAtivosComDados(2, 20);
+        long consultasComVinteLotes = contador.contar(
+                () -> relatorios.set(relatorioService.listarRelatoriosLotesAtivos()));
+        assertThat(relatorios.get()).hasSize(20);
+
+        assertThat(consultasComVinteLotes).isEqualTo(consultasComDoisLotes);
+        assertThat(relatorios.get())
+                .allSatisfy(relatorio -> {
+                    assertThat(relatorio.getViveiroNome()).isEqualTo("Viveiro 1");
+                    assertThat(relatorio.getCustoRacao()).isEqualByComparingTo("10.00");
+                    assertThat(relatorio.getBiomassaAtual()).isEqualByComparingTo("200.00");
+                });
+    }
+
+    @Test
+    @DisplayName("Deve calcular KPIs do dashboard com número constante de consultas")
+    void deveCalcularKPIsDashboardComNumeroConstanteDeConsultas() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<DashboardKPIsResponse> kpis = new AtomicReference<>();
+
+        Lote loteFinalizado = loteRepository.save(Lote.builder()
+                .viveiro(viveiro)
+                .codigo("LOTE-F1")
+                .dataPovoamento(LocalDate.now().minusDays(120))
+                .quantidadePosLarvas(50000)
+                .status(StatusLoteEnum.FINALIZADO)
+                .build());
+        despescaRepository.save(Despesca.builder()
+                .lote(loteFinalizado)
+                .dataDespesca(LocalDate.now().minusDays(10))
+                .pesoTotal(new BigDecimal("100.00"))
+                .quantidadeDespescada(8000)
+                .pesoMedioFinal(new BigDecimal("12.500"))
+                .precoVendaKg(new BigDecimal("20.00"))
+                .build());
+
+        criarLotesAtivosComDados(0, 2);
+        long consultasComDoisLotes = contador.contar(() -> kpis.set(relatorioService.obterKPIsDashboard()));
+        assertThat(kpis.get().getTotalLotesAtivos()).isEqualTo(2);
+
+        criarLotesAtivosComDados(2, 20);
+        long consultasComVinteLotes = contador.contar(() -> kpis.set(relatorioService.obterKPIsDashboard()));
+
+        assertThat(consultasComVinteLotes).isEqualTo(consultasComDoisLotes);
+        assertThat(kpis.get().getTotalLotesAtivos()).isEqualTo(20);
+        assertThat(kpis.get().getBiomassaTotalAtual()).isEqualByComparingTo("4000.00");
+        assertThat(kpis.get().getPesoMedioAtual()).isEqualByComparingTo("5.00");
+        // R$ 10,00 e 10 kg de ração para cada 200 kg de biomassa
+        assertThat(kpis.get().getCustoMedioPorKg()).isEqualByComparingTo("0.05");
+        assertThat(kpis.get().getFcaMedia()).isEqualByComparingTo("0.05");
+        // Preço médio das despescas (R$ 20,00/kg) menos o custo por kg
+        assertThat(kpis.get().getLucroMedioPorKg()).isEqualByComparingTo("19.95");
+    }
+
+    @Test
+    @DisplayName("Deve calcular custos de vários lotes com número constante de consultas")
+    void deveCalcularCustosDosLotesComNumeroConstanteDeConsultas() throws Exception {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<List<CustoLoteResponse>> custos = new AtomicReference<>();
+
+        criarLotesAtivosComDados(0, 2);
+        List<Long> doisLotes = loteRepository.findAllIds();
+        long consultasComDoisLotes = contador.contar(
+                () -> custos.set(calculadoraCustoService.gerarQuadroCustosDosLotes(doisLotes)));
+        assertThat(custos.get()).hasSize(2);
+
+        criarLotesAtivosComDados(2, 20);
+        List<Long> vinteLotes = loteRepository.findAllIds();
+        long consultasComVinteLotes = contador.contar(
+                () -> custos.set(calculadoraCustoService.gerarQuadroCustosDosLotes(vinteLotes)));
+        assertThat(custos.get()).hasSize(20);
+
+        assertThat(consultasComVinteLotes).isEqualTo(consultasComDoisLotes);
+        assertThat(custos.get())
+                .allSatisfy(custo -> assertThat(custo.getCustoRacao()).isEqualByComparingTo("10.00"));
+
+        mockMvc.perform(post("/v1/relatorios/custos/lotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loteIds\": [" + vinteLotes.get(0) + ", " + vinteLotes.get(1) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].loteId").value(vinteLotes.get(0)))
+                .andExpect(jsonPath("$[0].custoTotal").value(10.00));
+
+        mockMvc.perform(post("/v1/relatorios/custos/lotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loteIds\": [999999]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve detectar e reconstruir resumo de custos divergente dos lançamentos")
+    void deveVerificarEReconstruirResumoCustosDivergente() throws Exception {
+        lote = loteRepository.save(Lote.builder()
+                .viveiro(viveiro)
+                .codigo("LOTE001")
+                .dataPovoamento(LocalDate.now().minusDays(30))
+                .quantidadePosLarvas(50000)
+                .status(StatusLoteEnum.ATIVO)
+                .build());
+
+        racaoService.criar(racaoRequest(lote.getId(), "10.0"));
+
+        // Lançamento gravado sem passar pelo serviço não é refletido no resumo
+        racaoRepository.save(Racao.builder()
+                .lote(lote)
+                .dataAplicacao(LocalDate.now())
+                .quantidade(new BigDecimal("5.0"))
+                .custoUnitario(new BigDecimal("2.00"))
+                .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                .marca("Potimar")
+                .unidade(UnidadeMedidaEnum.KG)
+                .build());
+        entityManager.flush();
+
+        mockMvc.perform(get("/v1/relatorios/custos/resumo/verificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotesVerificados").value(1))
+                .andExpect(jsonPath("$.lotesDivergentes").value(1))
+                .andExpect(jsonPath("$.divergencias", hasSize(4)))
+                .andExpect(jsonPath("$.divergencias[0].campo").value("custoRacao"))
+                .andExpect(jsonPath("$.divergencias[0].valorRegistrado").value(10.00))
+                .andExpect(jsonPath("$.divergencias[0].valorCalculado").value(20.00))
+                .andExpect(jsonPath("$.divergencias[?(@.campo == 'quantidadeRacaoKg')].valorCalculado").value(15.0))
+                .andExpect(jsonPath("$.divergencias[?(@.campo == 'custoAcumuladoDiario')].valorCalculado").value(20.0));
+
+        mockMvc.perform(post("/v1/relatorios/custos/resumo/reconstrucao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotesDivergentes").value(1))
+                .andExpect(jsonPath("$.corrigido").value(true));
+
+        mockMvc.perform(get("/v1/relatorios/custos/resumo/verificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotesDivergentes").value(0));
+
+        mockMvc.perform(get("/v1/relatorios/lotes/{loteId}/custos", lote.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.custoRacao").value(20.00));
+    }
+
+    @Test
+    @DisplayName("Deve manter o custo acumulado por dia ao registrar e remover rações")
+    void deveManterCustoAcumuladoPorDia() throws Exception {
+        LocalDate hoje = LocalDate.now();
+        lote = loteRepository.save(Lote.builder()
+                .viveiro(viveiro)
+                .codigo("LOTE-CURVA")
+                .dataPovoamento(hoje.minusDays(30))
+                .quantidadePosLarvas(50000)
+                .custoPosLarvas(new BigDecimal("1000.00"))
+                .status(StatusLoteEnum.ATIVO)
+                .build());
+        entityManager.flush();
+        particaoLancamentoService.garantirParticoes();
+
+        // Lançamento retroativo (dia 10) depois de um lançamento do dia 20
+        RacaoRequest dia20 = racaoRequest(lote.getId(), "100.0");
+        dia20.setDataAplicacao(hoje.minusDays(10));
+        RacaoRequest dia10 = racaoRequest(lote.getId(), "50.0");
+        dia10.setDataAplicacao(hoje.minusDays(20));
+        RacaoRequest outraDia20 = racaoRequest(lote.getId(), "10.0");
+        outraDia20.setDataAplicacao(hoje.minusDays(10));
+
+        racaoService.criar(dia20);
+        Long racaoDia10Id = racaoService.criar(dia10).getId();
+        racaoService.criar(outraDia20);
+
+        mockMvc.perform(get("/v1/relatorios/lotes/{loteId}/custos/acumulado", lote.getId())
+                        .param("data", hoje.minusDays(15).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.custoLancamentos").value(50.00))
+                .andExpect(jsonPath("$.custoTotal").value(1050.00));
+
+        mockMvc.perform(get("/v1/relatorios/lotes/{loteId}/custos/acumulado", lote.getId())
+                        .param("dataInicio", hoje.minusDays(15).toString())
+                        .param("data", hoje.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.custoPosLarvas").value(0.00))
+                .andExpect(jsonPath("$.custoTotal").value(110.00));
+
+        mockMvc.perform(get("/v1/relatorios/lotes/{loteId}/custos/curva", lote.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pontos", hasSize(3)))
+                .andExpect(jsonPath("$.pontos[1].diaCultivo").value(10))
+                .andExpect(jsonPath("$.pontos[1].custoAcumulado").value(1050.00))
+                .andExpect(jsonPath("$.pontos[2].diaCultivo").value(20))
+                .andExpect(jsonPath("$.pontos[2].custoDia").value(110.00))
+                .andExpect(jsonPath("$.custoTotal").value(1160.00));
+
+        racaoService.deletar(racaoDia10Id);
+        // Como em uma nova requisição: os dias lidos pela curva acima foram alterados por UPDATE nativo
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/v1/relatorios/lotes/{loteId}/custos/curva", lote.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pontos[1].custoAcumulado").value(1000.00))
+                .andExpect(jsonPath("$.custoTotal").value(1110.00));
+
+        assertThat(loteCustoResumoService.verificar().getLotesDivergentes()).isZero();
+    }
+
+    private RacaoRequest racaoRequest(Long loteId, String quantidade) {
+        return RacaoRequest.builder()
+                .loteId(loteId)
+                .dataAplicacao(LocalDate.now())
+                .quantidade(new BigDecimal(quantidade))
+                .custoUnitario(new BigDecimal("1.00"))
+                .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                .marca("Potimar")
+                .unidade(UnidadeMedidaEnum.KG)
+                .build();
+    }
+
+    private void criarLotesAtivosComDados(int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            Lote novoLote = loteRepository.save(Lote.builder()
+                    .viveiro(viveiro)
+                    .codigo("LOTE-N" + i)
+                    .dataPovoamento(LocalDate.now().minusDays(30))
+                    .quantidadePosLarvas(50000)
+                    .status(StatusLoteEnum.ATIVO)
+                    .build());
+
+            racaoRepository.save(Racao.builder()
+                    .lote(novoLote)
+                    .dataAplicacao(LocalDate.now())
+                    .quantidade(new BigDecimal("10.0"))
+                    .custoUnitario(new BigDecimal("1.00"))
+                    .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                    .marca("Potimar")
+                    .unidade(UnidadeMedidaEnum.KG)
+                    .build());
+
+            biometriaRepository.save(Biometria.builder()
+                    .lote(novoLote)
+                    .dataBiometria(LocalDate.now())
+                    .diaCultivo(30)
+                    .pesoMedio(new BigDecimal("5.000"))
+                    .quantidadeAmostrada(100)
+                    .biomassaEstimada(new BigDecimal("200.00"))
+                    .build());
+
+            // Lançamentos gravados direto no repositório: o resumo é recalculado a partir deles
+            loteCustoResumoService.reconstruir(List.of(novoLote.getId()));
+        }
+    }
 }
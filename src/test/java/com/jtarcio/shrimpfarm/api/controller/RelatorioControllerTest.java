@@ -1,7 +1,22 @@
 package com.jtarcio.shrimpfarm.api.controller;
 
+import com.jtarcio.shrimpfarm.application.dto.response.ContextoCalculoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CurvaCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoAcumuladoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoLoteResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DemandaRacaoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DivergenciaCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PontoCurvaCustoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PrevisaoRacaoResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RelatorioCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.VerificacaoCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.service.CalculadoraCustoService;
+import com.jtarcio.shrimpfarm.application.service.ContextoCalculoLote;
+import com.jtarcio.shrimpfarm.application.service.CustoAcumuladoService;
+import com.jtarcio.shrimpfarm.application.service.DashboardCacheService;
+import com.jtarcio.shrimpfarm.application.service.LoteCustoResumoService;
+import com.jtarcio.shrimpfarm.application.service.PrevisaoRacaoService;
 import com.jtarcio.shrimpfarm.application.service.RelatorioService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +29,17 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +54,24 @@ class RelatorioControllerTest {
     @MockBean
     private RelatorioService relatorioService;
 
+    @MockBean
+    private LoteCustoResumoService loteCustoResumoService;
+
+    @MockBean
+    private DashboardCacheService dashboardCacheService;
+
+    @MockBean
+    private CalculadoraCustoService calculadoraCustoService;
+
+    @MockBean
+    private ContextoCalculoLote contextoCalculoLote;
+
+    @MockBean
+    private CustoAcumuladoService custoAcumuladoService;
+
+    @MockBean
+    private PrevisaoRacaoService previsaoRacaoService;
+
     private RelatorioCustoLoteResponse criarRelatorioCustoLoteResponse() {
         return RelatorioCustoLoteResponse.builder()
                 .loteId(1L)
@@ -85,7 +124,7 @@ class RelatorioControllerTest {
     @DisplayName("Deve retornar KPIs do dashboard")
     void deveRetornarDashboardKpis() throws Exception {
         DashboardKPIsResponse response = criarDashboardKPIsResponse();
-        when(relatorioService.obterKPIsDashboard()).thenReturn(response);
+        when(dashboardCacheService.obterKPIs()).thenReturn(response);
 
         mockMvc.perform(get("/v1/relatorios/dashboard")
                         .accept(MediaType.APPLICATION_JSON))
@@ -108,4 +147,183 @@ class RelatorioControllerTest {
                 .andExpect(jsonPath("$[0].loteId").value(1L))
                 .andExpect(jsonPath("$[0].custoTotal").value(7000.00));
     }
+
+    @Test
+    @DisplayName("Deve verificar o resumo de custos dos lotes")
+    void deveVerificarResumoCustos() throws Exception {
+        VerificacaoCustoResumoResponse verificacao = VerificacaoCustoResumoResponse.builder()
+                .dataVerificacao(LocalDateTime.now())
+                .lotesVerificados(2)
+                .lotesDivergentes(1)
+                .corrigido(false)
+                .divergencias(List.of(DivergenciaCustoResumoResponse.builder()
+                        .loteId(1L)
+                        .campo("custoRacao")
+                        .valorRegistrado(BigDecimal.valueOf(100.00))
+                        .valorCalculado(BigDecimal.valueOf(150.00))
+                        .build()))
+                .build();
+        when(loteCustoResumoService.verificar()).thenReturn(verificacao);
+
+        mockMvc.perform(get("/v1/relatorios/custos/resumo/verificacao")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotesVerificados").value(2))
+                .andExpect(jsonPath("$.lotesDivergentes").value(1))
+                .andExpect(jsonPath("$.corrigido").value(false))
+                .andExpect(jsonPath("$.divergencias[0].campo").value("custoRacao"));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o resumo de custos dos lotes divergentes")
+    void deveReconstruirResumoCustos() throws Exception {
+        VerificacaoCustoResumoResponse verificacao = VerificacaoCustoResumoResponse.builder()
+                .dataVerificacao(LocalDateTime.now())
+                .lotesVerificados(2)
+                .lotesDivergentes(1)
+                .corrigido(true)
+                .build();
+        when(loteCustoResumoService.verificarECorrigir()).thenReturn(verificacao);
+
+        mockMvc.perform(post("/v1/relatorios/custos/resumo/reconstrucao")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.corrigido").value(true));
+    }
+
+    @Test
+    @DisplayName("Deve retornar custos dos lotes informados")
+    void deveRetornarCustosDosLotes() throws Exception {
+        CustoLoteResponse custos = CustoLoteResponse.builder()
+                .loteId(1L)
+                .loteCodigo("L001")
+                .custoTotal(BigDecimal.valueOf(22000.00))
+                .custoPorKg(BigDecimal.valueOf(44.00))
+                .build();
+        when(calculadoraCustoService.gerarQuadroCustosDosLotes(List.of(1L, 2L)))
+                .thenReturn(List.of(custos));
+
+        mockMvc.perform(post("/v1/relatorios/custos/lotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loteIds\": [1, 2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].loteId").value(1L))
+                .andExpect(jsonPath("$[0].custoTotal").value(22000.00))
+                .andExpect(jsonPath("$[0].custoPorKg").value(44.00));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cálculo de custos sem lotes informados")
+    void deveRejeitarCustosDosLotesSemLotes() throws Exception {
+        mockMvc.perform(post("/v1/relatorios/custos/lotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loteIds\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(calculadoraCustoService, never()).gerarQuadroCustosDosLotes(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar estatísticas do contexto de cálculo de lotes")
+    void deveRetornarEstatisticasContextoCalculo() throws Exception {
+        when(contextoCalculoLote.obterEstatisticas()).thenReturn(ContextoCalculoEstatisticasResponse.builder()
+                .lotesCarregados(2L)
+                .lotesReaproveitados(6L)
+                .consultasEvitadas(9L)
+                .build());
+
+        mockMvc.perform(get("/v1/relatorios/custos/contexto/estatisticas")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lotesReaproveitados").value(6))
+                .andExpect(jsonPath("$.consultasEvitadas").value(9));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a previsão de ração calculada")
+    void deveRetornarPrevisaoRacao() throws Exception {
+        PrevisaoRacaoResponse previsao = PrevisaoRacaoResponse.builder()
+                .dataInicio(LocalDate.of(2025, 3, 1))
+                .lotes(1)
+                .total(DemandaRacaoResponse.builder()
+                        .kg30(new BigDecimal("1495.20"))
+                        .kg60(new BigDecimal("3998.40"))
+                        .build())
+                .porFornecedor(List.of(DemandaRacaoResponse.builder()
+                        .fornecedorId(7L)
+                        .fornecedorNome("Ração Norte")
+                        .kg30(new BigDecimal("1495.20"))
+                        .build()))
+                .build();
+        when(previsaoRacaoService.obterPrevisao()).thenReturn(previsao);
+
+        mockMvc.perform(get("/v1/relatorios/racao/previsao")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.kg60").value(3998.40))
+                .andExpect(jsonPath("$.porFornecedor[0].fornecedorNome").value("Ração Norte"))
+                .andExpect(jsonPath("$.porFornecedor[0].loteId").doesNotExist());
+
+        verify(previsaoRacaoService, never()).recalcular();
+    }
+
+    @Test
+    @DisplayName("Deve retornar custo acumulado do lote até a data")
+    void deveRetornarCustoAcumuladoAteData() throws Exception {
+        CustoAcumuladoLoteResponse custo = CustoAcumuladoLoteResponse.builder()
+                .loteId(1L)
+                .dataFim(LocalDate.of(2025, 2, 1))
+                .custoTotal(new BigDecimal("1350.50"))
+                .build();
+        when(custoAcumuladoService.custoAte(1L, LocalDate.of(2025, 2, 1))).thenReturn(custo);
+
+        mockMvc.perform(get("/v1/relatorios/lotes/1/custos/acumulado")
+                        .param("data", "2025-02-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dataFim").value("2025-02-01"))
+                .andExpect(jsonPath("$.custoTotal").value(1350.50));
+
+        verify(custoAcumuladoService, never()).custoNoPeriodo(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar custo do lote no período quando dataInicio é informada")
+    void deveRetornarCustoNoPeriodo() throws Exception {
+        CustoAcumuladoLoteResponse custo = CustoAcumuladoLoteResponse.builder()
+                .loteId(1L)
+                .dataInicio(LocalDate.of(2025, 1, 10))
+                .dataFim(LocalDate.of(2025, 1, 31))
+                .custoTotal(new BigDecimal("650.00"))
+                .build();
+        when(custoAcumuladoService.custoNoPeriodo(1L, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 31)))
+                .thenReturn(custo);
+
+        mockMvc.perform(get("/v1/relatorios/lotes/1/custos/acumulado")
+                        .param("dataInicio", "2025-01-10")
+                        .param("data", "2025-01-31")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.custoTotal").value(650.00));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a curva de custo acumulado do lote")
+    void deveRetornarCurvaCusto() throws Exception {
+        CurvaCustoLoteResponse curva = CurvaCustoLoteResponse.builder()
+                .loteId(1L)
+                .custoTotal(new BigDecimal("1100.00"))
+                .pontos(List.of(
+                        PontoCurvaCustoResponse.builder().diaCultivo(0).custoAcumulado(new BigDecimal("1000.00")).build(),
+                        PontoCurvaCustoResponse.builder().diaCultivo(4).custoAcumulado(new BigDecimal("1100.00")).build()))
+                .build();
+        when(custoAcumuladoService.gerarCurvaCusto(1L)).thenReturn(curva);
+
+        mockMvc.perform(get("/v1/relatorios/lotes/1/custos/curva")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pontos.length()").value(2))
+                .andExpect(jsonPath("$.pontos[1].diaCultivo").value(4))
+                .andExpect(jsonPath("$.custoTotal").value(1100.00));
+    }
 }
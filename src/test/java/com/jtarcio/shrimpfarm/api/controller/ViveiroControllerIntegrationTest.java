@@ -2,12 +2,18 @@ package com.jtarcio.shrimpfarm.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jtarcio.shrimpfarm.application.dto.request.ViveiroRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.ViveiroResponse;
+import com.jtarcio.shrimpfarm.application.service.ViveiroService;
 import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import com.jtarcio.shrimpfarm.integration.ContadorConsultas;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +23,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,6 +49,15 @@ class ViveiroControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private FazendaRepository fazendaRepository;
 
+    @Autowired
+    private LoteRepository loteRepository;
+
+    @Autowired
+    private ViveiroService viveiroService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Fazenda fazenda;
     private Viveiro viveiro;
 
@@ -170,4 +190,48 @@ class ViveiroControllerIntegrationTest extends BaseIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Deve listar viveiros com fazenda e quantidade de lotes em uma única consulta")
+    void deveListarViveirosEmUmaUnicaConsulta() {
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+        AtomicReference<List<ViveiroResponse>> viveiros = new AtomicReference<>();
+
+        criarViveirosComLotes(10);
+        long consultas = contador.contar(() -> viveiros.set(viveiroService.listarTodos()));
+
+        assertThat(consultas).isEqualTo(1);
+        assertThat(viveiros.get()).hasSize(11);
+        assertThat(viveiros.get())
+                .filteredOn(response -> response.getCodigo().startsWith("VL"))
+                .hasSize(10)
+                .allSatisfy(response -> {
+                    assertThat(response.getFazendaNome()).isEqualTo("Fazenda Teste");
+                    assertThat(response.getQuantidadeLotes()).isEqualTo(2);
+                });
+
+        assertThat(contador.contar(() -> viveiros.set(viveiroService.listarAtivosPorFazenda(fazenda.getId()))))
+                .isEqualTo(2); // Existência da fazenda e listagem
+        assertThat(viveiros.get()).hasSize(11);
+    }
+
+    private void criarViveirosComLotes(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            Viveiro novo = viveiroRepository.save(Viveiro.builder()
+                    .fazenda(fazenda)
+                    .codigo("VL" + i)
+                    .nome("Viveiro L" + i)
+                    .status(StatusViveiroEnum.OCUPADO)
+                    .ativo(true)
+                    .build());
+            for (int j = 0; j < 2; j++) {
+                loteRepository.save(Lote.builder()
+                        .viveiro(novo)
+                        .codigo("LOTE-" + i + "-" + j)
+                        .dataPovoamento(LocalDate.now().minusDays(30))
+                        .quantidadePosLarvas(50000)
+                        .build());
+            }
+        }
+    }
 }
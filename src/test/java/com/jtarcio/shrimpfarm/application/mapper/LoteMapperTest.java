@@ -6,11 +6,14 @@ import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.LoteResumo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -143,4 +146,32 @@ class LoteMapperTest {
         assertThat(response.getObservacoes()).isEqualTo(entity.getObservacoes());
         assertThat(response.getQuantidadeBiometrias()).isEqualTo(entity.getBiometrias().size());
     }
+
+    @Test
+    @DisplayName("Deve converter LoteResumo da listagem para LoteResponse")
+    void deveConverterResumoParaResponse() {
+        LoteResumo resumo = new SpelAwareProxyProjectionFactory().createProjection(LoteResumo.class, Map.of(
+                "id", 10L,
+                "viveiroId", 2L,
+                "viveiroCodigo", "V1",
+                "fazendaId", 1L,
+                "fazendaNome", "Fazenda A",
+                "codigo", "L001",
+                "status", StatusLoteEnum.ATIVO,
+                "diasCultivo", 60,
+                "quantidadeBiometrias", 4L));
+
+        LoteResponse response = mapper.toResponse(resumo);
+
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getViveiroId()).isEqualTo(2L);
+        assertThat(response.getViveiroCodigo()).isEqualTo("V1");
+        assertThat(response.getFazendaId()).isEqualTo(1L);
+        assertThat(response.getFazendaNome()).isEqualTo("Fazenda A");
+        assertThat(response.getCodigo()).isEqualTo("L001");
+        assertThat(response.getStatus()).isEqualTo(StatusLoteEnum.ATIVO);
+        assertThat(response.getDiasCultivo()).isEqualTo(60);
+        assertThat(response.getQuantidadeBiometrias()).isEqualTo(4);
+        assertThat(response.getViveiroNome()).isNull();
+    }
 }
@@ -5,11 +5,14 @@ import com.jtarcio.shrimpfarm.application.dto.response.ViveiroResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.ViveiroResumo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -133,4 +136,27 @@ class ViveiroMapperTest {
         assertThat(response.getDataCriacao()).isEqualTo(entity.getDataCriacao());
         assertThat(response.getDataAtualizacao()).isEqualTo(entity.getDataAtualizacao());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve converter ViveiroResumo da listagem para ViveiroResponse")
+    void deveConverterResumoParaResponse() {
+        ViveiroResumo resumo = new SpelAwareProxyProjectionFactory().createProjection(ViveiroResumo.class, Map.of(
+                "id", 5L,
+                "fazendaId", 1L,
+                "fazendaNome", "Fazenda A",
+                "codigo", "V01",
+                "status", StatusViveiroEnum.OCUPADO,
+                "ativo", true,
+                "quantidadeLotes", 3L));
+
+        ViveiroResponse response = mapper.toResponse(resumo);
+
+        assertThat(response.getId()).isEqualTo(5L);
+        assertThat(response.getFazendaId()).isEqualTo(1L);
+        assertThat(response.getFazendaNome()).isEqualTo("Fazenda A");
+        assertThat(response.getCodigo()).isEqualTo("V01");
+        assertThat(response.getStatus()).isEqualTo(StatusViveiroEnum.OCUPADO);
+        assertThat(response.getAtivo()).isTrue();
+        assertThat(response.getQuantidadeLotes()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,92 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.domain.enums.ModeloCrescimentoEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AjusteCurvaCrescimentoTest {
+
+    @Test
+    @DisplayName("Deve recuperar os parâmetros de pontos gerados pelo próprio modelo")
+    void deveRecuperarParametrosDePontosDoModelo() {
+        for (ModeloCrescimentoEnum modelo : new ModeloCrescimentoEnum[]{
+                ModeloCrescimentoEnum.VON_BERTALANFFY, ModeloCrescimentoEnum.GOMPERTZ, ModeloCrescimentoEnum.LOGISTICO}) {
+            double[] reais = parametrosReais(modelo);
+            double[] dias = new double[8];
+            double[] pesos = new double[8];
+            for (int i = 0; i < 8; i++) {
+                dias[i] = 15 + i * 12;
+                pesos[i] = modelo.peso(dias[i], reais);
+            }
+
+            AjusteCurvaCrescimento.Resultado resultado = AjusteCurvaCrescimento.ajustar(
+                    modelo, dias, pesos, 8, modelo.parametrosIniciais(dias, pesos, 8));
+
+            assertThat(resultado).as(modelo.name()).isNotNull();
+            assertThat(resultado.erroQuadratico()).as(modelo.name()).isLessThan(1e-12);
+            for (int i = 0; i < 3; i++) {
+                assertThat(resultado.parametros()[i]).as(modelo.name())
+                        .isCloseTo(reais[i], within(1e-6 * (1 + Math.abs(reais[i]))));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Partir do ajuste anterior deve convergir com menos iterações ao chegar uma biometria")
+    void ajusteIncrementalDeveConvergirComMenosIteracoes() {
+        ModeloCrescimentoEnum modelo = ModeloCrescimentoEnum.GOMPERTZ;
+        double[] reais = parametrosReais(modelo);
+        double[] dias = new double[8];
+        double[] pesos = new double[8];
+        for (int i = 0; i < 8; i++) {
+            dias[i] = 15 + i * 12;
+            pesos[i] = modelo.peso(dias[i], reais);
+        }
+
+        AjusteCurvaCrescimento.Resultado anterior = AjusteCurvaCrescimento.ajustar(
+                modelo, dias, pesos, 7, modelo.parametrosIniciais(dias, pesos, 7));
+        AjusteCurvaCrescimento.Resultado incremental = AjusteCurvaCrescimento.ajustar(
+                modelo, dias, pesos, 8, anterior.parametros());
+        AjusteCurvaCrescimento.Resultado completo = AjusteCurvaCrescimento.ajustar(
+                modelo, dias, pesos, 8, modelo.parametrosIniciais(dias, pesos, 8));
+
+        assertThat(incremental.iteracoes()).isLessThan(completo.iteracoes());
+        assertThat(incremental.parametros()[0]).isCloseTo(completo.parametros()[0], within(1e-6));
+    }
+
+    @Test
+    @DisplayName("Deve retornar null quando os parâmetros iniciais são inválidos")
+    void deveRetornarNullComParametrosIniciaisInvalidos() {
+        double[] dias = {10, 20, 30, 40};
+        double[] pesos = {1, 2, 3, 4};
+
+        assertThat(AjusteCurvaCrescimento.ajustar(
+                ModeloCrescimentoEnum.LOGISTICO, dias, pesos, 4, new double[]{-10, 0.05, 30})).isNull();
+    }
+
+    @Test
+    @DisplayName("Ajuste não deve piorar o erro da estimativa inicial")
+    void ajusteNaoDevePiorarErroInicial() {
+        double[] dias = {30, 45, 60, 65};
+        double[] pesos = {5, 9, 12, 13.5};
+        ModeloCrescimentoEnum modelo = ModeloCrescimentoEnum.VON_BERTALANFFY;
+        double[] inicial = modelo.parametrosIniciais(dias, pesos, 4);
+
+        AjusteCurvaCrescimento.Resultado resultado = AjusteCurvaCrescimento.ajustar(modelo, dias, pesos, 4, inicial);
+
+        assertThat(resultado.erroQuadratico())
+                .isLessThan(AjusteCurvaCrescimento.erroQuadratico(modelo, dias, pesos, 4, inicial));
+        assertThat(modelo.parametrosValidos(resultado.parametros())).isTrue();
+    }
+
+    private double[] parametrosReais(ModeloCrescimentoEnum modelo) {
+        return switch (modelo) {
+            case VON_BERTALANFFY -> new double[]{25.0, 0.025, -5.0};
+            case GOMPERTZ -> new double[]{25.0, 0.035, 50.0};
+            default -> new double[]{25.0, 0.06, 60.0};
+        };
+    }
+}
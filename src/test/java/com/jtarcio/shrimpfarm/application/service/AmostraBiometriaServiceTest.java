@@ -0,0 +1,163 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.AmostraBiometriaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.AmostraBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ClasseTamanhoResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.domain.entity.AmostraBiometria;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.ClasseTamanhoCamaraoEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.PesosAmostra;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.AmostraBiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do AmostraBiometriaService")
+class AmostraBiometriaServiceTest {
+
+    @Mock
+    private AmostraBiometriaRepository amostraBiometriaRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AmostraBiometriaService service;
+
+    @Test
+    @DisplayName("registrar() deve gravar os pesos compactados e recalcular a biometria a partir deles")
+    void registrarDeveGravarPesosERecalcularBiometria() {
+        Biometria biometria = biometria();
+        when(biometriaRepository.findById(10L)).thenReturn(Optional.of(biometria));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L)).thenReturn(Optional.of(new BigDecimal("1120.000000")));
+
+        float[] pesos = {10f, 12f, 14f, 16f, 18f};
+        AmostraBiometriaResponse response = service.registrar(10L, new AmostraBiometriaRequest(pesos));
+
+        // Biometria passa a refletir a amostra: 5 camarões, média 14 g, total 70 g
+        assertThat(biometria.getPesoMedio()).isEqualByComparingTo("14.000");
+        assertThat(biometria.getQuantidadeAmostrada()).isEqualTo(5);
+        assertThat(biometria.getPesoTotalAmostra()).isEqualByComparingTo("70.000");
+        assertThat(biometria.getBiomassaEstimada()).isEqualByComparingTo("1120.00");
+        assertThat(biometria.getFatorConversaoAlimentar()).isEqualByComparingTo("1.000");
+        verify(biometriaRepository).save(biometria);
+
+        ArgumentCaptor<AmostraBiometria> captor = ArgumentCaptor.forClass(AmostraBiometria.class);
+        verify(amostraBiometriaRepository).save(captor.capture());
+        assertThat(captor.getValue().getBiometriaId()).isEqualTo(10L);
+        assertThat(captor.getValue().getQuantidade()).isEqualTo(5);
+        assertThat(PesosAmostra.descompactar(captor.getValue().getPesos())).containsExactly(pesos);
+        assertThat(captor.getValue().getCoeficienteVariacao()).isEqualByComparingTo("22.59");
+
+        assertThat(response.getDesvioPadrao()).isEqualByComparingTo("3.162");
+        assertThat(response.getPesoMinimo()).isEqualByComparingTo("10.000");
+        assertThat(response.getPesoMaximo()).isEqualByComparingTo("18.000");
+        assertThat(response.getClasses()).hasSize(ClasseTamanhoCamaraoEnum.values().length);
+        assertThat(response.getClasses())
+                .filteredOn(classe -> classe.getClasse() == ClasseTamanhoCamaraoEnum.DE_80_A_100)
+                .extracting(ClasseTamanhoResponse::getPercentual)
+                .containsExactly(new BigDecimal("40.00"));
+
+        verify(eventPublisher).publishEvent(new BiometriaAlteradaEvent(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("registrar() deve recusar pesos fora da faixa sem alterar a biometria")
+    void registrarDeveRecusarPesosInvalidos() {
+        Biometria biometria = biometria();
+        when(biometriaRepository.findById(10L)).thenReturn(Optional.of(biometria));
+
+        assertThatThrownBy(() -> service.registrar(10L, new AmostraBiometriaRequest(new float[]{12f, Float.NaN})))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("NaN");
+
+        assertThat(biometria.getPesoMedio()).isEqualByComparingTo("11.000");
+        verify(amostraBiometriaRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("registrar() deve lançar exceção quando a biometria não existe")
+    void registrarDeveLancarExcecaoQuandoBiometriaNaoExiste() {
+        when(biometriaRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.registrar(99L, new AmostraBiometriaRequest(new float[]{12f})))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("buscar() deve recalcular a distribuição a partir dos pesos gravados")
+    void buscarDeveRecalcularDistribuicao() {
+        when(amostraBiometriaRepository.findById(10L)).thenReturn(Optional.of(AmostraBiometria.builder()
+                .biometriaId(10L)
+                .quantidade(4)
+                .pesos(PesosAmostra.compactar(new float[]{8f, 9f, 21f, 22f}))
+                .build()));
+
+        AmostraBiometriaResponse response = service.buscar(10L);
+
+        assertThat(response.getQuantidade()).isEqualTo(4);
+        assertThat(response.getPesoMedio()).isEqualByComparingTo("15.000");
+        assertThat(response.getClasses())
+                .filteredOn(classe -> classe.getQuantidade() > 0)
+                .extracting(ClasseTamanhoResponse::getClasse)
+                .containsExactly(ClasseTamanhoCamaraoEnum.ACIMA_120, ClasseTamanhoCamaraoEnum.DE_100_A_120,
+                        ClasseTamanhoCamaraoEnum.DE_40_A_50);
+    }
+
+    @Test
+    @DisplayName("buscar() deve lançar exceção quando a biometria não tem amostra")
+    void buscarDeveLancarExcecaoSemAmostra() {
+        when(amostraBiometriaRepository.findById(10L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.buscar(10L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Nenhuma amostra de pesos individuais encontrada para a biometria ID: 10");
+    }
+
+    // Métodos auxiliares
+
+    private Biometria biometria() {
+        Lote lote = Lote.builder()
+                .id(1L)
+                .dataPovoamento(LocalDate.now().minusDays(28))
+                .quantidadePosLarvas(100000)
+                .build();
+
+        return Biometria.builder()
+                .id(10L)
+                .lote(lote)
+                .dataBiometria(LocalDate.now())
+                .diaCultivo(28)
+                .pesoMedio(new BigDecimal("11.000"))
+                .quantidadeAmostrada(30)
+                .build();
+    }
+}
@@ -0,0 +1,279 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.AtualizacaoProjecaoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoLoteResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.ProjecaoLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ProjecaoLoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do AtualizacaoProjecaoService")
+class AtualizacaoProjecaoServiceTest {
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private ProjecaoLoteRepository projecaoLoteRepository;
+
+    private AtualizacaoProjecaoService service;
+
+    @AfterEach
+    void tearDown() {
+        service.encerrar();
+    }
+
+    @Test
+    @DisplayName("Alteração de biometria deve gravar a projeção do lote em segundo plano")
+    void alteracaoDeBiometriaDeveGravarProjecao() {
+        service = criarService(1, 10);
+        Lote lote = lote(1L);
+        when(loteRepository.buscarComViveiro(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias(lote));
+
+        service.aoAlterarBiometria(new BiometriaAlteradaEvent(1L, 3L));
+
+        ArgumentCaptor<ProjecaoLote> captor = ArgumentCaptor.forClass(ProjecaoLote.class);
+        verify(projecaoLoteRepository, timeout(2000)).save(captor.capture());
+
+        ProjecaoLote projecao = captor.getValue();
+        assertThat(projecao.getLoteId()).isEqualTo(1L);
+        assertThat(projecao.getLoteCodigo()).isEqualTo("LOTE-001");
+        assertThat(projecao.getUltimaBiometriaId()).isEqualTo(3L);
+        assertThat(projecao.getQuantidadeBiometrias()).isEqualTo(3);
+        assertThat(projecao.getPesoAtual()).isEqualByComparingTo("12.000");
+        assertThat(projecao.getErro()).isNull();
+        assertThat(projecao.getDataDespescaSugerida()).isAfterOrEqualTo(LocalDate.now());
+        assertThat(projecao.getPesoMedioProjetado()).isGreaterThan(new BigDecimal("12.00"));
+        assertThat(projecao.getDataReferencia()).isEqualTo(LocalDate.now());
+        assertThat(projecao.getCalculadoEm()).isNotNull();
+
+        aguardarConclusao(1);
+        AtualizacaoProjecaoEstatisticasResponse estatisticas = service.obterEstatisticas();
+        assertThat(estatisticas.getAgendadas()).isEqualTo(1L);
+        assertThat(estatisticas.getFalhas()).isZero();
+        assertThat(estatisticas.getLotesPendentes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Lote com menos de 2 biometrias deve gravar a projeção com o motivo do erro")
+    void loteSemBiometriasSuficientesDeveGravarErro() {
+        service = criarService(1, 10);
+        Lote lote = lote(1L);
+        when(loteRepository.buscarComViveiro(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias(lote).subList(0, 1));
+
+        service.agendar(1L);
+
+        ArgumentCaptor<ProjecaoLote> captor = ArgumentCaptor.forClass(ProjecaoLote.class);
+        verify(projecaoLoteRepository, timeout(2000)).save(captor.capture());
+        assertThat(captor.getValue().getErro()).isEqualTo("É necessário pelo menos 2 biometrias para fazer projeção");
+        assertThat(captor.getValue().getPesoMedioProjetado()).isNull();
+    }
+
+    @Test
+    @DisplayName("Pedidos durante o cálculo devem ser coalescidos em um único recálculo")
+    void pedidosDuranteCalculoDevemSerCoalescidos() throws InterruptedException {
+        service = criarService(1, 10);
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(loteRepository.buscarComViveiro(1L))
+                .thenAnswer(invocacao -> {
+                    iniciou.countDown();
+                    liberar.await(2, TimeUnit.SECONDS);
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.empty());
+
+        service.agendar(1L);
+        assertThat(iniciou.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // Primeiro pedido durante o cálculo gera mais um; os seguintes são absorvidos por ele
+        service.agendar(1L);
+        service.agendar(1L);
+        service.agendar(1L);
+        liberar.countDown();
+
+        aguardarConclusao(2);
+        verify(loteRepository, times(2)).buscarComViveiro(1L);
+
+        AtualizacaoProjecaoEstatisticasResponse estatisticas = service.obterEstatisticas();
+        assertThat(estatisticas.getAgendadas()).isEqualTo(2L);
+        assertThat(estatisticas.getCoalescidas()).isEqualTo(2L);
+        assertThat(estatisticas.getLotesPendentes()).isZero();
+        verify(projecaoLoteRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Com a fila cheia o pedido deve ser rejeitado sem bloquear quem agendou")
+    void filaCheiaDeveRejeitarPedido() throws InterruptedException {
+        service = criarService(1, 1);
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(loteRepository.buscarComViveiro(1L)).thenAnswer(invocacao -> {
+            iniciou.countDown();
+            liberar.await(2, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        when(loteRepository.buscarComViveiro(2L)).thenReturn(Optional.empty());
+
+        service.agendar(1L);
+        assertThat(iniciou.await(2, TimeUnit.SECONDS)).isTrue();
+
+        service.agendar(2L); // Ocupa a única posição da fila
+        service.agendar(3L); // Rejeitado
+
+        AtualizacaoProjecaoEstatisticasResponse estatisticas = service.obterEstatisticas();
+        assertThat(estatisticas.getFila()).isEqualTo(1);
+        assertThat(estatisticas.getRejeitadas()).isEqualTo(1L);
+        assertThat(estatisticas.getLotesPendentes()).isEqualTo(2);
+
+        liberar.countDown();
+        aguardarConclusao(2);
+        verify(loteRepository, never()).buscarComViveiro(3L);
+    }
+
+    @Test
+    @DisplayName("obterProjecao() deve servir a projeção gravada sem recalcular")
+    void obterProjecaoDeveServirProjecaoGravada() {
+        service = criarService(1, 10);
+        LocalDateTime calculadoEm = LocalDateTime.now().minusMinutes(5);
+        when(projecaoLoteRepository.findById(1L)).thenReturn(Optional.of(ProjecaoLote.builder()
+                .loteId(1L)
+                .loteCodigo("LOTE-001")
+                .pesoMedioProjetado(new BigDecimal("15.10"))
+                .statusDespesca("IDEAL")
+                .dataReferencia(calculadoEm.toLocalDate())
+                .calculadoEm(calculadoEm)
+                .build()));
+
+        ProjecaoLoteResponse response = service.obterProjecao(1L);
+
+        assertThat(response.getLoteCodigo()).isEqualTo("LOTE-001");
+        assertThat(response.getPesoMedioProjetado()).isEqualByComparingTo("15.10");
+        assertThat(response.getDataReferencia()).isEqualTo(calculadoEm.toLocalDate());
+        assertThat(response.getCalculadoEm()).isEqualTo(calculadoEm);
+        verifyNoInteractions(loteRepository, biometriaRepository);
+    }
+
+    @Test
+    @DisplayName("obterProjecao() de lote sem projeção gravada deve gravar o cálculo feito na hora, sem enfileirar")
+    void obterProjecaoSemGravadaDeveGravarCalculo() {
+        service = criarService(1, 10);
+        Lote lote = lote(1L);
+        when(projecaoLoteRepository.findById(1L)).thenReturn(Optional.empty());
+        when(loteRepository.buscarComViveiro(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias(lote));
+        when(projecaoLoteRepository.save(any(ProjecaoLote.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        ProjecaoLoteResponse response = service.obterProjecao(1L);
+
+        assertThat(response.getLoteCodigo()).isEqualTo("LOTE-001");
+        assertThat(response.getPesoMedioProjetado()).isGreaterThan(new BigDecimal("12.00"));
+        assertThat(response.getDataReferencia()).isEqualTo(LocalDate.now());
+        verify(projecaoLoteRepository).save(any(ProjecaoLote.class));
+        verify(loteRepository).buscarComViveiro(1L);
+        assertThat(service.obterEstatisticas().getAgendadas()).isZero();
+    }
+
+    @Test
+    @DisplayName("atualizarDesatualizadas() deve regravar as projeções de dias anteriores com a data de hoje")
+    void atualizarDesatualizadasDeveRegravarComDataDeHoje() {
+        service = criarService(1, 10);
+        Lote lote = lote(1L);
+        when(projecaoLoteRepository.findLoteIdsAtivosComReferenciaAnterior(LocalDate.now())).thenReturn(List.of(1L, 2L));
+        when(loteRepository.buscarComViveiro(1L)).thenReturn(Optional.of(lote));
+        when(loteRepository.buscarComViveiro(2L)).thenReturn(Optional.empty());
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(anyLong())).thenReturn(biometrias(lote));
+
+        int atualizadas = service.atualizarDesatualizadas();
+
+        assertThat(atualizadas).isEqualTo(1);
+        ArgumentCaptor<ProjecaoLote> captor = ArgumentCaptor.forClass(ProjecaoLote.class);
+        verify(projecaoLoteRepository).save(captor.capture());
+        assertThat(captor.getValue().getLoteId()).isEqualTo(1L);
+        assertThat(captor.getValue().getDataReferencia()).isEqualTo(LocalDate.now());
+    }
+
+    // Métodos auxiliares
+
+    private AtualizacaoProjecaoService criarService(int threads, int capacidadeFila) {
+        ContextoCalculoLote contextoCalculoLote =
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository);
+        CurvaCrescimentoService curvaCrescimentoService = new CurvaCrescimentoService(contextoCalculoLote, 1000);
+        ProjecaoService projecaoService = new ProjecaoService(contextoCalculoLote, curvaCrescimentoService,
+                new ProjecaoCacheService(biometriaRepository, Duration.ofMinutes(10), 100));
+        return new AtualizacaoProjecaoService(loteRepository, biometriaRepository, projecaoLoteRepository,
+                curvaCrescimentoService, projecaoService, threads, capacidadeFila);
+    }
+
+    private Lote lote(Long id) {
+        return Lote.builder()
+                .id(id)
+                .codigo("LOTE-001")
+                .dataPovoamento(LocalDate.now().minusDays(60))
+                .quantidadePosLarvas(100000)
+                .build();
+    }
+
+    private List<Biometria> biometrias(Lote lote) {
+        return List.of(
+                biometria(1L, lote, 30, "5.000", "0.3000"),
+                biometria(2L, lote, 15, "9.000", "0.4000"),
+                biometria(3L, lote, 0, "12.000", "0.5000"));
+    }
+
+    private Biometria biometria(Long id, Lote lote, int diasAtras, String pesoMedio, String gpd) {
+        return Biometria.builder()
+                .id(id)
+                .lote(lote)
+                .dataBiometria(LocalDate.now().minusDays(diasAtras))
+                .diaCultivo(60 - diasAtras)
+                .pesoMedio(new BigDecimal(pesoMedio))
+                .ganhoPesoDiario(new BigDecimal(gpd))
+                .build();
+    }
+
+    private void aguardarConclusao(long concluidas) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        AtualizacaoProjecaoEstatisticasResponse estatisticas = service.obterEstatisticas();
+        while (estatisticas.getConcluidas() < concluidas || estatisticas.getLotesPendentes() > 0) {
+            assertThat(System.nanoTime()).as("tempo esgotado aguardando a atualização").isLessThan(limite);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            estatisticas = service.obterEstatisticas();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.BiometriaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.BiometriaResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
 import com.jtarcio.shrimpfarm.application.mapper.BiometriaMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Biometria;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
@@ -9,8 +10,8 @@ import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
-import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -45,11 +47,14 @@ class BiometriaServiceTest {
     private LoteRepository loteRepository;
 
     @Mock
-    private RacaoRepository racaoRepository;
+    private LoteCustoResumoRepository loteCustoResumoRepository;
 
     @Mock
     private BiometriaMapper biometriaMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BiometriaService biometriaService;
 
@@ -119,8 +124,8 @@ class BiometriaServiceTest {
         // Arrange
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
         when(biometriaMapper.toEntity(request, lote)).thenReturn(biometria);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.000"));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.of(new BigDecimal("1500.000")));
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
@@ -133,6 +138,7 @@ class BiometriaServiceTest {
         assertThat(resultado.getDiaCultivo()).isEqualTo(30);
         verify(biometriaRepository).save(any(Biometria.class));
         verify(loteRepository).findById(1L);
+        verify(eventPublisher).publishEvent(new BiometriaAlteradaEvent(1L, 1L));
     }
 
     @Test
@@ -187,8 +193,8 @@ class BiometriaServiceTest {
         request.setPesoTotalAmostra(new BigDecimal("1212.500")); // 3% menos
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
         when(biometriaMapper.toEntity(request, lote)).thenReturn(biometria);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.000"));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.of(new BigDecimal("1500.000")));
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
@@ -207,8 +213,8 @@ class BiometriaServiceTest {
         lote.setStatus(StatusLoteEnum.PLANEJADO);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
         when(biometriaMapper.toEntity(request, lote)).thenReturn(biometria);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.000"));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.of(new BigDecimal("1500.000")));
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
@@ -341,8 +347,8 @@ class BiometriaServiceTest {
         // Arrange
         when(biometriaRepository.findById(1L)).thenReturn(Optional.of(biometria));
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.000"));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.of(new BigDecimal("1500.000")));
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
@@ -382,6 +388,7 @@ class BiometriaServiceTest {
 
         // Assert
         verify(biometriaRepository).delete(biometria);
+        verify(eventPublisher).publishEvent(new BiometriaAlteradaEvent(1L, 1L));
     }
 
     @Test
@@ -407,8 +414,8 @@ class BiometriaServiceTest {
         biometria.setDiaCultivo(0);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
         when(biometriaMapper.toEntity(request, lote)).thenReturn(biometria);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.000"));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.of(new BigDecimal("1500.000")));
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
@@ -426,8 +433,8 @@ class BiometriaServiceTest {
         // Arrange
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
         when(biometriaMapper.toEntity(request, lote)).thenReturn(biometria);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(null);
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.empty());
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
@@ -446,8 +453,8 @@ class BiometriaServiceTest {
         request.setPesoTotalAmostra(null);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
         when(biometriaMapper.toEntity(request, lote)).thenReturn(biometria);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.000"));
+        when(loteCustoResumoRepository.buscarQuantidadeRacaoKg(1L))
+                .thenReturn(Optional.of(new BigDecimal("1500.000")));
         when(biometriaRepository.save(any(Biometria.class))).thenReturn(biometria);
         when(biometriaMapper.toResponse(biometria)).thenReturn(response);
 
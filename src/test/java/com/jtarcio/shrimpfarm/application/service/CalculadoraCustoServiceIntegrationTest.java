@@ -0,0 +1,140 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.CustoVariavelRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import com.jtarcio.shrimpfarm.integration.ContadorConsultas;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - CalculadoraCustoService")
+class CalculadoraCustoServiceIntegrationTest extends BaseIntegrationTest {
+
+    private static final int QUANTIDADE_LOTES = 200;
+
+    @Autowired
+    private FazendaRepository fazendaRepository;
+
+    @Autowired
+    private ViveiroRepository viveiroRepository;
+
+    @Autowired
+    private LoteRepository loteRepository;
+
+    @Autowired
+    private BiometriaRepository biometriaRepository;
+
+    @Autowired
+    private CustoVariavelRepository custoVariavelRepository;
+
+    @Autowired
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Autowired
+    private CalculadoraCustoService calculadoraCustoService;
+
+    @Autowired
+    private LoteCustoResumoService loteCustoResumoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Viveiro viveiro;
+
+    @BeforeEach
+    void setUp() {
+        Fazenda fazenda = fazendaRepository.save(Fazenda.builder()
+                .nome("Fazenda Teste")
+                .proprietario("João Teste")
+                .cidade("Natal")
+                .estado("RN")
+                .ativa(true)
+                .build());
+
+        viveiro = viveiroRepository.save(Viveiro.builder()
+                .fazenda(fazenda)
+                .codigo("V001")
+                .nome("Viveiro 1")
+                .status(StatusViveiroEnum.OCUPADO)
+                .ativo(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve registrar rateio de energia de centenas de lotes com poucas instruções SQL")
+    void deveRegistrarRateioEnergiaComInstrucoesAgrupadas() {
+        List<Long> loteIds = criarLotesComBiometria(QUANTIDADE_LOTES);
+        ContadorConsultas contador = new ContadorConsultas(entityManager);
+
+        long instrucoes = contador.contar(() -> calculadoraCustoService.registrarRateioEnergia(
+                new BigDecimal("20000.00"), loteIds, CriterioRateioEnergia.BIOMASSA, LocalDate.now()));
+
+        // Duas consultas agrupadas, sequência, inserções em lotes JDBC e uma atualização do resumo
+        assertThat(instrucoes).isLessThan(QUANTIDADE_LOTES / 10);
+
+        entityManager.clear();
+        List<CustoVariavel> custos = custoVariavelRepository.findAll();
+        assertThat(custos).hasSize(QUANTIDADE_LOTES);
+        assertThat(custos).allSatisfy(custo -> assertThat(custo.getValor()).isEqualByComparingTo("100.00"));
+
+        BigDecimal totalResumo = loteCustoResumoRepository.findAllById(loteIds).stream()
+                .map(LoteCustoResumo::getCustoVariavel)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(totalResumo).isEqualByComparingTo("20000.00");
+        assertThat(loteCustoResumoService.verificar().getLotesDivergentes()).isZero();
+    }
+
+    private List<Long> criarLotesComBiometria(int quantidade) {
+        List<Long> loteIds = new ArrayList<>(quantidade);
+
+        for (int i = 0; i < quantidade; i++) {
+            Lote lote = loteRepository.save(Lote.builder()
+                    .viveiro(viveiro)
+                    .codigo("LOTE-R" + i)
+                    .dataPovoamento(LocalDate.now().minusDays(30))
+                    .quantidadePosLarvas(50000)
+                    .status(StatusLoteEnum.ATIVO)
+                    .build());
+
+            biometriaRepository.save(Biometria.builder()
+                    .lote(lote)
+                    .dataBiometria(LocalDate.now())
+                    .diaCultivo(30)
+                    .pesoMedio(new BigDecimal("5.000"))
+                    .quantidadeAmostrada(100)
+                    .biomassaEstimada(new BigDecimal("250.00"))
+                    .build());
+
+            loteIds.add(lote.getId());
+        }
+
+        return loteIds;
+    }
+}
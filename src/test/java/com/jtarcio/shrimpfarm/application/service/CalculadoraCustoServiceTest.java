@@ -1,16 +1,18 @@
 package com.jtarcio.shrimpfarm.application.service;
 
+import com.jtarcio.shrimpfarm.application.dto.response.CustoLoteResponse;
 import com.jtarcio.shrimpfarm.domain.entity.*;
 import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
 import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.DiasCultivoPorLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,21 +31,17 @@ class CalculadoraCustoServiceTest {
     private LoteRepository loteRepository;
 
     @Mock
-    private RacaoRepository racaoRepository;
-
-    @Mock
-    private NutrienteRepository nutrienteRepository;
+    private CustoVariavelRepository custoVariavelRepository;
 
     @Mock
-    private FertilizacaoRepository fertilizacaoRepository;
+    private BiometriaRepository biometriaRepository;
 
     @Mock
-    private CustoVariavelRepository custoVariavelRepository;
+    private LoteCustoResumoRepository loteCustoResumoRepository;
 
     @Mock
-    private BiometriaRepository biometriaRepository;
+    private LoteCustoResumoService loteCustoResumoService;
 
-    @InjectMocks
     private CalculadoraCustoService calculadoraCustoService;
 
     private Lote lote;
@@ -51,6 +49,11 @@ class CalculadoraCustoServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Fora de transação o contexto não memoriza: cada chamada consulta os repositórios
+        calculadoraCustoService = new CalculadoraCustoService(loteRepository, custoVariavelRepository,
+                biometriaRepository, loteCustoResumoRepository, loteCustoResumoService,
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository));
+
         lote = Lote.builder()
                 .id(1L)
                 .custoPosLarvas(new BigDecimal("10000.00"))
@@ -73,14 +76,8 @@ class CalculadoraCustoServiceTest {
     void deveCalcularTodosCustosDoLote() {
         // Arrange
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("5000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(new BigDecimal("2000.00"));
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.00"));
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(new BigDecimal("3500.00"));
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
 
         // Act
         Map<String, BigDecimal> custos = calculadoraCustoService.calcularCustosDoLote(1L);
@@ -95,10 +92,7 @@ class CalculadoraCustoServiceTest {
         assertThat(custos.get("custoTotal")).isEqualByComparingTo("22000.00");
 
         verify(loteRepository).findById(1L);
-        verify(racaoRepository).calcularCustoTotalRacaoByLoteId(1L);
-        verify(nutrienteRepository).calcularCustoTotalNutrientesByLoteId(1L);
-        verify(fertilizacaoRepository).calcularCustoTotalFertilizacaoByLoteId(1L);
-        verify(custoVariavelRepository).calcularCustoTotalVariavelByLoteId(1L);
+        verify(loteCustoResumoRepository).findById(1L);
     }
 
     @Test
@@ -107,10 +101,7 @@ class CalculadoraCustoServiceTest {
         // Arrange
         Lote loteComCustoNull = Lote.builder().id(1L).custoPosLarvas(null).build();
         when(loteRepository.findById(1L)).thenReturn(Optional.of(loteComCustoNull));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L)).thenReturn(null);
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L)).thenReturn(null);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L)).thenReturn(null);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L)).thenReturn(null);
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Act
         Map<String, BigDecimal> custos = calculadoraCustoService.calcularCustosDoLote(1L);
@@ -147,14 +138,8 @@ class CalculadoraCustoServiceTest {
         // Arrange
         lote.setDespesca(despesca);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("5000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(new BigDecimal("2000.00"));
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.00"));
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(new BigDecimal("3500.00"));
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
 
         // Act
         BigDecimal custoPorKg = calculadoraCustoService.calcularCustoPorKg(1L);
@@ -183,14 +168,7 @@ class CalculadoraCustoServiceTest {
         despesca.setPesoTotal(BigDecimal.ZERO);
         lote.setDespesca(despesca);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(LoteCustoResumo.vazio(1L)));
 
         // Act
         BigDecimal custoPorKg = calculadoraCustoService.calcularCustoPorKg(1L);
@@ -207,14 +185,8 @@ class CalculadoraCustoServiceTest {
         // Arrange
         lote.setDespesca(despesca);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("5000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(new BigDecimal("2000.00"));
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.00"));
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(new BigDecimal("3500.00"));
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
 
         // Act
         BigDecimal custoPorCamarao = calculadoraCustoService.calcularCustoPorCamarao(1L);
@@ -230,14 +202,7 @@ class CalculadoraCustoServiceTest {
         despesca.setQuantidadeDespescada(0);
         lote.setDespesca(despesca);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(LoteCustoResumo.vazio(1L)));
 
         // Act
         BigDecimal custoPorCamarao = calculadoraCustoService.calcularCustoPorCamarao(1L);
@@ -254,14 +219,11 @@ class CalculadoraCustoServiceTest {
         // Arrange
         Lote loteComCustoZero = Lote.builder().id(1L).custoPosLarvas(BigDecimal.ZERO).build();
         when(loteRepository.findById(1L)).thenReturn(Optional.of(loteComCustoZero));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("10000.00")); // 50%
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(new BigDecimal("5000.00")); // 25%
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("3000.00")); // 15%
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(new BigDecimal("2000.00")); // 10%
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(resumo(
+                new BigDecimal("10000.00"), // 50%
+                new BigDecimal("5000.00"), // 25%
+                new BigDecimal("3000.00"), // 15%
+                new BigDecimal("2000.00")))); // 10%
         // Total: 20000 (SEM custoPosLarvas para facilitar os percentuais)
 
         // Act
@@ -285,10 +247,7 @@ class CalculadoraCustoServiceTest {
         // Arrange
         Lote loteComCustoNull = Lote.builder().id(1L).build();
         when(loteRepository.findById(1L)).thenReturn(Optional.of(loteComCustoNull));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L)).thenReturn(BigDecimal.ZERO);
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L)).thenReturn(BigDecimal.ZERO);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L)).thenReturn(BigDecimal.ZERO);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L)).thenReturn(BigDecimal.ZERO);
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(LoteCustoResumo.vazio(1L)));
 
         // Act
         Map<String, BigDecimal> percentuais = calculadoraCustoService.calcularPercentualCustos(1L);
@@ -304,14 +263,8 @@ class CalculadoraCustoServiceTest {
     void deveCalcularCustoMedioDiario() {
         // Arrange
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("9000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(
+                resumo(new BigDecimal("9000.00"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO)));
         // Total: 19000, dias: 90 -> 19000/90 = 211.11
 
         // Act
@@ -357,14 +310,8 @@ class CalculadoraCustoServiceTest {
         // Arrange
         lote.setDespesca(despesca);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("5000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(new BigDecimal("2000.00"));
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(new BigDecimal("1500.00"));
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(new BigDecimal("3500.00"));
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
 
         // Act
         Map<String, BigDecimal> roi = calculadoraCustoService.calcularROI(1L);
@@ -406,14 +353,7 @@ class CalculadoraCustoServiceTest {
         despesca.setReceitaTotal(null);
         lote.setDespesca(despesca);
         when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(1L))
-                .thenReturn(BigDecimal.ZERO);
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(LoteCustoResumo.vazio(1L)));
 
         // Act
         Map<String, BigDecimal> roi = calculadoraCustoService.calcularROI(1L);
@@ -423,23 +363,118 @@ class CalculadoraCustoServiceTest {
         assertThat(roi.get("lucro")).isEqualByComparingTo(new BigDecimal("-10000.00")); // Prejuízo
     }
 
+    // ===================== Cálculos em lote =====================
+
+    @Test
+    @DisplayName("Deve calcular custos de vários lotes com uma consulta de lotes e uma de resumos")
+    void deveCalcularCustosDosLotes() {
+        // Arrange
+        Lote lote2 = Lote.builder()
+                .id(2L)
+                .custoPosLarvas(new BigDecimal("8000.00"))
+                .diasCultivo(60)
+                .build();
+        List<Long> ids = List.of(2L, 1L);
+        when(loteRepository.findAllComDespescaByIdIn(ids)).thenReturn(List.of(lote, lote2));
+        when(loteCustoResumoRepository.findAllById(ids)).thenReturn(List.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
+
+        // Act
+        Map<Long, Map<String, BigDecimal>> custos = calculadoraCustoService.calcularCustosDosLotes(ids);
+
+        // Assert
+        assertThat(custos.keySet()).containsExactly(2L, 1L);
+        assertThat(custos.get(1L).get("custoTotal")).isEqualByComparingTo("22000.00");
+        // Lote sem resumo: apenas o custo das pós-larvas
+        assertThat(custos.get(2L).get("custoTotal")).isEqualByComparingTo("8000.00");
+        assertThat(custos.get(2L).get("custoRacao")).isEqualByComparingTo("0");
+        verify(loteRepository, never()).findById(any());
+        verify(loteCustoResumoRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando algum lote informado não existe")
+    void deveLancarExcecaoQuandoAlgumLoteNaoEncontrado() {
+        // Arrange
+        List<Long> ids = List.of(1L, 999L);
+        when(loteRepository.findAllComDespescaByIdIn(ids)).thenReturn(List.of(lote));
+        when(loteCustoResumoRepository.findAllById(ids)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> calculadoraCustoService.calcularCustosDosLotes(ids))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Deve calcular indicadores derivados de vários lotes com os mesmos valores do cálculo individual")
+    void deveCalcularIndicadoresDosLotes() {
+        // Arrange
+        lote.setDespesca(despesca);
+        Lote loteSemDespesca = Lote.builder()
+                .id(2L)
+                .diasCultivo(0)
+                .build();
+        List<Long> ids = List.of(1L, 2L);
+        when(loteRepository.findAllComDespescaByIdIn(ids)).thenReturn(List.of(lote, loteSemDespesca));
+        when(loteCustoResumoRepository.findAllById(ids)).thenReturn(List.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
+
+        // Act
+        Map<Long, BigDecimal> custoPorKg = calculadoraCustoService.calcularCustoPorKgDosLotes(ids);
+        Map<Long, BigDecimal> custoPorCamarao = calculadoraCustoService.calcularCustoPorCamaraoDosLotes(ids);
+        Map<Long, BigDecimal> custoMedioDiario = calculadoraCustoService.calcularCustoMedioDiarioDosLotes(ids);
+        Map<Long, Map<String, BigDecimal>> roi = calculadoraCustoService.calcularROIDosLotes(ids);
+
+        // Assert - custo total do lote 1: 22000
+        assertThat(custoPorKg.get(1L)).isEqualByComparingTo("44.00");
+        assertThat(custoPorKg.get(2L)).isEqualByComparingTo("0");
+        assertThat(custoPorCamarao.get(1L)).isEqualByComparingTo("0.2200");
+        assertThat(custoPorCamarao.get(2L)).isEqualByComparingTo("0");
+        assertThat(custoMedioDiario.get(1L)).isEqualByComparingTo("244.44");
+        assertThat(custoMedioDiario.get(2L)).isEqualByComparingTo("0");
+        assertThat(roi.get(1L).get("lucro")).isEqualByComparingTo("28000.00");
+        assertThat(roi.get(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve montar quadro de custos de vários lotes")
+    void deveGerarQuadroCustosDosLotes() {
+        // Arrange
+        lote.setCodigo("LOTE01_2025");
+        lote.setDespesca(despesca);
+        List<Long> ids = List.of(1L);
+        when(loteRepository.findAllComDespescaByIdIn(ids)).thenReturn(List.of(lote));
+        when(loteCustoResumoRepository.findAllById(ids)).thenReturn(List.of(
+                resumo(new BigDecimal("5000.00"), new BigDecimal("2000.00"), new BigDecimal("1500.00"), new BigDecimal("3500.00"))));
+
+        // Act
+        List<CustoLoteResponse> quadro = calculadoraCustoService.gerarQuadroCustosDosLotes(ids);
+
+        // Assert
+        assertThat(quadro).hasSize(1);
+        CustoLoteResponse custos = quadro.get(0);
+        assertThat(custos.getLoteCodigo()).isEqualTo("LOTE01_2025");
+        assertThat(custos.getCustoTotal()).isEqualByComparingTo("22000.00");
+        assertThat(custos.getCustoPorKg()).isEqualByComparingTo("44.00");
+        assertThat(custos.getReceitaTotal()).isEqualByComparingTo("50000.00");
+        assertThat(custos.getMargemLucro()).isEqualByComparingTo("56.0000");
+    }
+
     // ===================== Rateio de Energia =====================
 
     @Test
     @DisplayName("Deve ratear energia por dias de cultivo")
     void deveRatearEnergiaPorDiasCultivo() {
         // Arrange
-        Lote lote2 = Lote.builder().id(2L).diasCultivo(60).build();
-        Lote lote3 = Lote.builder().id(3L).diasCultivo(30).build();
-
-        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote)); // 90 dias
-        when(loteRepository.findById(2L)).thenReturn(Optional.of(lote2)); // 60 dias
-        when(loteRepository.findById(3L)).thenReturn(Optional.of(lote3)); // 30 dias
-        // Total: 180 dias
-
         BigDecimal custoEnergia = new BigDecimal("1800.00");
         List<Long> lotesIds = Arrays.asList(1L, 2L, 3L);
 
+        when(loteRepository.buscarDiasCultivoPorLotes(lotesIds)).thenReturn(List.of(
+                diasCultivo(1L, 90),
+                diasCultivo(2L, 60),
+                diasCultivo(3L, 30)));
+        // Total: 180 dias
+
         // Act
         Map<Long, BigDecimal> rateio = calculadoraCustoService.ratearEnergiaPorPeriodo(
                 custoEnergia, lotesIds, CriterioRateioEnergia.DIAS_CULTIVO
@@ -452,6 +487,20 @@ class CalculadoraCustoServiceTest {
         assertThat(rateio.get(1L)).isEqualByComparingTo("900.00");
         assertThat(rateio.get(2L)).isEqualByComparingTo("600.00");
         assertThat(rateio.get(3L)).isEqualByComparingTo("300.00");
+        verify(loteRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção no rateio por dias quando algum lote não existe")
+    void deveLancarExcecaoNoRateioPorDiasQuandoLoteNaoEncontrado() {
+        // Arrange
+        List<Long> lotesIds = Arrays.asList(1L, 999L);
+        when(loteRepository.buscarDiasCultivoPorLotes(lotesIds)).thenReturn(List.of(diasCultivo(1L, 90)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> calculadoraCustoService.ratearEnergiaPorPeriodo(
+                new BigDecimal("1000.00"), lotesIds, CriterioRateioEnergia.DIAS_CULTIVO))
+                .isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
@@ -474,18 +523,36 @@ class CalculadoraCustoServiceTest {
     }
 
     @Test
-    @DisplayName("Deve ratear energia por biomassa")
-    void deveRatearEnergiaPorBiomassa() {
+    @DisplayName("Deve distribuir os centavos do arredondamento para que o rateio some o custo total")
+    void deveRatearEnergiaSemPerderCentavos() {
         // Arrange
-        Biometria bio1 = Biometria.builder().lote(lote).biomassaEstimada(new BigDecimal("300")).build();
-        Biometria bio2 = Biometria.builder().biomassaEstimada(new BigDecimal("200")).build();
+        BigDecimal custoEnergia = new BigDecimal("1000.00");
+        List<Long> lotesIds = Arrays.asList(1L, 2L, 3L);
 
-        when(biometriaRepository.findUltimaBiometriaByLoteId(1L)).thenReturn(Optional.of(bio1));
-        when(biometriaRepository.findUltimaBiometriaByLoteId(2L)).thenReturn(Optional.of(bio2));
+        // Act
+        Map<Long, BigDecimal> rateio = calculadoraCustoService.ratearEnergiaPorPeriodo(
+                custoEnergia, lotesIds, CriterioRateioEnergia.IGUALITARIO
+        );
 
+        // Assert - 1000 / 3 = 333.33 com 1 centavo de sobra, atribuído ao primeiro lote
+        assertThat(rateio.get(1L)).isEqualByComparingTo("333.34");
+        assertThat(rateio.get(2L)).isEqualByComparingTo("333.33");
+        assertThat(rateio.get(3L)).isEqualByComparingTo("333.33");
+        assertThat(rateio.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(custoEnergia);
+    }
+
+    @Test
+    @DisplayName("Deve ratear energia por biomassa")
+    void deveRatearEnergiaPorBiomassa() {
+        // Arrange
         BigDecimal custoEnergia = new BigDecimal("5000.00");
         List<Long> lotesIds = Arrays.asList(1L, 2L);
 
+        when(biometriaRepository.buscarUltimaBiomassaPorLotes(lotesIds)).thenReturn(List.of(
+                biomassa(1L, "300"),
+                biomassa(2L, "200")));
+
         // Act
         Map<Long, BigDecimal> rateio = calculadoraCustoService.ratearEnergiaPorPeriodo(
                 custoEnergia, lotesIds, CriterioRateioEnergia.BIOMASSA
@@ -503,12 +570,11 @@ class CalculadoraCustoServiceTest {
     @DisplayName("Deve usar rateio igualitário quando biomassa total é zero")
     void deveUsarRateioIgualitarioQuandoBiomassaZero() {
         // Arrange
-        when(biometriaRepository.findUltimaBiometriaByLoteId(1L)).thenReturn(Optional.empty());
-        when(biometriaRepository.findUltimaBiometriaByLoteId(2L)).thenReturn(Optional.empty());
-
         BigDecimal custoEnergia = new BigDecimal("2000.00");
         List<Long> lotesIds = Arrays.asList(1L, 2L);
 
+        when(biometriaRepository.buscarUltimaBiomassaPorLotes(lotesIds)).thenReturn(List.of());
+
         // Act
         Map<Long, BigDecimal> rateio = calculadoraCustoService.ratearEnergiaPorPeriodo(
                 custoEnergia, lotesIds, CriterioRateioEnergia.BIOMASSA
@@ -555,12 +621,13 @@ class CalculadoraCustoServiceTest {
 
     @Test
     @DisplayName("Deve registrar rateio de energia como custo variável")
+    @SuppressWarnings("unchecked")
     void deveRegistrarRateioEnergia() {
         // Arrange
-        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
-        when(loteRepository.findById(2L)).thenReturn(Optional.of(
-                Lote.builder().id(2L).diasCultivo(60).build()
-        ));
+        Lote lote2 = Lote.builder().id(2L).diasCultivo(60).build();
+        when(loteRepository.findIdsByIdIn(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(loteRepository.getReferenceById(1L)).thenReturn(lote);
+        when(loteRepository.getReferenceById(2L)).thenReturn(lote2);
 
         BigDecimal custoEnergia = new BigDecimal("1500.00");
         List<Long> lotesIds = Arrays.asList(1L, 2L);
@@ -571,14 +638,77 @@ class CalculadoraCustoServiceTest {
                 custoEnergia, lotesIds, CriterioRateioEnergia.IGUALITARIO, dataRef
         );
 
-        // Assert
-        ArgumentCaptor<CustoVariavel> captor = ArgumentCaptor.forClass(CustoVariavel.class);
-        verify(custoVariavelRepository, times(2)).save(captor.capture());
+        // Assert - todos os lançamentos em uma única chamada (lote JDBC)
+        ArgumentCaptor<List<CustoVariavel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(custoVariavelRepository).saveAll(captor.capture());
+        verify(custoVariavelRepository, never()).save(any());
+        verify(loteRepository, never()).findById(any());
 
-        List<CustoVariavel> custosCapturados = captor.getAllValues();
+        List<CustoVariavel> custosCapturados = captor.getValue();
         assertThat(custosCapturados).hasSize(2);
+        assertThat(custosCapturados)
+                .extracting(custo -> custo.getLote().getId())
+                .containsExactlyInAnyOrder(1L, 2L);
         assertThat(custosCapturados.get(0).getCategoria()).isEqualTo(CategoriaGastoEnum.ENERGIA);
         assertThat(custosCapturados.get(0).getValor()).isEqualByComparingTo("750.00");
         assertThat(custosCapturados.get(0).getDataLancamento()).isEqualTo(dataRef);
+
+        verify(loteCustoResumoService).registrarCustosVariaveis(custosCapturados);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao registrar rateio para lote inexistente")
+    void deveLancarExcecaoAoRegistrarRateioParaLoteInexistente() {
+        // Arrange
+        when(loteRepository.findIdsByIdIn(Set.of(1L, 999L))).thenReturn(List.of(1L));
+        lenient().when(loteRepository.getReferenceById(1L)).thenReturn(lote);
+
+        // Act & Assert
+        assertThatThrownBy(() -> calculadoraCustoService.registrarRateioEnergia(
+                new BigDecimal("1000.00"), Arrays.asList(1L, 999L),
+                CriterioRateioEnergia.IGUALITARIO, LocalDate.of(2025, 12, 1)))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verify(custoVariavelRepository, never()).saveAll(any());
+        verifyNoInteractions(loteCustoResumoService);
+    }
+
+    private DiasCultivoPorLote diasCultivo(Long loteId, Integer dias) {
+        return new DiasCultivoPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public Integer getDiasCultivo() {
+                return dias;
+            }
+        };
+    }
+
+    private TotalPorLote biomassa(Long loteId, String total) {
+        return new TotalPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+
+    private LoteCustoResumo resumo(BigDecimal custoRacao, BigDecimal custoNutrientes,
+                                   BigDecimal custoFertilizacao, BigDecimal custoVariavel) {
+        return LoteCustoResumo.builder()
+                .loteId(1L)
+                .custoRacao(custoRacao)
+                .custoNutrientes(custoNutrientes)
+                .custoFertilizacao(custoFertilizacao)
+                .custoVariavel(custoVariavel)
+                .build();
     }
 }
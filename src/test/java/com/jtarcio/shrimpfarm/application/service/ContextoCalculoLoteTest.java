@@ -0,0 +1,143 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ContextoCalculoEstatisticasResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ContextoCalculoLote")
+class ContextoCalculoLoteTest {
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @InjectMocks
+    private ContextoCalculoLote contextoCalculoLote;
+
+    private Lote lote;
+
+    @BeforeEach
+    void setUp() {
+        lote = Lote.builder()
+                .id(1L)
+                .codigo("LOTE-001")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Simula o fim da transação aberta pelos testes
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve carregar lote, biometrias e resumo uma única vez na transação somente leitura")
+    void deveMemorizarDadosNaTransacaoSomenteLeitura() {
+        iniciarTransacao(true);
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L))
+                .thenReturn(List.of(Biometria.builder().id(10L).build()));
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(contextoCalculoLote.lote(1L)).isSameAs(lote);
+            assertThat(contextoCalculoLote.biometrias(1L)).hasSize(1);
+            assertThat(contextoCalculoLote.resumoCustos(1L).getCustoRacao()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        verify(loteRepository, times(1)).findById(1L);
+        verify(biometriaRepository, times(1)).findByLoteIdOrderByDataBiometriaAsc(1L);
+        verify(loteCustoResumoRepository, times(1)).findById(1L);
+
+        ContextoCalculoEstatisticasResponse estatisticas = contextoCalculoLote.obterEstatisticas();
+        assertThat(estatisticas.getLotesCarregados()).isEqualTo(1L);
+        assertThat(estatisticas.getLotesReaproveitados()).isEqualTo(2L);
+        assertThat(estatisticas.getBiometriasReaproveitadas()).isEqualTo(2L);
+        assertThat(estatisticas.getResumosReaproveitados()).isEqualTo(2L);
+        assertThat(estatisticas.getConsultasEvitadas()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Não deve memorizar fora de transação nem em transação de escrita")
+    void naoDeveMemorizarForaDeTransacaoSomenteLeitura() {
+        when(loteCustoResumoRepository.findById(1L)).thenReturn(Optional.of(LoteCustoResumo.vazio(1L)));
+
+        contextoCalculoLote.resumoCustos(1L);
+        contextoCalculoLote.resumoCustos(1L);
+
+        iniciarTransacao(false);
+        contextoCalculoLote.resumoCustos(1L);
+        contextoCalculoLote.resumoCustos(1L);
+
+        verify(loteCustoResumoRepository, times(4)).findById(1L);
+        assertThat(contextoCalculoLote.obterEstatisticas().getConsultasEvitadas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar os dados memorizados ao fim da transação")
+    void deveDescartarContextoAoFimDaTransacao() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+
+        iniciarTransacao(true);
+        contextoCalculoLote.lote(1L);
+        tearDown();
+        assertThat(TransactionSynchronizationManager.hasResource(contextoCalculoLote)).isFalse();
+
+        iniciarTransacao(true);
+        contextoCalculoLote.lote(1L);
+
+        verify(loteRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote não existe, sem memorizar a ausência")
+    void deveLancarExcecaoQuandoLoteNaoEncontrado() {
+        iniciarTransacao(true);
+        when(loteRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> contextoCalculoLote.lote(999L))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> contextoCalculoLote.lote(999L))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verify(loteRepository, times(2)).findById(999L);
+    }
+
+    private void iniciarTransacao(boolean somenteLeitura) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(somenteLeitura);
+    }
+}
@@ -0,0 +1,179 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.ModeloCrescimentoEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CurvaCrescimento;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CurvaCrescimentoService")
+class CurvaCrescimentoServiceTest {
+
+    private static final LocalDate POVOAMENTO = LocalDate.of(2025, 1, 1);
+
+    // Curva de Gompertz usada para gerar as biometrias: W∞ = 25 g, k = 0,035, ti = 50
+    private static final double[] GOMPERTZ = {25.0, 0.035, 50.0};
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    private CurvaCrescimentoService curvaCrescimentoService;
+
+    private Lote lote;
+
+    @BeforeEach
+    void setUp() {
+        curvaCrescimentoService = new CurvaCrescimentoService(
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository), 1000);
+
+        lote = Lote.builder()
+                .id(1L)
+                .codigo("LOTE-001")
+                .dataPovoamento(POVOAMENTO)
+                .quantidadePosLarvas(100000)
+                .build();
+
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+    }
+
+    @Test
+    @DisplayName("Com menos de 4 biometrias a curva deve ser linear pelo GPD médio")
+    void menosDe4BiometriasDeveUsarCurvaLinear() {
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(List.of(
+                biometria(1L, 30, "5.000", "0.3000"),
+                biometria(2L, 45, "9.000", "0.4000"),
+                biometria(3L, 60, "12.000", "0.5000")));
+
+        CurvaCrescimento curva = curvaCrescimentoService.curva(1L);
+
+        assertThat(curva.modelo()).isEqualTo(ModeloCrescimentoEnum.LINEAR);
+        assertThat(curva.ganhoDiario(POVOAMENTO.plusDays(60))).isCloseTo(0.4, within(1e-9));
+        assertThat(curva.peso(POVOAMENTO.plusDays(60))).isCloseTo(12.0, within(1e-9));
+        assertThat(curva.peso(POVOAMENTO.plusDays(70))).isCloseTo(16.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Com 4 biometrias ou mais deve ajustar um modelo sigmoide ancorado na última biometria")
+    void deveAjustarModeloSigmoide() {
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometriasGompertz(6));
+
+        CurvaCrescimento curva = curvaCrescimentoService.curva(1L);
+
+        assertThat(curva.modelo()).isNotEqualTo(ModeloCrescimentoEnum.LINEAR);
+        assertThat(curva.quantidadeBiometrias()).isEqualTo(6);
+        assertThat(curva.peso(curva.dataUltimaBiometria()))
+                .isCloseTo(curva.pesoUltimaBiometria().doubleValue(), within(1e-9));
+        // A projeção desacelera como a curva real, em vez de seguir o último GPD
+        assertThat(curva.peso(POVOAMENTO.plusDays(120)))
+                .isCloseTo(ModeloCrescimentoEnum.GOMPERTZ.peso(120, GOMPERTZ), within(0.1));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a curva em memória sem consultar o banco novamente")
+    void deveReaproveitarCurvaEmMemoria() {
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometriasGompertz(5));
+
+        CurvaCrescimento primeira = curvaCrescimentoService.curva(1L);
+        CurvaCrescimento segunda = curvaCrescimentoService.curva(1L);
+
+        assertThat(segunda).isSameAs(primeira);
+        verify(loteRepository, times(1)).findById(1L);
+        verify(biometriaRepository, times(1)).findByLoteIdOrderByDataBiometriaAsc(1L);
+    }
+
+    @Test
+    @DisplayName("Nova biometria deve invalidar a curva e o próximo acesso deve reajustá-la")
+    void novaBiometriaDeveInvalidarCurva() {
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L))
+                .thenReturn(biometriasGompertz(5))
+                .thenReturn(biometriasGompertz(6));
+
+        CurvaCrescimento anterior = curvaCrescimentoService.curva(1L);
+        curvaCrescimentoService.aoAlterarBiometria(new BiometriaAlteradaEvent(1L, 6L));
+        CurvaCrescimento atual = curvaCrescimentoService.curva(1L);
+
+        assertThat(anterior.quantidadeBiometrias()).isEqualTo(5);
+        assertThat(atual.quantidadeBiometrias()).isEqualTo(6);
+        assertThat(atual.dataUltimaBiometria()).isAfter(anterior.dataUltimaBiometria());
+        verify(biometriaRepository, times(2)).findByLoteIdOrderByDataBiometriaAsc(1L);
+    }
+
+    @Test
+    @DisplayName("Passado o tamanho máximo, deve descartar a curva do lote usado há mais tempo")
+    void deveDescartarCurvaDoLoteMenosUsado() {
+        curvaCrescimentoService = new CurvaCrescimentoService(
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository), 1);
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometriasGompertz(5));
+        Lote outroLote = Lote.builder().id(2L).codigo("LOTE-002").dataPovoamento(POVOAMENTO).build();
+        when(loteRepository.findById(2L)).thenReturn(Optional.of(outroLote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(2L)).thenReturn(biometriasGompertz(5));
+
+        CurvaCrescimento primeira = curvaCrescimentoService.curva(1L);
+        curvaCrescimentoService.curva(2L);
+        CurvaCrescimento reajustada = curvaCrescimentoService.curva(1L);
+
+        assertThat(reajustada).isNotSameAs(primeira);
+        verify(biometriaRepository, times(2)).findByLoteIdOrderByDataBiometriaAsc(1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar BusinessException quando há menos de 2 biometrias")
+    void deveLancarExcecaoComMenosDe2Biometrias() {
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometriasGompertz(1));
+
+        assertThatThrownBy(() -> curvaCrescimentoService.curva(1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("pelo menos 2 biometrias");
+    }
+
+    private List<Biometria> biometriasGompertz(int quantidade) {
+        List<Biometria> biometrias = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            int dia = 15 + i * 12;
+            double peso = ModeloCrescimentoEnum.GOMPERTZ.peso(dia, GOMPERTZ);
+            biometrias.add(biometria((long) i + 1, dia,
+                    BigDecimal.valueOf(peso).setScale(3, RoundingMode.HALF_UP).toPlainString(), null));
+        }
+        return biometrias;
+    }
+
+    private Biometria biometria(Long id, int dia, String peso, String gpd) {
+        return Biometria.builder()
+                .id(id)
+                .lote(lote)
+                .dataBiometria(POVOAMENTO.plusDays(dia))
+                .diaCultivo(dia)
+                .pesoMedio(new BigDecimal(peso))
+                .ganhoPesoDiario(gpd != null ? new BigDecimal(gpd) : null)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.CurvaCustoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.CustoAcumuladoLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PontoCurvaCustoResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoDiario;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoDiarioRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CustoAcumuladoService")
+class CustoAcumuladoServiceTest {
+
+    private static final LocalDate POVOAMENTO = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private LoteCustoDiarioRepository loteCustoDiarioRepository;
+
+    @InjectMocks
+    private CustoAcumuladoService custoAcumuladoService;
+
+    private Lote lote;
+
+    @BeforeEach
+    void setUp() {
+        lote = Lote.builder()
+                .id(1L)
+                .codigo("LOTE01")
+                .dataPovoamento(POVOAMENTO)
+                .custoPosLarvas(new BigDecimal("1000.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("custoAte() deve somar pós-larvas ao acumulado dos lançamentos até a data")
+    void custoAteDeveSomarPosLarvasAoAcumulado() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAte(1L, LocalDate.of(2025, 1, 20)))
+                .thenReturn(Optional.of(new BigDecimal("350.50")));
+
+        CustoAcumuladoLoteResponse custo = custoAcumuladoService.custoAte(1L, LocalDate.of(2025, 1, 20));
+
+        assertThat(custo.getDataInicio()).isNull();
+        assertThat(custo.getDataFim()).isEqualTo(LocalDate.of(2025, 1, 20));
+        assertThat(custo.getCustoPosLarvas()).isEqualByComparingTo("1000.00");
+        assertThat(custo.getCustoLancamentos()).isEqualByComparingTo("350.50");
+        assertThat(custo.getCustoTotal()).isEqualByComparingTo("1350.50");
+    }
+
+    @Test
+    @DisplayName("custoAte() antes do povoamento e sem lançamentos deve ser zero")
+    void custoAteAntesDoPovoamentoDeveSerZero() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAte(1L, LocalDate.of(2024, 12, 31)))
+                .thenReturn(Optional.empty());
+
+        CustoAcumuladoLoteResponse custo = custoAcumuladoService.custoAte(1L, LocalDate.of(2024, 12, 31));
+
+        assertThat(custo.getCustoTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("custoNoPeriodo() deve subtrair o acumulado da véspera do início")
+    void custoNoPeriodoDeveSubtrairAcumuladoDaVespera() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAte(1L, LocalDate.of(2025, 1, 31)))
+                .thenReturn(Optional.of(new BigDecimal("900.00")));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAte(1L, LocalDate.of(2025, 1, 9)))
+                .thenReturn(Optional.of(new BigDecimal("250.00")));
+
+        CustoAcumuladoLoteResponse custo = custoAcumuladoService.custoNoPeriodo(
+                1L, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 31));
+
+        assertThat(custo.getCustoPosLarvas()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(custo.getCustoLancamentos()).isEqualByComparingTo("650.00");
+        assertThat(custo.getCustoTotal()).isEqualByComparingTo("650.00");
+    }
+
+    @Test
+    @DisplayName("custoNoPeriodo() deve lançar BusinessException quando fim é anterior ao início")
+    void custoNoPeriodoDeveRejeitarPeriodoInvertido() {
+        assertThatThrownBy(() -> custoAcumuladoService.custoNoPeriodo(
+                1L, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(loteRepository, loteCustoDiarioRepository);
+    }
+
+    @Test
+    @DisplayName("gerarCurvaCusto() deve incluir o povoamento e somar as pós-larvas aos pontos seguintes")
+    void gerarCurvaCustoDeveIncluirPovoamento() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(loteCustoDiarioRepository.findByLoteIdOrderByDataAsc(1L)).thenReturn(List.of(
+                dia(LocalDate.of(2025, 1, 5), "100.00", "100.00"),
+                dia(LocalDate.of(2025, 1, 12), "50.00", "150.00")));
+
+        CurvaCustoLoteResponse curva = custoAcumuladoService.gerarCurvaCusto(1L);
+
+        assertThat(curva.getPontos()).extracting(PontoCurvaCustoResponse::getDiaCultivo)
+                .containsExactly(0, 4, 11);
+        assertThat(curva.getPontos()).extracting(PontoCurvaCustoResponse::getCustoAcumulado)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1000.00"), new BigDecimal("1100.00"), new BigDecimal("1150.00"));
+        assertThat(curva.getCustoTotal()).isEqualByComparingTo("1150.00");
+    }
+
+    @Test
+    @DisplayName("gerarCurvaCusto() deve juntar as pós-larvas ao lançamento do dia do povoamento")
+    void gerarCurvaCustoDeveJuntarPosLarvasAoDiaDoPovoamento() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(loteCustoDiarioRepository.findByLoteIdOrderByDataAsc(1L)).thenReturn(List.of(
+                dia(POVOAMENTO, "20.00", "20.00")));
+
+        CurvaCustoLoteResponse curva = custoAcumuladoService.gerarCurvaCusto(1L);
+
+        assertThat(curva.getPontos()).hasSize(1);
+        assertThat(curva.getPontos().get(0).getCustoDia()).isEqualByComparingTo("1020.00");
+        assertThat(curva.getCustoTotal()).isEqualByComparingTo("1020.00");
+    }
+
+    @Test
+    @DisplayName("gerarCurvaCusto() deve lançar EntityNotFoundException quando lote não existe")
+    void gerarCurvaCustoDeveLancarQuandoLoteNaoExiste() {
+        when(loteRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> custoAcumuladoService.gerarCurvaCusto(99L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private LoteCustoDiario dia(LocalDate data, String custoDia, String custoAcumulado) {
+        return LoteCustoDiario.builder()
+                .loteId(1L)
+                .data(data)
+                .custoDia(new BigDecimal(custoDia))
+                .custoAcumulado(new BigDecimal(custoAcumulado))
+                .build();
+    }
+}
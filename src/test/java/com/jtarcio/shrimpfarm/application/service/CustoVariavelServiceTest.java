@@ -39,6 +39,9 @@ class CustoVariavelServiceTest {
     @Mock
     private CustoVariavelMapper custoVariavelMapper;
 
+    @Mock
+    private LoteCustoResumoService loteCustoResumoService;
+
     @InjectMocks
     private CustoVariavelService custoVariavelService;
 
@@ -104,6 +107,7 @@ class CustoVariavelServiceTest {
         verify(custoVariavelMapper).toEntity(request, lote);
         verify(custoVariavelRepository).save(any(CustoVariavel.class));
         verify(custoVariavelMapper).toResponse(any(CustoVariavel.class));
+        verify(loteCustoResumoService).registrarCustoVariavel(10L, LocalDate.of(2025, 2, 1), new BigDecimal("1500.00"));
     }
 
     @Test
@@ -237,6 +241,8 @@ class CustoVariavelServiceTest {
         assertNotNull(resultado);
         verify(custoVariavelRepository).save(any(CustoVariavel.class));
         verify(custoVariavelMapper).toResponse(any(CustoVariavel.class));
+        verify(loteCustoResumoService).estornarCustoVariavel(10L, LocalDate.of(2025, 2, 1), new BigDecimal("1500.00"));
+        verify(loteCustoResumoService).registrarCustoVariavel(10L, LocalDate.of(2025, 2, 5), new BigDecimal("1700.00"));
     }
 
     @Test
@@ -247,5 +253,6 @@ class CustoVariavelServiceTest {
         custoVariavelService.deletar(1L);
 
         verify(custoVariavelRepository).delete(custoVariavel);
+        verify(loteCustoResumoService).estornarCustoVariavel(10L, LocalDate.of(2025, 2, 1), new BigDecimal("1500.00"));
     }
 }
@@ -0,0 +1,128 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.CacheEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do DashboardCacheService")
+class DashboardCacheServiceTest {
+
+    @Mock
+    private RelatorioService relatorioService;
+
+    private DashboardCacheService dashboardCacheService;
+
+    private DashboardKPIsResponse kpis;
+
+    @BeforeEach
+    void setUp() {
+        dashboardCacheService = new DashboardCacheService(relatorioService, Duration.ofMinutes(5));
+        kpis = DashboardKPIsResponse.builder()
+                .totalLotesAtivos(3)
+                .totalViveirosOcupados(3)
+                .build();
+    }
+
+    @Test
+    @DisplayName("obterKPIs() deve calcular uma vez e servir as leituras seguintes do cache")
+    void obterKPIsDeveServirDoCache() {
+        when(relatorioService.obterKPIsDashboard()).thenReturn(kpis);
+
+        DashboardKPIsResponse primeira = dashboardCacheService.obterKPIs();
+        DashboardKPIsResponse segunda = dashboardCacheService.obterKPIs();
+        DashboardKPIsResponse terceira = dashboardCacheService.obterKPIs();
+
+        assertThat(primeira).isSameAs(kpis);
+        assertThat(segunda).isSameAs(kpis);
+        assertThat(terceira).isSameAs(kpis);
+        verify(relatorioService, times(1)).obterKPIsDashboard();
+
+        CacheEstatisticasResponse estatisticas = dashboardCacheService.obterEstatisticas();
+        assertThat(estatisticas.getAcertos()).isEqualTo(2L);
+        assertThat(estatisticas.getFalhas()).isEqualTo(1L);
+        assertThat(estatisticas.getReconstrucoes()).isEqualTo(1L);
+        assertThat(estatisticas.getTaxaAcerto()).isEqualByComparingTo("66.67");
+        assertThat(estatisticas.getIdadeSnapshotMs()).isNotNull();
+        assertThat(estatisticas.getTtlSegundos()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("Alteração de dados deve invalidar o snapshot e forçar nova consulta")
+    void alteracaoDeDadosDeveInvalidarSnapshot() {
+        DashboardKPIsResponse atualizados = DashboardKPIsResponse.builder()
+                .totalLotesAtivos(4)
+                .build();
+        when(relatorioService.obterKPIsDashboard()).thenReturn(kpis, atualizados);
+
+        dashboardCacheService.obterKPIs();
+        dashboardCacheService.aoAlterarDadosDoDashboard();
+        DashboardKPIsResponse resultado = dashboardCacheService.obterKPIs();
+
+        assertThat(resultado.getTotalLotesAtivos()).isEqualTo(4);
+        verify(relatorioService, times(2)).obterKPIsDashboard();
+        assertThat(dashboardCacheService.obterEstatisticas().getInvalidacoes()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Snapshot expirado pelo TTL deve ser recalculado mesmo sem invalidação")
+    void snapshotExpiradoDeveSerRecalculado() {
+        dashboardCacheService = new DashboardCacheService(relatorioService, Duration.ZERO);
+        when(relatorioService.obterKPIsDashboard()).thenReturn(kpis);
+
+        dashboardCacheService.obterKPIs();
+        dashboardCacheService.obterKPIs();
+
+        verify(relatorioService, times(2)).obterKPIsDashboard();
+        assertThat(dashboardCacheService.obterEstatisticas().getAcertos()).isZero();
+    }
+
+    @Test
+    @DisplayName("Leituras concorrentes com cache vazio devem disparar uma única reconstrução")
+    void leiturasConcorrentesDevemReconstruirUmaVez() throws Exception {
+        CountDownLatch reconstrucaoIniciada = new CountDownLatch(1);
+        CountDownLatch liberarReconstrucao = new CountDownLatch(1);
+        when(relatorioService.obterKPIsDashboard()).thenAnswer(invocation -> {
+            reconstrucaoIniciada.countDown();
+            liberarReconstrucao.await(5, TimeUnit.SECONDS);
+            return kpis;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<DashboardKPIsResponse>> leituras = new ArrayList<>();
+            leituras.add(executor.submit(dashboardCacheService::obterKPIs));
+            assertThat(reconstrucaoIniciada.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 3; i++) {
+                leituras.add(executor.submit(dashboardCacheService::obterKPIs));
+            }
+            liberarReconstrucao.countDown();
+
+            for (Future<DashboardKPIsResponse> leitura : leituras) {
+                assertThat(leitura.get(5, TimeUnit.SECONDS)).isSameAs(kpis);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(relatorioService, times(1)).obterKPIsDashboard();
+    }
+}
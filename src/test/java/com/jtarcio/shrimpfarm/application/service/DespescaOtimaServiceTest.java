@@ -0,0 +1,228 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.DespescaOtimaRequest;
+import com.jtarcio.shrimpfarm.application.dto.request.FaixaPrecoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.DespescaOtimaResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoDiarioRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do DespescaOtimaService")
+class DespescaOtimaServiceTest {
+
+    private static final LocalDate POVOAMENTO = LocalDate.of(2025, 1, 1);
+    private static final LocalDate REFERENCIA = POVOAMENTO.plusDays(80);
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private LoteCustoDiarioRepository loteCustoDiarioRepository;
+
+    private DespescaOtimaService despescaOtimaService;
+
+    private Lote lote;
+
+    @BeforeEach
+    void setUp() {
+        ContextoCalculoLote contextoCalculoLote =
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository);
+        despescaOtimaService = new DespescaOtimaService(loteRepository, biometriaRepository,
+                loteCustoDiarioRepository, new CurvaCrescimentoService(contextoCalculoLote, 1000));
+
+        lote = lote(1L, "LOTE-001");
+    }
+
+    @Test
+    @DisplayName("Deve otimizar os lotes ativos com consultas agrupadas e custo diário da janela recente")
+    void deveOtimizarLotesAtivosComConsultasAgrupadas() {
+        Lote semBiometrias = lote(2L, "LOTE-002");
+        List<Long> ids = List.of(1L, 2L);
+        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO)).thenReturn(List.of(lote, semBiometrias));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(ids)).thenReturn(biometrias(lote));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(ids, REFERENCIA))
+                .thenReturn(List.of(total(1L, "20000.00")));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(ids, REFERENCIA.minusDays(30)))
+                .thenReturn(List.of(total(1L, "11000.00")));
+
+        List<DespescaOtimaResponse> resultado = despescaOtimaService.otimizar(request(new BigDecimal("0"), "25.00"));
+
+        assertThat(resultado).hasSize(2);
+        DespescaOtimaResponse otima = resultado.get(0);
+
+        // Acumulado na referência (R$ 20.000) + pós-larvas (R$ 1.000)
+        assertThat(otima.getCustoAtual()).isEqualByComparingTo("21000.00");
+        // R$ 9.000 em 30 dias; linear a 0,4 g/dia × 80.000 vivos × R$ 25/kg = R$ 800/dia de receita a mais
+        assertThat(otima.getCustoDiario()).isEqualByComparingTo("300.00");
+        assertThat(otima.getSobrevivencia()).isEqualByComparingTo("80.00");
+        assertThat(otima.getCurva()).hasSize(61);
+        assertThat(otima.getCurva().get(0).getDiaCultivo()).isEqualTo(90);
+        assertThat(otima.getCurva().get(0).getCustoAcumulado()).isEqualByComparingTo("24000.00");
+        assertThat(otima.getCurva().get(0).getReceitaMarginal()).isNull();
+        assertThat(otima.getCurva().get(1).getReceitaMarginal()).isEqualByComparingTo("800.00");
+
+        // Receita marginal sempre acima do custo diário: despesca no último dia da janela
+        assertThat(otima.getDiaCultivoOtimo()).isEqualTo(150);
+        assertThat(otima.getDataOtima()).isEqualTo(POVOAMENTO.plusDays(150));
+        assertThat(otima.getPesoMedioOtimo()).isEqualByComparingTo("48.00");
+        assertThat(otima.getReceitaOtima()).isEqualByComparingTo("96000.00");
+        assertThat(otima.getCustoOtimo()).isEqualByComparingTo("42000.00");
+        assertThat(otima.getLucroOtimo()).isEqualByComparingTo("54000.00");
+
+        assertThat(resultado.get(1).getErro()).contains("Não há biometrias");
+
+        verify(biometriaRepository, never()).findByLoteIdOrderByDataBiometriaAsc(anyLong());
+        verify(loteCustoDiarioRepository, never()).buscarCustoAcumuladoAte(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Deve despescar no início da janela quando o custo diário supera a receita marginal")
+    void deveDespescarNoInicioComCustoAlto() {
+        List<Long> ids = List.of(1L);
+        when(loteRepository.findAllById(ids)).thenReturn(List.of(lote));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(ids)).thenReturn(biometrias(lote));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(ids, REFERENCIA))
+                .thenReturn(List.of(total(1L, "50000.00")));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(ids, REFERENCIA.minusDays(30)))
+                .thenReturn(List.of(total(1L, "20000.00")));
+
+        DespescaOtimaRequest request = request(new BigDecimal("0"), "25.00");
+        request.setLoteIds(ids);
+
+        DespescaOtimaResponse otima = despescaOtimaService.otimizar(request).get(0);
+
+        // R$ 1.000/dia de custo contra R$ 800/dia de receita
+        assertThat(otima.getDiaCultivoOtimo()).isEqualTo(90);
+        assertThat(otima.getPesoMedioOtimo()).isEqualByComparingTo("24.00");
+    }
+
+    @Test
+    @DisplayName("Lote povoado há menos dias que a janela deve dividir o custo só pelos dias de cultivo")
+    void loteNovoDeveDividirCustoPelosDiasDeCultivo() {
+        LocalDate referencia = POVOAMENTO.plusDays(10);
+        List<Long> ids = List.of(1L);
+        when(loteRepository.findAllById(ids)).thenReturn(List.of(lote));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(ids)).thenReturn(biometrias(lote));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(ids, referencia))
+                .thenReturn(List.of(total(1L, "2000.00")));
+        when(loteCustoDiarioRepository.buscarCustoAcumuladoAtePorLotes(ids, referencia.minusDays(30)))
+                .thenReturn(List.of());
+
+        DespescaOtimaRequest request = request(new BigDecimal("0"), "25.00");
+        request.setLoteIds(ids);
+        request.setDataReferencia(referencia);
+
+        DespescaOtimaResponse otima = despescaOtimaService.otimizar(request).get(0);
+
+        // R$ 2.000 em 10 dias de cultivo, e não em 30
+        assertThat(otima.getCustoDiario()).isEqualByComparingTo("200.00");
+        assertThat(otima.getCustoAtual()).isEqualByComparingTo("3000.00");
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para lote inexistente")
+    void deveLancarExcecaoLoteInexistente() {
+        when(loteRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(lote));
+
+        DespescaOtimaRequest request = request(new BigDecimal("0"), "25.00");
+        request.setLoteIds(List.of(1L, 99L));
+
+        assertThatThrownBy(() -> despescaOtimaService.otimizar(request))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar janela com dia mínimo maior que o máximo")
+    void deveRejeitarJanelaInvalida() {
+        DespescaOtimaRequest request = request(new BigDecimal("0"), "25.00");
+        request.setDiaMinimo(160);
+
+        assertThatThrownBy(() -> despescaOtimaService.otimizar(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Dia mínimo");
+    }
+
+    private DespescaOtimaRequest request(BigDecimal pesoMinimo, String precoKg) {
+        return DespescaOtimaRequest.builder()
+                .faixasPreco(List.of(FaixaPrecoRequest.builder()
+                        .pesoMinimo(pesoMinimo)
+                        .precoKg(new BigDecimal(precoKg))
+                        .build()))
+                .dataReferencia(REFERENCIA)
+                .build();
+    }
+
+    private TotalPorLote total(Long loteId, String valor) {
+        return new TotalPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(valor);
+            }
+        };
+    }
+
+    private Lote lote(Long id, String codigo) {
+        return Lote.builder()
+                .id(id)
+                .codigo(codigo)
+                .dataPovoamento(POVOAMENTO)
+                .quantidadePosLarvas(100000)
+                .custoPosLarvas(new BigDecimal("1000.00"))
+                .status(StatusLoteEnum.ATIVO)
+                .build();
+    }
+
+    private List<Biometria> biometrias(Lote lote) {
+        return List.of(
+                biometria(lote, 30, "5.000", "0.3000", null),
+                biometria(lote, 45, "9.000", "0.4000", null),
+                biometria(lote, 60, "12.000", "0.5000", "80.00"));
+    }
+
+    private Biometria biometria(Lote lote, int dia, String peso, String gpd, String sobrevivencia) {
+        return Biometria.builder()
+                .lote(lote)
+                .dataBiometria(POVOAMENTO.plusDays(dia))
+                .diaCultivo(dia)
+                .pesoMedio(new BigDecimal(peso))
+                .ganhoPesoDiario(new BigDecimal(gpd))
+                .sobrevivenciaEstimada(sobrevivencia != null ? new BigDecimal(sobrevivencia) : null)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.DespescaRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.DespescaResponse;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
 import com.jtarcio.shrimpfarm.application.mapper.DespescaMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Comprador;
 import com.jtarcio.shrimpfarm.domain.entity.Despesca;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -46,6 +48,9 @@ class DespescaServiceTest {
     @Mock
     private DespescaMapper despescaMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DespescaService despescaService;
 
@@ -146,6 +151,7 @@ class DespescaServiceTest {
         verify(despescaRepository).save(any(Despesca.class));
         verify(loteRepository).save(loteAtivo);
         verify(despescaMapper).toResponse(any(Despesca.class));
+        verify(eventPublisher).publishEvent(new LoteAlteradoEvent(10L));
     }
 
     @Test
@@ -6,6 +6,7 @@ import com.jtarcio.shrimpfarm.application.mapper.FazendaMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FazendaResumo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,9 @@ class FazendaServiceTest {
     @Mock
     private FazendaMapper fazendaMapper;
 
+    @Mock
+    private FazendaResumo fazendaResumo;
+
     @InjectMocks
     private FazendaService fazendaService;
 
@@ -125,8 +129,8 @@ class FazendaServiceTest {
     @Test
     @DisplayName("listarTodas() deve mapear todas as entidades para response")
     void listarTodasDeveRetornarListaMapeada() {
-        when(fazendaRepository.findAll()).thenReturn(List.of(fazenda));
-        when(fazendaMapper.toResponse(fazenda)).thenReturn(response);
+        when(fazendaRepository.listarResumos()).thenReturn(List.of(fazendaResumo));
+        when(fazendaMapper.toResponse(fazendaResumo)).thenReturn(response);
 
         List<FazendaResponse> lista = fazendaService.listarTodas();
 
@@ -135,25 +139,25 @@ class FazendaServiceTest {
     }
 
     @Test
-    @DisplayName("listarAtivas() deve chamar repository.findByAtivaTrue()")
-    void listarAtivasDeveUsarFindByAtivaTrue() {
-        when(fazendaRepository.findByAtivaTrue()).thenReturn(List.of(fazenda));
-        when(fazendaMapper.toResponse(fazenda)).thenReturn(response);
+    @DisplayName("listarAtivas() deve chamar repository.listarResumosAtivas()")
+    void listarAtivasDeveUsarListarResumosAtivas() {
+        when(fazendaRepository.listarResumosAtivas()).thenReturn(List.of(fazendaResumo));
+        when(fazendaMapper.toResponse(fazendaResumo)).thenReturn(response);
 
         List<FazendaResponse> lista = fazendaService.listarAtivas();
 
         assertEquals(1, lista.size());
-        verify(fazendaRepository, times(1)).findByAtivaTrue();
+        verify(fazendaRepository, times(1)).listarResumosAtivas();
     }
 
     @Test
     @DisplayName("listarPaginado() deve retornar página mapeada")
     void listarPaginadoDeveRetornarPagina() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Fazenda> pageEntidades = new PageImpl<>(List.of(fazenda), pageable, 1);
+        Page<FazendaResumo> pageResumos = new PageImpl<>(List.of(fazendaResumo), pageable, 1);
 
-        when(fazendaRepository.findAll(pageable)).thenReturn(pageEntidades);
-        when(fazendaMapper.toResponse(fazenda)).thenReturn(response);
+        when(fazendaRepository.listarResumos(pageable)).thenReturn(pageResumos);
+        when(fazendaMapper.toResponse(fazendaResumo)).thenReturn(response);
 
         Page<FazendaResponse> pagina = fazendaService.listarPaginado(pageable);
 
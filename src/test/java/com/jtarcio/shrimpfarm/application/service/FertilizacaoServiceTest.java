@@ -51,6 +51,9 @@ class FertilizacaoServiceTest {
     @Mock
     private FertilizacaoMapper fertilizacaoMapper;
 
+    @Mock
+    private LoteCustoResumoService loteCustoResumoService;
+
     @InjectMocks
     private FertilizacaoService fertilizacaoService;
 
@@ -120,6 +123,7 @@ class FertilizacaoServiceTest {
         assertThat(resultado.getProduto()).isEqualTo("Ureia");
         assertThat(resultado.getCustoTotal()).isEqualByComparingTo("500.00");
         verify(fertilizacaoRepository).save(any(Fertilizacao.class));
+        verify(loteCustoResumoService).registrarFertilizacao(1L, fertilizacao.getDataAplicacao(), new BigDecimal("500.00"));
     }
 
     @Test
@@ -273,6 +277,7 @@ class FertilizacaoServiceTest {
 
         // Assert
         verify(fertilizacaoRepository).delete(fertilizacao);
+        verify(loteCustoResumoService).estornarFertilizacao(1L, fertilizacao.getDataAplicacao(), new BigDecimal("500.00"));
     }
 
     @Test
@@ -0,0 +1,215 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtarcio.shrimpfarm.application.dto.response.ImportacaoBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.LinhaImportacaoBiometriaResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.mapper.BiometriaMapper;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ImportacaoBiometriaService")
+class ImportacaoBiometriaServiceTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+    private static final LocalDate DATA_POVOAMENTO = HOJE.minusDays(30);
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("CSV deve importar as linhas válidas em blocos e rejeitar as demais com o motivo")
+    void csvDeveImportarLinhasValidasERejeitarAsDemais() throws Exception {
+        ImportacaoBiometriaService service = criarService(2);
+        when(loteRepository.findAllById(any())).thenReturn(List.of(lote())).thenReturn(List.of());
+        when(loteCustoResumoRepository.buscarQuantidadesRacaoKg(List.of(1L)))
+                .thenReturn(List.of(total(1L, "400.000000")));
+
+        ImportacaoBiometriaResponse response = service.importarCsv(corpo(
+                "loteId,dataBiometria,pesoMedio,quantidadeAmostrada,observacoes\n" +
+                        "1," + HOJE.minusDays(1) + ",5.000,100,\"Amostra, manhã\"\n" +
+                        "1," + HOJE + ",abc,100,\n" +
+                        "\n" +
+                        "99," + HOJE + ",5.000,100,\n" +
+                        "1," + HOJE + ",6.000,100,\n"));
+
+        assertThat(response.getTotalLinhas()).isEqualTo(4);
+        assertThat(response.getImportadas()).isEqualTo(2);
+        assertThat(response.getRejeitadas()).isEqualTo(2);
+        assertThat(response.getLotesAfetados()).isEqualTo(1);
+        assertThat(response.getLinhas()).extracting(LinhaImportacaoBiometriaResponse::getLinha)
+                .containsExactly(2, 3, 5, 6);
+        assertThat(response.getLinhas()).extracting(LinhaImportacaoBiometriaResponse::getStatus)
+                .containsExactly("IMPORTADA", "REJEITADA", "REJEITADA", "IMPORTADA");
+        assertThat(response.getLinhas().get(1).getErros()).containsExactly("Valor inválido para pesoMedio: abc");
+        assertThat(response.getLinhas().get(2).getErros()).containsExactly("Lote com ID 99 não encontrado");
+
+        // Lote já visto no primeiro bloco não é buscado de novo; o lote inexistente não tem resumo a buscar
+        verify(loteRepository, times(2)).findAllById(any());
+        verify(loteCustoResumoRepository, times(1)).buscarQuantidadesRacaoKg(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Biometria>> captor = ArgumentCaptor.forClass(List.class);
+        verify(biometriaRepository, times(2)).inserirEmLote(captor.capture());
+
+        Biometria primeira = captor.getAllValues().get(0).get(0);
+        assertThat(primeira.getDiaCultivo()).isEqualTo(29);
+        assertThat(primeira.getObservacoes()).isEqualTo("Amostra, manhã");
+        assertThat(primeira.getBiomassaEstimada()).isEqualByComparingTo("400.00");
+        assertThat(primeira.getFatorConversaoAlimentar()).isEqualByComparingTo("1.000");
+        assertThat(primeira.getDataCriacao()).isNotNull();
+
+        Biometria segunda = captor.getAllValues().get(1).get(0);
+        assertThat(segunda.getFatorConversaoAlimentar()).isEqualByComparingTo("0.833");
+
+        verify(eventPublisher, times(1)).publishEvent(new BiometriaAlteradaEvent(1L, null));
+    }
+
+    @Test
+    @DisplayName("CSV com ponto e vírgula deve aceitar colunas em outra ordem e decimais com vírgula")
+    void csvComPontoEVirgulaDeveAceitarDecimaisComVirgula() throws Exception {
+        ImportacaoBiometriaService service = criarService(500);
+        when(loteRepository.findAllById(any())).thenReturn(List.of(lote()));
+
+        ImportacaoBiometriaResponse response = service.importarCsv(corpo(
+                "\uFEFFquantidadeAmostrada;pesoMedio;dataBiometria;loteId\n" +
+                        "50;12,5;" + HOJE + ";1\n"));
+
+        assertThat(response.getImportadas()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Biometria>> captor = ArgumentCaptor.forClass(List.class);
+        verify(biometriaRepository).inserirEmLote(captor.capture());
+        assertThat(captor.getValue().get(0).getPesoMedio()).isEqualByComparingTo("12.5");
+        assertThat(captor.getValue().get(0).getQuantidadeAmostrada()).isEqualTo(50);
+        // Lote sem resumo de custos ainda não tem FCA
+        assertThat(captor.getValue().get(0).getFatorConversaoAlimentar()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV sem coluna obrigatória deve ser recusado antes de ler as linhas")
+    void csvSemColunaObrigatoriaDeveSerRecusado() {
+        ImportacaoBiometriaService service = criarService(500);
+
+        assertThatThrownBy(() -> service.importarCsv(corpo("loteId,dataBiometria,pesoMedio\n1,2024-01-01,5\n")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Coluna obrigatória ausente no CSV: quantidadeAmostrada");
+
+        verifyNoInteractions(loteRepository, biometriaRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("JSON deve validar cada registro com as regras do cadastro individual")
+    void jsonDeveValidarCadaRegistro() throws Exception {
+        ImportacaoBiometriaService service = criarService(500);
+        when(loteRepository.findAllById(any())).thenReturn(List.of(lote()));
+
+        ImportacaoBiometriaResponse response = service.importarJson(corpo("[" +
+                "{\"loteId\": 1, \"dataBiometria\": \"" + HOJE + "\", \"pesoMedio\": \"x\", \"quantidadeAmostrada\": 10}," +
+                "{\"loteId\": 1, \"dataBiometria\": \"" + DATA_POVOAMENTO.minusDays(1) + "\", \"pesoMedio\": 5.0, \"quantidadeAmostrada\": 10}," +
+                "{\"loteId\": 1, \"dataBiometria\": \"" + HOJE + "\", \"pesoMedio\": 0, \"quantidadeAmostrada\": 10}," +
+                "{\"loteId\": 1, \"dataBiometria\": \"" + HOJE + "\", \"pesoMedio\": 5.0, \"quantidadeAmostrada\": 10}," +
+                "42]"));
+
+        assertThat(response.getTotalLinhas()).isEqualTo(5);
+        assertThat(response.getImportadas()).isEqualTo(1);
+        assertThat(response.getLinhas()).extracting(LinhaImportacaoBiometriaResponse::getErros).containsExactly(
+                List.of("Valor inválido para pesoMedio"),
+                List.of("Data da biometria não pode ser anterior à data de povoamento"),
+                List.of("Peso médio deve ser maior que zero"),
+                List.of(),
+                List.of("Registro deve ser um objeto JSON"));
+
+        verify(biometriaRepository).inserirEmLote(argThat(biometrias -> biometrias.size() == 1));
+        verify(eventPublisher).publishEvent(new BiometriaAlteradaEvent(1L, null));
+    }
+
+    @Test
+    @DisplayName("JSON que não é um array deve ser recusado")
+    void jsonQueNaoEArrayDeveSerRecusado() {
+        ImportacaoBiometriaService service = criarService(500);
+
+        assertThatThrownBy(() -> service.importarJson(corpo("{\"loteId\": 1}")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("O corpo da importação deve ser um array JSON de biometrias");
+    }
+
+    @Test
+    @DisplayName("separarCampos() deve tratar aspas e aspas duplicadas")
+    void separarCamposDeveTratarAspas() {
+        assertThat(ImportacaoBiometriaService.separarCampos("1,\"a, \"\"b\"\"\",,c", ','))
+                .containsExactly("1", "a, \"b\"", "", "c");
+    }
+
+    // Métodos auxiliares
+
+    private ImportacaoBiometriaService criarService(int tamanhoBloco) {
+        return new ImportacaoBiometriaService(loteRepository, loteCustoResumoRepository, biometriaRepository,
+                new BiometriaMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(), eventPublisher, tamanhoBloco);
+    }
+
+    private InputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Lote lote() {
+        return Lote.builder()
+                .id(1L)
+                .codigo("LOTE-001")
+                .dataPovoamento(DATA_POVOAMENTO)
+                .quantidadePosLarvas(100000)
+                .status(StatusLoteEnum.ATIVO)
+                .build();
+    }
+
+    private TotalPorLote total(Long loteId, String total) {
+        return new TotalPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+}
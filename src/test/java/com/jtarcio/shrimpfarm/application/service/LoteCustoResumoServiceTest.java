@@ -0,0 +1,395 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.DivergenciaCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.VerificacaoCustoResumoResponse;
+import com.jtarcio.shrimpfarm.application.event.CustoLoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.QuantidadeRacaoPorUnidade;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalPorLote;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.TotalRacaoPorLote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do LoteCustoResumoService")
+class LoteCustoResumoServiceTest {
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private LoteCustoDiarioRepository loteCustoDiarioRepository;
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private RacaoRepository racaoRepository;
+
+    @Mock
+    private NutrienteRepository nutrienteRepository;
+
+    @Mock
+    private FertilizacaoRepository fertilizacaoRepository;
+
+    @Mock
+    private CustoVariavelRepository custoVariavelRepository;
+
+    @Mock
+    private ParticaoMensalRepository particaoMensalRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LoteCustoResumoService loteCustoResumoService;
+
+    private static final LocalDate DATA = LocalDate.of(2025, 3, 10);
+
+    @Test
+    @DisplayName("registrarRacao() deve acumular custo e quantidade arredondados como no banco")
+    void registrarRacaoDeveAcumularValoresArredondados() {
+        loteCustoResumoService.registrarRacao(1L, DATA, new BigDecimal("12.3456"), new BigDecimal("10.12345"),
+                UnidadeMedidaEnum.KG);
+
+        verify(loteCustoResumoRepository).acumular(1L,
+                new BigDecimal("12.35"), new BigDecimal("10.123"), new BigDecimal("10.123"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(loteCustoDiarioRepository).criarDia(1L, DATA);
+        verify(loteCustoDiarioRepository).acumularAPartirDe(1L, DATA, new BigDecimal("12.35"));
+        verify(eventPublisher).publishEvent(new CustoLoteAlteradoEvent(1L));
+    }
+
+    @Test
+    @DisplayName("estornarRacao() deve acumular valores negativos")
+    void estornarRacaoDeveAcumularValoresNegativos() {
+        loteCustoResumoService.estornarRacao(1L, DATA, new BigDecimal("850.00"), new BigDecimal("100.000"),
+                UnidadeMedidaEnum.KG);
+
+        verify(loteCustoResumoRepository).acumular(1L,
+                new BigDecimal("-850.00"), new BigDecimal("-100.000"), new BigDecimal("-100.000"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(loteCustoDiarioRepository).acumularAPartirDe(1L, DATA, new BigDecimal("-850.00"));
+    }
+
+    @Test
+    @DisplayName("estornarRacao() deve tratar custo nulo como zero")
+    void estornarRacaoDeveTratarCustoNuloComoZero() {
+        loteCustoResumoService.estornarRacao(1L, DATA, null, new BigDecimal("100.000"), UnidadeMedidaEnum.KG);
+
+        verify(loteCustoResumoRepository).acumular(1L,
+                BigDecimal.ZERO, new BigDecimal("-100.000"), new BigDecimal("-100.000"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        verifyNoInteractions(loteCustoDiarioRepository);
+    }
+
+    @Test
+    @DisplayName("registrarRacao() deve acumular a quantidade convertida para kg")
+    void registrarRacaoDeveAcumularQuantidadeEmKg() {
+        loteCustoResumoService.registrarRacao(1L, DATA, new BigDecimal("10.00"), new BigDecimal("2500"),
+                UnidadeMedidaEnum.G);
+        loteCustoResumoService.registrarRacao(1L, DATA, new BigDecimal("300.00"), new BigDecimal("4"),
+                UnidadeMedidaEnum.SACO);
+        loteCustoResumoService.registrarRacao(1L, DATA, new BigDecimal("5.00"), new BigDecimal("3"),
+                UnidadeMedidaEnum.LITRO);
+
+        verify(loteCustoResumoRepository).acumular(1L,
+                new BigDecimal("10.00"), new BigDecimal("2500.000"), new BigDecimal("2.500000"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(loteCustoResumoRepository).acumular(1L,
+                new BigDecimal("300.00"), new BigDecimal("4.000"), new BigDecimal("100.000"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(loteCustoResumoRepository).acumular(1L,
+                new BigDecimal("5.00"), new BigDecimal("3.000"), BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Lançamentos de nutriente, fertilização e custo variável devem acumular na coluna correspondente")
+    void lancamentosDevemAcumularNaColunaCorrespondente() {
+        loteCustoResumoService.registrarNutriente(1L, DATA, new BigDecimal("200.00"));
+        loteCustoResumoService.estornarFertilizacao(1L, DATA, new BigDecimal("50.00"));
+        loteCustoResumoService.registrarCustoVariavel(1L, DATA.plusDays(1), new BigDecimal("1500.00"));
+
+        verify(loteCustoResumoRepository).acumular(1L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal("200.00"), BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(loteCustoResumoRepository).acumular(1L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, new BigDecimal("-50.00"), BigDecimal.ZERO);
+        verify(loteCustoResumoRepository).acumular(1L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("1500.00"));
+        verify(loteCustoDiarioRepository).acumularAPartirDe(1L, DATA, new BigDecimal("200.00"));
+        verify(loteCustoDiarioRepository).acumularAPartirDe(1L, DATA, new BigDecimal("-50.00"));
+        verify(loteCustoDiarioRepository).acumularAPartirDe(1L, DATA.plusDays(1), new BigDecimal("1500.00"));
+    }
+
+    @Test
+    @DisplayName("verificar() deve apontar divergências entre o resumo e os lançamentos")
+    void verificarDeveApontarDivergencias() {
+        when(loteRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(loteCustoResumoRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+                resumo(1L, "100.00", "50.000"),
+                resumo(2L, "80.00", "40.000")));
+        when(racaoRepository.somarTotaisPorLotes(List.of(1L, 2L))).thenReturn(List.of(
+                totalRacao(1L, "100.00", "50.000"),
+                totalRacao(2L, "95.00", "40.000")));
+        when(racaoRepository.somarQuantidadesPorLotesEUnidade(List.of(1L, 2L))).thenReturn(List.of(
+                quantidadeRacao(1L, UnidadeMedidaEnum.KG, "50.000"),
+                quantidadeRacao(2L, UnidadeMedidaEnum.KG, "40.000")));
+        when(nutrienteRepository.somarCustoTotalPorLotes(List.of(1L, 2L))).thenReturn(List.of());
+        when(fertilizacaoRepository.somarCustoTotalPorLotes(List.of(1L, 2L))).thenReturn(List.of());
+        when(custoVariavelRepository.somarValorTotalPorLotes(List.of(1L, 2L)))
+                .thenReturn(List.of(total(1L, "0.00")));
+        when(loteCustoDiarioRepository.buscarUltimoCustoAcumuladoPorLotes(List.of(1L, 2L)))
+                .thenReturn(List.of(total(1L, "100.00"), total(2L, "95.00")));
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificar();
+
+        assertThat(verificacao.getLotesVerificados()).isEqualTo(2);
+        assertThat(verificacao.getLotesDivergentes()).isEqualTo(1);
+        assertThat(verificacao.getCorrigido()).isFalse();
+        assertThat(verificacao.getDivergencias()).hasSize(1);
+
+        DivergenciaCustoResumoResponse divergencia = verificacao.getDivergencias().get(0);
+        assertThat(divergencia.getLoteId()).isEqualTo(2L);
+        assertThat(divergencia.getCampo()).isEqualTo("custoRacao");
+        assertThat(divergencia.getValorRegistrado()).isEqualByComparingTo("80.00");
+        assertThat(divergencia.getValorCalculado()).isEqualByComparingTo("95.00");
+
+        verify(loteCustoResumoRepository, never()).reconstruirPorLotes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("verificar() deve apontar lote com lançamentos e sem linha no resumo")
+    void verificarDeveApontarLoteSemResumo() {
+        when(loteRepository.findAllIds()).thenReturn(List.of(1L));
+        when(loteCustoResumoRepository.findAllById(List.of(1L))).thenReturn(List.of());
+        when(racaoRepository.somarTotaisPorLotes(List.of(1L))).thenReturn(List.of());
+        when(racaoRepository.somarQuantidadesPorLotesEUnidade(List.of(1L))).thenReturn(List.of());
+        when(nutrienteRepository.somarCustoTotalPorLotes(List.of(1L))).thenReturn(List.of(total(1L, "30.00")));
+        when(fertilizacaoRepository.somarCustoTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(custoVariavelRepository.somarValorTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(loteCustoDiarioRepository.buscarUltimoCustoAcumuladoPorLotes(List.of(1L)))
+                .thenReturn(List.of(total(1L, "30.00")));
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificar();
+
+        assertThat(verificacao.getLotesDivergentes()).isEqualTo(1);
+        assertThat(verificacao.getDivergencias())
+                .extracting(DivergenciaCustoResumoResponse::getCampo)
+                .containsExactly("custoNutrientes");
+    }
+
+    @Test
+    @DisplayName("verificar() deve apontar custo acumulado diário diferente da soma dos lançamentos")
+    void verificarDeveApontarCustoAcumuladoDiarioDivergente() {
+        when(loteRepository.findAllIds()).thenReturn(List.of(1L));
+        when(loteCustoResumoRepository.findAllById(List.of(1L))).thenReturn(List.of(resumo(1L, "100.00", "50.000")));
+        when(racaoRepository.somarTotaisPorLotes(List.of(1L))).thenReturn(List.of(totalRacao(1L, "100.00", "50.000")));
+        when(racaoRepository.somarQuantidadesPorLotesEUnidade(List.of(1L)))
+                .thenReturn(List.of(quantidadeRacao(1L, UnidadeMedidaEnum.KG, "50.000")));
+        when(nutrienteRepository.somarCustoTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(fertilizacaoRepository.somarCustoTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(custoVariavelRepository.somarValorTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(loteCustoDiarioRepository.buscarUltimoCustoAcumuladoPorLotes(List.of(1L))).thenReturn(List.of());
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificar();
+
+        assertThat(verificacao.getDivergencias()).hasSize(1);
+
+        DivergenciaCustoResumoResponse divergencia = verificacao.getDivergencias().get(0);
+        assertThat(divergencia.getCampo()).isEqualTo("custoAcumuladoDiario");
+        assertThat(divergencia.getValorRegistrado()).isEqualByComparingTo("0.00");
+        assertThat(divergencia.getValorCalculado()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("verificar() deve comparar o total em kg com as rações convertidas de cada unidade")
+    void verificarDeveCompararTotalRacaoEmKg() {
+        when(loteRepository.findAllIds()).thenReturn(List.of(1L));
+        when(loteCustoResumoRepository.findAllById(List.of(1L))).thenReturn(List.of(LoteCustoResumo.builder()
+                .loteId(1L)
+                .custoRacao(new BigDecimal("100.00"))
+                .quantidadeRacao(new BigDecimal("504.000"))
+                .quantidadeRacaoKg(new BigDecimal("104.000"))
+                .build()));
+        when(racaoRepository.somarTotaisPorLotes(List.of(1L))).thenReturn(List.of(totalRacao(1L, "100.00", "504.000")));
+        when(racaoRepository.somarQuantidadesPorLotesEUnidade(List.of(1L))).thenReturn(List.of(
+                quantidadeRacao(1L, UnidadeMedidaEnum.G, "500.000"),
+                quantidadeRacao(1L, UnidadeMedidaEnum.SACO, "4.000")));
+        when(nutrienteRepository.somarCustoTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(fertilizacaoRepository.somarCustoTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(custoVariavelRepository.somarValorTotalPorLotes(List.of(1L))).thenReturn(List.of());
+        when(loteCustoDiarioRepository.buscarUltimoCustoAcumuladoPorLotes(List.of(1L)))
+                .thenReturn(List.of(total(1L, "100.00")));
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificar();
+
+        // 500 g + 4 sacos = 100,5 kg
+        assertThat(verificacao.getDivergencias()).hasSize(1);
+        DivergenciaCustoResumoResponse divergencia = verificacao.getDivergencias().get(0);
+        assertThat(divergencia.getCampo()).isEqualTo("quantidadeRacaoKg");
+        assertThat(divergencia.getValorRegistrado()).isEqualByComparingTo("104.000");
+        assertThat(divergencia.getValorCalculado()).isEqualByComparingTo("100.500");
+    }
+
+    @Test
+    @DisplayName("registrarCustosVariaveis() deve acumular os lançamentos em uma única instrução")
+    void registrarCustosVariaveisDeveAcumularEmUmaInstrucao() {
+        Lote lote1 = Lote.builder().id(1L).build();
+        Lote lote2 = Lote.builder().id(2L).build();
+        List<CustoVariavel> custos = List.of(
+                CustoVariavel.builder().id(100L).lote(lote1).dataLancamento(LocalDate.of(2025, 6, 30))
+                        .valor(new BigDecimal("10.00")).build(),
+                CustoVariavel.builder().id(101L).lote(lote2).dataLancamento(LocalDate.of(2025, 5, 31))
+                        .valor(new BigDecimal("20.00")).build(),
+                CustoVariavel.builder().id(102L).lote(lote1).dataLancamento(LocalDate.of(2025, 6, 30))
+                        .valor(new BigDecimal("30.00")).build());
+
+        loteCustoResumoService.registrarCustosVariaveis(custos);
+
+        // Período dos lançamentos restringe as consultas às partições de maio e junho
+        LocalDate inicio = LocalDate.of(2025, 5, 31);
+        LocalDate fim = LocalDate.of(2025, 6, 30);
+        verify(loteCustoResumoRepository).acumularCustosVariaveis(List.of(100L, 101L, 102L), inicio, fim);
+        verify(loteCustoDiarioRepository).criarDiasCustosVariaveis(List.of(100L, 101L, 102L), inicio, fim);
+        verify(loteCustoDiarioRepository).acumularCustosVariaveis(List.of(100L, 101L, 102L), inicio, fim);
+        verify(loteCustoResumoRepository, never()).acumular(any(), any(), any(), any(), any(), any(), any());
+        verify(eventPublisher).publishEvent(new CustoLoteAlteradoEvent(1L));
+        verify(eventPublisher).publishEvent(new CustoLoteAlteradoEvent(2L));
+    }
+
+    @Test
+    @DisplayName("verificarECorrigir() deve reconstruir apenas os lotes divergentes")
+    void verificarECorrigirDeveReconstruirLotesDivergentes() {
+        when(loteRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(loteCustoResumoRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+                resumo(1L, "100.00", "50.000"),
+                resumo(2L, "80.00", "40.000")));
+        when(racaoRepository.somarTotaisPorLotes(List.of(1L, 2L))).thenReturn(List.of(
+                totalRacao(1L, "100.00", "50.000"),
+                totalRacao(2L, "80.00", "45.000")));
+        when(racaoRepository.somarQuantidadesPorLotesEUnidade(List.of(1L, 2L))).thenReturn(List.of(
+                quantidadeRacao(1L, UnidadeMedidaEnum.KG, "50.000"),
+                quantidadeRacao(2L, UnidadeMedidaEnum.KG, "40.000")));
+        when(nutrienteRepository.somarCustoTotalPorLotes(List.of(1L, 2L))).thenReturn(List.of());
+        when(fertilizacaoRepository.somarCustoTotalPorLotes(List.of(1L, 2L))).thenReturn(List.of());
+        when(custoVariavelRepository.somarValorTotalPorLotes(List.of(1L, 2L))).thenReturn(List.of());
+        when(loteCustoDiarioRepository.buscarUltimoCustoAcumuladoPorLotes(List.of(1L, 2L)))
+                .thenReturn(List.of(total(1L, "100.00"), total(2L, "80.00")));
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificarECorrigir();
+
+        assertThat(verificacao.getCorrigido()).isTrue();
+        verify(loteCustoResumoRepository).bloquearLotes(Set.of(2L));
+        verify(loteCustoResumoRepository).reconstruirPorLotes(Set.of(2L));
+        verify(loteCustoDiarioRepository).removerPorLotes(Set.of(2L));
+        verify(loteCustoDiarioRepository).reconstruirPorLotes(Set.of(2L));
+        verify(eventPublisher).publishEvent(new CustoLoteAlteradoEvent(2L));
+    }
+
+    @Test
+    @DisplayName("verificarECorrigir() não deve reconstruir quando o resumo está consistente")
+    void verificarECorrigirNaoDeveReconstruirQuandoConsistente() {
+        when(loteRepository.findAllIds()).thenReturn(List.of());
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificarECorrigir();
+
+        assertThat(verificacao.getLotesVerificados()).isZero();
+        assertThat(verificacao.getCorrigido()).isFalse();
+        verify(loteCustoResumoRepository, never()).reconstruirPorLotes(any());
+    }
+
+    @Test
+    @DisplayName("verificar() deve ignorar lotes povoados antes do fim do último mês desanexado")
+    void verificarDeveIgnorarLotesComLancamentosArquivados() {
+        LocalDate fimArquivamento = LocalDate.of(2025, 7, 1);
+        when(particaoMensalRepository.buscarFimArquivamento()).thenReturn(Optional.of(fimArquivamento));
+        when(loteRepository.findIdsPovoadosDesde(fimArquivamento)).thenReturn(List.of());
+
+        VerificacaoCustoResumoResponse verificacao = loteCustoResumoService.verificar();
+
+        assertThat(verificacao.getLotesVerificados()).isZero();
+        verify(loteRepository, never()).findAllIds();
+    }
+
+    private LoteCustoResumo resumo(Long loteId, String custoRacao, String quantidadeRacao) {
+        return LoteCustoResumo.builder()
+                .loteId(loteId)
+                .custoRacao(new BigDecimal(custoRacao))
+                .quantidadeRacao(new BigDecimal(quantidadeRacao))
+                .quantidadeRacaoKg(new BigDecimal(quantidadeRacao))
+                .build();
+    }
+
+    private TotalPorLote total(Long loteId, String valor) {
+        return new TotalPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(valor);
+            }
+        };
+    }
+
+    private TotalRacaoPorLote totalRacao(Long loteId, String custo, String quantidade) {
+        return new TotalRacaoPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public BigDecimal getCustoTotal() {
+                return new BigDecimal(custo);
+            }
+
+            @Override
+            public BigDecimal getQuantidadeTotal() {
+                return new BigDecimal(quantidade);
+            }
+        };
+    }
+
+    private QuantidadeRacaoPorUnidade quantidadeRacao(Long loteId, UnidadeMedidaEnum unidade, String quantidade) {
+        return new QuantidadeRacaoPorUnidade() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public UnidadeMedidaEnum getUnidade() {
+                return unidade;
+            }
+
+            @Override
+            public BigDecimal getQuantidade() {
+                return new BigDecimal(quantidade);
+            }
+        };
+    }
+}
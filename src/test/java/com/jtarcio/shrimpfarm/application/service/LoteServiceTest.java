@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.LoteRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.LoteResponse;
+import com.jtarcio.shrimpfarm.application.event.LoteAlteradoEvent;
 import com.jtarcio.shrimpfarm.application.mapper.LoteMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
@@ -12,6 +13,7 @@ import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.LoteResumo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -47,6 +50,12 @@ class LoteServiceTest {
     @Mock
     private LoteMapper loteMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LoteResumo loteResumo;
+
     @InjectMocks
     private LoteService loteService;
 
@@ -134,6 +143,7 @@ class LoteServiceTest {
         verify(viveiroRepository).save(viveiro);
         verify(loteMapper).toEntity(request, viveiro);
         verify(loteMapper).toResponse(lote);
+        verify(eventPublisher).publishEvent(new LoteAlteradoEvent(10L));
     }
 
     @Test
@@ -184,30 +194,31 @@ class LoteServiceTest {
     @Test
     @DisplayName("listarTodos() deve retornar lista mapeada")
     void listarTodosDeveRetornarLista() {
-        when(loteRepository.findAll()).thenReturn(List.of(lote));
-        when(loteMapper.toResponse(lote)).thenReturn(response);
+        when(loteRepository.listarResumos()).thenReturn(List.of(loteResumo));
+        when(loteMapper.toResponse(loteResumo)).thenReturn(response);
 
         List<LoteResponse> resultados = loteService.listarTodos();
 
         assertEquals(1, resultados.size());
-        verify(loteRepository).findAll();
-        verify(loteMapper).toResponse(lote);
+        verify(loteRepository).listarResumos();
+        verify(loteRepository, never()).findAll();
+        verify(loteMapper).toResponse(loteResumo);
     }
 
     @Test
     @DisplayName("listarPaginado() deve retornar página mapeada")
     void listarPaginadoDeveRetornarPagina() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Lote> pageEntidade = new PageImpl<>(List.of(lote), pageable, 1);
+        Page<LoteResumo> pageResumos = new PageImpl<>(List.of(loteResumo), pageable, 1);
 
-        when(loteRepository.findAll(pageable)).thenReturn(pageEntidade);
-        when(loteMapper.toResponse(lote)).thenReturn(response);
+        when(loteRepository.listarResumos(pageable)).thenReturn(pageResumos);
+        when(loteMapper.toResponse(loteResumo)).thenReturn(response);
 
         Page<LoteResponse> pagina = loteService.listarPaginado(pageable);
 
         assertEquals(1, pagina.getTotalElements());
-        verify(loteRepository).findAll(pageable);
-        verify(loteMapper).toResponse(lote);
+        verify(loteRepository).listarResumos(pageable);
+        verify(loteMapper).toResponse(loteResumo);
     }
 
     @Test
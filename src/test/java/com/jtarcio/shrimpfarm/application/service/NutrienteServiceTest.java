@@ -51,6 +51,9 @@ class NutrienteServiceTest {
     @Mock
     private NutrienteMapper nutrienteMapper;
 
+    @Mock
+    private LoteCustoResumoService loteCustoResumoService;
+
     @InjectMocks
     private NutrienteService nutrienteService;
 
@@ -120,6 +123,7 @@ class NutrienteServiceTest {
         assertThat(resultado.getProduto()).isEqualTo("Vitamina C");
         assertThat(resultado.getCustoTotal()).isEqualByComparingTo("200.00");
         verify(nutrienteRepository).save(any(Nutriente.class));
+        verify(loteCustoResumoService).registrarNutriente(1L, nutriente.getDataAplicacao(), new BigDecimal("200.00"));
     }
 
     @Test
@@ -298,6 +302,7 @@ class NutrienteServiceTest {
 
         // Assert
         verify(nutrienteRepository).delete(nutriente);
+        verify(loteCustoResumoService).estornarNutriente(1L, nutriente.getDataAplicacao(), new BigDecimal("200.00"));
     }
 
     @Test
@@ -0,0 +1,84 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Testes do OtimizadorDespesca")
+class OtimizadorDespescaTest {
+
+    private static final OtimizadorDespesca.FaixasPreco PRECO_UNICO =
+            new OtimizadorDespesca.FaixasPreco(new double[]{0}, new double[]{20});
+
+    private static final OtimizadorDespesca.FaixasPreco DUAS_FAIXAS =
+            new OtimizadorDespesca.FaixasPreco(new double[]{10, 15}, new double[]{20, 26});
+
+    @Test
+    @DisplayName("Deve escolher o preço da faixa pelo peso")
+    void deveEscolherPrecoDaFaixa() {
+        assertThat(OtimizadorDespesca.preco(DUAS_FAIXAS, 8)).isEqualTo(20); // Abaixo da primeira faixa
+        assertThat(OtimizadorDespesca.preco(DUAS_FAIXAS, 10)).isEqualTo(20);
+        assertThat(OtimizadorDespesca.preco(DUAS_FAIXAS, 14.99)).isEqualTo(20);
+        assertThat(OtimizadorDespesca.preco(DUAS_FAIXAS, 15)).isEqualTo(26);
+        assertThat(OtimizadorDespesca.preco(DUAS_FAIXAS, 30)).isEqualTo(26);
+    }
+
+    @Test
+    @DisplayName("No ótimo a receita marginal deve cruzar o custo diário")
+    void receitaMarginalDeveCruzarCustoDiario() {
+        int n = 100;
+        double[] pesos = new double[n];
+        for (int i = 0; i < n; i++) {
+            pesos[i] = 2 * Math.sqrt(i + 1); // Crescimento desacelerando
+        }
+        double[] precos = new double[n];
+        double[] receitas = new double[n];
+        double[] custos = new double[n];
+        double[] lucros = new double[n];
+
+        int otimo = OtimizadorDespesca.otimizar(pesos, n, 80_000, PRECO_UNICO, 10_000, 300,
+                precos, receitas, custos, lucros);
+
+        // 80.000 camarões a R$ 20/kg: R$ 1.600 por grama de peso médio
+        assertThat(receitas[otimo] - receitas[otimo - 1]).isGreaterThanOrEqualTo(300);
+        assertThat(receitas[otimo + 1] - receitas[otimo]).isLessThan(300);
+        assertThat(custos[otimo]).isEqualTo(10_000 + 300.0 * otimo);
+        assertThat(lucros[otimo]).isCloseTo(receitas[otimo] - custos[otimo], within(1e-9));
+        for (int i = 0; i < n; i++) {
+            assertThat(lucros[i]).isLessThanOrEqualTo(lucros[otimo]);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve esperar a faixa de preço melhor quando o salto compensa o custo")
+    void deveEsperarFaixaDePrecoMelhor() {
+        int n = 40;
+        double[] pesos = new double[n];
+        for (int i = 0; i < n; i++) {
+            pesos[i] = 14 + 0.1 * i;
+        }
+
+        int otimo = OtimizadorDespesca.otimizar(pesos, n, 80_000, DUAS_FAIXAS, 10_000, 300,
+                new double[n], new double[n], new double[n], new double[n]);
+
+        // Sem o salto de preço o crescimento (R$ 160/dia) não pagaria o custo diário
+        assertThat(otimo).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve despescar no primeiro dia quando o custo diário supera o crescimento")
+    void deveDespescarNoPrimeiroDiaComCustoAlto() {
+        int n = 30;
+        double[] pesos = new double[n];
+        for (int i = 0; i < n; i++) {
+            pesos[i] = 15 + 0.2 * i;
+        }
+
+        int otimo = OtimizadorDespesca.otimizar(pesos, n, 80_000, PRECO_UNICO, 10_000, 1_000,
+                new double[n], new double[n], new double[n], new double[n]);
+
+        assertThat(otimo).isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ParticaoResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.Racao;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.domain.enums.TabelaParticionadaEnum;
+import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes de Integração - ParticaoLancamentoService")
+class ParticaoLancamentoServiceIntegrationTest extends BaseIntegrationTest {
+
+    private static final LocalDate MARCO_2024 = LocalDate.of(2024, 3, 15);
+
+    @Autowired
+    private ParticaoLancamentoService particaoLancamentoService;
+
+    @Autowired
+    private FazendaRepository fazendaRepository;
+
+    @Autowired
+    private ViveiroRepository viveiroRepository;
+
+    @Autowired
+    private LoteRepository loteRepository;
+
+    @Autowired
+    private RacaoRepository racaoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Lote lote;
+
+    @BeforeEach
+    void setUp() {
+        Fazenda fazenda = fazendaRepository.save(Fazenda.builder()
+                .nome("Fazenda Partições")
+                .ativa(true)
+                .build());
+        Viveiro viveiro = viveiroRepository.save(Viveiro.builder()
+                .fazenda(fazenda)
+                .codigo("V-PART")
+                .nome("Viveiro Partições")
+                .status(StatusViveiroEnum.OCUPADO)
+                .build());
+        lote = loteRepository.save(Lote.builder()
+                .viveiro(viveiro)
+                .codigo("LOTE-PART")
+                .dataPovoamento(MARCO_2024.minusDays(10))
+                .quantidadePosLarvas(100000)
+                .status(StatusLoteEnum.ATIVO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Lançamento de mês sem partição deve ser recusado sem criar a partição")
+    void lancamentoDeMesSemParticaoDeveSerRecusado() {
+        // Anterior ao povoamento do lote: a rotina de partições não cria esse mês
+        LocalDate janeiro2024 = LocalDate.of(2024, 1, 10);
+
+        assertThatThrownBy(() -> {
+            racaoRepository.save(racao(janeiro2024));
+            entityManager.flush();
+        })
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Não há partição de racoes para 01/2024");
+        assertThat(particaoLancamentoService.listar(TabelaParticionadaEnum.RACOES))
+                .extracting(ParticaoResponse::getParticao)
+                .doesNotContain("racoes_2024_01");
+    }
+
+    @Test
+    @DisplayName("Rotina de partições deve criar os meses desde o povoamento dos lotes em andamento")
+    void rotinaDeveCriarParticoesDesdePovoamento() {
+        assertThat(particaoLancamentoService.garantirParticoes()).isPositive();
+
+        racaoRepository.save(racao(MARCO_2024));
+        entityManager.flush();
+
+        assertThat(particaoLancamentoService.listar(TabelaParticionadaEnum.RACOES))
+                .extracting(ParticaoResponse::getParticao)
+                .contains("racoes_2024_03", TabelaParticionadaEnum.RACOES.particao(YearMonth.now()));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM racoes_2024_03", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Paginação por cursor deve ler só as partições a partir da data do cursor")
+    void paginacaoPorCursorDeveDescartarParticoesAnteriores() {
+        particaoLancamentoService.garantirParticoes();
+        racaoRepository.save(racao(MARCO_2024));
+        Racao recente = racaoRepository.save(racao(LocalDate.now()));
+        entityManager.flush();
+
+        List<Racao> pagina = racaoRepository.listarApos(LocalDate.now().withDayOfMonth(1), 0L, Limit.of(10));
+        assertThat(pagina).extracting(Racao::getId).containsExactly(recente.getId());
+
+        // Mesmo predicado da consulta do repositório: a comparação simples da data permite descartar partições
+        String plano = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT r.id FROM racoes r WHERE r.data_aplicacao >= ? " +
+                        "AND (r.data_aplicacao, r.id) > (?, 0) ORDER BY r.data_aplicacao, r.id",
+                String.class, LocalDate.now().withDayOfMonth(1), LocalDate.now().withDayOfMonth(1)));
+        assertThat(plano).contains(TabelaParticionadaEnum.RACOES.particao(YearMonth.now()))
+                .doesNotContain("racoes_2024_03");
+    }
+
+    private Racao racao(LocalDate dataAplicacao) {
+        return Racao.builder()
+                .lote(lote)
+                .dataAplicacao(dataAplicacao)
+                .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                .marca("Potimar")
+                .quantidade(new BigDecimal("20.000"))
+                .unidade(UnidadeMedidaEnum.KG)
+                .build();
+    }
+}
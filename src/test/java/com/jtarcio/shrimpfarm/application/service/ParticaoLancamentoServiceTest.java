@@ -0,0 +1,132 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ParticaoResponse;
+import com.jtarcio.shrimpfarm.domain.enums.TabelaParticionadaEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ParticaoMensalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ParticaoLancamentoService")
+class ParticaoLancamentoServiceTest {
+
+    private static final YearMonth JUNHO_2025 = YearMonth.of(2025, 6);
+
+    @Mock
+    private ParticaoMensalRepository particaoMensalRepository;
+
+    private ParticaoLancamentoService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ParticaoLancamentoService(particaoMensalRepository, 3);
+    }
+
+    @Test
+    @DisplayName("garantirParticoes() sem lotes em andamento deve garantir do mês atual até os meses à frente")
+    void garantirParticoesDeveGarantirMesesAFrente() {
+        LocalDate hoje = LocalDate.now();
+        when(particaoMensalRepository.buscarInicioLotesEmAndamento()).thenReturn(Optional.empty());
+        when(particaoMensalRepository.buscarFimArquivamento()).thenReturn(Optional.empty());
+        when(particaoMensalRepository.garantirParticoes(hoje, hoje.plusMonths(3))).thenReturn(3);
+
+        assertThat(service.garantirParticoes()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("garantirParticoes() deve começar no povoamento do lote em andamento mais antigo")
+    void garantirParticoesDeveComecarNoPovoamentoMaisAntigo() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate povoamento = hoje.minusMonths(5);
+        when(particaoMensalRepository.buscarInicioLotesEmAndamento()).thenReturn(Optional.of(povoamento));
+        when(particaoMensalRepository.buscarFimArquivamento()).thenReturn(Optional.empty());
+        when(particaoMensalRepository.garantirParticoes(povoamento, hoje.plusMonths(3))).thenReturn(15);
+
+        assertThat(service.garantirParticoes()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("garantirParticoes() não deve recriar meses já desanexados")
+    void garantirParticoesNaoDeveRecriarMesesDesanexados() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate fimArquivamento = hoje.minusMonths(2).withDayOfMonth(1);
+        when(particaoMensalRepository.buscarInicioLotesEmAndamento()).thenReturn(Optional.of(hoje.minusMonths(5)));
+        when(particaoMensalRepository.buscarFimArquivamento()).thenReturn(Optional.of(fimArquivamento));
+        when(particaoMensalRepository.garantirParticoes(fimArquivamento, hoje.plusMonths(3))).thenReturn(0);
+
+        assertThat(service.garantirParticoes()).isZero();
+    }
+
+    @Test
+    @DisplayName("listar() deve devolver o mês de cada partição anexada")
+    void listarDeveDevolverMesDasParticoes() {
+        when(particaoMensalRepository.listarParticoes("custos_variaveis"))
+                .thenReturn(List.of("custos_variaveis_2025_05", "custos_variaveis_2025_06"));
+
+        List<ParticaoResponse> particoes = service.listar(TabelaParticionadaEnum.CUSTOS_VARIAVEIS);
+
+        assertThat(particoes).extracting(ParticaoResponse::getMes)
+                .containsExactly(YearMonth.of(2025, 5), JUNHO_2025);
+        assertThat(particoes).allSatisfy(particao -> assertThat(particao.getAnexada()).isTrue());
+    }
+
+    @Test
+    @DisplayName("desanexar() deve registrar o mês e desanexar a partição")
+    void desanexarDeveRegistrarEDesanexar() {
+        when(particaoMensalRepository.listarParticoes("racoes")).thenReturn(List.of("racoes_2025_06", "racoes_2025_07"));
+        when(particaoMensalRepository.possuiLancamentosDeLotesEmAndamento("racoes_2025_06")).thenReturn(false);
+
+        ParticaoResponse response = service.desanexar(TabelaParticionadaEnum.RACOES, JUNHO_2025);
+
+        assertThat(response.getParticao()).isEqualTo("racoes_2025_06");
+        assertThat(response.getAnexada()).isFalse();
+
+        // O registro vem antes, para a verificação do resumo nunca conferir lotes com lançamentos já fora da tabela
+        InOrder ordem = inOrder(particaoMensalRepository);
+        ordem.verify(particaoMensalRepository).registrarDesanexacao("racoes", "racoes_2025_06", LocalDate.of(2025, 6, 1));
+        ordem.verify(particaoMensalRepository).desanexar("racoes", "racoes_2025_06");
+    }
+
+    @Test
+    @DisplayName("desanexar() deve recusar partição com lançamentos de lotes em andamento")
+    void desanexarDeveRecusarLotesEmAndamento() {
+        when(particaoMensalRepository.listarParticoes("racoes")).thenReturn(List.of("racoes_2025_06"));
+        when(particaoMensalRepository.possuiLancamentosDeLotesEmAndamento("racoes_2025_06")).thenReturn(true);
+
+        assertThatThrownBy(() -> service.desanexar(TabelaParticionadaEnum.RACOES, JUNHO_2025))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("A partição racoes_2025_06 possui lançamentos de lotes não finalizados");
+
+        verify(particaoMensalRepository, never()).desanexar(any(), any());
+    }
+
+    @Test
+    @DisplayName("desanexar() deve recusar o mês atual e partições inexistentes")
+    void desanexarDeveRecusarMesAtualEParticaoInexistente() {
+        assertThatThrownBy(() -> service.desanexar(TabelaParticionadaEnum.NUTRIENTES, YearMonth.now()))
+                .isInstanceOf(BusinessException.class);
+
+        when(particaoMensalRepository.listarParticoes("nutrientes")).thenReturn(List.of());
+        assertThatThrownBy(() -> service.desanexar(TabelaParticionadaEnum.NUTRIENTES, JUNHO_2025))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verify(particaoMensalRepository, never()).registrarDesanexacao(any(), any(), any());
+    }
+}
@@ -0,0 +1,206 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.DemandaRacaoResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.PrevisaoRacaoResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FornecedorRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.FornecedorRacaoPorLote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do PrevisaoRacaoService")
+class PrevisaoRacaoServiceTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private RacaoRepository racaoRepository;
+
+    @Mock
+    private FornecedorRepository fornecedorRepository;
+
+    private PrevisaoRacaoService previsaoRacaoService;
+
+    private Lote lote;
+    private Lote semBiometrias;
+
+    @BeforeEach
+    void setUp() {
+        ContextoCalculoLote contextoCalculoLote =
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository);
+        previsaoRacaoService = new PrevisaoRacaoService(loteRepository, biometriaRepository, racaoRepository,
+                fornecedorRepository, new CurvaCrescimentoService(contextoCalculoLote, 1000));
+
+        lote = lote(1L, "LOTE-001");
+        semBiometrias = lote(2L, "LOTE-002");
+    }
+
+    @Test
+    @DisplayName("Deve prever a ração por lote, tipo e fornecedor em uma passada com consultas agrupadas")
+    void devePreverRacaoPorLoteTipoEFornecedor() {
+        List<Long> ids = List.of(1L, 2L);
+        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO)).thenReturn(List.of(lote, semBiometrias));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(ids)).thenReturn(biometrias(lote));
+        when(racaoRepository.buscarFornecedoresPorLotes(ids)).thenReturn(List.of(
+                fornecedor(1L, TipoRacaoEnum.ENGORDA, 7L, HOJE.minusDays(2)),
+                fornecedor(1L, TipoRacaoEnum.ENGORDA, 8L, HOJE.minusDays(20)),
+                fornecedor(1L, TipoRacaoEnum.FINALIZACAO, 9L, HOJE.minusDays(40))));
+        when(fornecedorRepository.findAllById(any())).thenReturn(List.of(
+                Fornecedor.builder().id(7L).nome("Ração Norte").build(),
+                Fornecedor.builder().id(9L).nome("Ração Sul").build()));
+
+        PrevisaoRacaoResponse previsao = previsaoRacaoService.recalcular();
+
+        // Dia 60 em diante: 12 g + 0,4 g/dia × 80.000 vivos; engorda a 3,5% e finalização (dia 90+) a 2,5%
+        // 30 dias: 2,8 kg/g × Σ(12 + 0,4i) = 1.495,20 kg
+        assertThat(previsao.getDataInicio()).isEqualTo(HOJE);
+        assertThat(previsao.getLotes()).isEqualTo(2);
+        assertThat(previsao.getLotesComErro()).isEqualTo(1);
+
+        DemandaRacaoResponse doLote = previsao.getPorLote().get(0);
+        assertThat(doLote.getDiarioKg()).hasSize(90);
+        assertThat(doLote.getDiarioKg().get(0)).isEqualByComparingTo("33.60");
+        assertThat(doLote.getKg30()).isEqualByComparingTo("1495.20");
+        assertThat(previsao.getPorLote().get(1).getErro()).contains("Não há biometrias");
+
+        DemandaRacaoResponse engorda = previsao.getPorTipo().get(TipoRacaoEnum.ENGORDA.ordinal());
+        DemandaRacaoResponse finalizacao = previsao.getPorTipo().get(TipoRacaoEnum.FINALIZACAO.ordinal());
+        assertThat(engorda.getKg30()).isEqualByComparingTo("1495.20");
+        assertThat(engorda.getKg90()).isEqualByComparingTo("1495.20");
+        assertThat(finalizacao.getKg30()).isEqualByComparingTo("0.00");
+        assertThat(finalizacao.getKg90()).isEqualByComparingTo(
+                previsao.getTotal().getKg90().subtract(engorda.getKg90()));
+
+        // Engorda do fornecedor mais recente (7), finalização do 9
+        assertThat(previsao.getPorFornecedor()).extracting(DemandaRacaoResponse::getFornecedorId)
+                .containsExactly(7L, 9L);
+        assertThat(previsao.getPorFornecedor().get(0).getFornecedorNome()).isEqualTo("Ração Norte");
+        assertThat(previsao.getPorFornecedor().get(0).getKg90()).isEqualByComparingTo("1495.20");
+        // 60 dias: engorda dos 30 primeiros + finalização a 2,0 kg/g × Σ(24 + 0,4i) = 1.788,00 kg
+        assertThat(previsao.getTotal().getKg60())
+                .isEqualByComparingTo(engorda.getKg60().add(finalizacao.getKg60()))
+                .isEqualByComparingTo("3283.20");
+
+        verify(biometriaRepository, never()).findByLoteIdOrderByDataBiometriaAsc(anyLong());
+        verify(racaoRepository, never()).findByLoteIdOrderByDataAplicacaoAsc(anyLong());
+    }
+
+    @Test
+    @DisplayName("Lote sem compras de ração deve ir para 'Sem fornecedor' e parar na despesca")
+    void loteSemComprasDeveFicarSemFornecedor() {
+        lote.setDataDespesca(HOJE.plusDays(10));
+        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO)).thenReturn(List.of(lote));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(List.of(1L))).thenReturn(biometrias(lote));
+        when(racaoRepository.buscarFornecedoresPorLotes(List.of(1L))).thenReturn(List.of());
+
+        PrevisaoRacaoResponse previsao = previsaoRacaoService.recalcular();
+
+        DemandaRacaoResponse semFornecedor = previsao.getPorFornecedor().get(0);
+        assertThat(semFornecedor.getFornecedorId()).isNull();
+        assertThat(semFornecedor.getFornecedorNome()).isEqualTo("Sem fornecedor");
+
+        // 10 dias até a despesca: 2,8 × Σ(12 + 0,4i), i = 0..9
+        assertThat(previsao.getTotal().getKg30()).isEqualByComparingTo("386.40");
+        assertThat(previsao.getTotal().getKg90()).isEqualByComparingTo("386.40");
+        verify(fornecedorRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("obterPrevisao() deve reaproveitar a previsão do dia")
+    void obterPrevisaoDeveReaproveitarPrevisaoDoDia() {
+        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO)).thenReturn(List.of());
+
+        PrevisaoRacaoResponse primeira = previsaoRacaoService.obterPrevisao();
+        PrevisaoRacaoResponse segunda = previsaoRacaoService.obterPrevisao();
+
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(primeira.getTotal().getKg90()).isEqualByComparingTo("0.00");
+        verify(loteRepository, times(1)).findByStatus(StatusLoteEnum.ATIVO);
+
+        previsaoRacaoService.recalcular();
+        verify(loteRepository, times(2)).findByStatus(StatusLoteEnum.ATIVO);
+    }
+
+    private FornecedorRacaoPorLote fornecedor(Long loteId, TipoRacaoEnum tipo, Long fornecedorId, LocalDate data) {
+        return new FornecedorRacaoPorLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public TipoRacaoEnum getTipoRacao() {
+                return tipo;
+            }
+
+            @Override
+            public Long getFornecedorId() {
+                return fornecedorId;
+            }
+
+            @Override
+            public LocalDate getUltimaAplicacao() {
+                return data;
+            }
+        };
+    }
+
+    private Lote lote(Long id, String codigo) {
+        return Lote.builder()
+                .id(id)
+                .codigo(codigo)
+                .dataPovoamento(HOJE.minusDays(60))
+                .quantidadePosLarvas(100000)
+                .status(StatusLoteEnum.ATIVO)
+                .build();
+    }
+
+    private List<Biometria> biometrias(Lote lote) {
+        return List.of(
+                biometria(lote, 30, "5.000", "0.3000", null),
+                biometria(lote, 45, "9.000", "0.4000", null),
+                biometria(lote, 60, "12.000", "0.5000", "80.00"));
+    }
+
+    private Biometria biometria(Lote lote, int dia, String peso, String gpd, String sobrevivencia) {
+        return Biometria.builder()
+                .lote(lote)
+                .dataBiometria(lote.getDataPovoamento().plusDays(dia))
+                .diaCultivo(dia)
+                .pesoMedio(new BigDecimal(peso))
+                .ganhoPesoDiario(new BigDecimal(gpd))
+                .sobrevivenciaEstimada(sobrevivencia != null ? new BigDecimal(sobrevivencia) : null)
+                .build();
+    }
+}
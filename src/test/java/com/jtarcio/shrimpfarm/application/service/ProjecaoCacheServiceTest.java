@@ -0,0 +1,168 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.ProjecaoCacheEstatisticasResponse;
+import com.jtarcio.shrimpfarm.application.event.BiometriaAlteradaEvent;
+import com.jtarcio.shrimpfarm.application.event.CustoLoteAlteradoEvent;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ProjecaoCacheService")
+class ProjecaoCacheServiceTest {
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    private ProjecaoCacheService projecaoCacheService;
+
+    private final AtomicInteger calculos = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        projecaoCacheService = new ProjecaoCacheService(biometriaRepository, Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("obter() deve calcular uma vez e servir as leituras seguintes do cache")
+    void obterDeveServirDoCache() {
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L));
+
+        assertThat(obter(1L, "a")).isEqualTo(1);
+        assertThat(obter(1L, "a")).isEqualTo(1);
+        assertThat(obter(1L, "a")).isEqualTo(1);
+        assertThat(obter(1L, "b")).isEqualTo(2); // Outros parâmetros, outra entrada
+
+        verify(biometriaRepository, times(1)).buscarIdUltimaBiometria(1L);
+
+        ProjecaoCacheEstatisticasResponse estatisticas = projecaoCacheService.obterEstatisticas();
+        assertThat(estatisticas.getAcertos()).isEqualTo(2L);
+        assertThat(estatisticas.getFalhas()).isEqualTo(2L);
+        assertThat(estatisticas.getTaxaAcerto()).isEqualByComparingTo("50.00");
+        assertThat(estatisticas.getTamanho()).isEqualTo(2);
+        assertThat(estatisticas.getTtlSegundos()).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("Nova biometria deve invalidar só o lote alterado e reler a última biometria")
+    void novaBiometriaDeveInvalidarLote() {
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L), Optional.of(11L));
+        when(biometriaRepository.buscarIdUltimaBiometria(2L)).thenReturn(Optional.of(20L));
+
+        obter(1L, "a");
+        obter(2L, "a");
+        projecaoCacheService.aoAlterarBiometria(new BiometriaAlteradaEvent(1L, 11L));
+
+        assertThat(obter(1L, "a")).isEqualTo(3);
+        assertThat(obter(2L, "a")).isEqualTo(2);
+        verify(biometriaRepository, times(2)).buscarIdUltimaBiometria(1L);
+        assertThat(projecaoCacheService.obterEstatisticas().getInvalidacoes()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Lançamento de custo deve mudar a versão dos custos sem reler a biometria")
+    void lancamentoDeCustoDeveInvalidarSemReconsultar() {
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L));
+
+        obter(1L, "a");
+        projecaoCacheService.aoAlterarCustos(new CustoLoteAlteradoEvent(1L));
+
+        assertThat(obter(1L, "a")).isEqualTo(2);
+        assertThat(obter(1L, "a")).isEqualTo(2);
+        verify(biometriaRepository, times(1)).buscarIdUltimaBiometria(1L);
+    }
+
+    @Test
+    @DisplayName("Resultado calculado durante uma invalidação não deve ser guardado")
+    void resultadoDuranteInvalidacaoNaoDeveSerGuardado() {
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L));
+
+        projecaoCacheService.obter(1L, "a", List.of(), () -> {
+            projecaoCacheService.aoAlterarCustos(new CustoLoteAlteradoEvent(1L));
+            return calculos.incrementAndGet();
+        });
+
+        assertThat(obter(1L, "a")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Estado lido durante uma invalidação não deve ser instalado")
+    void estadoLidoDuranteInvalidacaoNaoDeveSerInstalado() {
+        // A biometria nova é gravada (e o lote invalidado) enquanto a última biometria antiga está sendo lida
+        when(biometriaRepository.buscarIdUltimaBiometria(1L))
+                .thenAnswer(invocacao -> {
+                    projecaoCacheService.aoAlterarBiometria(new BiometriaAlteradaEvent(1L, 11L));
+                    return Optional.of(10L);
+                })
+                .thenReturn(Optional.of(11L));
+
+        assertThat(obter(1L, "a")).isEqualTo(1);
+
+        // O estado antigo não ficou no cache: a última biometria é relida e o resultado recalculado
+        assertThat(obter(1L, "a")).isEqualTo(2);
+        assertThat(obter(1L, "a")).isEqualTo(2);
+        verify(biometriaRepository, times(2)).buscarIdUltimaBiometria(1L);
+    }
+
+    @Test
+    @DisplayName("Invalidação deve remover só as entradas do lote")
+    void invalidacaoDeveRemoverSoEntradasDoLote() {
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L));
+        when(biometriaRepository.buscarIdUltimaBiometria(2L)).thenReturn(Optional.of(20L));
+
+        obter(1L, "a");
+        obter(1L, "b");
+        obter(2L, "a");
+        projecaoCacheService.aoAlterarCustos(new CustoLoteAlteradoEvent(1L));
+
+        assertThat(projecaoCacheService.obterEstatisticas().getTamanho()).isEqualTo(1);
+        assertThat(obter(2L, "a")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada menos usada ao atingir o tamanho máximo")
+    void deveDescartarMenosUsadaNoTamanhoMaximo() {
+        projecaoCacheService = new ProjecaoCacheService(biometriaRepository, Duration.ofMinutes(10), 2);
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L));
+
+        obter(1L, "a");
+        obter(1L, "b");
+        obter(1L, "a"); // "b" passa a ser a menos usada
+        obter(1L, "c");
+
+        assertThat(obter(1L, "a")).isEqualTo(1);
+        assertThat(obter(1L, "b")).isEqualTo(4);
+
+        ProjecaoCacheEstatisticasResponse estatisticas = projecaoCacheService.obterEstatisticas();
+        assertThat(estatisticas.getRemocoesPorTamanho()).isEqualTo(2L);
+        assertThat(estatisticas.getTamanho()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Entrada expirada deve ser recalculada")
+    void entradaExpiradaDeveSerRecalculada() {
+        projecaoCacheService = new ProjecaoCacheService(biometriaRepository, Duration.ZERO, 100);
+        when(biometriaRepository.buscarIdUltimaBiometria(1L)).thenReturn(Optional.of(10L));
+
+        obter(1L, "a");
+
+        assertThat(obter(1L, "a")).isEqualTo(2);
+        assertThat(projecaoCacheService.obterEstatisticas().getRemocoesPorExpiracao()).isEqualTo(1L);
+    }
+
+    private Integer obter(Long loteId, String parametro) {
+        return projecaoCacheService.obter(loteId, "teste", List.of(parametro), calculos::incrementAndGet);
+    }
+}
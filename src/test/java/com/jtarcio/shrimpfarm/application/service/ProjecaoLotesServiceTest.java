@@ -0,0 +1,188 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ProjecaoLotesService")
+class ProjecaoLotesServiceTest {
+
+    private static final LocalDate POVOAMENTO = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ProjecaoLotesService projecaoLotesService;
+
+    @BeforeEach
+    void setUp() {
+        ContextoCalculoLote contextoCalculoLote =
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository);
+        CurvaCrescimentoService curvaCrescimentoService = new CurvaCrescimentoService(contextoCalculoLote, 1000);
+
+        projecaoLotesService = new ProjecaoLotesService(loteRepository, biometriaRepository, curvaCrescimentoService,
+                new ProjecaoService(contextoCalculoLote, curvaCrescimentoService,
+                        new ProjecaoCacheService(biometriaRepository, Duration.ofMinutes(10), 1000)),
+                objectMapper, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projecaoLotesService.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve projetar todos os lotes ativos com uma consulta de biometrias")
+    void deveProjetarLotesAtivosComUmaConsultaDeBiometrias() throws Exception {
+        Lote lote1 = lote(1L, "LOTE-001");
+        Lote lote2 = lote(2L, "LOTE-002");
+        Lote semBiometrias = lote(3L, "LOTE-003");
+
+        when(loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO))
+                .thenReturn(List.of(lote1, lote2, semBiometrias));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                biometria(lote1, 30, "5.000", "0.3000"),
+                biometria(lote1, 45, "9.000", "0.4000"),
+                biometria(lote1, 60, "12.000", "0.5000"),
+                biometria(lote2, 40, "6.000", "0.2000"),
+                biometria(lote2, 60, "10.000", "0.2000")));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        projecaoLotesService.projetarLotesAtivos(POVOAMENTO.plusDays(70), new BigDecimal("25.00"), saida);
+
+        JsonNode resposta = objectMapper.readTree(saida.toByteArray());
+        JsonNode lotes = resposta.get("lotes");
+
+        assertThat(resposta.get("dataProjecao").asText()).isEqualTo("2025-03-12");
+        assertThat(lotes).hasSize(3);
+
+        // Lote 1: linear pelo GPD médio 0,4 g/dia a partir de 12 g no dia 60
+        assertThat(lotes.get(0).get("loteCodigo").asText()).isEqualTo("LOTE-001");
+        assertThat(lotes.get(0).get("viveiroNome").asText()).isEqualTo("Viveiro 1");
+        assertThat(lotes.get(0).get("pesoMedioProjetado").decimalValue()).isEqualByComparingTo("16.00");
+        assertThat(lotes.get(0).get("biomassaProjetada").decimalValue()).isEqualByComparingTo("1280.00");
+        assertThat(lotes.get(0).get("receitaProjetada").decimalValue()).isEqualByComparingTo("32000.00");
+        assertThat(lotes.get(0).get("statusDespesca").asText()).isEqualTo("MUITO_CEDO");
+
+        assertThat(lotes.get(1).get("pesoMedioProjetado").decimalValue()).isEqualByComparingTo("12.00");
+        assertThat(lotes.get(1).get("erro").isNull()).isTrue();
+
+        assertThat(lotes.get(2).get("erro").asText()).contains("Não há biometrias");
+
+        JsonNode tempos = resposta.get("tempos");
+        assertThat(tempos.get("lotes").asInt()).isEqualTo(3);
+        assertThat(tempos.get("lotesComErro").asInt()).isEqualTo(1);
+        assertThat(tempos.get("paralelismo").asInt()).isEqualTo(2);
+        assertThat(tempos.has("carregamentoMs")).isTrue();
+
+        verify(biometriaRepository, never()).findByLoteIdOrderByDataBiometriaAsc(anyLong());
+        verify(loteRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve enviar cada projeção assim que fica pronta, na ordem dos lotes")
+    void deveEnviarCadaProjecaoAssimQueFicaPronta() throws Exception {
+        Lote lote1 = lote(1L, "LOTE-001");
+        Lote lote2 = lote(2L, "LOTE-002");
+
+        when(loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO)).thenReturn(List.of(lote1, lote2));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(List.of(1L, 2L))).thenReturn(List.of(
+                biometria(lote1, 30, "5.000", "0.3000"),
+                biometria(lote1, 60, "12.000", "0.5000"),
+                biometria(lote2, 40, "6.000", "0.2000"),
+                biometria(lote2, 60, "10.000", "0.2000")));
+
+        // Guarda o que já tinha sido escrito a cada flush
+        List<String> enviados = new ArrayList<>();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                enviados.add(toString(StandardCharsets.UTF_8));
+            }
+        };
+        projecaoLotesService.projetarLotesAtivos(POVOAMENTO.plusDays(70), new BigDecimal("25.00"), saida);
+
+        assertThat(enviados).anySatisfy(enviado -> assertThat(enviado)
+                .contains("LOTE-001")
+                .doesNotContain("LOTE-002")
+                .doesNotContain("tempos"));
+        assertThat(enviados).anySatisfy(enviado -> assertThat(enviado)
+                .contains("LOTE-002")
+                .doesNotContain("tempos"));
+
+        JsonNode lotes = objectMapper.readTree(saida.toByteArray()).get("lotes");
+        assertThat(lotes.get(0).get("loteCodigo").asText()).isEqualTo("LOTE-001");
+        assertThat(lotes.get(1).get("loteCodigo").asText()).isEqualTo("LOTE-002");
+    }
+
+    @Test
+    @DisplayName("Sem lotes ativos deve retornar lista vazia sem consultar biometrias")
+    void semLotesAtivosDeveRetornarListaVazia() throws Exception {
+        when(loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO)).thenReturn(List.of());
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        projecaoLotesService.projetarLotesAtivos(POVOAMENTO, null, saida);
+
+        JsonNode resposta = objectMapper.readTree(saida.toByteArray());
+        assertThat(resposta.get("lotes")).isEmpty();
+        assertThat(resposta.get("tempos").get("lotes").asInt()).isZero();
+        verifyNoInteractions(biometriaRepository);
+    }
+
+    private Lote lote(Long id, String codigo) {
+        return Lote.builder()
+                .id(id)
+                .codigo(codigo)
+                .viveiro(Viveiro.builder().id(id).nome("Viveiro " + id).build())
+                .dataPovoamento(POVOAMENTO)
+                .quantidadePosLarvas(100000)
+                .status(StatusLoteEnum.ATIVO)
+                .build();
+    }
+
+    private Biometria biometria(Lote lote, int dia, String peso, String gpd) {
+        return Biometria.builder()
+                .lote(lote)
+                .dataBiometria(POVOAMENTO.plusDays(dia))
+                .diaCultivo(dia)
+                .pesoMedio(new BigDecimal(peso))
+                .ganhoPesoDiario(new BigDecimal(gpd))
+                .build();
+    }
+}
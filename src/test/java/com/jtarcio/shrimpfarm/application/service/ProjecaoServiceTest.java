@@ -5,16 +5,17 @@ import com.jtarcio.shrimpfarm.domain.entity.Lote;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -35,7 +36,9 @@ class ProjecaoServiceTest {
     @Mock
     private BiometriaRepository biometriaRepository;
 
-    @InjectMocks
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
     private ProjecaoService projecaoService;
 
     private Lote lote;
@@ -43,6 +46,12 @@ class ProjecaoServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Fora de transação o contexto não memoriza: cada chamada consulta os repositórios
+        ContextoCalculoLote contextoCalculoLote =
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository);
+        projecaoService = new ProjecaoService(contextoCalculoLote, new CurvaCrescimentoService(contextoCalculoLote, 1000),
+                new ProjecaoCacheService(biometriaRepository, Duration.ofMinutes(10), 1000));
+
         lote = Lote.builder()
                 .id(1L)
                 .codigo("LOTE-001")
@@ -102,6 +111,20 @@ class ProjecaoServiceTest {
         verify(biometriaRepository).findByLoteIdOrderByDataBiometriaAsc(1L);
     }
 
+    @Test
+    @DisplayName("Deve servir a segunda projeção do cache até a chegada de nova biometria")
+    void deveServirProjecaoDoCacheAteNovaBiometria() {
+        LocalDate dataProjecao = LocalDate.now().plusDays(10);
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias);
+
+        BigDecimal primeira = projecaoService.projetarPesoMedio(1L, dataProjecao);
+        BigDecimal segunda = projecaoService.projetarPesoMedio(1L, dataProjecao);
+
+        assertThat(segunda).isEqualByComparingTo(primeira);
+        verify(biometriaRepository, times(1)).findByLoteIdOrderByDataBiometriaAsc(1L);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao projetar peso de lote inexistente")
     void deveLancarExcecaoAoProjetarPesoDeLoteInexistente() {
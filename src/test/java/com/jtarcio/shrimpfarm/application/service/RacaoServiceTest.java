@@ -1,6 +1,7 @@
 package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.RacaoRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.PaginaCursorResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RacaoResponse;
 import com.jtarcio.shrimpfarm.application.mapper.RacaoMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fornecedor;
@@ -11,6 +12,7 @@ import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
 import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
 import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.domain.valueobject.CursorPaginacao;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FornecedorRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
@@ -21,9 +23,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,6 +50,9 @@ class RacaoServiceTest {
     @Mock
     private RacaoMapper racaoMapper;
 
+    @Mock
+    private LoteCustoResumoService loteCustoResumoService;
+
     @InjectMocks
     private RacaoService racaoService;
 
@@ -136,6 +143,8 @@ class RacaoServiceTest {
         verify(racaoRepository).save(any(Racao.class));
         verify(racaoMapper).toEntity(request, loteAtivo, fornecedor);
         verify(racaoMapper).toResponse(racao);
+        verify(loteCustoResumoService).registrarRacao(10L, LocalDate.of(2025, 1, 15),
+                new BigDecimal("850.00000"), new BigDecimal("100.000"), UnidadeMedidaEnum.KG);
     }
 
     @Test
@@ -279,6 +288,10 @@ class RacaoServiceTest {
         verify(racaoMapper).updateEntity(racao, requestAtualizar, loteAtivo, fornecedor);
         verify(racaoRepository).save(racao);
         verify(racaoMapper).toResponse(racao);
+        verify(loteCustoResumoService).estornarRacao(eq(10L), eq(LocalDate.of(2025, 1, 15)),
+                isNull(), eq(new BigDecimal("100.000")), eq(UnidadeMedidaEnum.KG));
+        verify(loteCustoResumoService).registrarRacao(10L, LocalDate.of(2025, 1, 15),
+                new BigDecimal("850.00000"), new BigDecimal("100.000"), UnidadeMedidaEnum.KG);
     }
 
     @Test
@@ -302,6 +315,8 @@ class RacaoServiceTest {
 
         verify(racaoRepository).findById(1L);
         verify(racaoRepository).delete(racao);
+        verify(loteCustoResumoService).estornarRacao(10L, racao.getDataAplicacao(),
+                racao.getCustoTotal(), racao.getQuantidade(), racao.getUnidade());
     }
 
     @Test
@@ -312,7 +327,40 @@ class RacaoServiceTest {
         assertThrows(EntityNotFoundException.class, () -> racaoService.deletar(1L));
 
         verify(racaoRepository, never()).delete(any());
+        verifyNoInteractions(loteCustoResumoService);
+    }
+
+
+    @Test
+    @DisplayName("listarPorCursor() sem cursor deve ler uma linha a mais para saber se há próxima página")
+    void listarPorCursorDeveIndicarProximaPagina() {
+        Racao segunda = Racao.builder().id(2L).lote(loteAtivo).dataAplicacao(LocalDate.of(2025, 1, 15)).build();
+        Racao terceira = Racao.builder().id(3L).lote(loteAtivo).dataAplicacao(LocalDate.of(2025, 1, 16)).build();
+        when(racaoRepository.listarPrimeiras(Limit.of(3))).thenReturn(List.of(racao, segunda, terceira));
+        when(racaoMapper.toResponse(any(Racao.class))).thenReturn(response);
+
+        PaginaCursorResponse<RacaoResponse> pagina = racaoService.listarPorCursor(null, 2);
+
+        assertEquals(2, pagina.getItens().size());
+        assertTrue(pagina.getTemMais());
+        // A próxima página começa depois da última linha entregue, não da linha a mais
+        assertEquals(CursorPaginacao.porDataEId(LocalDate.of(2025, 1, 15), 2L),
+                CursorPaginacao.decodificar(pagina.getProximoCursor(), true));
+        verify(racaoMapper, times(2)).toResponse(any(Racao.class));
     }
 
+    @Test
+    @DisplayName("listarPorCursor() com cursor deve buscar a partir da posição e encerrar na última página")
+    void listarPorCursorDeveBuscarAPartirDaPosicao() {
+        String cursor = CursorPaginacao.porDataEId(LocalDate.of(2025, 1, 15), 1L).codificar();
+        when(racaoRepository.listarApos(LocalDate.of(2025, 1, 15), 1L, Limit.of(51))).thenReturn(List.of(racao));
+        when(racaoMapper.toResponse(racao)).thenReturn(response);
 
+        PaginaCursorResponse<RacaoResponse> pagina = racaoService.listarPorCursor(cursor, 50);
+
+        assertEquals(1, pagina.getTamanho());
+        assertFalse(pagina.getTemMais());
+        assertNull(pagina.getProximoCursor());
+        verify(racaoRepository, never()).listarPrimeiras(any());
+    }
 }
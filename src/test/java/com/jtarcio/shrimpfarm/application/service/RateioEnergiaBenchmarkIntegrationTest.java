@@ -0,0 +1,194 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.CustoVariavelRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vazão do rateio de energia antes e depois das consultas agrupadas e das inserções em lotes JDBC.
+ * O caminho "antes" repete o laço original: última biometria, busca do lote e inserção, um lote por vez,
+ * com o resumo de custos atualizado lançamento a lançamento. As rodadas dos dois caminhos se alternam sobre
+ * os mesmos lotes para o cache do banco favorecer os dois igualmente. O log de SQL fica desligado para não
+ * pesar mais no caminho que executa mais instruções.
+ */
+@Slf4j
+@TestPropertySource(properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=INFO"})
+@DisplayName("Testes de Integração - Vazão do rateio de energia")
+class RateioEnergiaBenchmarkIntegrationTest extends BaseIntegrationTest {
+
+    private static final int QUANTIDADE_LOTES = 500;
+    private static final int RODADAS = 3;
+    private static final BigDecimal CUSTO_ENERGIA = new BigDecimal("50000.00");
+
+    @Autowired
+    private CalculadoraCustoService calculadoraCustoService;
+
+    @Autowired
+    private LoteCustoResumoService loteCustoResumoService;
+
+    @Autowired
+    private FazendaRepository fazendaRepository;
+
+    @Autowired
+    private ViveiroRepository viveiroRepository;
+
+    @Autowired
+    private LoteRepository loteRepository;
+
+    @Autowired
+    private BiometriaRepository biometriaRepository;
+
+    @Autowired
+    private CustoVariavelRepository custoVariavelRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Rateio agrupado deve ter vazão maior que o laço de busca e gravação por lote")
+    void rateioAgrupadoDeveSerMaisRapidoQueLacoPorLote() {
+        List<Long> loteIds = criarLotesComBiometria();
+        LocalDate hoje = LocalDate.now();
+
+        // Uma rodada de cada caminho para aquecer JIT, planos e conexões
+        ratearLoteALote(loteIds, hoje);
+        ratearAgrupado(loteIds, hoje);
+
+        long[] antes = new long[RODADAS];
+        long[] depois = new long[RODADAS];
+        for (int i = 0; i < RODADAS; i++) {
+            antes[i] = cronometrar(() -> ratearLoteALote(loteIds, hoje));
+            depois[i] = cronometrar(() -> ratearAgrupado(loteIds, hoje));
+        }
+
+        long medianaAntesMs = mediana(antes);
+        long medianaDepoisMs = mediana(depois);
+        log.info("Rateio de energia de {} lotes, mediana de {} rodadas: laço por lote {} ms ({} lotes/s), " +
+                        "agrupado {} ms ({} lotes/s)",
+                QUANTIDADE_LOTES, RODADAS, medianaAntesMs, lotesPorSegundo(medianaAntesMs),
+                medianaDepoisMs, lotesPorSegundo(medianaDepoisMs));
+
+        entityManager.clear();
+        BigDecimal totalLancado = custoVariavelRepository.findAll().stream()
+                .map(CustoVariavel::getValor)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(totalLancado).isEqualByComparingTo(CUSTO_ENERGIA.multiply(BigDecimal.valueOf(2L * (RODADAS + 1))));
+        assertThat(loteCustoResumoService.verificar().getLotesDivergentes()).isZero();
+        assertThat(medianaDepoisMs).isLessThan(medianaAntesMs);
+    }
+
+    // Métodos auxiliares
+
+    /**
+     * Laço original do rateio por biomassa: uma consulta de biometria, uma busca de lote e uma inserção
+     * por lote (o flush por lançamento reproduz o INSERT imediato do ID IDENTITY de antes).
+     */
+    private void ratearLoteALote(List<Long> loteIds, LocalDate data) {
+        Map<Long, BigDecimal> biomassaPorLote = new LinkedHashMap<>();
+        BigDecimal biomassaTotal = BigDecimal.ZERO;
+        for (Long loteId : loteIds) {
+            BigDecimal biomassa = biometriaRepository.findUltimaBiometriaByLoteId(loteId)
+                    .map(Biometria::getBiomassaEstimada)
+                    .orElseThrow();
+            biomassaPorLote.put(loteId, biomassa);
+            biomassaTotal = biomassaTotal.add(biomassa);
+        }
+
+        for (Map.Entry<Long, BigDecimal> entry : biomassaPorLote.entrySet()) {
+            Lote lote = loteRepository.findById(entry.getKey()).orElseThrow();
+            BigDecimal valor = CUSTO_ENERGIA.multiply(entry.getValue())
+                    .divide(biomassaTotal, 2, RoundingMode.HALF_UP);
+
+            custoVariavelRepository.save(CustoVariavel.builder()
+                    .lote(lote)
+                    .dataLancamento(data)
+                    .categoria(CategoriaGastoEnum.ENERGIA)
+                    .descricao("Rateio de energia elétrica - " + CriterioRateioEnergia.BIOMASSA)
+                    .valor(valor)
+                    .observacoes("Rateado automaticamente")
+                    .build());
+            entityManager.flush();
+            loteCustoResumoService.registrarCustoVariavel(lote.getId(), data, valor);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void ratearAgrupado(List<Long> loteIds, LocalDate data) {
+        calculadoraCustoService.registrarRateioEnergia(CUSTO_ENERGIA, loteIds, CriterioRateioEnergia.BIOMASSA, data);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long cronometrar(Runnable execucao) {
+        long inicio = System.nanoTime();
+        execucao.run();
+        return System.nanoTime() - inicio;
+    }
+
+    private long mediana(long[] temposNanos) {
+        long[] ordenados = temposNanos.clone();
+        Arrays.sort(ordenados);
+        return TimeUnit.NANOSECONDS.toMillis(ordenados[ordenados.length / 2]);
+    }
+
+    private long lotesPorSegundo(long milissegundos) {
+        return QUANTIDADE_LOTES * 1000L / Math.max(milissegundos, 1);
+    }
+
+    private List<Long> criarLotesComBiometria() {
+        Fazenda fazenda = fazendaRepository.save(Fazenda.builder()
+                .nome("Fazenda Rateio")
+                .ativa(true)
+                .build());
+        Viveiro viveiro = viveiroRepository.save(Viveiro.builder()
+                .fazenda(fazenda)
+                .codigo("V-RAT")
+                .nome("Viveiro Rateio")
+                .status(StatusViveiroEnum.OCUPADO)
+                .build());
+
+        jdbcTemplate.update("INSERT INTO lotes (viveiro_id, codigo, data_povoamento, quantidade_pos_larvas, status) " +
+                "SELECT ?, 'RAT-' || g, CURRENT_DATE - 30, 50000, 'ATIVO' FROM generate_series(1, ?) g",
+                viveiro.getId(), QUANTIDADE_LOTES);
+        jdbcTemplate.update("INSERT INTO biometrias (lote_id, data_biometria, dia_cultivo, peso_medio, " +
+                "quantidade_amostrada, biomassa_estimada) " +
+                "SELECT id, CURRENT_DATE, 30, 5, 100, 250 FROM lotes WHERE codigo LIKE 'RAT-%'");
+        jdbcTemplate.execute("ANALYZE lotes, biometrias");
+
+        return jdbcTemplate.queryForList("SELECT id FROM lotes WHERE codigo LIKE 'RAT-%' ORDER BY id", Long.class);
+    }
+}
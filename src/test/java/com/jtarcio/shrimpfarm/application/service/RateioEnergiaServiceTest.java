@@ -0,0 +1,286 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.RateioEnergiaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaLoteResponse;
+import com.jtarcio.shrimpfarm.application.dto.response.RateioEnergiaResponse;
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.CategoriaGastoEnum;
+import com.jtarcio.shrimpfarm.domain.enums.CriterioRateioEnergia;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.BiomassaNaData;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.PeriodoCultivoLote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do RateioEnergiaService")
+class RateioEnergiaServiceTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 6, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 6, 30);
+
+    @Mock
+    private FazendaRepository fazendaRepository;
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private CustoVariavelRepository custoVariavelRepository;
+
+    @Mock
+    private LoteCustoResumoService loteCustoResumoService;
+
+    @InjectMocks
+    private RateioEnergiaService rateioEnergiaService;
+
+    @Test
+    @DisplayName("simular() deve pesar lotes pelos dias em cultivo dentro do período")
+    void simularDevePesarPorDiasNoPeriodo() {
+        when(fazendaRepository.existsById(1L)).thenReturn(true);
+        when(loteRepository.buscarLotesNoPeriodo(eq(1L), eq(INICIO), eq(FIM), anyCollection())).thenReturn(List.of(
+                periodo(1L, LocalDate.of(2025, 5, 1), null),                     // 30 dias no período
+                periodo(2L, LocalDate.of(2025, 6, 16), null),                    // 15 dias
+                periodo(3L, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 6, 10)) // 10 dias
+        ));
+
+        RateioEnergiaResponse rateio = rateioEnergiaService.simular(
+                request(new BigDecimal("1000.00"), CriterioRateioEnergia.DIAS_CULTIVO));
+
+        // 1000 * 30/55 = 545.4545; 1000 * 15/55 = 272.7272; 1000 * 10/55 = 181.8181
+        // Os 2 centavos que sobram vão para os maiores restos (lotes 3 e 2)
+        assertThat(rateio.getLotes())
+                .extracting(RateioEnergiaLoteResponse::getDiasNoPeriodo)
+                .containsExactly(30, 15, 10);
+        assertThat(rateio.getLotes().get(0).getValor()).isEqualByComparingTo("545.45");
+        assertThat(rateio.getLotes().get(1).getValor()).isEqualByComparingTo("272.73");
+        assertThat(rateio.getLotes().get(2).getValor()).isEqualByComparingTo("181.82");
+        assertThat(rateio.getValorTotal()).isEqualByComparingTo("1000.00");
+        assertThat(rateio.getRegistrado()).isFalse();
+        verifyNoInteractions(biometriaRepository);
+    }
+
+    @Test
+    @DisplayName("simular() deve pesar lotes pela biomassa interpolada e integrada no período")
+    void simularDevePesarPorBiomassaIntegrada() {
+        LocalDate fim = LocalDate.of(2025, 6, 10);
+        when(fazendaRepository.existsById(1L)).thenReturn(true);
+        when(loteRepository.buscarLotesNoPeriodo(eq(1L), eq(INICIO), eq(fim), anyCollection())).thenReturn(List.of(
+                periodo(1L, LocalDate.of(2025, 5, 1), null),
+                periodo(2L, LocalDate.of(2025, 5, 1), null)));
+        when(biometriaRepository.buscarSerieBiomassaPorLotes(List.of(1L, 2L))).thenReturn(List.of(
+                biomassa(1L, LocalDate.of(2025, 6, 1), "100"),
+                biomassa(1L, LocalDate.of(2025, 6, 11), "200"),
+                biomassa(2L, LocalDate.of(2025, 5, 20), "50")));
+
+        RateioEnergiaResponse rateio = rateioEnergiaService.simular(RateioEnergiaRequest.builder()
+                .fazendaId(1L)
+                .dataInicio(INICIO)
+                .dataFim(fim)
+                .valorTotal(new BigDecimal("390.00"))
+                .criterio(CriterioRateioEnergia.BIOMASSA)
+                .build());
+
+        // Lote 1: 100, 110, ..., 190 kg nos 10 dias = 1450 kg·dia
+        // Lote 2: 50 kg mantidos após a última biometria = 500 kg·dia
+        assertThat(rateio.getCriterio()).isEqualTo(CriterioRateioEnergia.BIOMASSA);
+        assertThat(rateio.getLotes().get(0).getPeso()).isEqualByComparingTo("1450.00");
+        assertThat(rateio.getLotes().get(1).getPeso()).isEqualByComparingTo("500.00");
+        assertThat(rateio.getLotes().get(0).getValor()).isEqualByComparingTo("290.00");
+        assertThat(rateio.getLotes().get(1).getValor()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("simular() deve usar dias no período quando não há biomassa registrada")
+    void simularDeveUsarDiasQuandoNaoHaBiomassa() {
+        when(fazendaRepository.existsById(1L)).thenReturn(true);
+        when(loteRepository.buscarLotesNoPeriodo(eq(1L), eq(INICIO), eq(FIM), anyCollection())).thenReturn(List.of(
+                periodo(1L, LocalDate.of(2025, 5, 1), null),
+                periodo(2L, LocalDate.of(2025, 6, 21), null)));
+        when(biometriaRepository.buscarSerieBiomassaPorLotes(List.of(1L, 2L))).thenReturn(List.of());
+
+        RateioEnergiaResponse rateio = rateioEnergiaService.simular(
+                request(new BigDecimal("400.00"), CriterioRateioEnergia.BIOMASSA));
+
+        assertThat(rateio.getCriterio()).isEqualTo(CriterioRateioEnergia.DIAS_CULTIVO);
+        assertThat(rateio.getLotes().get(0).getValor()).isEqualByComparingTo("300.00");
+        assertThat(rateio.getLotes().get(1).getValor()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("simular() deve dividir igualmente sem perder centavos")
+    void simularDeveDividirIgualmenteSemPerderCentavos() {
+        when(fazendaRepository.existsById(1L)).thenReturn(true);
+        when(loteRepository.buscarLotesNoPeriodo(eq(1L), eq(INICIO), eq(FIM), anyCollection())).thenReturn(List.of(
+                periodo(1L, LocalDate.of(2025, 5, 1), null),
+                periodo(2L, LocalDate.of(2025, 5, 1), null),
+                periodo(3L, LocalDate.of(2025, 5, 1), null)));
+
+        RateioEnergiaResponse rateio = rateioEnergiaService.simular(
+                request(new BigDecimal("100.00"), CriterioRateioEnergia.IGUALITARIO));
+
+        assertThat(rateio.getLotes())
+                .extracting(parcela -> parcela.getValor().toPlainString())
+                .containsExactly("33.34", "33.33", "33.33");
+        assertThat(rateio.getValorTotal()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("registrar() deve lançar as parcelas como custos variáveis em uma única gravação")
+    @SuppressWarnings("unchecked")
+    void registrarDeveLancarParcelasComoCustosVariaveis() {
+        Lote lote1 = Lote.builder().id(1L).build();
+        Lote lote2 = Lote.builder().id(2L).build();
+        when(fazendaRepository.existsById(1L)).thenReturn(true);
+        when(loteRepository.buscarLotesNoPeriodo(eq(1L), eq(INICIO), eq(FIM), anyCollection())).thenReturn(List.of(
+                periodo(1L, LocalDate.of(2025, 5, 1), null),
+                periodo(2L, LocalDate.of(2025, 6, 21), null)));
+        when(loteRepository.getReferenceById(1L)).thenReturn(lote1);
+        when(loteRepository.getReferenceById(2L)).thenReturn(lote2);
+
+        RateioEnergiaResponse rateio = rateioEnergiaService.registrar(
+                request(new BigDecimal("400.00"), CriterioRateioEnergia.DIAS_CULTIVO));
+
+        ArgumentCaptor<List<CustoVariavel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(custoVariavelRepository).saveAll(captor.capture());
+
+        List<CustoVariavel> custos = captor.getValue();
+        assertThat(custos).hasSize(2);
+        assertThat(custos).extracting(CustoVariavel::getValor)
+                .containsExactly(new BigDecimal("300.00"), new BigDecimal("100.00"));
+        assertThat(custos).allSatisfy(custo -> {
+            assertThat(custo.getCategoria()).isEqualTo(CategoriaGastoEnum.ENERGIA);
+            assertThat(custo.getDataLancamento()).isEqualTo(FIM);
+        });
+        verify(loteCustoResumoService).registrarCustosVariaveis(custos);
+        assertThat(rateio.getRegistrado()).isTrue();
+    }
+
+    @Test
+    @DisplayName("registrar() deve rejeitar período que ainda não terminou")
+    void registrarDeveRejeitarPeriodoEmAberto() {
+        RateioEnergiaRequest request = RateioEnergiaRequest.builder()
+                .fazendaId(1L)
+                .dataInicio(LocalDate.now().minusDays(10))
+                .dataFim(LocalDate.now().plusDays(1))
+                .valorTotal(new BigDecimal("100.00"))
+                .criterio(CriterioRateioEnergia.DIAS_CULTIVO)
+                .build();
+
+        assertThatThrownBy(() -> rateioEnergiaService.registrar(request))
+                .isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(loteRepository, custoVariavelRepository, loteCustoResumoService);
+    }
+
+    @Test
+    @DisplayName("simular() deve rejeitar período com fim anterior ao início")
+    void simularDeveRejeitarPeriodoInvertido() {
+        RateioEnergiaRequest request = RateioEnergiaRequest.builder()
+                .fazendaId(1L)
+                .dataInicio(FIM)
+                .dataFim(INICIO)
+                .valorTotal(new BigDecimal("100.00"))
+                .criterio(CriterioRateioEnergia.DIAS_CULTIVO)
+                .build();
+
+        assertThatThrownBy(() -> rateioEnergiaService.simular(request))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("simular() deve lançar exceção quando fazenda não existe")
+    void simularDeveLancarExcecaoQuandoFazendaNaoExiste() {
+        when(fazendaRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> rateioEnergiaService.simular(
+                request(new BigDecimal("100.00"), CriterioRateioEnergia.DIAS_CULTIVO)))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verifyNoInteractions(loteRepository);
+    }
+
+    @Test
+    @DisplayName("simular() deve rejeitar período sem lotes em cultivo")
+    void simularDeveRejeitarPeriodoSemLotes() {
+        when(fazendaRepository.existsById(1L)).thenReturn(true);
+        when(loteRepository.buscarLotesNoPeriodo(eq(1L), eq(INICIO), eq(FIM), anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> rateioEnergiaService.simular(
+                request(new BigDecimal("100.00"), CriterioRateioEnergia.DIAS_CULTIVO)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private RateioEnergiaRequest request(BigDecimal valorTotal, CriterioRateioEnergia criterio) {
+        return RateioEnergiaRequest.builder()
+                .fazendaId(1L)
+                .dataInicio(INICIO)
+                .dataFim(FIM)
+                .valorTotal(valorTotal)
+                .criterio(criterio)
+                .build();
+    }
+
+    private PeriodoCultivoLote periodo(Long loteId, LocalDate dataPovoamento, LocalDate dataDespesca) {
+        return new PeriodoCultivoLote() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public String getCodigo() {
+                return "LOTE" + loteId;
+            }
+
+            @Override
+            public LocalDate getDataPovoamento() {
+                return dataPovoamento;
+            }
+
+            @Override
+            public LocalDate getDataDespesca() {
+                return dataDespesca;
+            }
+        };
+    }
+
+    private BiomassaNaData biomassa(Long loteId, LocalDate data, String biomassa) {
+        return new BiomassaNaData() {
+            @Override
+            public Long getLoteId() {
+                return loteId;
+            }
+
+            @Override
+            public LocalDate getDataBiometria() {
+                return data;
+            }
+
+            @Override
+            public BigDecimal getBiomassa() {
+                return new BigDecimal(biomassa);
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tempo dos KPIs do dashboard no volume do requisito: 1.000 lotes ativos com biometrias e resumo de custos,
+ * mais um histórico de despescas bem maior que a janela de preço de venda. Os dados são gravados por SQL,
+ * em poucos comandos, para o tempo medido ser só o da consulta.
+ */
+@Slf4j
+@DisplayName("Testes de Integração - RelatorioService")
+class RelatorioServiceIntegrationTest extends BaseIntegrationTest {
+
+    private static final int LOTES_ATIVOS = 1000;
+    private static final int DESPESCAS_HISTORICO = 5000;
+    private static final int DESPESCAS_RECENTES = 20;
+    private static final int EXECUCOES = 20;
+    private static final long LIMITE_MS = 50;
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Autowired
+    private FazendaRepository fazendaRepository;
+
+    @Autowired
+    private ViveiroRepository viveiroRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("KPIs do dashboard com 1.000 lotes ativos devem sair em menos de 50 ms")
+    void kpisComMilLotesAtivosDevemSairEmMenosDe50Ms() {
+        semear();
+
+        // A primeira execução prepara o plano da consulta; as seguintes são as medidas
+        relatorioService.obterKPIsDashboard();
+
+        long[] temposNanos = new long[EXECUCOES];
+        DashboardKPIsResponse kpis = null;
+        for (int i = 0; i < EXECUCOES; i++) {
+            long inicio = System.nanoTime();
+            kpis = relatorioService.obterKPIsDashboard();
+            temposNanos[i] = System.nanoTime() - inicio;
+        }
+
+        Arrays.sort(temposNanos);
+        long medianaMs = TimeUnit.NANOSECONDS.toMillis(temposNanos[EXECUCOES / 2]);
+        long maximoMs = TimeUnit.NANOSECONDS.toMillis(temposNanos[EXECUCOES - 1]);
+        log.info("KPIs do dashboard com {} lotes ativos e {} despescas: mediana {} ms, máximo {} ms em {} execuções",
+                LOTES_ATIVOS, DESPESCAS_HISTORICO, medianaMs, maximoMs, EXECUCOES);
+
+        assertThat(kpis.getTotalLotesAtivos()).isEqualTo(LOTES_ATIVOS);
+        assertThat(kpis.getBiomassaTotalAtual()).isEqualByComparingTo("1000000.00");
+        // R$ 4.000,00 por lote / 1.000 kg; só as despescas da janela entram no preço (R$ 20,00/kg)
+        assertThat(kpis.getCustoMedioPorKg()).isEqualByComparingTo("4.00");
+        assertThat(kpis.getLucroMedioPorKg()).isEqualByComparingTo("16.00");
+        assertThat(medianaMs).as("mediana de %d execuções", EXECUCOES).isLessThan(LIMITE_MS);
+    }
+
+    // Métodos auxiliares
+
+    private void semear() {
+        Fazenda fazenda = fazendaRepository.save(Fazenda.builder()
+                .nome("Fazenda KPIs")
+                .ativa(true)
+                .build());
+        Viveiro viveiro = viveiroRepository.save(Viveiro.builder()
+                .fazenda(fazenda)
+                .codigo("V-KPI")
+                .nome("Viveiro KPIs")
+                .status(StatusViveiroEnum.OCUPADO)
+                .build());
+
+        jdbcTemplate.update("INSERT INTO lotes (viveiro_id, codigo, data_povoamento, quantidade_pos_larvas, " +
+                "status, custo_pos_larvas) SELECT ?, 'KPI-A-' || g, CURRENT_DATE - 60, 100000, 'ATIVO', 1000 " +
+                "FROM generate_series(1, ?) g", viveiro.getId(), LOTES_ATIVOS);
+
+        // Três biometrias por lote; a última tem 1.000 kg de biomassa
+        jdbcTemplate.update("INSERT INTO biometrias (lote_id, data_biometria, dia_cultivo, peso_medio, " +
+                "quantidade_amostrada, biomassa_estimada, sobrevivencia_estimada) " +
+                "SELECT l.id, CURRENT_DATE - d, 60 - d, 12 - d * 0.1, 100, 1000 - (d - 1) * 10, 80 " +
+                "FROM lotes l CROSS JOIN (VALUES (1), (15), (30)) AS dias(d) WHERE l.codigo LIKE 'KPI-A-%'");
+
+        jdbcTemplate.update("INSERT INTO lote_custo_resumo (lote_id, custo_racao, quantidade_racao, " +
+                "quantidade_racao_kg) SELECT id, 3000, 1500, 1500 FROM lotes WHERE codigo LIKE 'KPI-A-%'");
+
+        // Histórico de lotes despescados: os mais antigos, fora da janela, venderam a R$ 100,00/kg
+        jdbcTemplate.update("INSERT INTO lotes (viveiro_id, codigo, data_povoamento, quantidade_pos_larvas, status) " +
+                "SELECT ?, 'KPI-F-' || g, CURRENT_DATE - 2000, 100000, 'FINALIZADO' " +
+                "FROM generate_series(1, ?) g", viveiro.getId(), DESPESCAS_HISTORICO);
+        jdbcTemplate.update("INSERT INTO despescas (lote_id, data_despesca, peso_total, quantidade_despescada, " +
+                "peso_medio_final, preco_venda_kg, receita_total) " +
+                "SELECT id, CASE WHEN n <= ? THEN CURRENT_DATE - n ELSE CURRENT_DATE - 90 - n END, " +
+                "500, 40000, 12.5, CASE WHEN n <= ? THEN 20 ELSE 100 END, " +
+                "CASE WHEN n <= ? THEN 10000 ELSE 50000 END " +
+                "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY id)::int AS n FROM lotes WHERE codigo LIKE 'KPI-F-%') f",
+                DESPESCAS_RECENTES, DESPESCAS_RECENTES, DESPESCAS_RECENTES);
+
+        jdbcTemplate.execute("ANALYZE lotes, biometrias, lote_custo_resumo, despescas");
+    }
+}
@@ -4,11 +4,13 @@ import com.jtarcio.shrimpfarm.application.dto.response.DashboardKPIsResponse;
 import com.jtarcio.shrimpfarm.application.dto.response.RelatorioCustoLoteResponse;
 import com.jtarcio.shrimpfarm.domain.entity.Biometria;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.LoteCustoResumo;
 import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
 import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
 import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.*;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.KPIsLotesAtivos;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,16 +42,7 @@ class RelatorioServiceTest {
     private BiometriaRepository biometriaRepository;
 
     @Mock
-    private RacaoRepository racaoRepository;
-
-    @Mock
-    private NutrienteRepository nutrienteRepository;
-
-    @Mock
-    private FertilizacaoRepository fertilizacaoRepository;
-
-    @Mock
-    private CustoVariavelRepository custoVariavelRepository;
+    private LoteCustoResumoRepository loteCustoResumoRepository;
 
     @InjectMocks
     private RelatorioService relatorioService;
@@ -88,33 +81,60 @@ class RelatorioServiceTest {
     @Test
     @DisplayName("obterKPIsDashboard() deve retornar KPIs zerados quando não há lotes ativos")
     void obterKPIsDashboardDeveRetornarZeradoQuandoSemLotesAtivos() {
-        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO)).thenReturn(List.of());
+        when(loteRepository.agregarKPIsLotesAtivos(any(LocalDate.class)))
+                .thenReturn(agregado(0L, 0L, "0", "0", "0", "0", "0", "0", "0"));
 
         DashboardKPIsResponse kpis = relatorioService.obterKPIsDashboard();
 
         assertNotNull(kpis);
         assertEquals(0, kpis.getTotalLotesAtivos());
         assertEquals(0, kpis.getTotalViveirosOcupados());
+        verify(viveiroRepository, never()).countByStatus(any());
     }
 
     @Test
     @DisplayName("obterKPIsDashboard() deve calcular totais e médias quando há lotes ativos")
     void obterKPIsDashboardDeveCalcularMedias() {
-        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO))
-                .thenReturn(List.of(loteAtivo));
+        // 1 lote: 1.500 kg de biomassa, R$ 17.250,00 de custo e 1.875 kg de ração;
+        // despescas dos últimos 90 dias: 2.000 kg vendidos por R$ 32.000,00 (R$ 16,00/kg)
+        when(loteRepository.agregarKPIsLotesAtivos(LocalDate.now().minusDays(90)))
+                .thenReturn(agregado(1L, 1L, "1500.00", "15.50", "85.00",
+                        "17250.00", "1875.000", "32000.00", "2000.00"));
         when(viveiroRepository.countByStatus(StatusViveiroEnum.OCUPADO))
                 .thenReturn(1L);
-        when(biometriaRepository.findUltimaBiometriaByLoteId(10L))
-                .thenReturn(Optional.of(ultimaBiometria));
 
         DashboardKPIsResponse kpis = relatorioService.obterKPIsDashboard();
 
         assertNotNull(kpis);
         assertEquals(1, kpis.getTotalLotesAtivos());
         assertEquals(1, kpis.getTotalViveirosOcupados());
-        assertEquals(ultimaBiometria.getBiomassaEstimada(), kpis.getBiomassaTotalAtual());
-        assertEquals(ultimaBiometria.getPesoMedio(), kpis.getPesoMedioAtual());
-        assertEquals(ultimaBiometria.getSobrevivenciaEstimada(), kpis.getTaxaSobrevivenciaMedia());
+        assertEquals(0, new BigDecimal("60").compareTo(kpis.getDiasMediosCultivo()));
+        assertEquals(0, new BigDecimal("1500.00").compareTo(kpis.getBiomassaTotalAtual()));
+        assertEquals(0, new BigDecimal("15.50").compareTo(kpis.getPesoMedioAtual()));
+        assertEquals(0, new BigDecimal("85.00").compareTo(kpis.getTaxaSobrevivenciaMedia()));
+        assertEquals(0, new BigDecimal("11.50").compareTo(kpis.getCustoMedioPorKg()));
+        assertEquals(0, new BigDecimal("4.50").compareTo(kpis.getLucroMedioPorKg()));
+        assertEquals(0, new BigDecimal("1.25").compareTo(kpis.getFcaMedia()));
+    }
+
+    @Test
+    @DisplayName("obterKPIsDashboard() deve calcular médias só sobre lotes com biometria e sem lucro quando não há despescas")
+    void obterKPIsDashboardDeveIgnorarLotesSemBiometria() {
+        // 3 lotes ativos, 2 com biometria (10 g e 14 g; 80% e 90%)
+        when(loteRepository.agregarKPIsLotesAtivos(any(LocalDate.class)))
+                .thenReturn(agregado(3L, 2L, "800.00", "24.00", "170.00",
+                        "6000.00", "1000.000", "0", "0"));
+        when(viveiroRepository.countByStatus(StatusViveiroEnum.OCUPADO))
+                .thenReturn(3L);
+
+        DashboardKPIsResponse kpis = relatorioService.obterKPIsDashboard();
+
+        assertEquals(3, kpis.getTotalLotesAtivos());
+        assertEquals(0, new BigDecimal("12.00").compareTo(kpis.getPesoMedioAtual()));
+        assertEquals(0, new BigDecimal("85.00").compareTo(kpis.getTaxaSobrevivenciaMedia()));
+        assertEquals(0, new BigDecimal("7.50").compareTo(kpis.getCustoMedioPorKg()));
+        assertEquals(0, new BigDecimal("1.25").compareTo(kpis.getFcaMedia()));
+        assertNull(kpis.getLucroMedioPorKg());
     }
 
     @Test
@@ -133,17 +153,8 @@ class RelatorioServiceTest {
         when(biometriaRepository.findUltimaBiometriaByLoteId(10L))
                 .thenReturn(Optional.of(ultimaBiometria));
 
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(10L))
-                .thenReturn(new BigDecimal("20000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(10L))
-                .thenReturn(new BigDecimal("3000.00"));
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(10L))
-                .thenReturn(new BigDecimal("1000.00"));
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(10L))
-                .thenReturn(new BigDecimal("2500.00"));
-
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(10L))
-                .thenReturn(new BigDecimal("1800.00")); // kg
+        when(loteCustoResumoRepository.findById(10L))
+                .thenReturn(Optional.of(resumo(10L, "20000.00", "1800.000", "3000.00", "1000.00", "2500.00")));
 
         RelatorioCustoLoteResponse relatorio = relatorioService.gerarRelatorioCustoLote(10L);
 
@@ -165,23 +176,19 @@ class RelatorioServiceTest {
                 .divide(ultimaBiometria.getBiomassaEstimada(), 2, java.math.RoundingMode.HALF_UP);
         assertEquals(custoPorKg, relatorio.getCustoPorKg());
 
-        BigDecimal fca = new BigDecimal("1800.00")
+        BigDecimal fca = new BigDecimal("1800.000")
                 .divide(ultimaBiometria.getBiomassaEstimada(), 2, java.math.RoundingMode.HALF_UP);
         assertEquals(fca, relatorio.getFca());
     }
 
     @Test
-    @DisplayName("gerarRelatorioCustoLote() deve tratar nulos de custos como ZERO")
+    @DisplayName("gerarRelatorioCustoLote() deve tratar lote sem resumo de custos como ZERO")
     void gerarRelatorioCustoLoteDeveTratarNulosComoZero() {
         when(loteRepository.findById(10L)).thenReturn(Optional.of(loteAtivo));
         when(biometriaRepository.findUltimaBiometriaByLoteId(10L))
                 .thenReturn(Optional.of(ultimaBiometria));
 
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(10L)).thenReturn(null);
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(10L)).thenReturn(null);
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(10L)).thenReturn(null);
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(10L)).thenReturn(null);
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(10L)).thenReturn(null);
+        when(loteCustoResumoRepository.findById(10L)).thenReturn(Optional.empty());
 
         RelatorioCustoLoteResponse relatorio = relatorioService.gerarRelatorioCustoLote(10L);
 
@@ -204,28 +211,16 @@ class RelatorioServiceTest {
                 .quantidadePosLarvas(80_000)
                 .build();
 
-        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO))
+        when(loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO))
                 .thenReturn(List.of(loteAtivo, outroLote));
 
-        // Para simplificar, stub do método interno gerarRelatorioCustoLote usando spy parcial não é necessário:
-        // apenas mocamos chamadas esperadas de repositórios e deixamos o método executar.
-
-        when(loteRepository.findById(10L)).thenReturn(Optional.of(loteAtivo));
-        when(loteRepository.findById(20L)).thenReturn(Optional.of(outroLote));
-
-        when(biometriaRepository.findUltimaBiometriaByLoteId(anyLong()))
-                .thenReturn(Optional.of(ultimaBiometria));
-
-        when(racaoRepository.calcularCustoTotalRacaoByLoteId(anyLong()))
-                .thenReturn(new BigDecimal("1000.00"));
-        when(nutrienteRepository.calcularCustoTotalNutrientesByLoteId(anyLong()))
-                .thenReturn(new BigDecimal("500.00"));
-        when(fertilizacaoRepository.calcularCustoTotalFertilizacaoByLoteId(anyLong()))
-                .thenReturn(new BigDecimal("300.00"));
-        when(custoVariavelRepository.calcularCustoTotalVariavelByLoteId(anyLong()))
-                .thenReturn(new BigDecimal("200.00"));
-        when(racaoRepository.calcularQuantidadeTotalRacaoByLoteId(anyLong()))
-                .thenReturn(new BigDecimal("800.00"));
+        // Todos os dados vêm de consultas por lista de lotes, sem consultas individuais
+        when(biometriaRepository.findUltimasBiometriasByLoteIds(List.of(10L, 20L)))
+                .thenReturn(List.of(ultimaBiometria));
+        when(loteCustoResumoRepository.findAllById(List.of(10L, 20L)))
+                .thenReturn(List.of(
+                        resumo(10L, "1000.00", "800.000", "500.00", "300.00", "0.00"),
+                        resumo(20L, "700.00", "500.000", "0", "100.00", "200.00")));
 
         List<RelatorioCustoLoteResponse> relatorios =
                 relatorioService.listarRelatoriosLotesAtivos();
@@ -233,5 +228,98 @@ class RelatorioServiceTest {
         assertEquals(2, relatorios.size());
         assertTrue(relatorios.stream().anyMatch(r -> r.getLoteId().equals(10L)));
         assertTrue(relatorios.stream().anyMatch(r -> r.getLoteId().equals(20L)));
+
+        RelatorioCustoLoteResponse relatorio10 = relatorios.get(0);
+        assertEquals(new BigDecimal("1800.00"), relatorio10.getCustoTotal());
+        assertEquals(ultimaBiometria.getBiomassaEstimada(), relatorio10.getBiomassaAtual());
+
+        RelatorioCustoLoteResponse relatorio20 = relatorios.get(1);
+        assertEquals(BigDecimal.ZERO, relatorio20.getCustoNutrientes());
+        assertEquals(new BigDecimal("1000.00"), relatorio20.getCustoTotal());
+        assertEquals(BigDecimal.ZERO, relatorio20.getBiomassaAtual());
+
+        verify(loteRepository, never()).findById(anyLong());
+        verify(biometriaRepository, never()).findUltimaBiometriaByLoteId(anyLong());
+        verify(loteCustoResumoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("listarRelatoriosLotesAtivos() deve retornar lista vazia sem consultar custos quando não há lotes ativos")
+    void listarRelatoriosLotesAtivosDeveRetornarVazioSemLotes() {
+        when(loteRepository.findByStatusComViveiro(StatusLoteEnum.ATIVO)).thenReturn(List.of());
+
+        List<RelatorioCustoLoteResponse> relatorios = relatorioService.listarRelatoriosLotesAtivos();
+
+        assertTrue(relatorios.isEmpty());
+        verifyNoInteractions(biometriaRepository, loteCustoResumoRepository);
+    }
+
+    private LoteCustoResumo resumo(Long loteId, String custoRacao, String quantidadeRacao,
+                                   String custoNutrientes, String custoFertilizacao, String custoVariavel) {
+        return LoteCustoResumo.builder()
+                .loteId(loteId)
+                .custoRacao(new BigDecimal(custoRacao))
+                .quantidadeRacao(new BigDecimal(quantidadeRacao))
+                .quantidadeRacaoKg(new BigDecimal(quantidadeRacao))
+                .custoNutrientes(new BigDecimal(custoNutrientes))
+                .custoFertilizacao(new BigDecimal(custoFertilizacao))
+                .custoVariavel(new BigDecimal(custoVariavel))
+                .build();
+    }
+
+    private KPIsLotesAtivos agregado(Long totalLotes, Long lotesComBiometria, String biomassaTotal,
+                                     String somaPesoMedio, String somaSobrevivencia, String custo,
+                                     String racao, String receitaDespescas, String pesoDespescas) {
+        return new KPIsLotesAtivos() {
+            @Override
+            public Long getTotalLotes() {
+                return totalLotes;
+            }
+
+            @Override
+            public BigDecimal getDiasMediosCultivo() {
+                return new BigDecimal("60.4");
+            }
+
+            @Override
+            public Long getLotesComBiometria() {
+                return lotesComBiometria;
+            }
+
+            @Override
+            public BigDecimal getBiomassaTotal() {
+                return new BigDecimal(biomassaTotal);
+            }
+
+            @Override
+            public BigDecimal getSomaPesoMedio() {
+                return new BigDecimal(somaPesoMedio);
+            }
+
+            @Override
+            public BigDecimal getSomaSobrevivencia() {
+                return new BigDecimal(somaSobrevivencia);
+            }
+
+            @Override
+            public BigDecimal getCustoLotesComBiomassa() {
+                return new BigDecimal(custo);
+            }
+
+            @Override
+            public BigDecimal getRacaoLotesComBiomassa() {
+                return new BigDecimal(racao);
+            }
+
+            @Override
+            public BigDecimal getReceitaDespescas() {
+                return new BigDecimal(receitaDespescas);
+            }
+
+            @Override
+            public BigDecimal getPesoDespescas() {
+                return new BigDecimal(pesoDespescas);
+            }
+        };
     }
 }
@@ -0,0 +1,178 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import com.jtarcio.shrimpfarm.application.dto.request.SimulacaoDespescaRequest;
+import com.jtarcio.shrimpfarm.application.dto.response.SimulacaoDespescaResponse;
+import com.jtarcio.shrimpfarm.domain.entity.Biometria;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.BiometriaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteCustoResumoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do SimulacaoDespescaService")
+class SimulacaoDespescaServiceTest {
+
+    private static final LocalDate POVOAMENTO = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private LoteRepository loteRepository;
+
+    @Mock
+    private BiometriaRepository biometriaRepository;
+
+    @Mock
+    private LoteCustoResumoRepository loteCustoResumoRepository;
+
+    @Mock
+    private CalculadoraCustoService calculadoraCustoService;
+
+    private SimulacaoDespescaService simulacaoDespescaService;
+
+    private Lote lote;
+
+    @BeforeEach
+    void setUp() {
+        ContextoCalculoLote contextoCalculoLote =
+                new ContextoCalculoLote(loteRepository, biometriaRepository, loteCustoResumoRepository);
+        simulacaoDespescaService = new SimulacaoDespescaService(contextoCalculoLote,
+                new CurvaCrescimentoService(contextoCalculoLote, 1000), calculadoraCustoService,
+                loteRepository, biometriaRepository);
+
+        lote = lote(1L, "LOTE-001");
+    }
+
+    @Test
+    @DisplayName("Sem variação a simulação deve coincidir com a projeção determinística")
+    void semVariacaoDeveCoincidirComProjecao() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias(lote));
+        when(calculadoraCustoService.calcularCustosDoLote(1L))
+                .thenReturn(Map.of("custoTotal", new BigDecimal("15000.00")));
+
+        SimulacaoDespescaResponse simulacao = simulacaoDespescaService.simularLote(1L, SimulacaoDespescaRequest.builder()
+                .dataDespesca(POVOAMENTO.plusDays(70))
+                .precoVendaKg(new BigDecimal("25.00"))
+                .precoDesvioPadrao(BigDecimal.ZERO)
+                .sobrevivenciaDesvioPadrao(BigDecimal.ZERO)
+                .crescimentoDesvioPercentual(BigDecimal.ZERO)
+                .trajetorias(10_000)
+                .semente(1L)
+                .build());
+
+        // Linear pelo GPD médio 0,4 g/dia: 16 g no dia 70; 16 g × 100.000 × 80% = 1.280 kg
+        assertThat(simulacao.getPesoMedioProjetado()).isEqualByComparingTo("16.00");
+        assertThat(simulacao.getBiomassa().getP50()).isEqualByComparingTo("1280.00");
+        assertThat(simulacao.getReceita().getP10()).isEqualByComparingTo("32000.00");
+        assertThat(simulacao.getLucro().getP90()).isEqualByComparingTo("17000.00");
+        assertThat(simulacao.getProbabilidadePrejuizo()).isEqualByComparingTo("0.00");
+        assertThat(simulacao.getTrajetorias()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Deve usar as distribuições padrão e gerar faixas de risco")
+    void deveUsarDistribuicoesPadrao() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias(lote));
+        when(calculadoraCustoService.calcularCustosDoLote(1L))
+                .thenReturn(Map.of("custoTotal", new BigDecimal("15000.00")));
+
+        SimulacaoDespescaResponse simulacao = simulacaoDespescaService.simularLote(1L, SimulacaoDespescaRequest.builder()
+                .dataDespesca(POVOAMENTO.plusDays(70))
+                .precoVendaKg(new BigDecimal("25.00"))
+                .semente(5L)
+                .build());
+
+        assertThat(simulacao.getTrajetorias()).isEqualTo(100_000);
+        assertThat(simulacao.getSemente()).isEqualTo(5L);
+        assertThat(simulacao.getBiomassa().getP10()).isLessThan(simulacao.getBiomassa().getP90());
+        assertThat(simulacao.getLucro().getP10()).isLessThan(simulacao.getLucro().getP50());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar data de despesca anterior à última biometria")
+    void deveRejeitarDataAnteriorUltimaBiometria() {
+        when(loteRepository.findById(1L)).thenReturn(Optional.of(lote));
+        when(biometriaRepository.findByLoteIdOrderByDataBiometriaAsc(1L)).thenReturn(biometrias(lote));
+        when(calculadoraCustoService.calcularCustosDoLote(1L))
+                .thenReturn(Map.of("custoTotal", new BigDecimal("15000.00")));
+
+        assertThatThrownBy(() -> simulacaoDespescaService.simularLote(1L, SimulacaoDespescaRequest.builder()
+                .dataDespesca(POVOAMENTO.plusDays(50))
+                .precoVendaKg(new BigDecimal("25.00"))
+                .build()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("anterior à última biometria");
+    }
+
+    @Test
+    @DisplayName("Deve simular todos os lotes ativos com consultas agrupadas")
+    void deveSimularLotesAtivosComConsultasAgrupadas() {
+        Lote semBiometrias = lote(2L, "LOTE-002");
+        when(loteRepository.findByStatus(StatusLoteEnum.ATIVO)).thenReturn(List.of(lote, semBiometrias));
+        when(biometriaRepository.buscarPorLotesEmOrdemCronologica(List.of(1L, 2L))).thenReturn(biometrias(lote));
+        when(calculadoraCustoService.calcularCustosDosLotes(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, Map.of("custoTotal", new BigDecimal("15000.00")),
+                2L, Map.of("custoTotal", new BigDecimal("5000.00"))));
+
+        List<SimulacaoDespescaResponse> simulacoes = simulacaoDespescaService.simularLotesAtivos(
+                SimulacaoDespescaRequest.builder()
+                        .dataDespesca(POVOAMENTO.plusDays(70))
+                        .precoVendaKg(new BigDecimal("25.00"))
+                        .trajetorias(10_000)
+                        .semente(1L)
+                        .build());
+
+        assertThat(simulacoes).hasSize(2);
+        assertThat(simulacoes.get(0).getBiomassa()).isNotNull();
+        assertThat(simulacoes.get(0).getSemente()).isEqualTo(2L);
+        assertThat(simulacoes.get(1).getErro()).contains("Não há biometrias");
+        verify(biometriaRepository, never()).findByLoteIdOrderByDataBiometriaAsc(anyLong());
+        verify(calculadoraCustoService, never()).calcularCustosDoLote(anyLong());
+    }
+
+    private Lote lote(Long id, String codigo) {
+        return Lote.builder()
+                .id(id)
+                .codigo(codigo)
+                .dataPovoamento(POVOAMENTO)
+                .quantidadePosLarvas(100000)
+                .status(StatusLoteEnum.ATIVO)
+                .build();
+    }
+
+    private List<Biometria> biometrias(Lote lote) {
+        return List.of(
+                biometria(lote, 30, "5.000", "0.3000"),
+                biometria(lote, 45, "9.000", "0.4000"),
+                biometria(lote, 60, "12.000", "0.5000"));
+    }
+
+    private Biometria biometria(Lote lote, int dia, String peso, String gpd) {
+        return Biometria.builder()
+                .lote(lote)
+                .dataBiometria(POVOAMENTO.plusDays(dia))
+                .diaCultivo(dia)
+                .pesoMedio(new BigDecimal(peso))
+                .ganhoPesoDiario(new BigDecimal(gpd))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.jtarcio.shrimpfarm.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SimulacaoMonteCarloTest {
+
+    private static final int TRAJETORIAS = 100_000;
+
+    @Test
+    @DisplayName("Sem variação todas as trajetórias devem dar o resultado determinístico")
+    void semVariacaoDeveDarResultadoDeterministico() {
+        SimulacaoMonteCarlo.Parametros parametros = new SimulacaoMonteCarlo.Parametros(
+                12.0, 4.0, 100_000, 0.80, 0, 0, 25.0, 0);
+
+        SimulacaoMonteCarlo.Resultado resultado = simular(parametros, 15_000.0, 1L);
+
+        // 16 g × 100.000 × 80% = 1.280 kg; × R$ 25 = R$ 32.000
+        assertThat(resultado.biomassa().p10()).isCloseTo(1280.0, within(1e-6));
+        assertThat(resultado.biomassa().p90()).isCloseTo(1280.0, within(1e-6));
+        assertThat(resultado.receita().p50()).isCloseTo(32_000.0, within(1e-6));
+        assertThat(resultado.lucro().p50()).isCloseTo(17_000.0, within(1e-6));
+        assertThat(resultado.probabilidadePrejuizo()).isZero();
+    }
+
+    @Test
+    @DisplayName("Mesma semente deve reproduzir o mesmo resultado")
+    void mesmaSementeDeveReproduzirResultado() {
+        SimulacaoMonteCarlo.Parametros parametros = parametrosComVariacao();
+
+        SimulacaoMonteCarlo.Resultado primeiro = simular(parametros, 30_000.0, 42L);
+        SimulacaoMonteCarlo.Resultado segundo = simular(parametros, 30_000.0, 42L);
+
+        assertThat(segundo).isEqualTo(primeiro);
+    }
+
+    @Test
+    @DisplayName("Percentis devem ser ordenados e a mediana próxima do valor esperado")
+    void percentisDevemSerOrdenados() {
+        SimulacaoMonteCarlo.Resultado resultado = simular(parametrosComVariacao(), 30_000.0, 7L);
+
+        assertThat(resultado.biomassa().p10()).isLessThan(resultado.biomassa().p50());
+        assertThat(resultado.biomassa().p50()).isLessThan(resultado.biomassa().p90());
+        assertThat(resultado.receita().p10()).isLessThan(resultado.receita().p90());
+        assertThat(resultado.biomassa().p50()).isCloseTo(1280.0, within(12.8));
+        assertThat(resultado.lucro().p50()).isCloseTo(resultado.receita().p50() - 30_000.0, within(1e-6));
+        assertThat(resultado.probabilidadePrejuizo()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("Probabilidade de prejuízo deve ser a fração de receitas abaixo do custo")
+    void probabilidadePrejuizoDeveSerFracaoAbaixoDoCusto() {
+        double receitaMediana = simular(parametrosComVariacao(), 0.0, 3L).receita().p50();
+
+        // Custo igual à receita mediana: metade das trajetórias dá prejuízo
+        SimulacaoMonteCarlo.Resultado resultado = simular(parametrosComVariacao(), receitaMediana, 3L);
+
+        assertThat(resultado.probabilidadePrejuizo()).isCloseTo(0.5, within(1e-4));
+        assertThat(resultado.lucro().p50()).isZero();
+    }
+
+    @Test
+    @DisplayName("Percentil deve usar o posto mais próximo")
+    void percentilDeveUsarPostoMaisProximo() {
+        double[] ordenados = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertThat(SimulacaoMonteCarlo.percentil(ordenados, 10, 0.10)).isEqualTo(1.0);
+        assertThat(SimulacaoMonteCarlo.percentil(ordenados, 10, 0.50)).isEqualTo(5.0);
+        assertThat(SimulacaoMonteCarlo.percentil(ordenados, 10, 0.90)).isEqualTo(9.0);
+    }
+
+    private SimulacaoMonteCarlo.Parametros parametrosComVariacao() {
+        return new SimulacaoMonteCarlo.Parametros(12.0, 4.0, 100_000, 0.80, 0.08, 0.10, 25.0, 2.5);
+    }
+
+    private SimulacaoMonteCarlo.Resultado simular(SimulacaoMonteCarlo.Parametros parametros, double custo, long semente) {
+        return SimulacaoMonteCarlo.simular(parametros, custo, TRAJETORIAS, semente,
+                new double[TRAJETORIAS], new double[TRAJETORIAS]);
+    }
+}
@@ -2,6 +2,7 @@ package com.jtarcio.shrimpfarm.application.service;
 
 import com.jtarcio.shrimpfarm.application.dto.request.ViveiroRequest;
 import com.jtarcio.shrimpfarm.application.dto.response.ViveiroResponse;
+import com.jtarcio.shrimpfarm.application.event.ViveiroAlteradoEvent;
 import com.jtarcio.shrimpfarm.application.mapper.ViveiroMapper;
 import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
 import com.jtarcio.shrimpfarm.domain.entity.Lote;
@@ -11,6 +12,7 @@ import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
 import com.jtarcio.shrimpfarm.domain.exception.EntityNotFoundException;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
 import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.projection.ViveiroResumo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
@@ -41,6 +44,12 @@ class ViveiroServiceTest {
     @Mock
     private ViveiroMapper viveiroMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ViveiroResumo viveiroResumo;
+
     @InjectMocks
     private ViveiroService viveiroService;
 
@@ -135,6 +144,7 @@ class ViveiroServiceTest {
         assertNotNull(resultado);
         assertEquals(response.getId(), resultado.getId());
         verify(viveiroRepository, times(1)).save(viveiro);
+        verify(eventPublisher).publishEvent(new ViveiroAlteradoEvent(viveiro.getId()));
     }
 
     @Test
@@ -161,8 +171,8 @@ class ViveiroServiceTest {
     @Test
     @DisplayName("listarTodos() deve retornar todos os viveiros mapeados")
     void listarTodosDeveRetornarListaMapeada() {
-        when(viveiroRepository.findAll()).thenReturn(List.of(viveiro));
-        when(viveiroMapper.toResponse(viveiro)).thenReturn(response);
+        when(viveiroRepository.listarResumos()).thenReturn(List.of(viveiroResumo));
+        when(viveiroMapper.toResponse(viveiroResumo)).thenReturn(response);
 
         List<ViveiroResponse> lista = viveiroService.listarTodos();
 
@@ -183,8 +193,8 @@ class ViveiroServiceTest {
     @DisplayName("listarPorFazenda() deve retornar viveiros da fazenda quando existir")
     void listarPorFazendaDeveRetornarLista() {
         when(fazendaRepository.existsById(1L)).thenReturn(true);
-        when(viveiroRepository.findByFazendaId(1L)).thenReturn(List.of(viveiro));
-        when(viveiroMapper.toResponse(viveiro)).thenReturn(response);
+        when(viveiroRepository.listarResumosPorFazenda(1L)).thenReturn(List.of(viveiroResumo));
+        when(viveiroMapper.toResponse(viveiroResumo)).thenReturn(response);
 
         List<ViveiroResponse> lista = viveiroService.listarPorFazenda(1L);
 
@@ -195,9 +205,9 @@ class ViveiroServiceTest {
     @Test
     @DisplayName("listarPorStatus() deve retornar viveiros com status informado")
     void listarPorStatusDeveRetornarPorStatus() {
-        when(viveiroRepository.findByStatus(StatusViveiroEnum.DISPONIVEL))
-                .thenReturn(List.of(viveiro));
-        when(viveiroMapper.toResponse(viveiro)).thenReturn(response);
+        when(viveiroRepository.listarResumosPorStatus(StatusViveiroEnum.DISPONIVEL))
+                .thenReturn(List.of(viveiroResumo));
+        when(viveiroMapper.toResponse(viveiroResumo)).thenReturn(response);
 
         List<ViveiroResponse> lista =
                 viveiroService.listarPorStatus(StatusViveiroEnum.DISPONIVEL);
@@ -219,9 +229,9 @@ class ViveiroServiceTest {
     @DisplayName("listarAtivosPorFazenda() deve retornar viveiros ativos da fazenda")
     void listarAtivosPorFazendaDeveRetornarLista() {
         when(fazendaRepository.existsById(1L)).thenReturn(true);
-        when(viveiroRepository.findByFazendaIdAndAtivoTrue(1L))
-                .thenReturn(List.of(viveiro));
-        when(viveiroMapper.toResponse(viveiro)).thenReturn(response);
+        when(viveiroRepository.listarResumosAtivosPorFazenda(1L))
+                .thenReturn(List.of(viveiroResumo));
+        when(viveiroMapper.toResponse(viveiroResumo)).thenReturn(response);
 
         List<ViveiroResponse> lista = viveiroService.listarAtivosPorFazenda(1L);
 
@@ -233,10 +243,10 @@ class ViveiroServiceTest {
     @DisplayName("listarPaginado() deve retornar página mapeada")
     void listarPaginadoDeveRetornarPagina() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("nome"));
-        Page<Viveiro> pageEntidades = new PageImpl<>(List.of(viveiro), pageable, 1);
+        Page<ViveiroResumo> pageResumos = new PageImpl<>(List.of(viveiroResumo), pageable, 1);
 
-        when(viveiroRepository.findAll(pageable)).thenReturn(pageEntidades);
-        when(viveiroMapper.toResponse(viveiro)).thenReturn(response);
+        when(viveiroRepository.listarResumos(pageable)).thenReturn(pageResumos);
+        when(viveiroMapper.toResponse(viveiroResumo)).thenReturn(response);
 
         Page<ViveiroResponse> pagina = viveiroService.listarPaginado(pageable);
 
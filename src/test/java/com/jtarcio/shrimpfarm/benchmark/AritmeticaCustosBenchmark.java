@@ -0,0 +1,118 @@
+package com.jtarcio.shrimpfarm.benchmark;
+
+import com.jtarcio.shrimpfarm.domain.valueobject.Centavos;
+import com.jtarcio.shrimpfarm.domain.valueobject.Razao;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o quadro de custos de um lote (total, custo por kg, percentuais, custo diário e ROI)
+ * calculado com {@link BigDecimal} e com centavos em {@code long}.
+ * Executar com: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.jtarcio.shrimpfarm.benchmark.AritmeticaCustosBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AritmeticaCustosBenchmark {
+
+    private static final int QUANTIDADE_LOTES = 1_024;
+
+    private BigDecimal[][] custosDecimais;
+    private BigDecimal[] biomassasDecimais;
+    private BigDecimal[] receitasDecimais;
+
+    private long[][] custosCentavos;
+    private long[] biomassasGramas;
+    private long[] receitasCentavos;
+
+    private int[] diasCultivo;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        custosDecimais = new BigDecimal[QUANTIDADE_LOTES][5];
+        custosCentavos = new long[QUANTIDADE_LOTES][5];
+        biomassasDecimais = new BigDecimal[QUANTIDADE_LOTES];
+        biomassasGramas = new long[QUANTIDADE_LOTES];
+        receitasDecimais = new BigDecimal[QUANTIDADE_LOTES];
+        receitasCentavos = new long[QUANTIDADE_LOTES];
+        diasCultivo = new int[QUANTIDADE_LOTES];
+
+        for (int i = 0; i < QUANTIDADE_LOTES; i++) {
+            for (int j = 0; j < 5; j++) {
+                long centavos = random.nextLong(1_000_00L, 50_000_00L);
+                custosCentavos[i][j] = centavos;
+                custosDecimais[i][j] = BigDecimal.valueOf(centavos, 2);
+            }
+
+            long gramas = random.nextLong(500_000L, 10_000_000L);
+            biomassasGramas[i] = gramas;
+            biomassasDecimais[i] = BigDecimal.valueOf(gramas, 3);
+
+            long receita = random.nextLong(50_000_00L, 500_000_00L);
+            receitasCentavos[i] = receita;
+            receitasDecimais[i] = BigDecimal.valueOf(receita, 2);
+
+            diasCultivo[i] = random.nextInt(30, 180);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal cem = BigDecimal.valueOf(100);
+
+        for (int i = 0; i < QUANTIDADE_LOTES; i++) {
+            BigDecimal[] custos = custosDecimais[i];
+            BigDecimal total = custos[0].add(custos[1]).add(custos[2]).add(custos[3]).add(custos[4]);
+
+            blackhole.consume(total.divide(biomassasDecimais[i], 2, RoundingMode.HALF_UP));
+            blackhole.consume(total.divide(BigDecimal.valueOf(diasCultivo[i]), 2, RoundingMode.HALF_UP));
+
+            for (BigDecimal custo : custos) {
+                blackhole.consume(custo.divide(total, 4, RoundingMode.HALF_UP).multiply(cem));
+            }
+
+            BigDecimal lucro = receitasDecimais[i].subtract(total);
+            blackhole.consume(lucro.divide(total, 4, RoundingMode.HALF_UP).multiply(cem));
+        }
+    }
+
+    @Benchmark
+    public void centavos(Blackhole blackhole) {
+        for (int i = 0; i < QUANTIDADE_LOTES; i++) {
+            long[] custos = custosCentavos[i];
+            long total = Centavos.somar(Centavos.somar(Centavos.somar(Centavos.somar(
+                    custos[0], custos[1]), custos[2]), custos[3]), custos[4]);
+
+            blackhole.consume(Razao.dividir(total, Centavos.ESCALA, biomassasGramas[i], 3, Centavos.ESCALA));
+            blackhole.consume(Centavos.dividir(total, diasCultivo[i]));
+
+            for (long custo : custos) {
+                blackhole.consume(Razao.percentual(Razao.de(custo, total)));
+            }
+
+            long lucro = Centavos.subtrair(receitasCentavos[i], total);
+            blackhole.consume(Razao.percentual(Razao.de(lucro, total)));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AritmeticaCustosBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
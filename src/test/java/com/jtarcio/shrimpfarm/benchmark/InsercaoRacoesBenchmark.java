@@ -0,0 +1,128 @@
+package com.jtarcio.shrimpfarm.benchmark;
+
+import com.jtarcio.shrimpfarm.ShrimpFarmApplication;
+import com.jtarcio.shrimpfarm.domain.entity.Fazenda;
+import com.jtarcio.shrimpfarm.domain.entity.Lote;
+import com.jtarcio.shrimpfarm.domain.entity.Racao;
+import com.jtarcio.shrimpfarm.domain.entity.Viveiro;
+import com.jtarcio.shrimpfarm.domain.enums.StatusLoteEnum;
+import com.jtarcio.shrimpfarm.domain.enums.StatusViveiroEnum;
+import com.jtarcio.shrimpfarm.domain.enums.TipoRacaoEnum;
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.FazendaRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.LoteRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.RacaoRepository;
+import com.jtarcio.shrimpfarm.infrastructure.persistence.ViveiroRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de inserção de rações (linhas por segundo) com o batch JDBC do Hibernate desligado
+ * ({@code batch_size} 1, uma ida ao banco por linha, como ficava com IDENTITY) e ligado (50, o valor da
+ * aplicação, com ids reservados em blocos pela sequência). Sobe um PostgreSQL via Testcontainers.
+ * Executar com: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.jtarcio.shrimpfarm.benchmark.InsercaoRacoesBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsercaoRacoesBenchmark {
+
+    private static final int RACOES_POR_OPERACAO = 1_000;
+
+    @Param({"1", "50"})
+    private int tamanhoLoteJdbc;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext contexto;
+    private RacaoRepository racaoRepository;
+    private TransactionTemplate transactionTemplate;
+    private Lote lote;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+
+        contexto = new SpringApplicationBuilder(ShrimpFarmApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + tamanhoLoteJdbc,
+                        "jwt.secret=benchmark-benchmark-benchmark-benchmark-benchmark-benchmark",
+                        "logging.level.com.jtarcio.shrimpfarm=WARN")
+                .run();
+
+        racaoRepository = contexto.getBean(RacaoRepository.class);
+        transactionTemplate = contexto.getBean(TransactionTemplate.class);
+
+        Fazenda fazenda = contexto.getBean(FazendaRepository.class).save(Fazenda.builder()
+                .nome("Fazenda Benchmark")
+                .ativa(true)
+                .build());
+        Viveiro viveiro = contexto.getBean(ViveiroRepository.class).save(Viveiro.builder()
+                .fazenda(fazenda)
+                .codigo("V-BENCH")
+                .nome("Viveiro Benchmark")
+                .status(StatusViveiroEnum.OCUPADO)
+                .ativo(true)
+                .build());
+        lote = contexto.getBean(LoteRepository.class).save(Lote.builder()
+                .viveiro(viveiro)
+                .codigo("LOTE-BENCH")
+                .dataPovoamento(LocalDate.now().minusDays(60))
+                .quantidadePosLarvas(100000)
+                .status(StatusLoteEnum.ATIVO)
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RACOES_POR_OPERACAO)
+    public void inserirRacoes() {
+        List<Racao> racoes = new ArrayList<>(RACOES_POR_OPERACAO);
+        for (int i = 0; i < RACOES_POR_OPERACAO; i++) {
+            racoes.add(Racao.builder()
+                    .lote(lote)
+                    .dataAplicacao(LocalDate.now().minusDays(i % 60))
+                    .tipoRacao(TipoRacaoEnum.CRESCIMENTO)
+                    .marca("Potimar")
+                    .quantidade(new BigDecimal("25.000"))
+                    .unidade(UnidadeMedidaEnum.KG)
+                    .custoUnitario(new BigDecimal("4.80"))
+                    .build());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> racaoRepository.saveAll(racoes));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InsercaoRacoesBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
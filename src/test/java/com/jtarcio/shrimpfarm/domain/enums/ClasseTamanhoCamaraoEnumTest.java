@@ -0,0 +1,30 @@
+package com.jtarcio.shrimpfarm.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ClasseTamanhoCamaraoEnumTest {
+
+    @Test
+    @DisplayName("Peso mínimo de cada classe deve ser 1000 g dividido pelas peças máximas por kg")
+    void pesoMinimoDeveVirDasPecasPorKg() {
+        assertThat(ClasseTamanhoCamaraoEnum.ACIMA_120.getPesoMinimo()).isZero();
+        assertThat(ClasseTamanhoCamaraoEnum.DE_80_A_100.getPesoMinimo()).isCloseTo(10.0, within(1e-9));
+        assertThat(ClasseTamanhoCamaraoEnum.DE_40_A_50.getPesoMinimo()).isCloseTo(20.0, within(1e-9));
+        assertThat(ClasseTamanhoCamaraoEnum.ATE_30.getPesoMinimo()).isCloseTo(33.333, within(1e-3));
+    }
+
+    @Test
+    @DisplayName("doPeso() deve classificar pelo peso individual, com o peso mínimo incluído na classe")
+    void doPesoDeveClassificarPeloPeso() {
+        assertThat(ClasseTamanhoCamaraoEnum.doPeso(0.5)).isEqualTo(ClasseTamanhoCamaraoEnum.ACIMA_120);
+        assertThat(ClasseTamanhoCamaraoEnum.doPeso(9.99)).isEqualTo(ClasseTamanhoCamaraoEnum.DE_100_A_120);
+        assertThat(ClasseTamanhoCamaraoEnum.doPeso(10.0)).isEqualTo(ClasseTamanhoCamaraoEnum.DE_80_A_100);
+        assertThat(ClasseTamanhoCamaraoEnum.doPeso(15.0)).isEqualTo(ClasseTamanhoCamaraoEnum.DE_60_A_70);
+        assertThat(ClasseTamanhoCamaraoEnum.doPeso(25.0)).isEqualTo(ClasseTamanhoCamaraoEnum.DE_30_A_40);
+        assertThat(ClasseTamanhoCamaraoEnum.doPeso(40.0)).isEqualTo(ClasseTamanhoCamaraoEnum.ATE_30);
+    }
+}
@@ -0,0 +1,101 @@
+package com.jtarcio.shrimpfarm.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ModeloCrescimentoEnumTest {
+
+    @Test
+    @DisplayName("Deve ter todos os valores esperados do enum")
+    void deveConterTodosValoresEsperados() {
+        assertThat(ModeloCrescimentoEnum.values()).containsExactly(
+                ModeloCrescimentoEnum.LINEAR,
+                ModeloCrescimentoEnum.VON_BERTALANFFY,
+                ModeloCrescimentoEnum.GOMPERTZ,
+                ModeloCrescimentoEnum.LOGISTICO
+        );
+    }
+
+    @Test
+    @DisplayName("Deve converter código para enum usando fromCodigo")
+    void deveConverterCodigoParaEnum() {
+        assertThat(ModeloCrescimentoEnum.fromCodigo(1)).isEqualTo(ModeloCrescimentoEnum.LINEAR);
+        assertThat(ModeloCrescimentoEnum.fromCodigo(2)).isEqualTo(ModeloCrescimentoEnum.VON_BERTALANFFY);
+        assertThat(ModeloCrescimentoEnum.fromCodigo(3)).isEqualTo(ModeloCrescimentoEnum.GOMPERTZ);
+        assertThat(ModeloCrescimentoEnum.fromCodigo(4)).isEqualTo(ModeloCrescimentoEnum.LOGISTICO);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando código for inválido")
+    void deveLancarExcecaoQuandoCodigoInvalido() {
+        assertThatThrownBy(() -> ModeloCrescimentoEnum.fromCodigo(999))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Código de modelo de crescimento inválido: 999");
+    }
+
+    @Test
+    @DisplayName("Deve retornar string formatada no toString")
+    void deveRetornarStringFormatadaNoToString() {
+        assertThat(ModeloCrescimentoEnum.GOMPERTZ.toString()).isEqualTo("3 - Gompertz");
+        assertThat(ModeloCrescimentoEnum.LOGISTICO.toString()).isEqualTo("4 - Logístico");
+    }
+
+    @Test
+    @DisplayName("diaParaPeso() deve ser a inversa de peso() em todos os modelos")
+    void diaParaPesoDeveSerInversaDePeso() {
+        assertInversa(ModeloCrescimentoEnum.LINEAR, new double[]{1.0, 0.2});
+        assertInversa(ModeloCrescimentoEnum.VON_BERTALANFFY, new double[]{25.0, 0.025, -5.0});
+        assertInversa(ModeloCrescimentoEnum.GOMPERTZ, new double[]{25.0, 0.035, 50.0});
+        assertInversa(ModeloCrescimentoEnum.LOGISTICO, new double[]{25.0, 0.06, 60.0});
+    }
+
+    @Test
+    @DisplayName("Taxa e gradiente devem coincidir com as derivadas numéricas")
+    void taxaEGradienteDevemCoincidirComDerivadasNumericas() {
+        double[] parametros = {25.0, 0.035, 50.0};
+        ModeloCrescimentoEnum modelo = ModeloCrescimentoEnum.GOMPERTZ;
+        double dia = 40;
+        double h = 1e-6;
+
+        double taxaNumerica = (modelo.peso(dia + h, parametros) - modelo.peso(dia - h, parametros)) / (2 * h);
+        assertThat(modelo.taxa(dia, parametros)).isCloseTo(taxaNumerica, within(1e-6));
+
+        double[] gradiente = new double[3];
+        modelo.gradiente(dia, parametros, gradiente);
+        for (int i = 0; i < 3; i++) {
+            double[] mais = parametros.clone();
+            double[] menos = parametros.clone();
+            mais[i] += h;
+            menos[i] -= h;
+            double derivada = (modelo.peso(dia, mais) - modelo.peso(dia, menos)) / (2 * h);
+            assertThat(gradiente[i]).isCloseTo(derivada, within(1e-5));
+        }
+    }
+
+    @Test
+    @DisplayName("Modelos sigmoides nunca atingem o peso assintótico")
+    void modelosSigmoidesNuncaAtingemPesoAssintotico() {
+        assertThat(ModeloCrescimentoEnum.VON_BERTALANFFY.diaParaPeso(25.0, new double[]{25.0, 0.025, -5.0})).isNaN();
+        assertThat(ModeloCrescimentoEnum.LOGISTICO.diaParaPeso(30.0, new double[]{25.0, 0.06, 60.0})).isNaN();
+        assertThat(ModeloCrescimentoEnum.LINEAR.diaParaPeso(30.0, new double[]{1.0, 0.0})).isNaN();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros fora das restrições dos modelos sigmoides")
+    void deveRejeitarParametrosInvalidos() {
+        assertThat(ModeloCrescimentoEnum.GOMPERTZ.parametrosValidos(new double[]{25.0, 0.03, 40.0})).isTrue();
+        assertThat(ModeloCrescimentoEnum.GOMPERTZ.parametrosValidos(new double[]{-1.0, 0.03, 40.0})).isFalse();
+        assertThat(ModeloCrescimentoEnum.GOMPERTZ.parametrosValidos(new double[]{500.0, 0.03, 40.0})).isFalse();
+        assertThat(ModeloCrescimentoEnum.GOMPERTZ.parametrosValidos(new double[]{25.0, -0.03, 40.0})).isFalse();
+        assertThat(ModeloCrescimentoEnum.LINEAR.parametrosValidos(new double[]{-3.0, 0.2})).isTrue();
+    }
+
+    private void assertInversa(ModeloCrescimentoEnum modelo, double[] parametros) {
+        double peso = modelo.peso(70, parametros);
+        assertThat(modelo.diaParaPeso(peso, parametros)).isCloseTo(70.0, within(1e-6));
+    }
+}
@@ -58,6 +58,25 @@ class TipoRacaoEnumTest {
         assertThat(TipoRacaoEnum.FINALIZACAO.getProteina()).isEqualTo(32.0);
     }
 
+    @Test
+    @DisplayName("Deve indicar a fase de ração pelo dia de cultivo")
+    void deveIndicarFasePeloDiaCultivo() {
+        assertThat(TipoRacaoEnum.paraDiaCultivo(0)).isEqualTo(TipoRacaoEnum.INICIAL);
+        assertThat(TipoRacaoEnum.paraDiaCultivo(29)).isEqualTo(TipoRacaoEnum.INICIAL);
+        assertThat(TipoRacaoEnum.paraDiaCultivo(30)).isEqualTo(TipoRacaoEnum.CRESCIMENTO);
+        assertThat(TipoRacaoEnum.paraDiaCultivo(60)).isEqualTo(TipoRacaoEnum.ENGORDA);
+        assertThat(TipoRacaoEnum.paraDiaCultivo(90)).isEqualTo(TipoRacaoEnum.FINALIZACAO);
+        assertThat(TipoRacaoEnum.paraDiaCultivo(200)).isEqualTo(TipoRacaoEnum.FINALIZACAO);
+    }
+
+    @Test
+    @DisplayName("Taxa alimentar deve cair a cada fase")
+    void taxaAlimentarDeveCairACadaFase() {
+        assertThat(TipoRacaoEnum.INICIAL.getTaxaAlimentar()).isGreaterThan(TipoRacaoEnum.CRESCIMENTO.getTaxaAlimentar());
+        assertThat(TipoRacaoEnum.CRESCIMENTO.getTaxaAlimentar()).isGreaterThan(TipoRacaoEnum.ENGORDA.getTaxaAlimentar());
+        assertThat(TipoRacaoEnum.ENGORDA.getTaxaAlimentar()).isGreaterThan(TipoRacaoEnum.FINALIZACAO.getTaxaAlimentar());
+    }
+
     @Test
     @DisplayName("Deve converter código para enum usando fromCodigo")
     void deveConverterCodigoParaEnum() {
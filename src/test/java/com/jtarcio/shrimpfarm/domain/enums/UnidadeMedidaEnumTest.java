@@ -3,6 +3,8 @@ package com.jtarcio.shrimpfarm.domain.enums;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -110,4 +112,21 @@ class UnidadeMedidaEnumTest {
         assertThat(UnidadeMedidaEnum.KG.ordinal()).isEqualTo(0);
         assertThat(UnidadeMedidaEnum.HECTARE.ordinal()).isEqualTo(7);
     }
+
+    @Test
+    @DisplayName("Deve converter quantidades de massa para kg")
+    void deveConverterQuantidadesDeMassaParaKg() {
+        assertThat(UnidadeMedidaEnum.KG.paraKg(new BigDecimal("12.5"))).isEqualByComparingTo("12.5");
+        assertThat(UnidadeMedidaEnum.G.paraKg(new BigDecimal("2500"))).isEqualByComparingTo("2.5");
+        assertThat(UnidadeMedidaEnum.TON.paraKg(new BigDecimal("1.2"))).isEqualByComparingTo("1200");
+        assertThat(UnidadeMedidaEnum.SACO.paraKg(new BigDecimal("4"))).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("Unidades que não são de massa e quantidade nula devem converter para zero")
+    void unidadesSemMassaDevemConverterParaZero() {
+        assertThat(UnidadeMedidaEnum.LITRO.paraKg(new BigDecimal("10"))).isEqualByComparingTo("0");
+        assertThat(UnidadeMedidaEnum.UNIDADE.paraKg(new BigDecimal("10"))).isEqualByComparingTo("0");
+        assertThat(UnidadeMedidaEnum.KG.paraKg(null)).isEqualByComparingTo("0");
+    }
 }
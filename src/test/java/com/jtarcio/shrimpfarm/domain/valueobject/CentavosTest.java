@@ -0,0 +1,67 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CentavosTest {
+
+    @Test
+    @DisplayName("Deve converter reais para centavos arredondando HALF_UP")
+    void deveConverterReaisParaCentavos() {
+        assertThat(Centavos.de(new BigDecimal("100.50"))).isEqualTo(10050L);
+        assertThat(Centavos.de(new BigDecimal("100.455"))).isEqualTo(10046L);
+        assertThat(Centavos.de(new BigDecimal("-0.005"))).isEqualTo(-1L);
+        assertThat(Centavos.de(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve converter centavos para BigDecimal com 2 casas")
+    void deveConverterCentavosParaBigDecimal() {
+        assertThat(Centavos.paraBigDecimal(12345L)).isEqualTo(new BigDecimal("123.45"));
+        assertThat(Centavos.paraBigDecimal(0L)).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    @DisplayName("Deve somar e subtrair centavos")
+    void deveSomarESubtrairCentavos() {
+        assertThat(Centavos.somar(10000L, 5050L)).isEqualTo(15050L);
+        assertThat(Centavos.subtrair(10000L, 3050L)).isEqualTo(6950L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção em vez de estourar o long")
+    void deveLancarExcecaoAoEstourar() {
+        assertThatThrownBy(() -> Centavos.somar(Long.MAX_VALUE, 1L))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Deve multiplicar e dividir com o mesmo resultado de BigDecimal HALF_UP")
+    void deveMultiplicarEDividirComoBigDecimal() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            long centavos = random.nextLong(-10_000_000_000L, 10_000_000_000L);
+            long fator = random.nextLong(-1_000_000L, 1_000_000L);
+            int escalaFator = random.nextInt(0, 5);
+            long divisor = random.nextLong(1L, 100_000L);
+            BigDecimal valor = BigDecimal.valueOf(centavos, 2);
+
+            BigDecimal produtoEsperado = valor.multiply(BigDecimal.valueOf(fator, escalaFator))
+                    .setScale(2, RoundingMode.HALF_UP);
+            BigDecimal quocienteEsperado = valor.divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP);
+
+            assertThat(Centavos.paraBigDecimal(Centavos.multiplicar(centavos, fator, escalaFator)))
+                    .isEqualTo(produtoEsperado);
+            assertThat(Centavos.paraBigDecimal(Centavos.dividir(centavos, divisor)))
+                    .isEqualTo(quocienteEsperado);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPaginacaoTest {
+
+    @Test
+    @DisplayName("Cursor por (data, id) deve voltar igual ao decodificar")
+    void cursorPorDataEIdDeveVoltarIgual() {
+        CursorPaginacao cursor = CursorPaginacao.porDataEId(LocalDate.of(2025, 3, 14), 123456789L);
+
+        String token = cursor.codificar();
+
+        assertThat(token).doesNotContain("=", "+", "/", "2025");
+        assertThat(CursorPaginacao.decodificar(token, true)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Cursor por id deve voltar igual ao decodificar")
+    void cursorPorIdDeveVoltarIgual() {
+        CursorPaginacao cursor = CursorPaginacao.porId(42L);
+
+        assertThat(CursorPaginacao.decodificar(cursor.codificar(), false)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Sem token deve indicar a primeira página")
+    void semTokenDeveIndicarPrimeiraPagina() {
+        assertThat(CursorPaginacao.decodificar(null, true)).isNull();
+        assertThat(CursorPaginacao.decodificar(" ", false)).isNull();
+    }
+
+    @Test
+    @DisplayName("Token adulterado ou de outra listagem deve ser recusado")
+    void tokenInvalidoDeveSerRecusado() {
+        String porId = CursorPaginacao.porId(42L).codificar();
+        String porData = CursorPaginacao.porDataEId(LocalDate.of(2025, 3, 14), 1L).codificar();
+        String dataInvalida = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1|2025-13-40|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorPaginacao.decodificar(porId, true))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cursor de paginação inválido");
+        assertThatThrownBy(() -> CursorPaginacao.decodificar(porData, false))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorPaginacao.decodificar("não é base64!", false))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorPaginacao.decodificar(dataInvalida, true))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Tamanho da página deve ficar entre 1 e o máximo")
+    void tamanhoDeveFicarNoLimite() {
+        assertThat(CursorPaginacao.validarTamanho(CursorPaginacao.TAMANHO_MAXIMO)).isEqualTo(500);
+        assertThatThrownBy(() -> CursorPaginacao.validarTamanho(0))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Tamanho da página deve estar entre 1 e 500");
+        assertThatThrownBy(() -> CursorPaginacao.validarTamanho(501))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import com.jtarcio.shrimpfarm.domain.enums.ModeloCrescimentoEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CurvaCrescimentoTest {
+
+    private static final LocalDate POVOAMENTO = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("Peso projetado deve partir do peso medido na última biometria")
+    void pesoDevePartirDaUltimaBiometria() {
+        // Modelo prevê 12,0 g no dia 60; a biometria mediu 12,5 g
+        CurvaCrescimento curva = linear(new double[]{0.0, 0.2}, "12.500");
+
+        assertThat(curva.peso(POVOAMENTO.plusDays(60))).isCloseTo(12.5, within(1e-9));
+        assertThat(curva.peso(POVOAMENTO.plusDays(70))).isCloseTo(14.5, within(1e-9));
+        assertThat(curva.ganhoDiario(POVOAMENTO.plusDays(70))).isCloseTo(0.2, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("diaParaPeso() deve considerar o deslocamento da última biometria")
+    void diaParaPesoDeveConsiderarDeslocamento() {
+        CurvaCrescimento curva = linear(new double[]{0.0, 0.2}, "12.500");
+
+        assertThat(curva.diaParaPeso(15.0)).isCloseTo(72.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("pesos() deve coincidir com peso() dia a dia")
+    void pesosDeveCoincidirComPeso() {
+        CurvaCrescimento curva = linear(new double[]{0.0, 0.2}, "12.500");
+        double[] pesos = new double[5];
+
+        curva.pesos(90, 5, pesos);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(pesos[i]).isCloseTo(curva.peso(POVOAMENTO.plusDays(90 + i)), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("Peso projetado nunca deve ser negativo")
+    void pesoNaoDeveSerNegativo() {
+        CurvaCrescimento curva = linear(new double[]{0.0, 0.2}, "12.000");
+
+        assertThat(curva.peso(POVOAMENTO.minusDays(100))).isZero();
+    }
+
+    private CurvaCrescimento linear(double[] parametros, String pesoUltimaBiometria) {
+        return new CurvaCrescimento(ModeloCrescimentoEnum.LINEAR, parametros, 0.0, POVOAMENTO,
+                POVOAMENTO.plusDays(60), new BigDecimal(pesoUltimaBiometria), 3);
+    }
+}
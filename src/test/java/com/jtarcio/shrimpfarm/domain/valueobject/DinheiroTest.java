@@ -4,6 +4,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -106,6 +109,82 @@ class DinheiroTest {
         assertThat(resultado.getValor()).isEqualByComparingTo("250.00");
     }
 
+    @Test
+    @DisplayName("Deve manter a escala do produto na multiplicação, sem arredondar")
+    void deveManterEscalaDoProdutoNaMultiplicacao() {
+        Dinheiro dinheiro = new Dinheiro(new BigDecimal("10.01"));
+
+        Dinheiro resultado = dinheiro.multiplicar(new BigDecimal("0.5"));
+
+        assertThat(resultado.getValor()).isEqualTo(new BigDecimal("5.005"));
+    }
+
+    @Test
+    @DisplayName("Deve multiplicar e dividir por valores fora do long como BigDecimal")
+    void deveMultiplicarEDividirForaDoLongComoBigDecimal() {
+        Dinheiro dinheiro = new Dinheiro(new BigDecimal("1234.56"));
+        List<BigDecimal> operandos = List.of(
+                BigDecimal.valueOf(1.0 / 3),
+                new BigDecimal("0.00000000000000000001"),
+                new BigDecimal("123456789012345678901234.5"),
+                new BigDecimal("1E+20"),
+                new BigDecimal("-7.123456789012345678"));
+
+        for (BigDecimal operando : operandos) {
+            assertThat(dinheiro.multiplicar(operando).getValor()).as("× %s", operando)
+                    .isEqualTo(dinheiro.getValor().multiply(operando));
+            assertThat(dinheiro.dividir(operando).getValor()).as("÷ %s", operando)
+                    .isEqualTo(dinheiro.getValor().divide(operando, 2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve operar como BigDecimal com valores fora da escala de centavos ou perto do limite do long")
+    void deveOperarComoBigDecimalForaDaEscalaDeCentavos() {
+        Dinheiro tresCasas = new Dinheiro(new BigDecimal("10.005"), "BRL");
+        Dinheiro inteiro = new Dinheiro(new BigDecimal("7"), "BRL");
+        Dinheiro maximo = Dinheiro.deCentavos(Long.MAX_VALUE);
+        Dinheiro centavo = new Dinheiro(new BigDecimal("0.01"));
+
+        assertThat(tresCasas.somar(inteiro).getValor()).isEqualTo(new BigDecimal("17.005"));
+        assertThat(inteiro.subtrair(tresCasas).getValor()).isEqualTo(new BigDecimal("-3.005"));
+        assertThat(inteiro.multiplicar(new BigDecimal("1.5")).getValor()).isEqualTo(new BigDecimal("10.5"));
+        assertThat(tresCasas.dividir(new BigDecimal("2")).getValor()).isEqualTo(new BigDecimal("5.00"));
+        assertThat(maximo.somar(centavo).getValor())
+                .isEqualTo(maximo.getValor().add(centavo.getValor()));
+        assertThat(maximo.multiplicar(new BigDecimal("3")).getValor())
+                .isEqualTo(maximo.getValor().multiply(new BigDecimal("3")));
+    }
+
+    @Test
+    @DisplayName("Deve dar o mesmo resultado (valor e escala) das operações de BigDecimal")
+    void deveDarOMesmoResultadoDeBigDecimal() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal valor = BigDecimal.valueOf(random.nextLong(-10_000_000_000L, 10_000_000_000L), 2);
+            BigDecimal outro = BigDecimal.valueOf(random.nextLong(-10_000_000_000L, 10_000_000_000L), 2);
+            BigDecimal operando = BigDecimal.valueOf(random.nextLong(1L, 1_000_000L), random.nextInt(-2, 8));
+            Dinheiro dinheiro = new Dinheiro(valor);
+
+            assertThat(dinheiro.somar(new Dinheiro(outro)).getValor()).isEqualTo(valor.add(outro));
+            assertThat(dinheiro.subtrair(new Dinheiro(outro)).getValor()).isEqualTo(valor.subtract(outro));
+            assertThat(dinheiro.multiplicar(operando).getValor()).isEqualTo(valor.multiply(operando));
+            assertThat(dinheiro.dividir(operando).getValor())
+                    .isEqualTo(valor.divide(operando, 2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve converter de e para centavos")
+    void deveConverterDeEParaCentavos() {
+        Dinheiro dinheiro = Dinheiro.deCentavos(12345L);
+
+        assertThat(dinheiro.getValor()).isEqualTo(new BigDecimal("123.45"));
+        assertThat(dinheiro.getMoeda()).isEqualTo("BRL");
+        assertThat(dinheiro.emCentavos()).isEqualTo(12345L);
+    }
+
     @Test
     @DisplayName("Deve dividir valor por divisor")
     void deveDividirValorPorDivisor() {
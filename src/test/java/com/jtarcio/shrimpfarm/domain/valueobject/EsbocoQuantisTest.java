@@ -0,0 +1,48 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EsbocoQuantisTest {
+
+    @Test
+    @DisplayName("Quantis estimados devem ficar dentro do erro relativo do valor exato")
+    void quantisDevemRespeitarErroRelativo() {
+        SplittableRandom gerador = new SplittableRandom(42);
+        double[] valores = new double[10_000];
+        EsbocoQuantis esboco = new EsbocoQuantis();
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = Math.max(0.5, 15 + 3 * gerador.nextGaussian());
+            esboco.adicionar(valores[i]);
+        }
+        Arrays.sort(valores);
+
+        for (double q : new double[]{0.01, 0.10, 0.50, 0.90, 0.99}) {
+            double exato = valores[(int) Math.ceil(q * valores.length) - 1];
+            assertThat(esboco.quantil(q))
+                    .as("quantil %s", q)
+                    .isCloseTo(exato, within(exato * EsbocoQuantis.PRECISAO_RELATIVA));
+        }
+        assertThat(esboco.total()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Esboço vazio deve devolver NaN e valores fora da faixa devem ir para os baldes da borda")
+    void esbocoVazioEValoresForaDaFaixa() {
+        EsbocoQuantis esboco = new EsbocoQuantis();
+        assertThat(esboco.quantil(0.5)).isNaN();
+
+        esboco.adicionar(0.0001);
+        esboco.adicionar(5000);
+
+        assertThat(esboco.quantil(0.0)).isEqualTo(EsbocoQuantis.VALOR_MINIMO);
+        assertThat(esboco.quantil(1.0)).isCloseTo(EsbocoQuantis.VALOR_MAXIMO,
+                within(EsbocoQuantis.VALOR_MAXIMO * EsbocoQuantis.PRECISAO_RELATIVA));
+    }
+}
@@ -0,0 +1,79 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import com.jtarcio.shrimpfarm.domain.enums.ClasseTamanhoCamaraoEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class EstatisticasAmostraTest {
+
+    @Test
+    @DisplayName("Deve calcular média, desvio amostral, CV, extremos e classes da amostra")
+    void deveCalcularEstatisticas() {
+        EstatisticasAmostra estatisticas = EstatisticasAmostra.calcular(new float[]{10f, 12f, 14f, 16f, 18f});
+
+        assertThat(estatisticas.quantidade()).isEqualTo(5);
+        assertThat(estatisticas.media()).isCloseTo(14.0, within(1e-9));
+        assertThat(estatisticas.desvioPadrao()).isCloseTo(Math.sqrt(10), within(1e-9));
+        assertThat(estatisticas.coeficienteVariacao()).isCloseTo(Math.sqrt(10) / 14 * 100, within(1e-9));
+        assertThat(estatisticas.minimo()).isEqualTo(10.0);
+        assertThat(estatisticas.maximo()).isEqualTo(18.0);
+        assertThat(estatisticas.soma()).isEqualTo(70.0);
+        assertThat(estatisticas.p50()).isCloseTo(14.0, within(14.0 * EsbocoQuantis.PRECISAO_RELATIVA));
+
+        assertThat(estatisticas.contagem(ClasseTamanhoCamaraoEnum.DE_80_A_100)).isEqualTo(2); // 10 e 12 g
+        assertThat(estatisticas.contagem(ClasseTamanhoCamaraoEnum.DE_70_A_80)).isEqualTo(1); // 14 g
+        assertThat(estatisticas.contagem(ClasseTamanhoCamaraoEnum.DE_60_A_70)).isEqualTo(1); // 16 g
+        assertThat(estatisticas.contagem(ClasseTamanhoCamaraoEnum.DE_50_A_60)).isEqualTo(1); // 18 g
+    }
+
+    @Test
+    @DisplayName("Welford deve coincidir com o cálculo em duas passadas")
+    void welfordDeveCoincidirComDuasPassadas() {
+        SplittableRandom gerador = new SplittableRandom(7);
+        float[] pesos = new float[5000];
+        for (int i = 0; i < pesos.length; i++) {
+            pesos[i] = (float) (20 + 2 * gerador.nextGaussian());
+        }
+
+        double media = 0;
+        for (float peso : pesos) {
+            media += peso;
+        }
+        media /= pesos.length;
+        double somaQuadrados = 0;
+        for (float peso : pesos) {
+            somaQuadrados += (peso - media) * (peso - media);
+        }
+
+        EstatisticasAmostra estatisticas = EstatisticasAmostra.calcular(pesos);
+
+        assertThat(estatisticas.media()).isCloseTo(media, within(1e-9));
+        assertThat(estatisticas.desvioPadrao()).isCloseTo(Math.sqrt(somaQuadrados / (pesos.length - 1)), within(1e-9));
+        assertThat(estatisticas.p10()).isLessThan(estatisticas.p50());
+        assertThat(estatisticas.p50()).isLessThan(estatisticas.p90());
+    }
+
+    @Test
+    @DisplayName("Um único peso deve ter desvio zero e quantis iguais ao peso")
+    void umUnicoPeso() {
+        EstatisticasAmostra estatisticas = EstatisticasAmostra.calcular(new float[]{12.5f});
+
+        assertThat(estatisticas.desvioPadrao()).isZero();
+        assertThat(estatisticas.coeficienteVariacao()).isZero();
+        assertThat(estatisticas.p10()).isEqualTo(12.5);
+        assertThat(estatisticas.p90()).isEqualTo(12.5);
+    }
+
+    @Test
+    @DisplayName("Amostra vazia deve ser recusada")
+    void amostraVaziaDeveSerRecusada() {
+        assertThatThrownBy(() -> EstatisticasAmostra.calcular(new float[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PesosAmostraTest {
+
+    @Test
+    @DisplayName("Pesos devem ocupar 4 bytes cada e voltar idênticos ao descompactar")
+    void devePreservarPesosNaIdaEVolta() {
+        float[] pesos = {12.34f, 0.001f, 999.9f, 15.0f};
+
+        byte[] dados = PesosAmostra.compactar(pesos);
+
+        assertThat(dados).hasSize(16);
+        assertThat(PesosAmostra.descompactar(dados)).containsExactly(pesos);
+    }
+
+    @Test
+    @DisplayName("Dados com tamanho que não é múltiplo de 4 devem ser recusados")
+    void deveRecusarTamanhoInvalido() {
+        assertThatThrownBy(() -> PesosAmostra.descompactar(new byte[5]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.jtarcio.shrimpfarm.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RazaoTest {
+
+    @Test
+    @DisplayName("Deve calcular razão com 4 casas arredondando HALF_UP")
+    void deveCalcularRazaoCom4Casas() {
+        assertThat(Razao.de(1L, 3L)).isEqualTo(3333L);
+        assertThat(Razao.de(2L, 3L)).isEqualTo(6667L);
+        assertThat(Razao.de(-2L, 3L)).isEqualTo(-6667L);
+        assertThat(Razao.paraBigDecimal(Razao.de(1L, 8L))).isEqualTo(new BigDecimal("0.1250"));
+    }
+
+    @Test
+    @DisplayName("Deve converter razão em percentual com a mesma escala de divide(4).multiply(100)")
+    void deveConverterRazaoEmPercentual() {
+        BigDecimal esperado = new BigDecimal("1500.00")
+                .divide(new BigDecimal("7000.00"), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+
+        assertThat(Razao.paraBigDecimal(Razao.percentual(Razao.de(150000L, 700000L)))).isEqualTo(esperado);
+    }
+
+    @Test
+    @DisplayName("Deve arredondar empates para longe do zero")
+    void deveArredondarEmpatesParaLongeDoZero() {
+        assertThat(Razao.dividirArredondando(5L, 2L)).isEqualTo(3L);
+        assertThat(Razao.dividirArredondando(-5L, 2L)).isEqualTo(-3L);
+        assertThat(Razao.dividirArredondando(5L, -2L)).isEqualTo(-3L);
+        assertThat(Razao.dividirArredondando(7L, 3L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao dividir por zero")
+    void deveLancarExcecaoAoDividirPorZero() {
+        assertThatThrownBy(() -> Razao.de(1L, 0L))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("Divisão por zero");
+    }
+
+    @Test
+    @DisplayName("Deve dividir valores de escalas diferentes com o mesmo resultado de BigDecimal HALF_UP")
+    void deveDividirComoBigDecimal() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal numerador = BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 1_000_000_000L), random.nextInt(0, 4));
+            BigDecimal denominador = BigDecimal.valueOf(random.nextLong(1L, 10_000_000L), random.nextInt(0, 4));
+            int escala = random.nextInt(0, 5);
+
+            BigDecimal esperado = numerador.divide(denominador, escala, RoundingMode.HALF_UP);
+
+            long resultado = Razao.dividir(numerador.unscaledValue().longValue(), numerador.scale(),
+                    denominador.unscaledValue().longValue(), denominador.scale(), escala);
+
+            assertThat(BigDecimal.valueOf(resultado, escala))
+                    .isEqualTo(esperado);
+        }
+    }
+}
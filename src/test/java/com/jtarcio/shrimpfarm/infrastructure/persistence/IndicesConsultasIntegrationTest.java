@@ -0,0 +1,142 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import com.jtarcio.shrimpfarm.integration.PlanoExecucao;
+import com.jtarcio.shrimpfarm.integration.PlanoExecucao.Varredura;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Planos das consultas que dependem de índices específicos. As consultas repetem o SQL gerado para
+ * os métodos dos repositórios. Com varredura sequencial e bitmap desligados na transação do teste,
+ * o planejador mostra se algum índice ainda responde a consulta, independentemente do volume de dados.
+ */
+@DisplayName("Testes de Integração - Índices das consultas")
+class IndicesConsultasIntegrationTest extends BaseIntegrationTest {
+
+    private static final Long LOTE_ID = 1L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PlanoExecucao planoExecucao;
+
+    @BeforeEach
+    void setUp() {
+        planoExecucao = new PlanoExecucao(jdbcTemplate);
+        // SET LOCAL vale até o fim da transação do teste, que é desfeita
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+    }
+
+    @Test
+    @DisplayName("Somas de custo e quantidade de ração por lote devem usar index-only scan")
+    void somasRacaoDevemUsarIndexOnlyScan() {
+        assertIndexOnlyScan("racoes", "SELECT SUM(r.custo_total) FROM racoes r WHERE r.lote_id = ?", LOTE_ID);
+        assertIndexOnlyScan("racoes", "SELECT SUM(r.quantidade) FROM racoes r WHERE r.lote_id = ?", LOTE_ID);
+        assertIndexOnlyScan("racoes", "SELECT r.lote_id, SUM(r.custo_total), SUM(r.quantidade) " +
+                "FROM racoes r WHERE r.lote_id IN (?, ?) GROUP BY r.lote_id", LOTE_ID, 2L);
+        assertIndexOnlyScan("racoes", "SELECT r.lote_id, r.unidade, SUM(r.quantidade) " +
+                "FROM racoes r WHERE r.lote_id IN (?, ?) GROUP BY r.lote_id, r.unidade", LOTE_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("Soma de custo de nutrientes por lote deve usar index-only scan")
+    void somaNutrientesDeveUsarIndexOnlyScan() {
+        assertIndexOnlyScan("nutrientes", "SELECT SUM(n.custo_total) FROM nutrientes n WHERE n.lote_id = ?", LOTE_ID);
+    }
+
+    @Test
+    @DisplayName("Soma de custo de fertilizações por lote deve usar index-only scan")
+    void somaFertilizacoesDeveUsarIndexOnlyScan() {
+        assertIndexOnlyScan("fertilizacoes", "SELECT SUM(f.custo_total) FROM fertilizacoes f WHERE f.lote_id = ?", LOTE_ID);
+    }
+
+    @Test
+    @DisplayName("Soma de custos variáveis por lote deve usar index-only scan")
+    void somaCustosVariaveisDeveUsarIndexOnlyScan() {
+        assertIndexOnlyScan("custos_variaveis", "SELECT SUM(c.valor) FROM custos_variaveis c WHERE c.lote_id = ?", LOTE_ID);
+    }
+
+    @Test
+    @DisplayName("Biometrias do lote em ordem de data devem usar o índice (lote_id, data_biometria)")
+    void biometriasDoLoteDevemUsarIndiceComposto() {
+        List<Varredura> varreduras = planoExecucao.varreduras(
+                "SELECT b.id FROM biometrias b WHERE b.lote_id = ? ORDER BY b.data_biometria", LOTE_ID);
+
+        assertThat(varreduras).extracting(Varredura::indice).containsExactly("idx_biometrias_lote_data");
+    }
+
+    @Test
+    @DisplayName("Lotes povoados a partir de uma data devem usar o índice B-tree da data de povoamento")
+    void lotesPovoadosDesdeDevemUsarIndiceDaDataDePovoamento() {
+        // Só o bitmap fica disponível, para o índice da chave primária não atender o ORDER BY
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = on");
+        jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+
+        List<Varredura> varreduras = planoExecucao.varreduras(
+                "SELECT l.id FROM lotes l WHERE l.data_povoamento >= ? ORDER BY l.id", LocalDate.now().minusMonths(1));
+
+        assertThat(varreduras).extracting(Varredura::tipo, Varredura::indice)
+                .contains(tuple("Bitmap Index Scan", "idx_lotes_data_povoamento"));
+    }
+
+    @Test
+    @DisplayName("Filtro de biometrias por período deve poder usar o índice BRIN da data")
+    void biometriasPorPeriodoDevemPoderUsarIndiceBrin() {
+        // BRIN só é lido via bitmap e só compensa com volume gravado na ordem da data. O B-tree (data, id) também
+        // atende o período por bitmap e fica fora da disputa; o DROP INDEX é desfeito com a transação do teste
+        semearBiometriasEmOrdemDeData();
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = on");
+        jdbcTemplate.execute("DROP INDEX idx_biometrias_data_id");
+
+        List<Varredura> varreduras = planoExecucao.varreduras(
+                "SELECT COUNT(*) FROM biometrias b WHERE b.data_biometria BETWEEN ? AND ?",
+                LocalDate.now().minusMonths(1), LocalDate.now());
+
+        assertThat(varreduras).extracting(Varredura::tipo, Varredura::indice)
+                .contains(tuple("Bitmap Index Scan", "idx_biometrias_data_brin"));
+    }
+
+    // Métodos auxiliares
+
+    /**
+     * Dois anos de biometrias semanais de 100 lotes, inseridas dia a dia como no uso real
+     */
+    private void semearBiometriasEmOrdemDeData() {
+        Long fazendaId = jdbcTemplate.queryForObject(
+                "INSERT INTO fazendas (nome) VALUES ('Fazenda BRIN') RETURNING id", Long.class);
+        Long viveiroId = jdbcTemplate.queryForObject("INSERT INTO viveiros (fazenda_id, codigo, nome) " +
+                "VALUES (?, 'V-BRIN', 'Viveiro BRIN') RETURNING id", Long.class, fazendaId);
+        jdbcTemplate.update("INSERT INTO lotes (viveiro_id, codigo, data_povoamento, quantidade_pos_larvas, status) " +
+                "SELECT ?, 'BRIN-' || g, CURRENT_DATE - 730, 100000, 'ATIVO' FROM generate_series(1, 100) g", viveiroId);
+        jdbcTemplate.update("INSERT INTO biometrias (lote_id, data_biometria, dia_cultivo, peso_medio, " +
+                "quantidade_amostrada) SELECT l.id, CURRENT_DATE - d, 730 - d, 10, 100 " +
+                "FROM generate_series(728, 0, -1) d CROSS JOIN lotes l " +
+                "WHERE d % 7 = 0 AND l.codigo LIKE 'BRIN-%' ORDER BY d DESC, l.id");
+        jdbcTemplate.execute("ANALYZE biometrias");
+    }
+
+    /**
+     * Toda leitura da tabela (ou de cada partição dela) deve ser index-only scan
+     */
+    private void assertIndexOnlyScan(String tabela, String sql, Object... parametros) {
+        List<Varredura> varreduras = planoExecucao.varreduras(sql, parametros);
+
+        assertThat(varreduras).as("Plano de: %s", sql)
+                .isNotEmpty()
+                .allSatisfy(varredura -> {
+                    assertThat(varredura.tipo()).isEqualTo("Index Only Scan");
+                    assertThat(varredura.tabela()).startsWith(tabela);
+                });
+    }
+}
@@ -0,0 +1,81 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.entity.CustoVariavel;
+import com.jtarcio.shrimpfarm.domain.entity.Racao;
+import com.jtarcio.shrimpfarm.domain.exception.BusinessException;
+import org.hibernate.event.spi.PreInsertEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ParticaoMensalListener")
+class ParticaoMensalListenerTest {
+
+    private static final LocalDate MARCO_2024 = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private ParticaoMensalRepository particaoMensalRepository;
+
+    private ParticaoMensalListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ParticaoMensalListener(particaoMensalRepository);
+    }
+
+    @Test
+    @DisplayName("Deve conferir a partição de cada tabela e mês uma única vez, sem criar partições")
+    void deveConferirParticaoDoMesUmaVez() {
+        when(particaoMensalRepository.particaoAnexada(eq("racoes"), anyString())).thenReturn(true);
+        when(particaoMensalRepository.particaoAnexada("custos_variaveis", "custos_variaveis_2024_03")).thenReturn(true);
+
+        listener.onPreInsert(evento(MARCO_2024));
+        listener.onPreInsert(evento(MARCO_2024.plusDays(5)));
+        listener.onPreInsert(evento(MARCO_2024.plusMonths(1)));
+        listener.onPreInsert(new PreInsertEvent(CustoVariavel.builder().dataLancamento(MARCO_2024).build(),
+                1L, new Object[0], null, null));
+
+        verify(particaoMensalRepository).particaoAnexada("racoes", "racoes_2024_03");
+        verify(particaoMensalRepository).particaoAnexada("racoes", "racoes_2024_04");
+        verify(particaoMensalRepository).particaoAnexada("custos_variaveis", "custos_variaveis_2024_03");
+        verify(particaoMensalRepository, never()).garantirParticoes(any(), any());
+    }
+
+    @Test
+    @DisplayName("Lançamento de mês sem partição deve ser recusado com BusinessException, sem criar a partição")
+    void mesSemParticaoDeveSerRecusado() {
+        when(particaoMensalRepository.particaoAnexada("racoes", "racoes_2024_03")).thenReturn(false, true);
+
+        assertThatThrownBy(() -> listener.onPreInsert(evento(MARCO_2024)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Não há partição de racoes para 03/2024");
+        verify(particaoMensalRepository, never()).garantirParticoes(any(), any());
+
+        // A recusa não fica em memória: depois que a rotina cria a partição, o mês passa a ser aceito
+        listener.onPreInsert(evento(MARCO_2024));
+        listener.onPreInsert(evento(MARCO_2024));
+        verify(particaoMensalRepository, times(2)).particaoAnexada("racoes", "racoes_2024_03");
+    }
+
+    @Test
+    @DisplayName("Entidades que não são lançamentos particionados devem ser ignoradas")
+    void deveIgnorarOutrasEntidades() {
+        listener.onPreInsert(new PreInsertEvent("outra entidade", 1L, new Object[0], null, null));
+
+        verifyNoInteractions(particaoMensalRepository);
+    }
+
+    private PreInsertEvent evento(LocalDate dataAplicacao) {
+        Racao racao = Racao.builder().dataAplicacao(dataAplicacao).build();
+        return new PreInsertEvent(racao, 1L, new Object[0], null, null);
+    }
+}
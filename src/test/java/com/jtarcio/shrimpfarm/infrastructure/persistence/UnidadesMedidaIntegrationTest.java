@@ -0,0 +1,45 @@
+package com.jtarcio.shrimpfarm.infrastructure.persistence;
+
+import com.jtarcio.shrimpfarm.domain.enums.UnidadeMedidaEnum;
+import com.jtarcio.shrimpfarm.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A tabela unidades_medida alimenta a reconstrução do resumo de custos, enquanto os lançamentos e a verificação
+ * convertem pelo enum: qualquer diferença entre os dois apareceria como divergência permanente no resumo.
+ */
+@DisplayName("Testes de Integração - Tabela unidades_medida")
+class UnidadesMedidaIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Fatores para kg da tabela devem ser os mesmos do UnidadeMedidaEnum")
+    void fatoresDaTabelaDevemSerOsDoEnum() {
+        Map<String, BigDecimal> fatores = new HashMap<>();
+        for (Map<String, Object> linha : jdbcTemplate.queryForList("SELECT unidade, fator_kg FROM unidades_medida")) {
+            fatores.put((String) linha.get("unidade"), (BigDecimal) linha.get("fator_kg"));
+        }
+
+        assertThat(fatores).hasSize(UnidadeMedidaEnum.values().length);
+        for (UnidadeMedidaEnum unidade : UnidadeMedidaEnum.values()) {
+            assertThat(fatores).as("unidade %s", unidade).containsKey(unidade.name());
+            BigDecimal fator = fatores.get(unidade.name());
+            if (unidade.getFatorKg() == null) {
+                assertThat(fator).as("fator de %s", unidade).isNull();
+            } else {
+                assertThat(fator).as("fator de %s", unidade).isEqualByComparingTo(unidade.getFatorKg());
+            }
+        }
+    }
+}
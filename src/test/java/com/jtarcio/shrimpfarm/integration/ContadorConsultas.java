@@ -0,0 +1,36 @@
+package com.jtarcio.shrimpfarm.integration;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Conta as instruções SQL preparadas pelo Hibernate durante uma ação,
+ * para testes de regressão de N+1.
+ */
+public class ContadorConsultas {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public ContadorConsultas(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Executa a ação com o contexto de persistência limpo e retorna quantas instruções foram preparadas
+     */
+    public long contar(Runnable acao) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        acao.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
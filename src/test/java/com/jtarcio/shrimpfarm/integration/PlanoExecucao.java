@@ -0,0 +1,57 @@
+package com.jtarcio.shrimpfarm.integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê o plano de execução de uma consulta (EXPLAIN em JSON) e devolve as varreduras de tabela,
+ * para testes de regressão do uso de índices.
+ */
+public class PlanoExecucao {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PlanoExecucao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Varreduras do plano da consulta, na ordem em que aparecem (nas tabelas particionadas, uma por partição)
+     */
+    public List<Varredura> varreduras(String sql, Object... parametros) {
+        String plano = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parametros);
+
+        List<Varredura> varreduras = new ArrayList<>();
+        try {
+            coletar(objectMapper.readTree(plano).get(0).get("Plan"), varreduras);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Plano de execução inválido: " + plano, e);
+        }
+        return varreduras;
+    }
+
+    private void coletar(JsonNode no, List<Varredura> varreduras) {
+        if (no.has("Relation Name")) {
+            varreduras.add(new Varredura(no.get("Node Type").asText(), no.get("Relation Name").asText(),
+                    no.path("Index Name").asText(null)));
+        } else if (no.has("Index Name")) {
+            // Bitmap Index Scan não traz a tabela, que fica no Bitmap Heap Scan acima dele
+            varreduras.add(new Varredura(no.get("Node Type").asText(), null, no.get("Index Name").asText()));
+        }
+        for (JsonNode filho : no.path("Plans")) {
+            coletar(filho, varreduras);
+        }
+    }
+
+    /**
+     * Nó de varredura do plano: tipo (Seq Scan, Index Only Scan...), tabela e índice usado, quando houver
+     */
+    public record Varredura(String tipo, String tabela, String indice) {
+    }
+}